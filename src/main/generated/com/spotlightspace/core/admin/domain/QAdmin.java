@@ -0,0 +1,51 @@
+package com.spotlightspace.core.admin.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QAdmin is a Querydsl query type for Admin
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QAdmin extends EntityPathBase<Admin> {
+
+    private static final long serialVersionUID = 1439994820L;
+
+    public static final QAdmin admin = new QAdmin("admin");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final StringPath email = createString("email");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath password = createString("password");
+
+    public final EnumPath<com.spotlightspace.core.user.domain.UserRole> role = createEnum("role", com.spotlightspace.core.user.domain.UserRole.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QAdmin(String variable) {
+        super(Admin.class, forVariable(variable));
+    }
+
+    public QAdmin(Path<? extends Admin> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QAdmin(PathMetadata metadata) {
+        super(Admin.class, metadata);
+    }
+
+}
+
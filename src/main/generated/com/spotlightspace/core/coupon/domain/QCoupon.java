@@ -0,0 +1,47 @@
+package com.spotlightspace.core.coupon.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QCoupon is a Querydsl query type for Coupon
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QCoupon extends EntityPathBase<Coupon> {
+
+    private static final long serialVersionUID = -78910744L;
+
+    public static final QCoupon coupon = new QCoupon("coupon");
+
+    public final StringPath code = createString("code");
+
+    public final NumberPath<Integer> count = createNumber("count", Integer.class);
+
+    public final NumberPath<Integer> discountAmount = createNumber("discountAmount", Integer.class);
+
+    public final DatePath<java.time.LocalDate> expiredAt = createDate("expiredAt", java.time.LocalDate.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isDeleted = createBoolean("isDeleted");
+
+    public QCoupon(String variable) {
+        super(Coupon.class, forVariable(variable));
+    }
+
+    public QCoupon(Path<? extends Coupon> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QCoupon(PathMetadata metadata) {
+        super(Coupon.class, metadata);
+    }
+
+}
+
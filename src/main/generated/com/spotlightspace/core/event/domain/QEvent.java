@@ -0,0 +1,87 @@
+package com.spotlightspace.core.event.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QEvent is a Querydsl query type for Event
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QEvent extends EntityPathBase<Event> {
+
+    private static final long serialVersionUID = 339412388L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QEvent event = new QEvent("event");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    public final EnumPath<EventCategory> category = createEnum("category", EventCategory.class);
+
+    public final StringPath content = createString("content");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final DateTimePath<java.time.LocalDateTime> endAt = createDateTime("endAt", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isCalculated = createBoolean("isCalculated");
+
+    public final BooleanPath isDeleted = createBoolean("isDeleted");
+
+    public final NumberPath<Double> latitude = createNumber("latitude", Double.class);
+
+    public final StringPath location = createString("location");
+
+    public final NumberPath<Double> longitude = createNumber("longitude", Double.class);
+
+    public final NumberPath<Integer> maxPeople = createNumber("maxPeople", Integer.class);
+
+    public final NumberPath<Integer> price = createNumber("price", Integer.class);
+
+    public final DateTimePath<java.time.LocalDateTime> recruitmentFinishAt = createDateTime("recruitmentFinishAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> recruitmentStartAt = createDateTime("recruitmentStartAt", java.time.LocalDateTime.class);
+
+    public final DateTimePath<java.time.LocalDateTime> startAt = createDateTime("startAt", java.time.LocalDateTime.class);
+
+    public final StringPath title = createString("title");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public final com.spotlightspace.core.user.domain.QUser user;
+
+    public QEvent(String variable) {
+        this(Event.class, forVariable(variable), INITS);
+    }
+
+    public QEvent(Path<? extends Event> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QEvent(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QEvent(PathMetadata metadata, PathInits inits) {
+        this(Event.class, metadata, inits);
+    }
+
+    public QEvent(Class<? extends Event> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.user = inits.isInitialized("user") ? new com.spotlightspace.core.user.domain.QUser(forProperty("user")) : null;
+    }
+
+}
+
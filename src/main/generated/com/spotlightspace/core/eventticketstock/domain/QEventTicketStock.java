@@ -0,0 +1,63 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QEventTicketStock is a Querydsl query type for EventTicketStock
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QEventTicketStock extends EntityPathBase<EventTicketStock> {
+
+    private static final long serialVersionUID = -2024824004L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QEventTicketStock eventTicketStock = new QEventTicketStock("eventTicketStock");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final com.spotlightspace.core.event.domain.QEvent event;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> shard = createNumber("shard", Integer.class);
+
+    public final NumberPath<Integer> stock = createNumber("stock", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QEventTicketStock(String variable) {
+        this(EventTicketStock.class, forVariable(variable), INITS);
+    }
+
+    public QEventTicketStock(Path<? extends EventTicketStock> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QEventTicketStock(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QEventTicketStock(PathMetadata metadata, PathInits inits) {
+        this(EventTicketStock.class, metadata, inits);
+    }
+
+    public QEventTicketStock(Class<? extends EventTicketStock> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.event = inits.isInitialized("event") ? new com.spotlightspace.core.event.domain.QEvent(forProperty("event"), inits.get("event")) : null;
+    }
+
+}
+
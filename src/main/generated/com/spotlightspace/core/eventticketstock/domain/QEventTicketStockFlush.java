@@ -0,0 +1,47 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QEventTicketStockFlush is a Querydsl query type for EventTicketStockFlush
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QEventTicketStockFlush extends EntityPathBase<EventTicketStockFlush> {
+
+    private static final long serialVersionUID = 1114524968L;
+
+    public static final QEventTicketStockFlush eventTicketStockFlush = new QEventTicketStockFlush("eventTicketStockFlush");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final NumberPath<Integer> id = createNumber("id", Integer.class);
+
+    public final StringPath lastBatchId = createString("lastBatchId");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QEventTicketStockFlush(String variable) {
+        super(EventTicketStockFlush.class, forVariable(variable));
+    }
+
+    public QEventTicketStockFlush(Path<? extends EventTicketStockFlush> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QEventTicketStockFlush(PathMetadata metadata) {
+        super(EventTicketStockFlush.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,82 @@
+package com.spotlightspace.core.payment.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QPayment is a Querydsl query type for Payment
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPayment extends EntityPathBase<Payment> {
+
+    private static final long serialVersionUID = -667572828L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QPayment payment = new QPayment("payment");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    public final StringPath cid = createString("cid");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final NumberPath<Integer> discountedAmount = createNumber("discountedAmount", Integer.class);
+
+    public final com.spotlightspace.core.event.domain.QEvent event;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> originalAmount = createNumber("originalAmount", Integer.class);
+
+    public final com.spotlightspace.core.point.domain.QPoint point;
+
+    public final DateTimePath<java.time.LocalDateTime> readyAt = createDateTime("readyAt", java.time.LocalDateTime.class);
+
+    public final EnumPath<PaymentStatus> status = createEnum("status", PaymentStatus.class);
+
+    public final StringPath tid = createString("tid");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public final NumberPath<Integer> usedPointAmount = createNumber("usedPointAmount", Integer.class);
+
+    public final com.spotlightspace.core.user.domain.QUser user;
+
+    public final com.spotlightspace.core.usercoupon.domain.QUserCoupon userCoupon;
+
+    public QPayment(String variable) {
+        this(Payment.class, forVariable(variable), INITS);
+    }
+
+    public QPayment(Path<? extends Payment> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QPayment(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPayment(PathMetadata metadata, PathInits inits) {
+        this(Payment.class, metadata, inits);
+    }
+
+    public QPayment(Class<? extends Payment> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.event = inits.isInitialized("event") ? new com.spotlightspace.core.event.domain.QEvent(forProperty("event"), inits.get("event")) : null;
+        this.point = inits.isInitialized("point") ? new com.spotlightspace.core.point.domain.QPoint(forProperty("point"), inits.get("point")) : null;
+        this.user = inits.isInitialized("user") ? new com.spotlightspace.core.user.domain.QUser(forProperty("user")) : null;
+        this.userCoupon = inits.isInitialized("userCoupon") ? new com.spotlightspace.core.usercoupon.domain.QUserCoupon(forProperty("userCoupon"), inits.get("userCoupon")) : null;
+    }
+
+}
+
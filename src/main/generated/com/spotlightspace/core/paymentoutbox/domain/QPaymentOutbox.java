@@ -0,0 +1,59 @@
+package com.spotlightspace.core.paymentoutbox.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPaymentOutbox is a Querydsl query type for PaymentOutbox
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPaymentOutbox extends EntityPathBase<PaymentOutbox> {
+
+    private static final long serialVersionUID = -1468056732L;
+
+    public static final QPaymentOutbox paymentOutbox = new QPaymentOutbox("paymentOutbox");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath lastError = createString("lastError");
+
+    public final StringPath leaseOwner = createString("leaseOwner");
+
+    public final DateTimePath<java.time.LocalDateTime> leaseUntil = createDateTime("leaseUntil", java.time.LocalDateTime.class);
+
+    public final NumberPath<Long> paymentId = createNumber("paymentId", Long.class);
+
+    public final EnumPath<PaymentOutboxStatus> status = createEnum("status", PaymentOutboxStatus.class);
+
+    public final EnumPath<PaymentOutboxType> type = createEnum("type", PaymentOutboxType.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QPaymentOutbox(String variable) {
+        super(PaymentOutbox.class, forVariable(variable));
+    }
+
+    public QPaymentOutbox(Path<? extends PaymentOutbox> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPaymentOutbox(PathMetadata metadata) {
+        super(PaymentOutbox.class, metadata);
+    }
+
+}
+
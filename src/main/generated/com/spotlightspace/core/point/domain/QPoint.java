@@ -0,0 +1,53 @@
+package com.spotlightspace.core.point.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QPoint is a Querydsl query type for Point
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPoint extends EntityPathBase<Point> {
+
+    private static final long serialVersionUID = -658897564L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QPoint point = new QPoint("point");
+
+    public final NumberPath<Integer> amount = createNumber("amount", Integer.class);
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final com.spotlightspace.core.user.domain.QUser user;
+
+    public QPoint(String variable) {
+        this(Point.class, forVariable(variable), INITS);
+    }
+
+    public QPoint(Path<? extends Point> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QPoint(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPoint(PathMetadata metadata, PathInits inits) {
+        this(Point.class, metadata, inits);
+    }
+
+    public QPoint(Class<? extends Point> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.user = inits.isInitialized("user") ? new com.spotlightspace.core.user.domain.QUser(forProperty("user")) : null;
+    }
+
+}
+
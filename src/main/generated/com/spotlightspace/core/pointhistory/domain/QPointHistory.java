@@ -0,0 +1,66 @@
+package com.spotlightspace.core.pointhistory.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QPointHistory is a Querydsl query type for PointHistory
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPointHistory extends EntityPathBase<PointHistory> {
+
+    private static final long serialVersionUID = 857077764L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QPointHistory pointHistory = new QPointHistory("pointHistory");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    public final NumberPath<Integer> amount = createNumber("amount", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final com.spotlightspace.core.payment.domain.QPayment payment;
+
+    public final com.spotlightspace.core.point.domain.QPoint point;
+
+    public final EnumPath<PointHistoryStatus> status = createEnum("status", PointHistoryStatus.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public QPointHistory(String variable) {
+        this(PointHistory.class, forVariable(variable), INITS);
+    }
+
+    public QPointHistory(Path<? extends PointHistory> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QPointHistory(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPointHistory(PathMetadata metadata, PathInits inits) {
+        this(PointHistory.class, metadata, inits);
+    }
+
+    public QPointHistory(Class<? extends PointHistory> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.payment = inits.isInitialized("payment") ? new com.spotlightspace.core.payment.domain.QPayment(forProperty("payment"), inits.get("payment")) : null;
+        this.point = inits.isInitialized("point") ? new com.spotlightspace.core.point.domain.QPoint(forProperty("point"), inits.get("point")) : null;
+    }
+
+}
+
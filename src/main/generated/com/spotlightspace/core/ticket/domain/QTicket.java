@@ -0,0 +1,66 @@
+package com.spotlightspace.core.ticket.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QTicket is a Querydsl query type for Ticket
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QTicket extends EntityPathBase<Ticket> {
+
+    private static final long serialVersionUID = -1919875532L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QTicket ticket = new QTicket("ticket");
+
+    public final com.spotlightspace.common.entity.QTimestamped _super = new com.spotlightspace.common.entity.QTimestamped(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdAt = _super.createdAt;
+
+    public final com.spotlightspace.core.event.domain.QEvent event;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isCanceled = createBoolean("isCanceled");
+
+    public final NumberPath<Integer> price = createNumber("price", Integer.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> updatedAt = _super.updatedAt;
+
+    public final com.spotlightspace.core.user.domain.QUser user;
+
+    public QTicket(String variable) {
+        this(Ticket.class, forVariable(variable), INITS);
+    }
+
+    public QTicket(Path<? extends Ticket> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QTicket(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QTicket(PathMetadata metadata, PathInits inits) {
+        this(Ticket.class, metadata, inits);
+    }
+
+    public QTicket(Class<? extends Ticket> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.event = inits.isInitialized("event") ? new com.spotlightspace.core.event.domain.QEvent(forProperty("event"), inits.get("event")) : null;
+        this.user = inits.isInitialized("user") ? new com.spotlightspace.core.user.domain.QUser(forProperty("user")) : null;
+    }
+
+}
+
@@ -0,0 +1,56 @@
+package com.spotlightspace.core.usercoupon.domain;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QUserCoupon is a Querydsl query type for UserCoupon
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QUserCoupon extends EntityPathBase<UserCoupon> {
+
+    private static final long serialVersionUID = -71088034L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QUserCoupon userCoupon = new QUserCoupon("userCoupon");
+
+    public final com.spotlightspace.core.coupon.domain.QCoupon coupon;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final BooleanPath isUsed = createBoolean("isUsed");
+
+    public final com.spotlightspace.core.user.domain.QUser user;
+
+    public QUserCoupon(String variable) {
+        this(UserCoupon.class, forVariable(variable), INITS);
+    }
+
+    public QUserCoupon(Path<? extends UserCoupon> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QUserCoupon(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QUserCoupon(PathMetadata metadata, PathInits inits) {
+        this(UserCoupon.class, metadata, inits);
+    }
+
+    public QUserCoupon(Class<? extends UserCoupon> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.coupon = inits.isInitialized("coupon") ? new com.spotlightspace.core.coupon.domain.QCoupon(forProperty("coupon")) : null;
+        this.user = inits.isInitialized("user") ? new com.spotlightspace.core.user.domain.QUser(forProperty("user")) : null;
+    }
+
+}
+
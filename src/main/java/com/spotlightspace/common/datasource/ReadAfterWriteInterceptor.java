@@ -0,0 +1,34 @@
+package com.spotlightspace.common.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 요청을 처리하기 전에 로그인한 사용자가 방금 쓰기를 했는지 불러오고, 요청이 끝나면 스레드에 남은 쓰기 시각을 지웁니다.
+ * 인증이 끝난 뒤 실행되도록 필터가 아니라 인터셉터로 등록합니다.
+ */
+@RequiredArgsConstructor
+public class ReadAfterWriteInterceptor implements AsyncHandlerInterceptor {
+
+    private final ReadAfterWriteTracker readAfterWriteTracker;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        readAfterWriteTracker.restoreWrite();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        readAfterWriteTracker.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        readAfterWriteTracker.clear();
+    }
+}
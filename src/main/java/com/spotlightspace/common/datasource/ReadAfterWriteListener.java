@@ -0,0 +1,21 @@
+package com.spotlightspace.common.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * 쓰기 트랜잭션이 커밋되면 같은 스레드와 같은 사용자의 다음 읽기가 아직 복제되지 않은 복제 DB를 읽지 않도록 기록합니다.
+ */
+@RequiredArgsConstructor
+public class ReadAfterWriteListener implements TransactionExecutionListener {
+
+    private final ReadAfterWriteTracker readAfterWriteTracker;
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            readAfterWriteTracker.recordWrite();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.spotlightspace.common.datasource;
+
+import com.spotlightspace.common.annotation.AuthUser;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * 로그인한 사용자가 쓰기 트랜잭션을 커밋한 시각을 Redis에 read-after-write-ms 동안 남깁니다.
+ * 요청은 매번 다른 서버, 다른 스레드에서 처리될 수 있으므로 스레드가 아니라 사용자 기준으로 쓰기 직후인지 판단합니다.
+ * Redis 장애 시에는 같은 스레드 안에서만 쓰기 직후를 판단합니다.
+ */
+@Slf4j
+public class ReadAfterWriteTracker {
+
+    private static final String KEY_PREFIX = "replica:last-write:user:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration readAfterWrite;
+
+    public ReadAfterWriteTracker(RedisTemplate<String, String> redisTemplate, long readAfterWriteMillis) {
+        this.redisTemplate = redisTemplate;
+        this.readAfterWrite = Duration.ofMillis(readAfterWriteMillis);
+    }
+
+    /**
+     * 현재 스레드와 현재 사용자에 쓰기 시각을 기록합니다.
+     */
+    public void recordWrite() {
+        long writtenAt = System.currentTimeMillis();
+        ReplicaRoutingContext.markWrite(writtenAt);
+        currentUserId().ifPresent(userId -> {
+            try {
+                redisTemplate.opsForValue().set(KEY_PREFIX + userId, String.valueOf(writtenAt), readAfterWrite);
+            } catch (RuntimeException e) {
+                log.warn("쓰기 시각 저장 실패 - userId: {}", userId, e);
+            }
+        });
+    }
+
+    /**
+     * 현재 사용자가 다른 요청에서 방금 쓰기를 했다면 현재 스레드에도 쓰기 직후로 기록합니다.
+     */
+    public void restoreWrite() {
+        currentUserId().ifPresent(userId -> {
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + userId))) {
+                    ReplicaRoutingContext.markWrite(System.currentTimeMillis());
+                }
+            } catch (RuntimeException e) {
+                log.warn("쓰기 시각 조회 실패 - userId: {}", userId, e);
+            }
+        });
+    }
+
+    public void clear() {
+        ReplicaRoutingContext.clearWrite();
+    }
+
+    private Optional<Long> currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return Optional.of(authUser.getUserId());
+        }
+        return Optional.empty();
+    }
+}
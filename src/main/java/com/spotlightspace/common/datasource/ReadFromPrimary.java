@@ -0,0 +1,16 @@
+package com.spotlightspace.common.datasource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 복제 DB를 사용하도록 설정되어 있어도 이 메서드 안의 읽기 전용 트랜잭션은 기본 DB에서 읽습니다.
+ * 방금 커밋된 데이터를 바로 읽어야 해서 복제 지연을 허용할 수 없는 조회에 붙입니다.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromPrimary {
+
+}
@@ -0,0 +1,26 @@
+package com.spotlightspace.common.datasource;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * 트랜잭션이 시작되기 전에 기본 DB 구간을 열도록 트랜잭션 인터셉터보다 먼저 실행합니다.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadFromPrimaryAspect {
+
+    @Around("@annotation(com.spotlightspace.common.datasource.ReadFromPrimary)"
+            + " || @within(com.spotlightspace.common.datasource.ReadFromPrimary)")
+    public Object readFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        ReplicaRoutingContext.enterPrimaryScope();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ReplicaRoutingContext.exitPrimaryScope();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.spotlightspace.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 풀 이름별 복제 DB 커넥션 풀. 빈으로 따로 등록하지 않으므로 종료할 때 함께 닫습니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReplicaDataSources implements AutoCloseable {
+
+    private final Map<String, HikariDataSource> pools;
+
+    public static ReplicaDataSources from(Map<String, HikariDataSource> pools) {
+        return new ReplicaDataSources(Collections.unmodifiableMap(new LinkedHashMap<>(pools)));
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
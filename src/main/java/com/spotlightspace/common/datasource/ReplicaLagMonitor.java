@@ -0,0 +1,89 @@
+package com.spotlightspace.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 기본 DB의 replication_heartbeat 시각을 주기적으로 갱신하고, 각 복제 DB에 반영된 시각과 비교해 복제 지연을 잽니다.
+ * 지연이 max-lag-seconds를 넘거나 연결할 수 없는 복제 DB는 다음 확인 때까지 읽기 대상에서 제외합니다.
+ * 한 주기 전의 heartbeat를 읽을 수도 있으므로 max-lag-seconds는 확인 주기보다 길게 설정합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String BEAT_SQL = "update replication_heartbeat set beat_at = now(6) where id = 1";
+    private static final String LAG_SQL =
+            "select timestampdiff(microsecond, beat_at, now(6)) from replication_heartbeat where id = 1";
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final Map<String, JdbcTemplate> replicaJdbcTemplates;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private volatile List<String> availableReplicas = List.of();
+
+    public ReplicaLagMonitor(JdbcTemplate primaryJdbcTemplate, Map<String, JdbcTemplate> replicaJdbcTemplates,
+                             double maxLagSeconds, MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = primaryJdbcTemplate;
+        this.replicaJdbcTemplates = replicaJdbcTemplates;
+        this.maxLagSeconds = maxLagSeconds;
+
+        replicaJdbcTemplates.keySet().forEach(pool -> {
+            Gauge.builder("datasource.replica.lag.seconds", lagSeconds, lags -> lags.getOrDefault(pool, Double.NaN))
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", this, monitor -> monitor.isAvailable(pool) ? 1 : 0)
+                    .tag("pool", pool)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * 읽기 대상으로 쓸 수 있는 복제 DB 풀 이름. 처음 확인하기 전에는 비어 있어 기본 DB를 읽습니다.
+     */
+    public List<String> availableReplicas() {
+        return availableReplicas;
+    }
+
+    public boolean isAvailable(String pool) {
+        return availableReplicas.contains(pool);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try {
+            primaryJdbcTemplate.update(BEAT_SQL);
+        } catch (RuntimeException e) {
+            log.warn("복제 지연 heartbeat 갱신 실패", e);
+        }
+
+        List<String> available = new ArrayList<>();
+        replicaJdbcTemplates.forEach((pool, jdbcTemplate) -> {
+            double lag = measureLag(pool, jdbcTemplate);
+            lagSeconds.put(pool, lag);
+            if (lag <= maxLagSeconds) {
+                available.add(pool);
+            } else if (isAvailable(pool)) {
+                log.warn("복제 DB를 읽기 대상에서 제외 - pool: {}, lag: {}s", pool, lag);
+            }
+        });
+        availableReplicas = List.copyOf(available);
+    }
+
+    // 연결할 수 없거나 heartbeat가 없으면 NaN을 반환하며, NaN은 어떤 기준과 비교해도 제외됨
+    private double measureLag(String pool, JdbcTemplate jdbcTemplate) {
+        try {
+            Long lagMicros = jdbcTemplate.queryForObject(LAG_SQL, Long.class);
+            return lagMicros == null ? Double.NaN : Math.max(lagMicros, 0) / 1_000_000.0;
+        } catch (RuntimeException e) {
+            log.warn("복제 지연 확인 실패 - pool: {}", pool, e);
+            return Double.NaN;
+        }
+    }
+}
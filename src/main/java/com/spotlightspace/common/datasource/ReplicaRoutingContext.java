@@ -0,0 +1,60 @@
+package com.spotlightspace.common.datasource;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 기본 DB로 보내야 하는지 기록합니다.
+ * {@link ReadFromPrimary} 메서드 안에 있거나, 같은 스레드나 같은 사용자의 쓰기 트랜잭션이 커밋된 직후이면 기본 DB를 읽습니다.
+ * 다른 요청에서 커밋된 사용자의 쓰기는 {@link ReadAfterWriteTracker}가 요청을 시작할 때 불러옵니다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Integer> PRIMARY_SCOPES = new ThreadLocal<>();
+    private static final ThreadLocal<Long> LAST_WRITE_AT = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    public static void enterPrimaryScope() {
+        Integer scopes = PRIMARY_SCOPES.get();
+        PRIMARY_SCOPES.set(scopes == null ? 1 : scopes + 1);
+    }
+
+    public static void exitPrimaryScope() {
+        Integer scopes = PRIMARY_SCOPES.get();
+        if (scopes == null || scopes <= 1) {
+            PRIMARY_SCOPES.remove();
+            return;
+        }
+        PRIMARY_SCOPES.set(scopes - 1);
+    }
+
+    public static boolean isPrimaryScope() {
+        return PRIMARY_SCOPES.get() != null;
+    }
+
+    public static void markWrite() {
+        markWrite(System.currentTimeMillis());
+    }
+
+    public static void markWrite(long writtenAt) {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        if (lastWriteAt == null || lastWriteAt < writtenAt) {
+            LAST_WRITE_AT.set(writtenAt);
+        }
+    }
+
+    public static void clearWrite() {
+        LAST_WRITE_AT.remove();
+    }
+
+    public static boolean wroteWithin(long millis) {
+        Long lastWriteAt = LAST_WRITE_AT.get();
+        if (lastWriteAt == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastWriteAt < millis) {
+            return true;
+        }
+        LAST_WRITE_AT.remove();
+        return false;
+    }
+}
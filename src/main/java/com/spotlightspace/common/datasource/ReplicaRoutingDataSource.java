@@ -0,0 +1,63 @@
+package com.spotlightspace.common.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션의 커넥션을 복제 DB 풀에 번갈아 나눠 주고, 나머지는 모두 기본 DB 풀을 사용합니다.
+ * 읽기 전용 트랜잭션이라도 기본 DB를 읽어야 하는 구간이거나, 쓰기 직후이거나, 지연 기준을 만족하는 복제 DB가 없으면 기본 DB 풀을 사용합니다.
+ * 읽기 전용 트랜잭션을 어느 풀로 보냈는지와 그 이유는 datasource.replica.routing 카운터의 target, reason 태그로 남깁니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final long readAfterWriteMillis;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, ? extends DataSource> replicas,
+                                    ReplicaLagMonitor replicaLagMonitor, long readAfterWriteMillis,
+                                    MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readAfterWriteMillis = readAfterWriteMillis;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        if (ReplicaRoutingContext.isPrimaryScope()) {
+            return route(PRIMARY, "forced");
+        }
+        if (ReplicaRoutingContext.wroteWithin(readAfterWriteMillis)) {
+            return route(PRIMARY, "read_after_write");
+        }
+
+        List<String> replicas = replicaLagMonitor.availableReplicas();
+        if (replicas.isEmpty()) {
+            return route(PRIMARY, "replica_unavailable");
+        }
+        return route(replicas.get(Math.floorMod(sequence.getAndIncrement(), replicas.size())), "replica");
+    }
+
+    private String route(String target, String reason) {
+        meterRegistry.counter("datasource.replica.routing", "target", target, "reason", reason).increment();
+        return target;
+    }
+}
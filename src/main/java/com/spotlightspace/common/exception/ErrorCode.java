@@ -12,18 +12,24 @@ public enum ErrorCode {
     INVALID_REFRESH_TOKEN(FORBIDDEN, "리프레시토큰이 없습니다"),
     INVALID_EMAIL_MATCH(FORBIDDEN, "인증번호가 일치하지 않습니다"),
     SOCIAL_LOGIN_UPDATE_NOT_ALLOWED(FORBIDDEN, "소셜 로그인 사용자는 회원 정보를 수정할 수 없습니다."),
+    SOCIAL_LOGIN_UNAVAILABLE(SERVICE_UNAVAILABLE, "소셜 로그인 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
     USER_NOT_FOUND(NOT_FOUND, "존재하지 않는 유저입니다."),
     REFRESH_TOKEN_NOT_FOUND(NOT_FOUND, "리프레시토큰이 없습니다"),
     INVALID_PASSWORD_OR_EMAIL(NOT_FOUND, "이메일 또는 패스워드가 일치하지 않습니다"),
     EMAIL_DUPLICATED(CONFLICT, "이미 존재하는 이메일입니다."),
     RESERVED_TICKET_CANCELLATION_REQUIRED(CONFLICT, "예약된 티켓을 취소하고 다시 시도해주세요."),
     RESERVED_EVENT_CANCELLATION_REQUIRED(CONFLICT, "진행중인 이벤트를 취소하고 다시 시도해주세요."),
+    IDEMPOTENT_REQUEST_IN_PROGRESS(CONFLICT, "같은 멱등 키로 요청한 작업이 처리 중입니다."),
+    IDEMPOTENCY_KEY_REUSED(UNPROCESSABLE_ENTITY, "같은 멱등 키로 다른 내용의 요청을 보낼 수 없습니다."),
     RESERVED_SETTLEMENT_REQUIRED(CONFLICT, "완료되지 않은 정산이 있습니다."),
     ADMIN_NOT_FOUND(NOT_FOUND, "존재하지 않는 관리자입니다."),
     ADMIN_PASSWORD_MISMATCH(FORBIDDEN, "어드민 암호가 일치하지 않습니다."),
 
     TICKET_PRICE_CANNOT_BE_NEGATIVE(BAD_REQUEST, "티켓 가격은 음수일 수 없습니다."),
     EVENT_NOT_FOUND(NOT_FOUND, "존재하지 않는 이벤트입니다."),
+    INVALID_SEARCH_CURSOR(BAD_REQUEST, "유효하지 않은 검색 커서입니다."),
+    EVENT_REINDEX_ALREADY_RUNNING(CONFLICT, "이미 검색 인덱스를 재구성하고 있습니다."),
+    EVENT_REINDEX_NOT_FOUND(NOT_FOUND, "검색 인덱스 재구성 진행 상황이 존재하지 않습니다."),
 
     ATTACHMENT_NOT_FOUND(NOT_FOUND, "존재하지 않는 첨부파일입니다."),
 
@@ -43,13 +49,20 @@ public enum ErrorCode {
     COUPON_EXPIRED(BAD_REQUEST, "만료된 쿠폰입니다."),
     COUPON_COUNT_EXHAUSTED(CONFLICT, "발급 가능한 쿠폰 수량이 부족합니다."),
     COUPON_ALREADY_ISSUED(CONFLICT, "해당 쿠폰이 이미 발급되었습니다."),
+    COUPON_CAMPAIGN_NOT_FOUND(NOT_FOUND, "쿠폰 캠페인 진행 상황이 존재하지 않습니다."),
+    COUPON_CAMPAIGN_PREFIX_UNAVAILABLE(CONFLICT, "사용 가능한 쿠폰 코드 접두어가 없습니다. 잠시 후 다시 시도해주세요."),
 
     INVALID_PAYMENT_STATUS(BAD_REQUEST, "유효하지 않은 결제 상태입니다."),
     NOT_IN_EVENT_RECRUITMENT_PERIOD(BAD_REQUEST, "이벤트 모집 기간이 아닙니다."),
     TID_NOT_FOUND(NOT_FOUND, "결제 고유 번호가 존재하지 않습니다."),
     CANCELLATION_PERIOD_EXPIRED(BAD_REQUEST, "결제 취소 가능 기간이 아닙니다."),
     PAYMENT_NOT_FOUND(NOT_FOUND, "존재하지 않는 결제입니다."),
-    PAYMENT_EVENT_NOT_FOUND(NOT_FOUND, "존재하지 않는 결제 이벤트입니다."),
+    PAYMENT_OUTBOX_NOT_FOUND(NOT_FOUND, "존재하지 않는 결제 후속 작업입니다."),
+    PAYMENT_OUTBOX_APPROVAL_PENDING(CONFLICT, "결제 승인 후속 작업이 아직 처리되지 않았습니다."),
+    REFUND_PROGRESS_NOT_FOUND(NOT_FOUND, "환불 진행 상황이 존재하지 않습니다."),
+    WAITING_ROOM_NOT_ADMITTED(FORBIDDEN, "대기열을 통과한 후 결제를 진행할 수 있습니다."),
+    PAYMENT_GATEWAY_UNAVAILABLE(SERVICE_UNAVAILABLE, "결제 서비스가 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요."),
+    PAYMENT_GATEWAY_CANCEL_FAILED(SERVICE_UNAVAILABLE, "카카오페이 결제 취소에 실패했습니다."),
 
     REVIEW_NOT_FOUND(NOT_FOUND, "존재하지 않는 리뷰입니다."),
 
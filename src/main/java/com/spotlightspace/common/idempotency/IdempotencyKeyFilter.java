@@ -0,0 +1,228 @@
+package com.spotlightspace.common.idempotency;
+
+import static com.spotlightspace.common.exception.ErrorCode.IDEMPOTENCY_KEY_REUSED;
+import static com.spotlightspace.common.exception.ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.common.annotation.AuthUser;
+import com.spotlightspace.common.exception.ErrorCode;
+import com.spotlightspace.common.exception.ErrorResponseDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.apache.logging.log4j.util.Strings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * Idempotency-Key 헤더가 있는 결제 요청을 한 번만 처리합니다.
+ * 처음 들어온 키는 처리 중으로 표시한 뒤 응답을 저장하고, 같은 키로 다시 들어온 요청은 DB와 카카오페이를 거치지 않고
+ * 저장된 응답을 그대로 돌려줍니다. 키는 사용자별로 구분하며, 5xx 응답이나 예외는 저장하지 않아 같은 키로 재시도할 수 있습니다.
+ * 쿼리 문자열과 본문의 해시를 키와 함께 저장해, 같은 키로 내용이 다른 요청이 들어오면 422를 반환합니다.
+ */
+@Component
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final String STORE_KEY_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".STORE_KEY";
+    private static final String REQUEST_HASH_ATTRIBUTE = IdempotencyKeyFilter.class.getName() + ".REQUEST_HASH";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRedisRepository idempotencyRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final List<String> pathPatterns;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter inProgressCounter;
+    private final Counter mismatchCounter;
+
+    public IdempotencyKeyFilter(
+            IdempotencyRedisRepository idempotencyRedisRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${idempotency.paths:/api/*/payments/ready,/api/*/payments/approve,/api/*/payments/cancel}")
+            List<String> pathPatterns
+    ) {
+        this.idempotencyRedisRepository = idempotencyRedisRepository;
+        this.objectMapper = objectMapper;
+        this.pathPatterns = pathPatterns;
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.inProgressCounter = requestCounter(meterRegistry, "in_progress");
+        this.mismatchCounter = requestCounter(meterRegistry, "mismatch");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Mono를 반환하는 결제 API는 비동기 디스패치에서 응답이 완성되므로 그때 응답을 저장
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        if (!isAsyncDispatch(request) && isIdempotentRequest(request)) {
+            CachedBodyHttpServletRequest cachedBodyRequest = new CachedBodyHttpServletRequest(request);
+            if (!acquire(cachedBodyRequest, response)) {
+                return;
+            }
+            request = cachedBodyRequest;
+        }
+
+        String storeKey = (String) request.getAttribute(STORE_KEY_ATTRIBUTE);
+        if (storeKey == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper responseWrapper =
+                WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (responseWrapper == null) {
+            responseWrapper = new ContentCachingResponseWrapper(response);
+        }
+
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyRedisRepository.release(storeKey);
+            throw e;
+        }
+
+        if (isAsyncStarted(request)) {
+            return;
+        }
+        saveResponse(storeKey, (String) request.getAttribute(REQUEST_HASH_ATTRIBUTE), responseWrapper);
+        responseWrapper.copyBodyToResponse();
+    }
+
+    private boolean isIdempotentRequest(HttpServletRequest request) {
+        return !Strings.isBlank(request.getHeader(IDEMPOTENCY_KEY_HEADER)) && isTargetPath(request.getRequestURI());
+    }
+
+    /**
+     * 처음 들어온 요청이면 true를 반환해 요청을 처리하게 합니다.
+     * 이미 처리 중이거나 처리된 키라면 응답을 직접 작성하고 false를 반환합니다.
+     */
+    private boolean acquire(CachedBodyHttpServletRequest request, HttpServletResponse response) throws IOException {
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Idempotency-Key가 너무 깁니다.");
+            return false;
+        }
+
+        String storeKey = getUserKey() + ":" + request.getMethod() + ":" + request.getRequestURI() + ":" + idempotencyKey;
+        String requestHash = requestHash(request);
+        if (idempotencyRedisRepository.tryAcquire(storeKey, requestHash)) {
+            missCounter.increment();
+            request.setAttribute(STORE_KEY_ATTRIBUTE, storeKey);
+            request.setAttribute(REQUEST_HASH_ATTRIBUTE, requestHash);
+            return true;
+        }
+
+        Optional<IdempotentResponse> storedResponse = idempotencyRedisRepository.find(storeKey);
+        if (storedResponse.isPresent() && !storedResponse.get().isSameRequest(requestHash)) {
+            mismatchCounter.increment();
+            writeError(response, IDEMPOTENCY_KEY_REUSED);
+            return false;
+        }
+        if (storedResponse.isEmpty() || !storedResponse.get().isCompleted()) {
+            inProgressCounter.increment();
+            writeError(response, IDEMPOTENT_REQUEST_IN_PROGRESS);
+            return false;
+        }
+
+        hitCounter.increment();
+        writeStoredResponse(response, storedResponse.get());
+        return false;
+    }
+
+    private void saveResponse(String storeKey, String requestHash, ContentCachingResponseWrapper responseWrapper) {
+        int status = responseWrapper.getStatus();
+        if (status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+            idempotencyRedisRepository.release(storeKey);
+            return;
+        }
+
+        String body = new String(responseWrapper.getContentAsByteArray(), StandardCharsets.UTF_8);
+        idempotencyRedisRepository.complete(
+                storeKey,
+                IdempotentResponse.completed(requestHash, status, responseWrapper.getContentType(), body)
+        );
+    }
+
+    private void writeStoredResponse(HttpServletResponse response, IdempotentResponse storedResponse)
+            throws IOException {
+        response.setStatus(storedResponse.getStatus());
+        if (storedResponse.getContentType() != null) {
+            response.setContentType(storedResponse.getContentType());
+        }
+        response.setHeader(IDEMPOTENT_REPLAYED_HEADER, "true");
+        if (storedResponse.getBody() != null) {
+            response.getOutputStream().write(storedResponse.getBody().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode) throws IOException {
+        ErrorResponseDto errorResponseDto = ErrorResponseDto.of(
+                errorCode.getHttpStatus().value(),
+                errorCode.getMessage()
+        );
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(objectMapper.writeValueAsString(errorResponseDto));
+    }
+
+    // 결제 승인은 GET 요청이라 pg_token 이 쿼리 문자열로 들어오므로 본문과 함께 해시합니다.
+    private String requestHash(CachedBodyHttpServletRequest request) {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        if (request.getQueryString() != null) {
+            content.writeBytes(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+        }
+        content.write('\n');
+        content.writeBytes(request.getBody());
+        return DigestUtils.md5DigestAsHex(content.toByteArray());
+    }
+
+    private boolean isTargetPath(String uri) {
+        return pathPatterns.stream().anyMatch(pattern -> pathMatcher.match(pattern, uri));
+    }
+
+    private String getUserKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthUser authUser) {
+            return String.valueOf(authUser.getUserId());
+        }
+        return "anonymous";
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("idempotency.requests")
+                .description("Idempotency-Key가 있는 요청 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
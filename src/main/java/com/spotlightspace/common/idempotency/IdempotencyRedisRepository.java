@@ -0,0 +1,76 @@
+package com.spotlightspace.common.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 멱등 키별 처리 상태와 응답을 Redis에 저장합니다.
+ * 처리 중 상태는 짧은 TTL로 저장해 서버가 응답을 저장하지 못하고 죽더라도 일정 시간 뒤 다시 요청할 수 있게 합니다.
+ */
+@Slf4j
+@Repository
+public class IdempotencyRedisRepository {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration inProgressTtl;
+    private final Duration completedTtl;
+
+    public IdempotencyRedisRepository(
+            RedisTemplate<String, String> redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.in-progress-ttl-seconds:60}") long inProgressTtlSeconds,
+            @Value("${idempotency.completed-ttl-seconds:86400}") long completedTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.inProgressTtl = Duration.ofSeconds(inProgressTtlSeconds);
+        this.completedTtl = Duration.ofSeconds(completedTtlSeconds);
+    }
+
+    /**
+     * 처음 들어온 키라면 요청 해시와 함께 처리 중 상태를 저장하고 true를 반환합니다.
+     */
+    public boolean tryAcquire(String key, String requestHash) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(KEY_PREFIX + key, serialize(IdempotentResponse.inProgress(requestHash)), inProgressTtl);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    public Optional<IdempotentResponse> find(String key) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + key);
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(value, IdempotentResponse.class));
+        } catch (JsonProcessingException e) {
+            log.warn("멱등 응답 역직렬화 실패 - key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    public void complete(String key, IdempotentResponse response) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, serialize(response), completedTtl);
+    }
+
+    public void release(String key) {
+        redisTemplate.delete(KEY_PREFIX + key);
+    }
+
+    private String serialize(IdempotentResponse response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.spotlightspace.common.idempotency;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 멱등 키로 저장되는 요청의 처리 상태와 응답입니다. 처리 중에는 응답 없이 상태만 저장됩니다.
+ * 같은 키로 다른 요청을 보냈는지 가려내기 위해 요청의 해시를 함께 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class IdempotentResponse {
+
+    private boolean completed;
+    private String requestHash;
+    private int status;
+    private String contentType;
+    private String body;
+
+    public static IdempotentResponse inProgress(String requestHash) {
+        return new IdempotentResponse(false, requestHash, 0, null, null);
+    }
+
+    public static IdempotentResponse completed(String requestHash, int status, String contentType, String body) {
+        return new IdempotentResponse(true, requestHash, status, contentType, body);
+    }
+
+    public boolean isSameRequest(String requestHash) {
+        // 해시를 저장하기 전에 만들어진 응답은 비교할 수 없으므로 같은 요청으로 봅니다.
+        return this.requestHash == null || this.requestHash.equals(requestHash);
+    }
+}
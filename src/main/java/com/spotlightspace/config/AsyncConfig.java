@@ -1,9 +1,102 @@
 package com.spotlightspace.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableAsync
 public class AsyncConfig {
+
+    /**
+     * Executor 빈을 직접 등록하면 스프링 부트의 기본 실행기가 등록되지 않으므로,
+     * {@code @Async}가 환불용 스레드 풀을 쓰지 않도록 기본 실행기를 같은 설정으로 등록합니다.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * 이벤트 삭제 시 카카오페이 환불 요청을 보내는 스레드 풀입니다.
+     * 동시에 보내는 요청 수를 스레드 수로 제한하고, 나머지는 큐에서 순서대로 처리합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor paymentRefundExecutor(@Value("${payment.refund.parallelism:8}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("payment-refund-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 쿠폰 캠페인을 생성하는 스레드 풀입니다.
+     * 대량 INSERT가 DB 커넥션을 오래 점유하지 않도록 동시에 생성하는 캠페인 수를 제한합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor couponCampaignExecutor(@Value("${coupon.campaign.parallelism:2}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setThreadNamePrefix("coupon-campaign-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 검색 인덱스 대기열이 배치 크기만큼 쌓였을 때 바로 반영을 시작하는 스레드 풀입니다.
+     * 이미 반영이 예약되어 있으면 그 반영이 대기열을 비우므로 추가 요청은 버립니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor eventIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        executor.setThreadNamePrefix("event-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 검색 인덱스를 MySQL에서 다시 적재하는 스레드 풀입니다.
+     * 재구성은 Redis 키로 한 번에 하나만 실행되므로 스레드 하나로 충분합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor eventReindexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("event-reindex-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * soft TTL이 지난 이벤트 캐시를 백그라운드에서 다시 조회하는 스레드 풀입니다.
+     * 큐가 가득 차면 요청을 거절하고, 그동안은 오래된 캐시 값을 그대로 반환합니다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor eventCacheRefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("event-cache-refresh-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
 }
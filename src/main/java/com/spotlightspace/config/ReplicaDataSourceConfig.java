@@ -0,0 +1,138 @@
+package com.spotlightspace.config;
+
+import com.spotlightspace.common.datasource.ReadAfterWriteInterceptor;
+import com.spotlightspace.common.datasource.ReadAfterWriteListener;
+import com.spotlightspace.common.datasource.ReadAfterWriteTracker;
+import com.spotlightspace.common.datasource.ReadFromPrimaryAspect;
+import com.spotlightspace.common.datasource.ReplicaDataSources;
+import com.spotlightspace.common.datasource.ReplicaLagMonitor;
+import com.spotlightspace.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * datasource.replica.urls에 복제 DB가 있으면 읽기 전용 트랜잭션을 복제 DB 풀로 보냅니다. 비어 있으면 스프링 부트의 기본 데이터 소스를 그대로 사용합니다.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리를 실행할 때 풀을 고르도록 {@link LazyConnectionDataSourceProxy}로 감쌉니다.
+ * 풀마다 hikaricp 지표가 pool 태그(primary, replica-1, ...)로 남습니다.
+ * 쓰기 직후 기본 DB를 읽는 기간은 사용자별로 Redis에 기록해 다음 요청이 다른 서버나 스레드에서 처리되어도 유지합니다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+public class ReplicaDataSourceConfig {
+
+    private static final String PRIMARY_POOL_NAME = "primary";
+    private static final String REPLICA_POOL_PREFIX = "replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY_POOL_NAME);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSources replicaDataSources,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry,
+                                 @Value("${datasource.replica.read-after-write-ms:3000}") long readAfterWriteMillis) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource,
+                replicaDataSources.getPools(), replicaLagMonitor, readAfterWriteMillis, meterRegistry));
+    }
+
+    /**
+     * 복제 DB 풀은 데이터 소스 빈이 아니어서 스프링 부트가 지표를 연결하지 않으므로 지표 수집기를 직접 연결합니다.
+     */
+    @Bean
+    public ReplicaDataSources replicaDataSources(
+            DataSourceProperties properties, MeterRegistry meterRegistry,
+            @Value("${datasource.replica.urls}") String urls,
+            @Value("${datasource.replica.maximum-pool-size:30}") int maximumPoolSize) {
+        List<String> replicaUrls = Arrays.stream(urls.split(","))
+                .map(String::strip)
+                .filter(url -> !url.isEmpty())
+                .toList();
+
+        Map<String, HikariDataSource> pools = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(REPLICA_POOL_PREFIX + (i + 1));
+            replica.setJdbcUrl(replicaUrls.get(i));
+            replica.setUsername(properties.determineUsername());
+            replica.setPassword(properties.determinePassword());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setMaximumPoolSize(maximumPoolSize);
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(replica.getPoolName(), replica);
+        }
+        return ReplicaDataSources.from(pools);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource primaryDataSource, ReplicaDataSources replicaDataSources, MeterRegistry meterRegistry,
+            @Value("${datasource.replica.max-lag-seconds:5}") double maxLagSeconds) {
+        Map<String, JdbcTemplate> replicaJdbcTemplates = new LinkedHashMap<>();
+        replicaDataSources.getPools()
+                .forEach((pool, dataSource) -> replicaJdbcTemplates.put(pool, new JdbcTemplate(dataSource)));
+        return new ReplicaLagMonitor(new JdbcTemplate(primaryDataSource), replicaJdbcTemplates, maxLagSeconds,
+                meterRegistry);
+    }
+
+    @Bean
+    public ReadAfterWriteTracker readAfterWriteTracker(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${datasource.replica.read-after-write-ms:3000}") long readAfterWriteMillis) {
+        return new ReadAfterWriteTracker(redisTemplate, readAfterWriteMillis);
+    }
+
+    @Bean
+    public ReadAfterWriteListener readAfterWriteListener(ReadAfterWriteTracker readAfterWriteTracker) {
+        return new ReadAfterWriteListener(readAfterWriteTracker);
+    }
+
+    @Bean
+    public WebMvcConfigurer readAfterWriteWebMvcConfigurer(ReadAfterWriteTracker readAfterWriteTracker) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadAfterWriteInterceptor(readAfterWriteTracker));
+            }
+        };
+    }
+
+    @Bean
+    public ReadFromPrimaryAspect readFromPrimaryAspect() {
+        return new ReadFromPrimaryAspect();
+    }
+
+    /**
+     * 기본 설정은 세션이 끝날 때까지 커넥션을 잡고 있어 open-in-view 요청에서 앞선 읽기 전용 트랜잭션의 복제 DB 커넥션으로
+     * 쓰기가 실행될 수 있으므로, 트랜잭션이 끝날 때마다 커넥션을 반납해 트랜잭션마다 풀을 다시 고르게 합니다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -1,5 +1,6 @@
 package com.spotlightspace.config;
 
+import com.spotlightspace.integration.resilience.AdaptiveTimeoutRequestFactory;
 import java.time.Duration;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
@@ -10,11 +11,15 @@ import org.springframework.web.client.RestTemplate;
 public class RestTemplateConfig  {
     @Bean
     public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        // 외부 API 호출은 ExternalApiGuard가 최근 응답 시간에 맞춰 읽기 타임아웃을 줄여서 사용
+        AdaptiveTimeoutRequestFactory requestFactory = new AdaptiveTimeoutRequestFactory();
+        // RestTemplate 으로 외부 API 호출 시 일정 시간이 지나도 응답이 없을 때
+        // 무한 대기 상태 방지를 위해 강제 종료 설정
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5)); // 5초
+        requestFactory.setReadTimeout(Duration.ofSeconds(5)); // 5초
+
         return restTemplateBuilder
-                // RestTemplate 으로 외부 API 호출 시 일정 시간이 지나도 응답이 없을 때
-                // 무한 대기 상태 방지를 위해 강제 종료 설정
-                .setConnectTimeout(Duration.ofSeconds(5)) // 5초
-                .setReadTimeout(Duration.ofSeconds(5)) // 5초
+                .requestFactory(() -> requestFactory)
                 .build();
     }
 }
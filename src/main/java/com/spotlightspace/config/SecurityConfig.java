@@ -1,6 +1,8 @@
 package com.spotlightspace.config;
 
+import com.spotlightspace.common.idempotency.IdempotencyKeyFilter;
 import com.spotlightspace.core.user.domain.UserRole;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,6 +14,7 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
 import org.springframework.security.web.servletapi.SecurityContextHolderAwareRequestFilter;
 
 
@@ -22,6 +25,7 @@ import org.springframework.security.web.servletapi.SecurityContextHolderAwareReq
 public class SecurityConfig {
 
     private final JwtSecurityFilter jwtSecurityFilter;
+    private final IdempotencyKeyFilter idempotencyKeyFilter;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -37,12 +41,16 @@ public class SecurityConfig {
                         // SessionManagementFilter, SecurityContextPersistenceFilter
                 )
                 .addFilterBefore(jwtSecurityFilter, SecurityContextHolderAwareRequestFilter.class)
+                // 인가를 통과한 요청만 멱등 키를 점유하도록 마지막에 배치
+                .addFilterAfter(idempotencyKeyFilter, AuthorizationFilter.class)
                 .formLogin(
                         AbstractHttpConfigurer::disable) // UsernamePasswordAuthenticationFilter, DefaultLoginPageGeneratingFilter 비활성화
                 .anonymous(AbstractHttpConfigurer::disable) // AnonymousAuthenticationFilter 비활성화
                 .httpBasic(AbstractHttpConfigurer::disable) // BasicAuthenticationFilter 비활성화
                 .logout(AbstractHttpConfigurer::disable) // LogoutFilter 비활성화
                 .authorizeHttpRequests(auth -> auth
+                        // Mono 등 비동기 응답은 최초 요청에서 인가를 마쳤으므로 결과를 쓰는 ASYNC 디스패치는 허용
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/*/auth/**").permitAll()
                         .requestMatchers("/api/*/mail/**").permitAll()
                         .requestMatchers("/api/*/admin/**").hasAuthority(UserRole.Authority.ADMIN)
@@ -0,0 +1,66 @@
+package com.spotlightspace.config;
+
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.WriteTimeoutHandler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+@Configuration
+public class WebClientConfig {
+
+    @Value("${payment.kakao.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${payment.kakao.client.pending-acquire-max-count:500}")
+    private int pendingAcquireMaxCount;
+
+    @Value("${payment.kakao.client.pending-acquire-timeout-ms:2000}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${payment.kakao.client.max-idle-time-ms:30000}")
+    private long maxIdleTimeMs;
+
+    @Value("${payment.kakao.client.connect-timeout-ms:3000}")
+    private int connectTimeoutMs;
+
+    @Value("${payment.kakao.client.response-timeout-ms:5000}")
+    private long responseTimeoutMs;
+
+    /**
+     * 카카오페이 호출에 사용하는 커넥션 풀입니다. 모든 요청이 같은 풀을 공유하며,
+     * 풀이 가득 차면 pendingAcquireMaxCount까지만 대기시키고 그 이상은 즉시 실패시켜 요청이 무한히 쌓이지 않게 합니다.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider kakaopayConnectionProvider() {
+        return ConnectionProvider.builder("kakaopay")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                // 게이트웨이나 LB가 먼저 끊은 유휴 커넥션을 재사용하지 않도록 정리
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public WebClient kakaopayWebClient(WebClient.Builder webClientBuilder, ConnectionProvider kakaopayConnectionProvider) {
+        // 읽기 타임아웃은 요청별로 늘릴 수 있도록 커넥션 핸들러 대신 응답 타임아웃으로만 설정
+        HttpClient httpClient = HttpClient.create(kakaopayConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .doOnConnected(connection -> connection
+                        .addHandlerLast(new WriteTimeoutHandler(responseTimeoutMs, TimeUnit.MILLISECONDS)));
+
+        return webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
@@ -1,9 +1,12 @@
 package com.spotlightspace.core.admin.controller;
 
 import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.requestdto.AdminCouponCampaignCreateRequestDto;
 import com.spotlightspace.core.admin.dto.requestdto.AdminCouponCreateRequestDto;
 import com.spotlightspace.core.admin.dto.requestdto.AdminCouponUpdateRequestDto;
+import com.spotlightspace.core.admin.dto.responsedto.AdminCouponCampaignProgressResponseDto;
 import com.spotlightspace.core.admin.dto.responsedto.AdminCouponResponseDto;
+import com.spotlightspace.core.admin.service.AdminCouponCampaignService;
 import com.spotlightspace.core.admin.service.AdminCouponService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +22,7 @@ import static com.spotlightspace.common.exception.ErrorCode.NO_RESULTS_FOUND;
 public class AdminCouponController {
 
     private final AdminCouponService adminCouponService;
+    private final AdminCouponCampaignService adminCouponCampaignService;
 
     /**
      * 쿠폰 생성
@@ -81,4 +85,30 @@ public class AdminCouponController {
         adminCouponService.deleteCoupon(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 쿠폰 캠페인 생성 (백그라운드에서 대량 생성)
+     *
+     * @param requestDto 캠페인 생성 요청 DTO
+     * @return 캠페인 아이디와 초기 진행 상황
+     */
+    @PostMapping("/campaigns")
+    public ResponseEntity<AdminCouponCampaignProgressResponseDto> createCampaign(
+            @Valid @RequestBody AdminCouponCampaignCreateRequestDto requestDto
+    ) {
+        return ResponseEntity.accepted().body(adminCouponCampaignService.createCampaign(requestDto));
+    }
+
+    /**
+     * 쿠폰 캠페인 생성 진행 상황 조회
+     *
+     * @param campaignId 캠페인 아이디
+     * @return 생성된 쿠폰 수와 상태
+     */
+    @GetMapping("/campaigns/{campaignId}")
+    public ResponseEntity<AdminCouponCampaignProgressResponseDto> getCampaignProgress(
+            @PathVariable String campaignId
+    ) {
+        return ResponseEntity.ok(adminCouponCampaignService.getCampaignProgress(campaignId));
+    }
 }
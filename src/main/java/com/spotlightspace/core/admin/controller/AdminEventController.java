@@ -2,7 +2,10 @@ package com.spotlightspace.core.admin.controller;
 
 
 import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventCoordinatesResponseDto;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventReindexProgressResponseDto;
 import com.spotlightspace.core.admin.dto.responsedto.AdminEventResponseDto;
+import com.spotlightspace.core.admin.service.AdminEventReindexService;
 import com.spotlightspace.core.admin.service.AdminEventService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -18,6 +21,7 @@ import static com.spotlightspace.common.exception.ErrorCode.NO_RESULTS_FOUND;
 public class AdminEventController {
 
     private final AdminEventService adminEventService;
+    private final AdminEventReindexService adminEventReindexService;
 
 
     /**
@@ -57,4 +61,35 @@ public class AdminEventController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 좌표가 없는 이벤트의 장소를 지역 좌표표로 찾아 좌표를 채웁니다. 내 주변 이벤트 검색에 포함하려면 한 번 실행합니다.
+     *
+     * @return 좌표를 채운 이벤트 수와 장소를 찾지 못한 이벤트 수
+     */
+    @PostMapping("/coordinates")
+    public ResponseEntity<AdminEventCoordinatesResponseDto> fillMissingCoordinates() {
+        return ResponseEntity.ok(adminEventService.fillMissingCoordinates());
+    }
+
+    /**
+     * 이벤트 검색 인덱스 재구성
+     * MySQL의 이벤트 전체로 새 인덱스를 만든 뒤 검색 alias를 교체하며, 작업은 백그라운드에서 진행합니다.
+     *
+     * @return 새 인덱스 이름과 진행 상황 (202 Accepted)
+     */
+    @PostMapping("/reindex")
+    public ResponseEntity<AdminEventReindexProgressResponseDto> reindex() {
+        return ResponseEntity.accepted().body(adminEventReindexService.reindex());
+    }
+
+    /**
+     * 이벤트 검색 인덱스 재구성 진행 상황 조회
+     *
+     * @param indexName 새 인덱스 이름
+     * @return 적재한 문서 수, 초당 적재 건수와 상태
+     */
+    @GetMapping("/reindex/{indexName}")
+    public ResponseEntity<AdminEventReindexProgressResponseDto> getReindexProgress(@PathVariable String indexName) {
+        return ResponseEntity.ok(adminEventReindexService.getReindexProgress(indexName));
+    }
 }
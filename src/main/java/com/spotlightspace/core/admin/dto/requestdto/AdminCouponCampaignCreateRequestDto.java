@@ -0,0 +1,39 @@
+package com.spotlightspace.core.admin.dto.requestdto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AdminCouponCampaignCreateRequestDto {
+
+    @NotNull
+    private int discountAmount;
+
+    @NotNull
+    private LocalDate expiredAt;
+
+    // 코드 하나당 발급 가능 수량
+    @NotNull
+    @Positive
+    private Integer count;
+
+    // 생성할 쿠폰 코드 개수
+    @NotNull
+    @Positive
+    @Max(1_000_000)
+    private Integer quantity;
+
+    public static AdminCouponCampaignCreateRequestDto of(int discountAmount, LocalDate expiredAt, Integer count,
+            Integer quantity) {
+        return new AdminCouponCampaignCreateRequestDto(discountAmount, expiredAt, count, quantity);
+    }
+}
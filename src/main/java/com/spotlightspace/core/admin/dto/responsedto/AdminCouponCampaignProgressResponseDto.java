@@ -0,0 +1,48 @@
+package com.spotlightspace.core.admin.dto.responsedto;
+
+import static com.spotlightspace.core.coupon.repository.CouponCampaignProgressRedisRepository.INSERTED;
+import static com.spotlightspace.core.coupon.repository.CouponCampaignProgressRedisRepository.STATUS;
+import static com.spotlightspace.core.coupon.repository.CouponCampaignProgressRedisRepository.TOTAL;
+
+import com.spotlightspace.core.coupon.CouponCodeGenerator;
+import com.spotlightspace.core.coupon.domain.CouponCampaignStatus;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminCouponCampaignProgressResponseDto {
+
+    private String campaignId;
+    // 캠페인 쿠폰은 모두 이 접두어로 시작하므로 쿠폰 검색 키워드로 사용할 수 있음
+    private String codePrefix;
+    private long total;
+    private long inserted;
+    private CouponCampaignStatus status;
+
+    public static AdminCouponCampaignProgressResponseDto of(String campaignId, long total) {
+        return new AdminCouponCampaignProgressResponseDto(
+                campaignId,
+                CouponCodeGenerator.toCodePrefix(campaignId),
+                total,
+                0,
+                CouponCampaignStatus.RUNNING
+        );
+    }
+
+    public static AdminCouponCampaignProgressResponseDto of(String campaignId, Map<Object, Object> progress) {
+        return new AdminCouponCampaignProgressResponseDto(
+                campaignId,
+                CouponCodeGenerator.toCodePrefix(campaignId),
+                toLong(progress.get(TOTAL)),
+                toLong(progress.get(INSERTED)),
+                CouponCampaignStatus.valueOf(progress.get(STATUS).toString())
+        );
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,19 @@
+package com.spotlightspace.core.admin.dto.responsedto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminEventCoordinatesResponseDto {
+
+    // 좌표를 채운 이벤트 수
+    private int updated;
+    // 지역 좌표표에서 장소를 찾지 못해 좌표가 없는 이벤트 수
+    private int unresolved;
+
+    public static AdminEventCoordinatesResponseDto of(int updated, int unresolved) {
+        return new AdminEventCoordinatesResponseDto(updated, unresolved);
+    }
+}
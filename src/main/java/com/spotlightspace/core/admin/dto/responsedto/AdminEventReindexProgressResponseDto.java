@@ -0,0 +1,67 @@
+package com.spotlightspace.core.admin.dto.responsedto;
+
+import static com.spotlightspace.core.event.repository.EventReindexRedisRepository.FINISHED_AT;
+import static com.spotlightspace.core.event.repository.EventReindexRedisRepository.INDEXED;
+import static com.spotlightspace.core.event.repository.EventReindexRedisRepository.STARTED_AT;
+import static com.spotlightspace.core.event.repository.EventReindexRedisRepository.STATUS;
+import static com.spotlightspace.core.event.repository.EventReindexRedisRepository.TOTAL;
+
+import com.spotlightspace.core.event.domain.EventReindexStatus;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminEventReindexProgressResponseDto {
+
+    private String indexName;
+    private long total;
+    private long indexed;
+    private EventReindexStatus status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    // 시작부터 종료(진행 중이면 현재)까지 초당 적재한 문서 수
+    private double documentsPerSecond;
+
+    public static AdminEventReindexProgressResponseDto of(String indexName, long total, long startedAt) {
+        return new AdminEventReindexProgressResponseDto(
+                indexName,
+                total,
+                0,
+                EventReindexStatus.RUNNING,
+                toLocalDateTime(startedAt),
+                null,
+                0
+        );
+    }
+
+    public static AdminEventReindexProgressResponseDto of(String indexName, Map<Object, Object> progress) {
+        long indexed = toLong(progress.get(INDEXED));
+        long startedAt = toLong(progress.get(STARTED_AT));
+        Object finishedAt = progress.get(FINISHED_AT);
+        long endedAt = finishedAt == null ? System.currentTimeMillis() : toLong(finishedAt);
+
+        return new AdminEventReindexProgressResponseDto(
+                indexName,
+                toLong(progress.get(TOTAL)),
+                indexed,
+                EventReindexStatus.valueOf(progress.get(STATUS).toString()),
+                toLocalDateTime(startedAt),
+                finishedAt == null ? null : toLocalDateTime(endedAt),
+                indexed * 1000.0 / Math.max(endedAt - startedAt, 1)
+        );
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,115 @@
+package com.spotlightspace.core.admin.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_CAMPAIGN_NOT_FOUND;
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_CAMPAIGN_PREFIX_UNAVAILABLE;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.requestdto.AdminCouponCampaignCreateRequestDto;
+import com.spotlightspace.core.admin.dto.responsedto.AdminCouponCampaignProgressResponseDto;
+import com.spotlightspace.core.coupon.CouponCodeGenerator;
+import com.spotlightspace.core.coupon.domain.CouponCampaignStatus;
+import com.spotlightspace.core.coupon.repository.CouponCampaignProgressRedisRepository;
+import com.spotlightspace.core.coupon.repository.CouponJdbcRepository;
+import com.spotlightspace.core.coupon.repository.CouponRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 쿠폰 캠페인용 쿠폰을 대량으로 생성합니다.
+ * 캠페인마다 아직 쓰이지 않은 코드 접두어를 하나 선점하고 나머지 두 세그먼트만 무작위로 채우므로,
+ * 기존 쿠폰과는 겹치지 않고 캠페인 안에서의 중복만 메모리에서 걸러내면 됩니다.
+ * 생성은 별도 스레드에서 chunk-size 단위 JDBC 배치 INSERT로 진행하고 진행 상황을 Redis에 기록합니다.
+ */
+@Slf4j
+@Service
+public class AdminCouponCampaignService {
+
+    private static final int MAX_PREFIX_ATTEMPTS = 10;
+
+    private final CouponRepository couponRepository;
+    private final CouponJdbcRepository couponJdbcRepository;
+    private final CouponCampaignProgressRedisRepository couponCampaignProgressRedisRepository;
+    private final Executor couponCampaignExecutor;
+    private final int chunkSize;
+
+    public AdminCouponCampaignService(
+            CouponRepository couponRepository,
+            CouponJdbcRepository couponJdbcRepository,
+            CouponCampaignProgressRedisRepository couponCampaignProgressRedisRepository,
+            @Qualifier("couponCampaignExecutor") Executor couponCampaignExecutor,
+            @Value("${coupon.campaign.chunk-size:1000}") int chunkSize
+    ) {
+        this.couponRepository = couponRepository;
+        this.couponJdbcRepository = couponJdbcRepository;
+        this.couponCampaignProgressRedisRepository = couponCampaignProgressRedisRepository;
+        this.couponCampaignExecutor = couponCampaignExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    public AdminCouponCampaignProgressResponseDto createCampaign(AdminCouponCampaignCreateRequestDto requestDto) {
+        String campaignId = reserveCampaignId(requestDto.getQuantity());
+        couponCampaignExecutor.execute(() -> generateCoupons(campaignId, requestDto));
+        return AdminCouponCampaignProgressResponseDto.of(campaignId, requestDto.getQuantity());
+    }
+
+    public AdminCouponCampaignProgressResponseDto getCampaignProgress(String campaignId) {
+        return couponCampaignProgressRedisRepository.find(campaignId)
+                .map(progress -> AdminCouponCampaignProgressResponseDto.of(campaignId, progress))
+                .orElseThrow(() -> new ApplicationException(COUPON_CAMPAIGN_NOT_FOUND));
+    }
+
+    /**
+     * DB에 같은 접두어로 시작하는 코드가 없고, 진행 중인 다른 캠페인이 선점하지 않은 접두어를 캠페인 아이디로 사용합니다.
+     */
+    private String reserveCampaignId(long quantity) {
+        for (int i = 0; i < MAX_PREFIX_ATTEMPTS; i++) {
+            String prefix = CouponCodeGenerator.generateSegment();
+            if (couponRepository.existsByCodeStartingWith(CouponCodeGenerator.toCodePrefix(prefix))) {
+                continue;
+            }
+            if (couponCampaignProgressRedisRepository.start(prefix, quantity)) {
+                return prefix;
+            }
+        }
+        throw new ApplicationException(COUPON_CAMPAIGN_PREFIX_UNAVAILABLE);
+    }
+
+    private void generateCoupons(String campaignId, AdminCouponCampaignCreateRequestDto requestDto) {
+        int quantity = requestDto.getQuantity();
+        Set<String> generatedCodes = new HashSet<>(quantity * 4 / 3 + 1);
+        int inserted = 0;
+
+        try {
+            while (inserted < quantity) {
+                int size = Math.min(chunkSize, quantity - inserted);
+                List<String> codes = new ArrayList<>(size);
+                while (codes.size() < size) {
+                    String code = CouponCodeGenerator.generateCode(campaignId);
+                    if (generatedCodes.add(code)) {
+                        codes.add(code);
+                    }
+                }
+
+                couponJdbcRepository.batchInsert(
+                        codes,
+                        requestDto.getDiscountAmount(),
+                        requestDto.getExpiredAt(),
+                        requestDto.getCount()
+                );
+                inserted += size;
+                couponCampaignProgressRedisRepository.increaseInserted(campaignId, size);
+            }
+            couponCampaignProgressRedisRepository.finish(campaignId, CouponCampaignStatus.COMPLETED);
+        } catch (RuntimeException e) {
+            log.error("쿠폰 캠페인 생성 실패 - campaignId: {}, inserted: {}/{}", campaignId, inserted, quantity, e);
+            couponCampaignProgressRedisRepository.finish(campaignId, CouponCampaignStatus.FAILED);
+        }
+    }
+}
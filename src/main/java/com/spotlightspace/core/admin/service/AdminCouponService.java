@@ -8,6 +8,7 @@ import com.spotlightspace.core.admin.repository.AdminQueryRepository;
 import com.spotlightspace.core.coupon.CouponCodeGenerator;
 import com.spotlightspace.core.coupon.domain.Coupon;
 import com.spotlightspace.core.coupon.repository.CouponRepository;
+import com.spotlightspace.core.usercoupon.repository.UserCouponIssueRedisRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -28,6 +29,7 @@ public class AdminCouponService {
 
     private final CouponRepository couponRepository;
     private final AdminQueryRepository adminRepository;
+    private final UserCouponIssueRedisRepository userCouponIssueRedisRepository;
 
     public AdminCouponResponseDto createCoupon(AdminCouponCreateRequestDto requestDto) {
         String code = CouponCodeGenerator.generateCode();
@@ -60,11 +62,13 @@ public class AdminCouponService {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new ApplicationException(COUPON_NOT_FOUND));
         coupon.update(requestDto.getDiscountAmount(), requestDto.getExpiredAt());
+        userCouponIssueRedisRepository.expireAt(couponId, requestDto.getExpiredAt());
     }
 
     public void deleteCoupon(Long couponId) {
         Coupon coupon = couponRepository.findById(couponId)
                 .orElseThrow(() -> new ApplicationException(COUPON_NOT_FOUND));
         coupon.setAsUnusable();
+        userCouponIssueRedisRepository.delete(couponId);
     }
 }
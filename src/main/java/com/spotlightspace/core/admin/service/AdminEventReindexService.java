@@ -0,0 +1,111 @@
+package com.spotlightspace.core.admin.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_REINDEX_ALREADY_RUNNING;
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_REINDEX_NOT_FOUND;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventReindexProgressResponseDto;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.domain.EventReindexStatus;
+import com.spotlightspace.core.event.repository.EventElasticIndexRepository;
+import com.spotlightspace.core.event.repository.EventReindexRedisRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+/**
+ * MySQL의 이벤트 전체로 새 버전의 검색 인덱스를 만들고 alias를 교체합니다.
+ * 이벤트는 아이디 순으로 chunk-size만큼 이어서 읽어 OFFSET 없이 끝까지 한 방향으로만 훑고,
+ * 재구성하는 동안 커밋된 변경은 색인 파이프라인이 새 인덱스에도 반영하므로 교체 시점에 빠지는 변경이 없습니다.
+ */
+@Slf4j
+@Service
+public class AdminEventReindexService {
+
+    private static final DateTimeFormatter VERSION_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+
+    private final EventRepository eventRepository;
+    private final EventElasticIndexRepository eventElasticIndexRepository;
+    private final EventReindexRedisRepository eventReindexRedisRepository;
+    private final Executor eventReindexExecutor;
+    private final int chunkSize;
+
+    public AdminEventReindexService(
+            EventRepository eventRepository,
+            EventElasticIndexRepository eventElasticIndexRepository,
+            EventReindexRedisRepository eventReindexRedisRepository,
+            @Qualifier("eventReindexExecutor") Executor eventReindexExecutor,
+            @Value("${event.reindex.chunk-size:1000}") int chunkSize
+    ) {
+        this.eventRepository = eventRepository;
+        this.eventElasticIndexRepository = eventElasticIndexRepository;
+        this.eventReindexRedisRepository = eventReindexRedisRepository;
+        this.eventReindexExecutor = eventReindexExecutor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 색인 파이프라인이 새 인덱스에 쓰기 시작하기 전에 인덱스를 먼저 만들어야 동적 매핑으로 자동 생성되지 않습니다.
+     */
+    public AdminEventReindexProgressResponseDto reindex() {
+        String indexName = eventElasticIndexRepository.getAlias() + "_v" + LocalDateTime.now().format(VERSION_FORMAT);
+        long total = eventRepository.count();
+        long startedAt = System.currentTimeMillis();
+
+        eventElasticIndexRepository.createForBulkLoad(indexName);
+        if (!eventReindexRedisRepository.start(indexName, total, startedAt)) {
+            eventElasticIndexRepository.delete(indexName);
+            throw new ApplicationException(EVENT_REINDEX_ALREADY_RUNNING);
+        }
+
+        eventReindexExecutor.execute(() -> loadAndSwitch(indexName));
+        return AdminEventReindexProgressResponseDto.of(indexName, total, startedAt);
+    }
+
+    public AdminEventReindexProgressResponseDto getReindexProgress(String indexName) {
+        return eventReindexRedisRepository.find(indexName)
+                .map(progress -> AdminEventReindexProgressResponseDto.of(indexName, progress))
+                .orElseThrow(() -> new ApplicationException(EVENT_REINDEX_NOT_FOUND));
+    }
+
+    private void loadAndSwitch(String indexName) {
+        long startedAt = System.currentTimeMillis();
+        long indexed = 0;
+
+        try {
+            long lastId = 0;
+            List<Event> events;
+            do {
+                events = eventRepository.findAllByIdGreaterThan(lastId, PageRequest.of(0, chunkSize));
+                if (events.isEmpty()) {
+                    break;
+                }
+                eventElasticIndexRepository.bulkCreate(events.stream().map(EventElastic::from).toList(), indexName);
+                lastId = events.get(events.size() - 1).getId();
+                indexed += events.size();
+                eventReindexRedisRepository.increaseIndexed(indexName, events.size());
+            } while (events.size() == chunkSize);
+
+            eventElasticIndexRepository.finishBulkLoad(indexName);
+            eventElasticIndexRepository.switchAlias(indexName);
+        } catch (RuntimeException e) {
+            log.error("이벤트 검색 인덱스 재구성 실패 - index: {}, indexed: {}", indexName, indexed, e);
+            eventReindexRedisRepository.finish(indexName, EventReindexStatus.FAILED, System.currentTimeMillis());
+            eventElasticIndexRepository.delete(indexName);
+            return;
+        }
+
+        long finishedAt = System.currentTimeMillis();
+        eventReindexRedisRepository.finish(indexName, EventReindexStatus.COMPLETED, finishedAt);
+        log.info("이벤트 검색 인덱스 재구성 완료 - index: {}, indexed: {}, elapsed: {}ms", indexName, indexed,
+                finishedAt - startedAt);
+    }
+}
@@ -1,10 +1,19 @@
 package com.spotlightspace.core.admin.service;
 
 import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventCoordinatesResponseDto;
 import com.spotlightspace.core.admin.dto.responsedto.AdminEventResponseDto;
 import com.spotlightspace.core.admin.repository.AdminQueryRepository;
+import com.spotlightspace.core.event.domain.Coordinates;
 import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.event.service.EventIndexEvent;
+import com.spotlightspace.core.event.service.EventLocationGeocoder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -20,7 +29,12 @@ import static com.spotlightspace.common.util.SortFieldValidator.validateSortFiel
 
 public class AdminEventService {
 
+    private static final int COORDINATES_CHUNK_SIZE = 500;
+
     private final AdminQueryRepository adminRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventRepository eventRepository;
+    private final EventLocationGeocoder eventLocationGeocoder;
 
     public Page<AdminEventResponseDto> getAdminEvents(int page, int size, String keyword, String sortField, String sortOrder) {
         validateSortField(sortField);
@@ -41,6 +55,40 @@ public class AdminEventService {
         Event event = adminRepository.findEventById(id)
                 .orElseThrow(() -> new ApplicationException(EVENT_NOT_FOUND));
         event.deleteEvent();
+        eventPublisher.publishEvent(EventIndexEvent.from(event.getId()));
+    }
+
+    /**
+     * 좌표를 저장하기 전에 등록된 이벤트의 장소를 지역 좌표표로 찾아 좌표를 채우고, 검색 인덱스에 다시 반영합니다.
+     */
+    @Transactional
+    public AdminEventCoordinatesResponseDto fillMissingCoordinates() {
+        int updated = 0;
+        int unresolved = 0;
+        long lastId = 0L;
+        List<Event> events;
+        do {
+            events = eventRepository.findAllWithoutCoordinatesByIdGreaterThan(
+                    lastId, PageRequest.of(0, COORDINATES_CHUNK_SIZE));
+            List<Long> updatedIds = new ArrayList<>();
+            for (Event event : events) {
+                Optional<Coordinates> coordinates = eventLocationGeocoder.geocode(event.getLocation());
+                if (coordinates.isPresent()) {
+                    event.changeCoordinates(coordinates.get());
+                    updatedIds.add(event.getId());
+                } else {
+                    unresolved++;
+                }
+            }
+            if (!updatedIds.isEmpty()) {
+                eventPublisher.publishEvent(EventIndexEvent.from(updatedIds));
+                updated += updatedIds.size();
+            }
+            if (!events.isEmpty()) {
+                lastId = events.get(events.size() - 1).getId();
+            }
+        } while (events.size() == COORDINATES_CHUNK_SIZE);
+        return AdminEventCoordinatesResponseDto.of(updated, unresolved);
     }
 
 }
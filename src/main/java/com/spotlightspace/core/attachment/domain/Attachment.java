@@ -11,11 +11,15 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 @Entity
-@Table(name = "attachments")
+@Table(
+        name = "attachments",
+        indexes = @Index(name = "idx_attachments_table_role_target_id", columnList = "table_role, target_id")
+)
 public class Attachment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "attachments_seq")
+    @SequenceGenerator(name = "attachments_seq", sequenceName = "attachments_seq", allocationSize = 50)
     @Column(name = "attachment_id")
     private Long id;
 
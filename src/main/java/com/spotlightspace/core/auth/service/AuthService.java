@@ -7,6 +7,7 @@ import static com.spotlightspace.common.exception.ErrorCode.INVALID_PASSWORD_OR_
 import static com.spotlightspace.common.exception.ErrorCode.REFRESH_TOKEN_NOT_FOUND;
 import static com.spotlightspace.common.exception.ErrorCode.USER_NOT_FOUND;
 
+import com.spotlightspace.common.datasource.ReadFromPrimary;
 import com.spotlightspace.common.entity.TableRole;
 import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.config.JwtUtil;
@@ -67,6 +68,8 @@ public class AuthService {
         return SignUpUserResponseDto.from(savedUser);
     }
 
+    // 가입 직후 로그인해도 아직 복제되지 않은 사용자를 찾지 못하는 일이 없도록 기본 DB에서 조회
+    @ReadFromPrimary
     @Transactional(readOnly = true)
     public SaveTokenResponseDto signIn(SignInUserRequestDto signinUserRequestDto) {
         User user = userRepository.findByEmailOrElseThrow(signinUserRequestDto.getEmail());
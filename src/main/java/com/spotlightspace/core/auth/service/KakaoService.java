@@ -1,5 +1,7 @@
 package com.spotlightspace.core.auth.service;
 
+import static com.spotlightspace.common.exception.ErrorCode.SOCIAL_LOGIN_UNAVAILABLE;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +10,7 @@ import com.spotlightspace.core.auth.dto.response.KakaoUserInfoDto;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.domain.UserRole;
 import com.spotlightspace.core.user.repository.UserRepository;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
 import java.net.URI;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +31,13 @@ import org.springframework.web.util.UriComponentsBuilder;
 @Slf4j(topic = "KAKAO Login")
 public class KakaoService {
 
+    private static final String KAKAO_OAUTH = "kakao-oauth";
+
     private final JwtUtil jwtUtil;
     private final AuthService authService;
     private final RestTemplate restTemplate;
     private final UserRepository userRepository;
+    private final ExternalApiGuard externalApiGuard;
 
     @Value("${kakao.client_id}")
     private String kakaoClientId;
@@ -96,9 +102,10 @@ public class KakaoService {
                 .body(body);
 
         // HTTP 요청 보내기
-        ResponseEntity<String> response = restTemplate.exchange(
-                requestEntity,
-                String.class
+        ResponseEntity<String> response = externalApiGuard.call(
+                KAKAO_OAUTH,
+                SOCIAL_LOGIN_UNAVAILABLE,
+                () -> restTemplate.exchange(requestEntity, String.class)
         );
 
         // HTTP 응답 (JSON) -> 액세스 토큰 파싱
@@ -126,9 +133,10 @@ public class KakaoService {
                 .body(new LinkedMultiValueMap<>());
 
         // HTTP 요청 보내기
-        ResponseEntity<String> response = restTemplate.exchange(
-                requestEntity,
-                String.class
+        ResponseEntity<String> response = externalApiGuard.call(
+                KAKAO_OAUTH,
+                SOCIAL_LOGIN_UNAVAILABLE,
+                () -> restTemplate.exchange(requestEntity, String.class)
         );
 
         //사용자 정보 가져오기
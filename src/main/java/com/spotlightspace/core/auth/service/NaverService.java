@@ -1,5 +1,7 @@
 package com.spotlightspace.core.auth.service;
 
+import static com.spotlightspace.common.exception.ErrorCode.SOCIAL_LOGIN_UNAVAILABLE;
+
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +10,7 @@ import com.spotlightspace.core.auth.dto.response.NaverUserInfoDto;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.domain.UserRole;
 import com.spotlightspace.core.user.repository.UserRepository;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLEncoder;
@@ -28,10 +31,13 @@ import org.springframework.web.util.UriComponentsBuilder;
 @Slf4j(topic = "NAVER Login")
 public class NaverService {
 
+    private static final String NAVER_OAUTH = "naver-oauth";
+
     private final JwtUtil jwtUtil;
     private final AuthService authService;
     private final RestTemplate restTemplate;
     private final UserRepository userRepository;
+    private final ExternalApiGuard externalApiGuard;
 
     @Value("${naver.client_id}")
     private String naverClientId;
@@ -103,9 +109,10 @@ public class NaverService {
                 .body(body);
 
         // HTTP 요청 보내기
-        ResponseEntity<String> response = restTemplate.exchange(
-                requestEntity,
-                String.class
+        ResponseEntity<String> response = externalApiGuard.call(
+                NAVER_OAUTH,
+                SOCIAL_LOGIN_UNAVAILABLE,
+                () -> restTemplate.exchange(requestEntity, String.class)
         );
 
         // HTTP 응답 (JSON) -> 액세스 토큰 파싱
@@ -134,9 +141,10 @@ public class NaverService {
                 .body(new LinkedMultiValueMap<>());
 
         // HTTP 요청 보내기
-        ResponseEntity<String> response = restTemplate.exchange(
-                requestEntity,
-                String.class
+        ResponseEntity<String> response = externalApiGuard.call(
+                NAVER_OAUTH,
+                SOCIAL_LOGIN_UNAVAILABLE,
+                () -> restTemplate.exchange(requestEntity, String.class)
         );
 
         // 사용자 정보 가져오기
@@ -1,6 +1,6 @@
 package com.spotlightspace.core.coupon;
 
-import java.util.Random;
+import java.security.SecureRandom;
 
 public class CouponCodeGenerator {
 
@@ -9,19 +9,39 @@ public class CouponCodeGenerator {
     private static final int TOTAL_SEGMENTS = 3;
     private static final String DELIMITER = "-";
 
+    // SecureRandom은 스레드 안전하므로 호출마다 새로 만들지 않고 공유
+    private static final SecureRandom RANDOM = new SecureRandom();
+
     public static String generateCode() {
-        Random random = new Random();
-        StringBuilder code = new StringBuilder();
-
-        for (int i = 0; i < TOTAL_SEGMENTS; i++) {
-            for (int j = 0; j < SEGMENT_LENGTH; j++) {
-                code.append(CHAR_POOL.charAt(random.nextInt(CHAR_POOL.length())));
-            }
-            if (i < TOTAL_SEGMENTS - 1) {
-                code.append(DELIMITER);
-            }
-        }
+        return generateCode(generateSegment());
+    }
 
+    /**
+     * 첫 번째 세그먼트를 고정한 코드를 생성합니다.
+     * 캠페인마다 다른 접두어를 쓰면 캠페인끼리는 코드가 겹치지 않으므로, 캠페인 안에서만 중복을 확인하면 됩니다.
+     */
+    public static String generateCode(String prefix) {
+        StringBuilder code = new StringBuilder(prefix);
+        for (int i = 1; i < TOTAL_SEGMENTS; i++) {
+            code.append(DELIMITER);
+            appendSegment(code);
+        }
         return code.toString();
     }
+
+    public static String generateSegment() {
+        StringBuilder segment = new StringBuilder(SEGMENT_LENGTH);
+        appendSegment(segment);
+        return segment.toString();
+    }
+
+    public static String toCodePrefix(String segment) {
+        return segment + DELIMITER;
+    }
+
+    private static void appendSegment(StringBuilder code) {
+        for (int i = 0; i < SEGMENT_LENGTH; i++) {
+            code.append(CHAR_POOL.charAt(RANDOM.nextInt(CHAR_POOL.length())));
+        }
+    }
 }
@@ -0,0 +1,15 @@
+package com.spotlightspace.core.coupon.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CouponCampaignStatus {
+
+    RUNNING("쿠폰 생성 중"),
+    COMPLETED("쿠폰 생성 완료"),
+    FAILED("쿠폰 생성 중 오류로 중단");
+
+    private final String description;
+}
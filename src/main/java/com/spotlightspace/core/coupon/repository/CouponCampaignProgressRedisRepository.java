@@ -0,0 +1,64 @@
+package com.spotlightspace.core.coupon.repository;
+
+import com.spotlightspace.core.coupon.domain.CouponCampaignStatus;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 쿠폰 캠페인 생성 작업의 진행 상황을 Redis Hash로 관리합니다.
+ * 캠페인 아이디는 쿠폰 코드 접두어이므로, 진행 상황 키를 먼저 선점한 작업만 해당 접두어를 사용할 수 있습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponCampaignProgressRedisRepository {
+
+    public static final String TOTAL = "total";
+    public static final String INSERTED = "inserted";
+    public static final String STATUS = "status";
+
+    private static final String KEY_PREFIX = "coupon:campaign:";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 다른 작업이 이미 같은 캠페인 아이디를 사용 중이면 false를 반환합니다.
+     */
+    public boolean start(String campaignId, long total) {
+        String key = progressKey(campaignId);
+        Boolean started = redisTemplate.opsForHash().putIfAbsent(key, STATUS, CouponCampaignStatus.RUNNING.name());
+        if (!Boolean.TRUE.equals(started)) {
+            return false;
+        }
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                TOTAL, String.valueOf(total),
+                INSERTED, "0"
+        ));
+        redisTemplate.expire(key, TTL);
+        return true;
+    }
+
+    public void increaseInserted(String campaignId, long inserted) {
+        redisTemplate.opsForHash().increment(progressKey(campaignId), INSERTED, inserted);
+    }
+
+    public void finish(String campaignId, CouponCampaignStatus status) {
+        redisTemplate.opsForHash().put(progressKey(campaignId), STATUS, status.name());
+    }
+
+    public Optional<Map<Object, Object>> find(String campaignId) {
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey(campaignId));
+        if (progress.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(progress);
+    }
+
+    private String progressKey(String campaignId) {
+        return KEY_PREFIX + campaignId;
+    }
+}
@@ -0,0 +1,35 @@
+package com.spotlightspace.core.coupon.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 캠페인 쿠폰처럼 대량으로 생성하는 쿠폰을 JDBC 배치 INSERT로 저장합니다.
+ * IDENTITY 전략의 엔티티는 JPA가 INSERT를 묶어 보내지 못하므로 JdbcTemplate을 사용합니다.
+ * MySQL에서는 rewriteBatchedStatements 옵션이 켜져 있어야 여러 행 INSERT 한 번으로 전송됩니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponJdbcRepository {
+
+    private static final String INSERT_SQL =
+            "insert into coupons (discount_amount, expired_at, count, code, is_deleted) values (?, ?, ?, ?, false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void batchInsert(List<String> codes, int discountAmount, LocalDate expiredAt, int count) {
+        Date expiredDate = Date.valueOf(expiredAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, codes, codes.size(), (ps, code) -> {
+            ps.setInt(1, discountAmount);
+            ps.setDate(2, expiredDate);
+            ps.setInt(3, count);
+            ps.setString(4, code);
+        });
+    }
+}
@@ -5,7 +5,9 @@ import com.spotlightspace.core.coupon.domain.Coupon;
 import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -15,6 +17,8 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponQue
 
     Optional<Coupon> findByIdAndIsDeletedFalse(Long couponId);
 
+    boolean existsByCodeStartingWith(String codePrefix);
+
     default Coupon findByIdOrElseThrow(Long couponId) {
         return findById(couponId)
                 .orElseThrow(() -> new ApplicationException(COUPON_NOT_FOUND));
@@ -25,4 +29,8 @@ public interface CouponRepository extends JpaRepository<Coupon, Long>, CouponQue
     @Query("SELECT c FROM Coupon c WHERE c.id = :couponId")
     Optional<Coupon> findByIdWithPessimisticLock(Long couponId);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update Coupon c set c.count = c.count - :count where c.id = :couponId")
+    int decreaseCountBy(@Param("couponId") long couponId, @Param("count") int count);
+
 }
@@ -0,0 +1,48 @@
+package com.spotlightspace.core.event;
+
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.common.exception.ApplicationException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * search_after 에 넘길 마지막 문서의 정렬 값을 클라이언트가 그대로 돌려줄 수 있는 문자열로 변환합니다.
+ * 정렬 값에는 점수, 숫자, 날짜, point in time 의 _shard_doc 값이 섞여 있으므로 JSON 배열을 URL-safe Base64 로 감쌉니다.
+ */
+public final class EventSearchCursor {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<Object>> SORT_VALUES_TYPE = new TypeReference<>() {
+    };
+
+    private EventSearchCursor() {
+    }
+
+    public static String encode(List<Object> sortValues) {
+        try {
+            byte[] json = OBJECT_MAPPER.writeValueAsBytes(sortValues);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("검색 커서를 만들 수 없습니다.", e);
+        }
+    }
+
+    public static List<Object> decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            List<Object> sortValues = OBJECT_MAPPER.readValue(new String(json, StandardCharsets.UTF_8),
+                    SORT_VALUES_TYPE);
+            if (sortValues == null || sortValues.isEmpty()) {
+                throw new ApplicationException(INVALID_SEARCH_CURSOR);
+            }
+            return sortValues;
+        } catch (IllegalArgumentException | JsonProcessingException e) {
+            throw new ApplicationException(INVALID_SEARCH_CURSOR);
+        }
+    }
+}
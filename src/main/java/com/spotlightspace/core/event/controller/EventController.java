@@ -6,19 +6,29 @@ import com.spotlightspace.core.attachment.dto.response.GetAttachmentResponseDto;
 import com.spotlightspace.core.attachment.service.AttachmentService;
 import com.spotlightspace.core.event.domain.EventCategory;
 import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.UpdateEventRequestDto;
 import com.spotlightspace.core.event.dto.response.CreateEventResponseDto;
+import com.spotlightspace.core.event.dto.response.EventAutocompleteResponseDto;
+import com.spotlightspace.core.event.dto.response.EventFacetSearchResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
+import com.spotlightspace.core.event.dto.response.GetNearbyEventResponseDto;
 import com.spotlightspace.core.event.dto.response.UpdateEventResponseDto;
 import com.spotlightspace.core.event.service.EventService;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,6 +39,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+@Validated
 @RestController
 @RequestMapping("/api/v1/event")
 @RequiredArgsConstructor
@@ -162,6 +173,113 @@ public class EventController {
         return new ResponseEntity<>(responseDtoPage, HttpStatus.OK);
     }
 
+    /**
+     * 엘라스틱 서치 전문 검색. 검색어는 제목, 장소, 내용에서 관련도 순으로 찾고 나머지 조건은 필터로 적용합니다.
+     * 첫 요청은 pitId, cursor 없이 보내고, 다음 페이지는 응답의 pitId, nextCursor를 그대로 넘깁니다.
+     *
+     * @param keyword 검색어
+     * @param category
+     * @param minPrice
+     * @param maxPrice
+     * @param startAtFrom 이 날짜 이후에 시작하는 이벤트
+     * @param startAtTo   이 날짜까지 시작하는 이벤트
+     * @param type  아무값도 없으면 관련도 순, upprice, downprice, date값을 넣으면 각각에 맞는 정렬이 수행
+     * @param pitId  이전 페이지의 pitId
+     * @param cursor 이전 페이지의 nextCursor
+     * @param size
+     * @return
+     */
+    @GetMapping("/search/full-text")
+    public ResponseEntity<EventSearchCursorResponseDto> searchEventsByKeyword(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "category", required = false) EventCategory category,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "startAtFrom", required = false) LocalDate startAtFrom,
+            @RequestParam(value = "startAtTo", required = false) LocalDate startAtTo,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "pitId", required = false) String pitId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Positive @Max(100) @RequestParam(defaultValue = "10") int size
+    ) {
+        LocalDateTime startFrom = (startAtFrom != null) ? startAtFrom.atStartOfDay() : null;
+        LocalDateTime startTo = (startAtTo != null) ? startAtTo.plusDays(1).atStartOfDay() : null;
+
+        FullTextSearchEventRequestDto requestDto =
+                FullTextSearchEventRequestDto.of(keyword, category, minPrice, maxPrice, startFrom, startTo);
+
+        return ResponseEntity.ok(eventService.searchEventsByKeyword(requestDto, type, pitId, cursor, size));
+    }
+
+    /**
+     * 엘라스틱 서치 패싯 검색. 검색 결과 한 페이지와 함께 카테고리별, 가격대별, 모집 마감 월별 이벤트 수를 반환합니다.
+     *
+     * @param keyword 검색어
+     * @param category
+     * @param minPrice
+     * @param maxPrice
+     * @param startAtFrom 이 날짜 이후에 시작하는 이벤트
+     * @param startAtTo   이 날짜까지 시작하는 이벤트
+     * @param type  아무값도 없으면 관련도 순, upprice, downprice, date값을 넣으면 각각에 맞는 정렬이 수행
+     * @param page
+     * @param size
+     * @return
+     */
+    @GetMapping("/search/facets")
+    public ResponseEntity<EventFacetSearchResponseDto> searchEventsWithFacets(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @RequestParam(value = "category", required = false) EventCategory category,
+            @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @RequestParam(value = "startAtFrom", required = false) LocalDate startAtFrom,
+            @RequestParam(value = "startAtTo", required = false) LocalDate startAtTo,
+            @RequestParam(value = "type", required = false) String type,
+            @Positive @RequestParam(defaultValue = "1") int page,
+            @Positive @Max(100) @RequestParam(defaultValue = "10") int size
+    ) {
+        LocalDateTime startFrom = (startAtFrom != null) ? startAtFrom.atStartOfDay() : null;
+        LocalDateTime startTo = (startAtTo != null) ? startAtTo.plusDays(1).atStartOfDay() : null;
+
+        FullTextSearchEventRequestDto requestDto =
+                FullTextSearchEventRequestDto.of(keyword, category, minPrice, maxPrice, startFrom, startTo);
+
+        return ResponseEntity.ok(eventService.searchEventsWithFacets(page, size, requestDto, type));
+    }
+
+    /**
+     * 검색어 자동완성. 입력 중인 검색어로 시작하는 제목의 이벤트를 찾으며, 삭제되었거나 모집이 끝난 이벤트는 제외합니다.
+     *
+     * @param keyword 입력 중인 검색어
+     * @param size
+     * @return
+     */
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<List<EventAutocompleteResponseDto>> autocompleteTitles(
+            @RequestParam(value = "keyword", required = false) String keyword,
+            @Positive @Max(20) @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(eventService.autocompleteTitles(keyword, size));
+    }
+
+    /**
+     * 내 주변 이벤트 검색. 검색 위치에서 radiusKm 안에 있는, 끝나지 않은 이벤트를 가까운 순으로 조회합니다.
+     *
+     * @param latitude  검색 위치의 위도
+     * @param longitude 검색 위치의 경도
+     * @param radiusKm  검색 반경 (km)
+     * @param size
+     * @return 이벤트와 검색 위치로부터의 거리
+     */
+    @GetMapping("/search/nearby")
+    public ResponseEntity<List<GetNearbyEventResponseDto>> getNearbyEvents(
+            @DecimalMin("-90.0") @DecimalMax("90.0") @RequestParam("latitude") double latitude,
+            @DecimalMin("-180.0") @DecimalMax("180.0") @RequestParam("longitude") double longitude,
+            @Positive @Max(100) @RequestParam(defaultValue = "5") int radiusKm,
+            @Positive @Max(100) @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(eventService.getNearbyEvents(latitude, longitude, radiusKm, size));
+    }
+
     /**
      * @param authUser
      * @param eventId  : 삭제가 진행될 eventId값
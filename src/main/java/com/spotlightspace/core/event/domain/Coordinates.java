@@ -0,0 +1,20 @@
+package com.spotlightspace.core.event.domain;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 위도, 경도 좌표입니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Coordinates {
+
+    private final double latitude;
+    private final double longitude;
+
+    public static Coordinates of(double latitude, double longitude) {
+        return new Coordinates(latitude, longitude);
+    }
+}
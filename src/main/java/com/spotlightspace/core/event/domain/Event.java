@@ -15,7 +15,16 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Getter
 @Entity
-@Table(name = "events")
+@Table(
+        name = "events",
+        indexes = {
+                @Index(
+                        name = "idx_events_is_deleted_category_recruitment_finish_at",
+                        columnList = "is_deleted, category, recruitment_finish_at"
+                ),
+                @Index(name = "idx_events_start_at", columnList = "start_at")
+        }
+)
 public class Event extends Timestamped {
 
     @Id
@@ -32,6 +41,11 @@ public class Event extends Timestamped {
     @Column(length = 100, nullable = false)
     private String location;
 
+    // 장소로 찾은 좌표, 찾지 못한 장소는 null
+    private Double latitude;
+
+    private Double longitude;
+
     // 시작 일시
     @Column(length = 50, name = "start_at", nullable = false)
     private LocalDateTime startAt;
@@ -96,6 +110,14 @@ public class Event extends Timestamped {
         this.location = location;
     }
 
+    /**
+     * 장소의 좌표를 바꿉니다. 좌표를 찾지 못한 장소면 null을 넘겨 이전 좌표를 지웁니다.
+     */
+    public void changeCoordinates(Coordinates coordinates) {
+        this.latitude = coordinates == null ? null : coordinates.getLatitude();
+        this.longitude = coordinates == null ? null : coordinates.getLongitude();
+    }
+
     public void changeStartAt(LocalDateTime startAt) {
         this.startAt = startAt;
     }
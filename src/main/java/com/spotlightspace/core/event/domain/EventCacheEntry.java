@@ -0,0 +1,39 @@
+package com.spotlightspace.core.event.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis에 캐시한 이벤트 조회 결과입니다.
+ * Redis 키의 TTL과 별개로 refreshAt이 지나면 오래된 값으로 보고, 값은 그대로 반환하면서 백그라운드에서 다시 조회합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCacheEntry {
+
+    private static final String DELIMITER = ":";
+
+    private final long refreshAt;
+    private final String payload;
+
+    public static EventCacheEntry of(String payload, long refreshAt) {
+        return new EventCacheEntry(refreshAt, payload);
+    }
+
+    public static EventCacheEntry from(String value) {
+        int delimiterIndex = value.indexOf(DELIMITER);
+        return new EventCacheEntry(
+                Long.parseLong(value.substring(0, delimiterIndex)),
+                value.substring(delimiterIndex + 1)
+        );
+    }
+
+    public boolean isStale(long now) {
+        return now >= refreshAt;
+    }
+
+    public String toValue() {
+        return refreshAt + DELIMITER + payload;
+    }
+}
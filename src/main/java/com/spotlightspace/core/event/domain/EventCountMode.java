@@ -0,0 +1,14 @@
+package com.spotlightspace.core.event.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EventCountMode {
+
+    EXACT("매번 count 쿼리로 전체 개수 조회"),
+    CACHED("같은 조건의 전체 개수를 Redis에 잠시 저장해 근사값으로 사용");
+
+    private final String description;
+}
@@ -9,7 +9,11 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.GeoPointField;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 import org.springframework.data.elasticsearch.annotations.Setting;
+import org.springframework.data.elasticsearch.core.geo.GeoPoint;
 
 import java.time.LocalDateTime;
 
@@ -22,15 +26,24 @@ public class EventElastic {
     @Field(name = "event_id")
     private Long id;
 
-    @Field(type = FieldType.Text)
+    // 자동완성은 형태소마다 앞부분을 잘라 색인한 title.autocomplete 필드로 검색
+    @MultiField(
+            mainField = @Field(type = FieldType.Text, analyzer = "korean"),
+            otherFields = @InnerField(suffix = "autocomplete", type = FieldType.Text,
+                    analyzer = "korean_autocomplete", searchAnalyzer = "korean")
+    )
     private String title;
 
-    @Field(type = FieldType.Text)
+    @Field(type = FieldType.Text, analyzer = "korean")
     private String content;
 
-    @Field(type = FieldType.Text)
+    @Field(type = FieldType.Text, analyzer = "korean")
     private String location;
 
+    // 좌표를 찾지 못한 장소면 없음
+    @GeoPointField
+    private GeoPoint locationPoint;
+
     // 시작 일시
     @Field(type = FieldType.Date, name = "start_at", format = {}, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime startAt;
@@ -82,6 +95,31 @@ public class EventElastic {
         return new EventElastic(createEventRequestDto, id);
     }
 
+    /**
+     * DB의 이벤트를 그대로 옮긴 검색 문서를 만듭니다. 인덱싱 파이프라인은 항상 커밋된 DB 상태로 문서를 다시 씁니다.
+     */
+    public static EventElastic from(Event event) {
+        EventElastic eventElastic = new EventElastic();
+        eventElastic.id = event.getId();
+        eventElastic.title = event.getTitle();
+        eventElastic.content = event.getContent();
+        eventElastic.location = event.getLocation();
+        if (event.getLatitude() != null && event.getLongitude() != null) {
+            eventElastic.locationPoint = new GeoPoint(event.getLatitude(), event.getLongitude());
+        }
+        eventElastic.startAt = event.getStartAt();
+        eventElastic.endAt = event.getEndAt();
+        eventElastic.maxPeople = event.getMaxPeople();
+        eventElastic.price = event.getPrice();
+        eventElastic.category = event.getCategory();
+        eventElastic.recruitmentStartAt = event.getRecruitmentStartAt();
+        eventElastic.recruitmentFinishAt = event.getRecruitmentFinishAt();
+        eventElastic.isDeleted = event.isDeleted();
+        eventElastic.isCalculated = event.isCalculated();
+        eventElastic.updatedAt = event.getUpdatedAt();
+        return eventElastic;
+    }
+
     public void changeTitle(String title) {
         this.title = title;
     }
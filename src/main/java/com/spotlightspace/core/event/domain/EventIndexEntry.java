@@ -0,0 +1,37 @@
+package com.spotlightspace.core.event.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스에 반영을 기다리는 이벤트 한 건입니다.
+ * enqueuedAt은 처음 대기열에 들어간 시각으로, 재시도해도 유지되므로 인덱싱 지연 시간 측정에 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventIndexEntry {
+
+    private static final String DELIMITER = ":";
+
+    private final long eventId;
+    private final int attempts;
+    private final long enqueuedAt;
+
+    public static EventIndexEntry of(long eventId, long enqueuedAt) {
+        return new EventIndexEntry(eventId, 0, enqueuedAt);
+    }
+
+    public static EventIndexEntry from(String value) {
+        String[] fields = value.split(DELIMITER);
+        return new EventIndexEntry(Long.parseLong(fields[0]), Integer.parseInt(fields[1]), Long.parseLong(fields[2]));
+    }
+
+    public EventIndexEntry retry() {
+        return new EventIndexEntry(eventId, attempts + 1, enqueuedAt);
+    }
+
+    public String toValue() {
+        return eventId + DELIMITER + attempts + DELIMITER + enqueuedAt;
+    }
+}
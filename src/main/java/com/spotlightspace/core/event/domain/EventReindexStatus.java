@@ -0,0 +1,15 @@
+package com.spotlightspace.core.event.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EventReindexStatus {
+
+    RUNNING("검색 인덱스 재구성 중"),
+    COMPLETED("검색 인덱스 재구성 후 alias 교체 완료"),
+    FAILED("검색 인덱스 재구성 중 오류로 중단");
+
+    private final String description;
+}
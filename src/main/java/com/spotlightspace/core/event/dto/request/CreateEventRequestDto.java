@@ -1,6 +1,8 @@
 package com.spotlightspace.core.event.dto.request;
 
 import com.spotlightspace.core.event.domain.EventCategory;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
@@ -28,11 +30,16 @@ public class CreateEventRequestDto {
     private EventCategory category;
     private LocalDateTime recruitmentStartAt;
     private LocalDateTime recruitmentFinishAt;
+    // 인기 이벤트의 재고 행 락 경합을 줄이기 위해 재고를 나눌 행 수 (미입력 시 1)
+    @Min(value = 1, message = "재고 샤드 수는 1 이상이어야 합니다.")
+    @Max(value = 64, message = "재고 샤드 수는 64 이하여야 합니다.")
+    private Integer stockShardCount;
 
     private CreateEventRequestDto(String title, String content, String location,
                                   LocalDateTime startAt, LocalDateTime endAt,
                                   Integer maxPeople, Integer price, EventCategory category,
-                                  LocalDateTime recruitmentStartAt, LocalDateTime recruitmentFinishAt) {
+                                  LocalDateTime recruitmentStartAt, LocalDateTime recruitmentFinishAt,
+                                  Integer stockShardCount) {
         this.title = title;
         this.content = content;
         this.location = location;
@@ -43,6 +50,7 @@ public class CreateEventRequestDto {
         this.category = category;
         this.recruitmentStartAt = recruitmentStartAt;
         this.recruitmentFinishAt = recruitmentFinishAt;
+        this.stockShardCount = stockShardCount;
     }
 
     public static CreateEventRequestDto of(String title, String content, String location,
@@ -50,6 +58,15 @@ public class CreateEventRequestDto {
                                            Integer maxPeople, Integer price, EventCategory category,
                                            LocalDateTime recruitmentStartAt, LocalDateTime recruitmentFinishAt) {
         return new CreateEventRequestDto(title, content, location, startAt, endAt, maxPeople, price, category,
-                recruitmentStartAt, recruitmentFinishAt);
+                recruitmentStartAt, recruitmentFinishAt, null);
+    }
+
+    public static CreateEventRequestDto of(String title, String content, String location,
+                                           LocalDateTime startAt, LocalDateTime endAt,
+                                           Integer maxPeople, Integer price, EventCategory category,
+                                           LocalDateTime recruitmentStartAt, LocalDateTime recruitmentFinishAt,
+                                           Integer stockShardCount) {
+        return new CreateEventRequestDto(title, content, location, startAt, endAt, maxPeople, price, category,
+                recruitmentStartAt, recruitmentFinishAt, stockShardCount);
     }
 }
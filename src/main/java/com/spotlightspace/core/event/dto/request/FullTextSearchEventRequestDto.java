@@ -0,0 +1,37 @@
+package com.spotlightspace.core.event.dto.request;
+
+import com.spotlightspace.core.event.domain.EventCategory;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class FullTextSearchEventRequestDto {
+
+    private String keyword;
+    private EventCategory category;
+    private Integer minPrice;
+    private Integer maxPrice;
+    private LocalDateTime startAtFrom;
+    private LocalDateTime startAtTo;
+
+    private FullTextSearchEventRequestDto(String keyword, EventCategory category, Integer minPrice, Integer maxPrice,
+                                          LocalDateTime startAtFrom, LocalDateTime startAtTo) {
+        this.keyword = keyword;
+        this.category = category;
+        this.minPrice = minPrice;
+        this.maxPrice = maxPrice;
+        this.startAtFrom = startAtFrom;
+        this.startAtTo = startAtTo;
+    }
+
+    public static FullTextSearchEventRequestDto of(String keyword, EventCategory category,
+                                                   Integer minPrice, Integer maxPrice,
+                                                   LocalDateTime startAtFrom, LocalDateTime startAtTo) {
+        return new FullTextSearchEventRequestDto(keyword, category, minPrice, maxPrice, startAtFrom, startAtTo);
+    }
+
+    public boolean hasKeyword() {
+        return keyword != null && !keyword.isBlank();
+    }
+}
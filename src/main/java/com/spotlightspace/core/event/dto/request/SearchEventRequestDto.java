@@ -33,4 +33,16 @@ public class SearchEventRequestDto {
                                            LocalDateTime recruitmentStartAt, LocalDateTime recruitmentFinishAt) {
         return new SearchEventRequestDto(title, maxPeople, location, category, recruitmentStartAt, recruitmentFinishAt);
     }
+
+    /**
+     * 문자열 조건의 앞뒤 공백을 제거하고 빈 문자열은 조건 없음으로 바꿉니다.
+     */
+    public SearchEventRequestDto normalized() {
+        return new SearchEventRequestDto(strip(title), maxPeople, strip(location), category,
+                recruitmentStartAt, recruitmentFinishAt);
+    }
+
+    private static String strip(String value) {
+        return (value == null || value.isBlank()) ? null : value.strip();
+    }
 }
@@ -0,0 +1,18 @@
+package com.spotlightspace.core.event.dto.response;
+
+import com.spotlightspace.core.event.domain.EventElastic;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventAutocompleteResponseDto {
+
+    private Long id;
+    private String title;
+
+    public static EventAutocompleteResponseDto from(EventElastic eventElastic) {
+        return new EventAutocompleteResponseDto(eventElastic.getId(), eventElastic.getTitle());
+    }
+}
@@ -0,0 +1,30 @@
+package com.spotlightspace.core.event.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link Page}는 역직렬화할 수 없으므로 검색 캐시에는 내용과 전체 개수만 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventElasticPageCacheDto {
+
+    private List<GetEventElasticResponseDto> content;
+    private long totalElements;
+
+    public static EventElasticPageCacheDto from(Page<GetEventElasticResponseDto> page) {
+        return new EventElasticPageCacheDto(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<GetEventElasticResponseDto> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
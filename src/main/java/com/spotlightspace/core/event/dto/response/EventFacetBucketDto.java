@@ -0,0 +1,17 @@
+package com.spotlightspace.core.event.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventFacetBucketDto {
+
+    private String key;
+    private long count;
+
+    public static EventFacetBucketDto of(String key, long count) {
+        return new EventFacetBucketDto(key, count);
+    }
+}
@@ -0,0 +1,30 @@
+package com.spotlightspace.core.event.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventFacetSearchResponseDto {
+
+    private List<GetEventElasticResponseDto> events;
+    private long totalElements;
+    private int page;
+    private int size;
+    // 카테고리별 이벤트 수
+    private List<EventFacetBucketDto> categories;
+    // 가격대별 이벤트 수
+    private List<EventFacetBucketDto> priceRanges;
+    // 모집 마감 월별 이벤트 수 (yyyy-MM)
+    private List<EventFacetBucketDto> recruitmentFinishMonths;
+
+    public static EventFacetSearchResponseDto of(
+            List<GetEventElasticResponseDto> events, long totalElements, int page, int size,
+            List<EventFacetBucketDto> categories, List<EventFacetBucketDto> priceRanges,
+            List<EventFacetBucketDto> recruitmentFinishMonths) {
+        return new EventFacetSearchResponseDto(events, totalElements, page, size, categories, priceRanges,
+                recruitmentFinishMonths);
+    }
+}
@@ -0,0 +1,30 @@
+package com.spotlightspace.core.event.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link Page}는 역직렬화할 수 없으므로 목록 캐시에는 내용과 전체 개수만 저장합니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventPageCacheDto {
+
+    private List<GetEventResponseDto> content;
+    private long totalElements;
+
+    public static EventPageCacheDto from(Page<GetEventResponseDto> page) {
+        return new EventPageCacheDto(page.getContent(), page.getTotalElements());
+    }
+
+    public Page<GetEventResponseDto> toPage(Pageable pageable) {
+        return new PageImpl<>(content, pageable, totalElements);
+    }
+}
@@ -0,0 +1,25 @@
+package com.spotlightspace.core.event.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventSearchCursorResponseDto {
+
+    private List<GetEventElasticResponseDto> events;
+    private String pitId;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /**
+     * 마지막 페이지면 point in time 을 닫으므로 pitId 와 nextCursor 를 비워서 반환합니다.
+     */
+    public static EventSearchCursorResponseDto of(
+            List<GetEventElasticResponseDto> events, String pitId, String nextCursor) {
+        boolean hasNext = nextCursor != null;
+        return new EventSearchCursorResponseDto(events, hasNext ? pitId : null, nextCursor, hasNext);
+    }
+}
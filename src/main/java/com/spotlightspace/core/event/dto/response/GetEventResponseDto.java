@@ -5,10 +5,12 @@ import com.spotlightspace.core.event.domain.EventCategory;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class GetEventResponseDto {
 
@@ -41,4 +43,12 @@ public class GetEventResponseDto {
     public static GetEventResponseDto from(Event event) {
         return new GetEventResponseDto(event);
     }
+
+    public static GetEventResponseDto of(Long id, String title, String content, String location,
+                                         LocalDateTime startAt, LocalDateTime endAt, int maxPeople, int price,
+                                         EventCategory category, LocalDateTime recruitmentStartAt,
+                                         LocalDateTime recruitmentFinishAt) {
+        return new GetEventResponseDto(id, title, content, location, startAt, endAt, maxPeople, price, category,
+                recruitmentStartAt, recruitmentFinishAt);
+    }
 }
@@ -0,0 +1,38 @@
+package com.spotlightspace.core.event.dto.response;
+
+import com.spotlightspace.core.event.domain.EventCategory;
+import com.spotlightspace.core.event.domain.EventElastic;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GetNearbyEventResponseDto {
+
+    private Long id;
+    private String title;
+    private String location;
+    private LocalDateTime startAt;
+    private LocalDateTime endAt;
+    private int price;
+    private EventCategory category;
+    private LocalDateTime recruitmentFinishAt;
+    // 검색 위치로부터의 거리 (km)
+    private double distanceKm;
+
+    public static GetNearbyEventResponseDto of(EventElastic eventElastic, double distanceKm) {
+        return new GetNearbyEventResponseDto(
+                eventElastic.getId(),
+                eventElastic.getTitle(),
+                eventElastic.getLocation(),
+                eventElastic.getStartAt(),
+                eventElastic.getEndAt(),
+                eventElastic.getPrice(),
+                eventElastic.getCategory(),
+                eventElastic.getRecruitmentFinishAt(),
+                distanceKm
+        );
+    }
+}
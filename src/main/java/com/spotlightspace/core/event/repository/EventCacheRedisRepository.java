@@ -0,0 +1,75 @@
+package com.spotlightspace.core.event.repository;
+
+import com.spotlightspace.core.event.domain.EventCacheEntry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 상세, 목록 조회 결과를 Redis에 캐시합니다.
+ * 목록 캐시는 어떤 이벤트가 바뀌어도 모두 무효화해야 하므로 키를 Set에 모아 두고 한 번에 삭제합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventCacheRedisRepository {
+
+    private static final String LIST_KEYS_KEY = "event:cache:list:keys";
+    private static final String REFRESH_LOCK_PREFIX = "event:cache:refresh:";
+    // 다시 조회하던 서버가 죽어도 이 시간이 지나면 다른 요청이 다시 조회함
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofSeconds(10);
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    // Set에 모아 둔 목록 캐시 키와 Set을 함께 삭제
+    private static final RedisScript<Long> DELETE_LISTS_SCRIPT = new DefaultRedisScript<>(
+            "local keys = redis.call('SMEMBERS', KEYS[1]) "
+                    + "for i = 1, #keys, tonumber(ARGV[1]) do "
+                    + "  redis.call('DEL', unpack(keys, i, math.min(i + tonumber(ARGV[1]) - 1, #keys))) "
+                    + "end "
+                    + "redis.call('DEL', KEYS[1]) "
+                    + "return #keys",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<EventCacheEntry> find(String key) {
+        String value = redisTemplate.opsForValue().get(key);
+        return Optional.ofNullable(value).map(EventCacheEntry::from);
+    }
+
+    public void save(String key, EventCacheEntry entry, Duration ttl) {
+        redisTemplate.opsForValue().set(key, entry.toValue(), ttl);
+    }
+
+    public void saveList(String key, EventCacheEntry entry, Duration ttl) {
+        save(key, entry, ttl);
+        redisTemplate.opsForSet().add(LIST_KEYS_KEY, key);
+        redisTemplate.expire(LIST_KEYS_KEY, ttl);
+    }
+
+    /**
+     * 같은 키를 다른 요청이 이미 다시 조회하고 있으면 false를 반환합니다.
+     */
+    public boolean tryLockRefresh(String key) {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(REFRESH_LOCK_PREFIX + key, "1", REFRESH_LOCK_TTL);
+        return Boolean.TRUE.equals(locked);
+    }
+
+    public void unlockRefresh(String key) {
+        redisTemplate.delete(REFRESH_LOCK_PREFIX + key);
+    }
+
+    public void delete(Collection<String> keys) {
+        redisTemplate.delete(keys);
+    }
+
+    public void deleteLists() {
+        redisTemplate.execute(DELETE_LISTS_SCRIPT, List.of(LIST_KEYS_KEY), String.valueOf(DELETE_BATCH_SIZE));
+    }
+}
@@ -0,0 +1,35 @@
+package com.spotlightspace.core.event.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 이벤트 목록 조건별 전체 개수를 Redis에 저장합니다.
+ * 검색어가 키에 그대로 들어가지 않도록 조건 문자열의 해시를 키로 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventCountRedisRepository {
+
+    private static final String KEY_PREFIX = "event:count:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<Long> find(String condition) {
+        String value = redisTemplate.opsForValue().get(countKey(condition));
+        return Optional.ofNullable(value).map(Long::valueOf);
+    }
+
+    public void save(String condition, long count, Duration ttl) {
+        redisTemplate.opsForValue().set(countKey(condition), String.valueOf(count), ttl);
+    }
+
+    private String countKey(String condition) {
+        return KEY_PREFIX + DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,154 @@
+package com.spotlightspace.core.event.repository;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.spotlightspace.core.event.domain.EventElastic;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQuery.OpType;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 검색 인덱스를 버전별 물리 인덱스로 만들고, 검색과 색인은 {@link EventElastic}의 인덱스 이름을 alias로 사용합니다.
+ * 새 인덱스는 복제본과 refresh 없이 적재한 뒤 원래 설정으로 되돌리고, alias를 한 번의 요청으로 옮겨 검색이 끊기지 않게 합니다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class EventElasticIndexRepository {
+
+    private static final String REPLICAS = "number_of_replicas";
+    private static final String REFRESH_INTERVAL = "refresh_interval";
+    private static final String DEFAULT_REPLICAS = "1";
+    private static final String DEFAULT_REFRESH_INTERVAL = "1s";
+    private static final int VERSION_CONFLICT = 409;
+
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ElasticsearchClient elasticsearchClient;
+
+    public String getAlias() {
+        return elasticsearchOperations.getIndexCoordinatesFor(EventElastic.class).getIndexName();
+    }
+
+    /**
+     * {@link EventElastic}의 설정과 매핑으로 새 인덱스를 만들되, 적재하는 동안에는 복제본을 두지 않고 refresh를 끕니다.
+     */
+    public void createForBulkLoad(String indexName) {
+        IndexOperations eventIndexOperations = elasticsearchOperations.indexOps(EventElastic.class);
+        Settings settings = eventIndexOperations.createSettings();
+        settings.merge(new Settings().append("index", new Settings()
+                .append(REPLICAS, "0")
+                .append(REFRESH_INTERVAL, "-1")));
+
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName))
+                .create(settings, eventIndexOperations.createMapping());
+    }
+
+    /**
+     * 문서가 없을 때만 생성합니다. 재구성 중 색인 파이프라인이 먼저 넣은 문서는 더 최신 상태이므로 충돌은 무시하고,
+     * 그 외의 실패가 있으면 예외를 던집니다.
+     */
+    public void bulkCreate(List<EventElastic> documents, String indexName) {
+        List<IndexQuery> queries = documents.stream()
+                .map(document -> new IndexQueryBuilder()
+                        .withId(String.valueOf(document.getId()))
+                        .withObject(document)
+                        .withOpType(OpType.CREATE)
+                        .build())
+                .toList();
+
+        try {
+            elasticsearchOperations.bulkIndex(queries, IndexCoordinates.of(indexName));
+        } catch (BulkFailureException e) {
+            Map<String, BulkFailureException.FailureDetails> failures = e.getFailedDocuments().entrySet().stream()
+                    .filter(failure -> failure.getValue().status() != VERSION_CONFLICT)
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            if (!failures.isEmpty()) {
+                throw new IllegalStateException("이벤트 검색 문서 적재 실패 - " + failures, e);
+            }
+        }
+    }
+
+    /**
+     * 적재가 끝난 인덱스의 복제본 수와 refresh 주기를 {@link EventElastic} 설정 값으로 되돌리고 refresh 합니다.
+     */
+    public void finishBulkLoad(String indexName) {
+        Map<String, Object> settings = elasticsearchOperations.indexOps(EventElastic.class).createSettings().flatten();
+        String replicas = String.valueOf(settings.getOrDefault("index." + REPLICAS, DEFAULT_REPLICAS));
+        String refreshInterval = String.valueOf(settings.getOrDefault("index." + REFRESH_INTERVAL,
+                DEFAULT_REFRESH_INTERVAL));
+
+        try {
+            elasticsearchClient.indices().putSettings(request -> request
+                    .index(indexName)
+                    .settings(indexSettings -> indexSettings
+                            .numberOfReplicas(replicas)
+                            .refreshInterval(time -> time.time(refreshInterval))));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).refresh();
+    }
+
+    /**
+     * alias를 새 인덱스로 옮기고 이전 인덱스를 삭제합니다. alias를 옮긴 뒤에는 이전 인덱스 삭제에 실패해도 예외를 던지지 않습니다.
+     * alias 도입 전에 alias와 같은 이름으로 만든 인덱스가 남아 있으면 같은 요청 안에서 삭제해 그 이름을 alias로 바꿉니다.
+     */
+    public void switchAlias(String indexName) {
+        String alias = getAlias();
+        IndexOperations aliasOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+        Set<String> previousIndices = aliasOperations.exists()
+                ? aliasOperations.getAliasesForIndex(alias).keySet()
+                : Set.of();
+
+        AliasActions actions = new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(indexName)
+                .withAliases(alias)
+                .build()));
+        for (String previousIndex : previousIndices) {
+            if (previousIndex.equals(alias)) {
+                actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder()
+                        .withIndices(previousIndex)
+                        .build()));
+            } else {
+                actions.add(new AliasAction.Remove(AliasActionParameters.builder()
+                        .withIndices(previousIndex)
+                        .withAliases(alias)
+                        .build()));
+            }
+        }
+        aliasOperations.alias(actions);
+
+        previousIndices.stream()
+                .filter(previousIndex -> !previousIndex.equals(alias))
+                .forEach(this::deletePreviousIndex);
+    }
+
+    private void deletePreviousIndex(String indexName) {
+        try {
+            delete(indexName);
+            log.info("이전 이벤트 검색 인덱스 삭제 - {}", indexName);
+        } catch (RuntimeException e) {
+            log.warn("이전 이벤트 검색 인덱스 삭제 실패 - {}", indexName, e);
+        }
+    }
+
+    public void delete(String indexName) {
+        elasticsearchOperations.indexOps(IndexCoordinates.of(indexName)).delete();
+    }
+}
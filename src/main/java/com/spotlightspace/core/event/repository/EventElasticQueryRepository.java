@@ -1,13 +1,29 @@
 package com.spotlightspace.core.event.repository;
 
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventAutocompleteResponseDto;
+import com.spotlightspace.core.event.dto.response.EventFacetSearchResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
+import com.spotlightspace.core.event.dto.response.GetNearbyEventResponseDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.io.IOException;
+import java.util.List;
 
 public interface EventElasticQueryRepository {
     Page<GetEventElasticResponseDto> searchElasticEvents(
             SearchEventRequestDto requestDto, String type, Pageable pageable) throws IOException;
+
+    EventSearchCursorResponseDto searchEventsByKeyword(
+            FullTextSearchEventRequestDto requestDto, String type, String pitId, String cursor, int size);
+
+    EventFacetSearchResponseDto searchEventsWithFacets(
+            FullTextSearchEventRequestDto requestDto, String type, Pageable pageable);
+
+    List<EventAutocompleteResponseDto> autocompleteTitles(String keyword, int size);
+
+    List<GetNearbyEventResponseDto> searchNearbyEvents(double latitude, double longitude, int radiusKm, int size);
 }
@@ -1,27 +1,82 @@
 package com.spotlightspace.core.event.repository;
 
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+
+import co.elastic.clients.elasticsearch._types.DistanceUnit;
+import co.elastic.clients.elasticsearch._types.GeoLocation;
+import co.elastic.clients.elasticsearch._types.SortOptions;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.aggregations.AggregationRange;
+import co.elastic.clients.elasticsearch._types.aggregations.CalendarInterval;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
+import co.elastic.clients.elasticsearch._types.query_dsl.TextQueryType;
+import co.elastic.clients.json.JsonData;
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.EventSearchCursor;
+import com.spotlightspace.core.event.domain.EventCategory;
 import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventAutocompleteResponseDto;
+import com.spotlightspace.core.event.dto.response.EventFacetBucketDto;
+import com.spotlightspace.core.event.dto.response.EventFacetSearchResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
+import com.spotlightspace.core.event.dto.response.GetNearbyEventResponseDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.UncategorizedElasticsearchException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.client.elc.NativeQueryBuilder;
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
 import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.data.elasticsearch.core.query.Criteria;
 import org.springframework.data.elasticsearch.core.query.CriteriaQuery;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.Query.PointInTime;
 import org.springframework.stereotype.Repository;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 public class EventElasticQueryRepositoryImpl implements EventElasticQueryRepository{
+
+    // 검색어는 제목, 장소, 내용 순으로 가중치를 둡니다.
+    private static final List<String> KEYWORD_FIELDS = List.of("title^3", "location^2", "content");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final Duration PIT_KEEP_ALIVE = Duration.ofMinutes(1);
+    private static final String[] AUTOCOMPLETE_SOURCE = {"title"};
+    private static final String CATEGORY_FACET = "categories";
+    private static final String PRICE_FACET = "priceRanges";
+    private static final String RECRUITMENT_FINISH_FACET = "recruitmentFinishMonths";
+    private static final String FACET_BUCKETS = "buckets";
+    // 가격대 버킷. from 은 포함, to 는 제외합니다.
+    private static final List<AggregationRange> PRICE_RANGES = List.of(
+            AggregationRange.of(r -> r.key("~10000").to("10000")),
+            AggregationRange.of(r -> r.key("10000~30000").from("10000").to("30000")),
+            AggregationRange.of(r -> r.key("30000~50000").from("30000").to("50000")),
+            AggregationRange.of(r -> r.key("50000~100000").from("50000").to("100000")),
+            AggregationRange.of(r -> r.key("100000~").from("100000"))
+    );
+
     private final ElasticsearchOperations operations;
 
     @Override
@@ -76,4 +131,310 @@ public class EventElasticQueryRepositoryImpl implements EventElasticQueryReposit
 
         return new PageImpl<>(results, pageable, search.getTotalHits());
     }
+
+    /**
+     * 검색어는 korean 분석기가 적용된 title, location, content 필드에 multi_match 로 점수를 매기고,
+     * 카테고리, 가격, 시작 일시 조건은 점수에 영향이 없는 filter 절에 두어 노드의 쿼리 캐시를 재사용합니다.
+     * 페이지는 point in time 위에서 search_after 로 넘기므로 깊은 페이지도 from/size 처럼 앞 문서를 다시 읽지 않습니다.
+     * 대부분의 검색은 첫 페이지에서 끝나므로 첫 페이지는 point in time 없이 조회하고, 다음 페이지가 있을 때만 엽니다.
+     * 만료되었거나 닫힌 pitId, 정렬과 맞지 않는 커서로 조회하면 INVALID_SEARCH_CURSOR 로 실패합니다.
+     */
+    @Override
+    public EventSearchCursorResponseDto searchEventsByKeyword(
+            FullTextSearchEventRequestDto requestDto, String type, String pitId, String cursor, int size) {
+
+        NativeQueryBuilder queryBuilder = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> keywordQuery(b, requestDto, type)))
+                .withSort(keywordSortOptions(type))
+                .withTrackTotalHits(false)
+                .withMaxResults(size + 1);
+        if (pitId != null) {
+            queryBuilder.withPointInTime(new PointInTime(pitId, PIT_KEEP_ALIVE));
+        }
+        if (cursor != null) {
+            queryBuilder.withSearchAfter(EventSearchCursor.decode(cursor));
+        }
+
+        SearchHits<EventElastic> search = searchPage(queryBuilder.build(), pitId != null || cursor != null);
+        String currentPitId = (search.getPointInTimeId() != null) ? search.getPointInTimeId() : pitId;
+
+        // size + 1개를 조회해 다음 페이지 여부를 판단합니다.
+        List<SearchHit<EventElastic>> hits = search.getSearchHits();
+        boolean hasNext = hits.size() > size;
+        List<SearchHit<EventElastic>> pageHits = hasNext ? hits.subList(0, size) : hits;
+
+        List<GetEventElasticResponseDto> results = pageHits.stream()
+                .map(hit -> GetEventElasticResponseDto.from(hit.getContent()))
+                .collect(Collectors.toList());
+
+        if (!hasNext) {
+            if (currentPitId != null) {
+                operations.closePointInTime(currentPitId);
+            }
+            return EventSearchCursorResponseDto.of(results, null, null);
+        }
+
+        List<Object> lastSortValues = pageHits.get(pageHits.size() - 1).getSortValues();
+        if (currentPitId == null) {
+            currentPitId = operations.openPointInTime(
+                    operations.getIndexCoordinatesFor(EventElastic.class), PIT_KEEP_ALIVE);
+            // point in time 검색은 정렬 끝에 _shard_doc 를 붙이므로 같은 길이로 맞춥니다.
+            // event_id 로 이미 순서가 정해지므로 가장 큰 값을 넣으면 마지막 문서 바로 다음부터 조회됩니다.
+            lastSortValues = new ArrayList<>(lastSortValues);
+            lastSortValues.add(Long.MAX_VALUE);
+        }
+        return EventSearchCursorResponseDto.of(results, currentPitId, EventSearchCursor.encode(lastSortValues));
+    }
+
+    private SearchHits<EventElastic> searchPage(NativeQuery query, boolean continued) {
+        try {
+            return operations.search(query, EventElastic.class);
+        } catch (ResourceNotFoundException e) {
+            if (continued) {
+                throw new ApplicationException(INVALID_SEARCH_CURSOR);
+            }
+            throw e;
+        } catch (UncategorizedElasticsearchException e) {
+            if (continued && Integer.valueOf(400).equals(e.getStatusCode())) {
+                throw new ApplicationException(INVALID_SEARCH_CURSOR);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 검색 결과 한 페이지와 카테고리, 가격대, 모집 마감 월별 이벤트 수를 한 번의 요청으로 조회합니다.
+     * 카테고리와 가격 조건은 post_filter 로 검색 결과에만 적용하고, 각 패싯은 자기 차원을 뺀 나머지 패싯 조건을
+     * filter 집계로 적용해 계산합니다. 카테고리를 골라도 다른 카테고리의 이벤트 수가 함께 보입니다.
+     * 시간 조건은 분 단위로 잘려 같은 조건의 요청 본문이 같으므로, request_cache 를 켜서 결과를 샤드 요청 캐시에 저장합니다.
+     * 캐시는 인덱스가 refresh 되어 문서가 바뀌면 자동으로 무효화됩니다.
+     */
+    @Override
+    public EventFacetSearchResponseDto searchEventsWithFacets(
+            FullTextSearchEventRequestDto requestDto, String type, Pageable pageable) {
+        List<Query> categoryFilter = categoryFilter(requestDto);
+        List<Query> priceFilter = priceFilter(requestDto);
+        List<Query> facetFilters = Stream.concat(categoryFilter.stream(), priceFilter.stream()).toList();
+
+        NativeQueryBuilder builder = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> baseKeywordQuery(b, requestDto, type)))
+                .withSort(sortOptions(type))
+                .withPageable(pageable)
+                .withAggregation(CATEGORY_FACET, facet(priceFilter, Aggregation.of(a -> a
+                        .terms(t -> t.field("category").size(EventCategory.values().length)))))
+                .withAggregation(PRICE_FACET, facet(categoryFilter, Aggregation.of(a -> a
+                        .range(r -> r.field("price").ranges(PRICE_RANGES)))))
+                .withAggregation(RECRUITMENT_FINISH_FACET, facet(facetFilters, Aggregation.of(a -> a
+                        .dateHistogram(d -> d
+                                .field("recruitmentFinishAt")
+                                .calendarInterval(CalendarInterval.Month)
+                                .format("yyyy-MM")))))
+                .withRequestCache(true);
+        if (!facetFilters.isEmpty()) {
+            builder.withFilter(f -> f.bool(b -> b.filter(facetFilters)));
+        }
+        NativeQuery query = builder.build();
+
+        SearchHits<EventElastic> search = operations.search(query, EventElastic.class);
+
+        List<GetEventElasticResponseDto> events = search.getSearchHits().stream()
+                .map(hit -> GetEventElasticResponseDto.from(hit.getContent()))
+                .toList();
+
+        return EventFacetSearchResponseDto.of(
+                events,
+                search.getTotalHits(),
+                pageable.getPageNumber() + 1,
+                pageable.getPageSize(),
+                categoryBuckets(aggregate(search, CATEGORY_FACET)),
+                priceBuckets(aggregate(search, PRICE_FACET)),
+                recruitmentFinishBuckets(aggregate(search, RECRUITMENT_FINISH_FACET))
+        );
+    }
+
+    /**
+     * 입력 중인 검색어의 형태소가 모두 제목 형태소의 앞부분과 맞는 이벤트를 찾습니다.
+     * 삭제되었거나 모집이 끝난 이벤트는 filter 절로 제외하고, 제목만 가져오며 전체 개수는 세지 않습니다.
+     */
+    @Override
+    public List<EventAutocompleteResponseDto> autocompleteTitles(String keyword, int size) {
+        // 분 단위로 잘라 같은 분 안의 요청은 같은 filter 로 캐시되게 합니다.
+        String now = DATE_FORMATTER.format(LocalDateTime.now().withSecond(0).withNano(0));
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .must(m -> m.match(mt -> mt
+                                .field("title.autocomplete")
+                                .query(keyword)
+                                .operator(Operator.And)))
+                        .should(s -> s.match(mt -> mt.field("title").query(keyword)))
+                        .filter(f -> f.term(t -> t.field("isDeleted").value(false)))
+                        .filter(f -> f.range(r -> r.field("recruitmentFinishAt").gte(JsonData.of(now))))))
+                .withSourceFilter(new FetchSourceFilter(AUTOCOMPLETE_SOURCE, null))
+                .withTrackTotalHits(false)
+                .withMaxResults(size)
+                .build();
+
+        return operations.search(query, EventElastic.class).getSearchHits().stream()
+                .map(hit -> EventAutocompleteResponseDto.from(hit.getContent()))
+                .toList();
+    }
+
+    /**
+     * 검색 위치에서 radiusKm 안에 있는 이벤트를 가까운 순으로 조회합니다. 거리 계산과 정렬은 모두 엘라스틱 서치에서 하며,
+     * 삭제되었거나 이미 끝난 이벤트와 좌표가 없는 이벤트는 제외합니다.
+     */
+    @Override
+    public List<GetNearbyEventResponseDto> searchNearbyEvents(
+            double latitude, double longitude, int radiusKm, int size) {
+        GeoLocation origin = GeoLocation.of(g -> g.latlon(l -> l.lat(latitude).lon(longitude)));
+        // 분 단위로 잘라 같은 분 안의 요청은 같은 filter 로 캐시되게 합니다.
+        String now = DATE_FORMATTER.format(LocalDateTime.now().withSecond(0).withNano(0));
+
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> b
+                        .filter(f -> f.term(t -> t.field("isDeleted").value(false)))
+                        .filter(f -> f.range(r -> r.field("end_at").gte(JsonData.of(now))))
+                        .filter(f -> f.geoDistance(g -> g
+                                .field("locationPoint")
+                                .location(origin)
+                                .distance(radiusKm + "km")))))
+                .withSort(SortOptions.of(s -> s.geoDistance(g -> g
+                        .field("locationPoint")
+                        .location(origin)
+                        .order(SortOrder.Asc)
+                        .unit(DistanceUnit.Kilometers))))
+                .withTrackTotalHits(false)
+                .withMaxResults(size)
+                .build();
+
+        return operations.search(query, EventElastic.class).getSearchHits().stream()
+                .map(hit -> GetNearbyEventResponseDto.of(hit.getContent(),
+                        ((Number) hit.getSortValues().get(0)).doubleValue()))
+                .toList();
+    }
+
+    private BoolQuery.Builder keywordQuery(BoolQuery.Builder builder, FullTextSearchEventRequestDto requestDto,
+                                           String type) {
+        return baseKeywordQuery(builder, requestDto, type)
+                .filter(categoryFilter(requestDto))
+                .filter(priceFilter(requestDto));
+    }
+
+    /**
+     * 검색어와 패싯이 아닌 조건만 담은 쿼리입니다. 카테고리와 가격 조건은 categoryFilter, priceFilter 로 따로 만듭니다.
+     */
+    private BoolQuery.Builder baseKeywordQuery(BoolQuery.Builder builder, FullTextSearchEventRequestDto requestDto,
+                                               String type) {
+        if (requestDto.hasKeyword()) {
+            builder.must(m -> m.multiMatch(mm -> mm
+                    .query(requestDto.getKeyword())
+                    .fields(KEYWORD_FIELDS)
+                    .type(TextQueryType.BestFields)));
+        }
+
+        builder.filter(f -> f.term(t -> t.field("isDeleted").value(false)));
+        if (requestDto.getStartAtFrom() != null || requestDto.getStartAtTo() != null) {
+            builder.filter(f -> f.range(r -> {
+                r.field("start_at");
+                if (requestDto.getStartAtFrom() != null) {
+                    r.gte(JsonData.of(DATE_FORMATTER.format(requestDto.getStartAtFrom())));
+                }
+                if (requestDto.getStartAtTo() != null) {
+                    r.lt(JsonData.of(DATE_FORMATTER.format(requestDto.getStartAtTo())));
+                }
+                return r;
+            }));
+        }
+        if ("date".equals(type)) {
+            // 분 단위로 잘라 같은 분 안의 요청은 같은 filter 로 캐시되게 합니다.
+            String now = DATE_FORMATTER.format(LocalDateTime.now().withSecond(0).withNano(0));
+            builder.filter(f -> f.range(r -> r.field("recruitmentFinishAt").gte(JsonData.of(now))));
+        }
+        return builder;
+    }
+
+    private List<Query> categoryFilter(FullTextSearchEventRequestDto requestDto) {
+        if (requestDto.getCategory() == null) {
+            return List.of();
+        }
+        return List.of(Query.of(f -> f
+                .term(t -> t.field("category").value(requestDto.getCategory().name()))));
+    }
+
+    private List<Query> priceFilter(FullTextSearchEventRequestDto requestDto) {
+        if (requestDto.getMinPrice() == null && requestDto.getMaxPrice() == null) {
+            return List.of();
+        }
+        return List.of(Query.of(f -> f.range(r -> {
+            r.field("price");
+            if (requestDto.getMinPrice() != null) {
+                r.gte(JsonData.of(requestDto.getMinPrice()));
+            }
+            if (requestDto.getMaxPrice() != null) {
+                r.lte(JsonData.of(requestDto.getMaxPrice()));
+            }
+            return r;
+        })));
+    }
+
+    // 패싯 집계를 filter 집계로 감싸 주어진 조건을 적용한 문서만 셉니다. 조건이 없으면 검색 결과 전체를 셉니다.
+    private Aggregation facet(List<Query> filters, Aggregation buckets) {
+        return Aggregation.of(a -> a
+                .filter(f -> f.bool(b -> b.filter(filters)))
+                .aggregations(FACET_BUCKETS, buckets));
+    }
+
+    private Aggregate aggregate(SearchHits<EventElastic> search, String name) {
+        ElasticsearchAggregations aggregations = (ElasticsearchAggregations) search.getAggregations();
+        return aggregations.get(name).aggregation().getAggregate()
+                .filter().aggregations().get(FACET_BUCKETS);
+    }
+
+    private List<EventFacetBucketDto> categoryBuckets(Aggregate aggregate) {
+        return aggregate.sterms().buckets().array().stream()
+                .map(bucket -> EventFacetBucketDto.of(bucket.key().stringValue(), bucket.docCount()))
+                .toList();
+    }
+
+    private List<EventFacetBucketDto> priceBuckets(Aggregate aggregate) {
+        return aggregate.range().buckets().array().stream()
+                .map(bucket -> EventFacetBucketDto.of(bucket.key(), bucket.docCount()))
+                .toList();
+    }
+
+    private List<EventFacetBucketDto> recruitmentFinishBuckets(Aggregate aggregate) {
+        return aggregate.dateHistogram().buckets().array().stream()
+                .map(bucket -> EventFacetBucketDto.of(bucket.keyAsString(), bucket.docCount()))
+                .toList();
+    }
+
+    /**
+     * point in time 검색에는 _shard_doc 이 마지막 정렬 기준으로 자동 추가되어 동점 문서도 커서가 어긋나지 않습니다.
+     */
+    private List<SortOptions> sortOptions(String type) {
+        List<SortOptions> sorts = new ArrayList<>();
+        if ("upprice".equals(type)) {
+            sorts.add(fieldSort("price", SortOrder.Asc));
+        } else if ("downprice".equals(type)) {
+            sorts.add(fieldSort("price", SortOrder.Desc));
+        } else if ("date".equals(type)) {
+            sorts.add(fieldSort("recruitmentFinishAt", SortOrder.Asc));
+        } else {
+            sorts.add(SortOptions.of(s -> s.score(sc -> sc.order(SortOrder.Desc))));
+            sorts.add(fieldSort("updatedAt", SortOrder.Desc));
+        }
+        return sorts;
+    }
+
+    // 커서 검색은 점수나 정렬 값이 같은 문서의 순서가 point in time 유무와 관계없이 같도록 event_id 를 마지막에 둡니다.
+    private List<SortOptions> keywordSortOptions(String type) {
+        List<SortOptions> sorts = sortOptions(type);
+        sorts.add(fieldSort("event_id", SortOrder.Asc));
+        return sorts;
+    }
+
+    private SortOptions fieldSort(String field, SortOrder order) {
+        return SortOptions.of(s -> s.field(fs -> fs.field(field).order(order)));
+    }
 }
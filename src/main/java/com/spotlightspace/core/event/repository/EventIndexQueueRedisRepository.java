@@ -0,0 +1,111 @@
+package com.spotlightspace.core.event.repository;
+
+import com.spotlightspace.core.event.domain.EventIndexEntry;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 인덱스에 반영할 이벤트를 Redis 리스트에 쌓아 둡니다.
+ * 스케줄러가 대기열을 inflight 리스트로 옮겨 일괄 반영하고, 반영하지 못한 항목은 다시 대기열에 넣거나
+ * 최대 시도 횟수를 넘기면 dead letter 리스트로 옮깁니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventIndexQueueRedisRepository {
+
+    private static final String QUEUE_KEY = "event:index:queue";
+    private static final String INFLIGHT_KEY = "event:index:queue:inflight";
+    private static final String DEAD_LETTER_KEY = "event:index:dead";
+    private static final int MAX_DEAD_LETTERS = 10_000;
+
+    // 이전 반영이 실패해 inflight 리스트가 남아 있으면 그대로 재시도하고, 아니면 대기열 앞쪽을 inflight로 옮김
+    private static final RedisScript<List> TAKE_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  local entries = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+                    + "  if #entries == 0 then return {} end "
+                    + "  redis.call('LTRIM', KEYS[1], #entries, -1) "
+                    + "  redis.call('RPUSH', KEYS[2], unpack(entries)) "
+                    + "end "
+                    + "return redis.call('LRANGE', KEYS[2], 0, -1)",
+            List.class
+    );
+
+    // ARGV[1]개의 재시도 항목은 대기열 뒤에, 나머지는 dead letter 리스트에 넣고 inflight 리스트를 비움
+    private static final RedisScript<Long> COMPLETE_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "local retries = tonumber(ARGV[1]) "
+                    + "for i = 3, retries + 2 do redis.call('RPUSH', KEYS[1], ARGV[i]) end "
+                    + "if #ARGV > retries + 2 then "
+                    + "  for i = retries + 3, #ARGV do redis.call('RPUSH', KEYS[3], ARGV[i]) end "
+                    + "  redis.call('LTRIM', KEYS[3], -tonumber(ARGV[2]), -1) "
+                    + "end "
+                    + "redis.call('DEL', KEYS[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * @return 추가한 뒤의 대기열 길이
+     */
+    public long enqueue(List<EventIndexEntry> entries) {
+        if (entries.isEmpty()) {
+            return size();
+        }
+        Long size = redisTemplate.opsForList()
+                .rightPushAll(QUEUE_KEY, entries.stream().map(EventIndexEntry::toValue).toList());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 반영할 항목을 가져옵니다. 반영이 끝나면 {@link #completeBatch(List, List)}를 호출해야 합니다.
+     */
+    public List<EventIndexEntry> takeBatch(int batchSize) {
+        List<?> values = redisTemplate.execute(TAKE_BATCH_SCRIPT, List.of(QUEUE_KEY, INFLIGHT_KEY),
+                String.valueOf(batchSize));
+        if (values == null) {
+            return List.of();
+        }
+        return values.stream().map(value -> EventIndexEntry.from(String.valueOf(value))).toList();
+    }
+
+    public void completeBatch(List<EventIndexEntry> retries, List<EventIndexEntry> deadLetters) {
+        List<String> args = new ArrayList<>(retries.size() + deadLetters.size() + 2);
+        args.add(String.valueOf(retries.size()));
+        args.add(String.valueOf(MAX_DEAD_LETTERS));
+        retries.forEach(entry -> args.add(entry.toValue()));
+        deadLetters.forEach(entry -> args.add(entry.toValue()));
+
+        redisTemplate.execute(
+                COMPLETE_BATCH_SCRIPT,
+                List.of(QUEUE_KEY, INFLIGHT_KEY, DEAD_LETTER_KEY),
+                args.toArray()
+        );
+    }
+
+    public long size() {
+        Long size = redisTemplate.opsForList().size(QUEUE_KEY);
+        return size == null ? 0 : size;
+    }
+
+    public long deadLetterSize() {
+        Long size = redisTemplate.opsForList().size(DEAD_LETTER_KEY);
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * 가장 오래 기다린 항목이 대기열에 들어간 시각입니다. 대기열이 비어 있으면 null을 반환합니다.
+     */
+    public Long oldestEnqueuedAt() {
+        String value = redisTemplate.opsForList().index(INFLIGHT_KEY, 0);
+        if (value == null) {
+            value = redisTemplate.opsForList().index(QUEUE_KEY, 0);
+        }
+        return value == null ? null : EventIndexEntry.from(value).getEnqueuedAt();
+    }
+}
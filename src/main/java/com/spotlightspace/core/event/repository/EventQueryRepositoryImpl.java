@@ -1,25 +1,39 @@
 package com.spotlightspace.core.event.repository;
 
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spotlightspace.core.event.domain.EventCountMode;
 import com.spotlightspace.core.event.domain.QEvent;
 import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Repository
 @RequiredArgsConstructor
 public class EventQueryRepositoryImpl implements EventQueryRepository {
     private final JPAQueryFactory jpaQueryFactory;
+    private final EventCountRedisRepository eventCountRedisRepository;
+
+    @Value("${event.list.count-mode:EXACT}")
+    private EventCountMode countMode;
+
+    @Value("${event.list.count-cache-ttl-seconds:60}")
+    private long countCacheTtlSeconds;
 
     @Override
     public Page<GetEventResponseDto> searchEvents(SearchEventRequestDto requestDto, String type, Pageable pageable) {
@@ -70,23 +84,93 @@ public class EventQueryRepositoryImpl implements EventQueryRepository {
                 break;
         }
 
+        // 엔티티 대신 응답에 필요한 컬럼만 조회해 영속성 컨텍스트 관리 비용을 줄임
         List<GetEventResponseDto> results = jpaQueryFactory
-                .selectFrom(event)
+                .select(event.id, event.title, event.content, event.location, event.startAt, event.endAt,
+                        event.maxPeople, event.price, event.category, event.recruitmentStartAt,
+                        event.recruitmentFinishAt)
+                .from(event)
                 .where(builder)
                 .orderBy(orderSpecifier)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch()
                 .stream()
-                .map(GetEventResponseDto::from)
+                .map(tuple -> toResponseDto(tuple, event))
                 .collect(Collectors.toList());
 
+        // 첫 페이지가 페이지 크기보다 적거나 마지막 페이지면 전체 개수를 계산할 수 있으므로 count 쿼리를 생략
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> count(builder, countCondition(requestDto, type)));
+    }
+
+    private GetEventResponseDto toResponseDto(Tuple tuple, QEvent event) {
+        return GetEventResponseDto.of(
+                tuple.get(event.id),
+                tuple.get(event.title),
+                tuple.get(event.content),
+                tuple.get(event.location),
+                tuple.get(event.startAt),
+                tuple.get(event.endAt),
+                tuple.get(event.maxPeople),
+                tuple.get(event.price),
+                tuple.get(event.category),
+                tuple.get(event.recruitmentStartAt),
+                tuple.get(event.recruitmentFinishAt)
+        );
+    }
+
+    /**
+     * CACHED 모드에서는 같은 조건의 전체 개수를 TTL 동안 재사용하므로 그 사이 생성, 삭제된 이벤트만큼 차이가 날 수 있습니다.
+     */
+    private long count(BooleanBuilder builder, String condition) {
+        if (countMode == EventCountMode.CACHED) {
+            Optional<Long> cached = findCachedCount(condition);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        QEvent event = QEvent.event;
         long total = jpaQueryFactory
                 .select(event.count())
                 .from(event)
                 .where(builder)
                 .fetchOne();
 
-        return new PageImpl<>(results, pageable, total);
+        if (countMode == EventCountMode.CACHED) {
+            saveCachedCount(condition, total);
+        }
+        return total;
+    }
+
+    // Redis 장애 시에도 count 쿼리로 계속 처리
+    private Optional<Long> findCachedCount(String condition) {
+        try {
+            return eventCountRedisRepository.find(condition);
+        } catch (RuntimeException e) {
+            log.warn("이벤트 목록 개수 캐시 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    private void saveCachedCount(String condition, long total) {
+        try {
+            eventCountRedisRepository.save(condition, total, Duration.ofSeconds(countCacheTtlSeconds));
+        } catch (RuntimeException e) {
+            log.warn("이벤트 목록 개수 캐시 저장 실패", e);
+        }
+    }
+
+    // 정렬 조건 중 date만 검색 조건(모집 마감 전)을 추가하므로 나머지 정렬은 같은 개수를 사용
+    private String countCondition(SearchEventRequestDto requestDto, String type) {
+        return String.join("|",
+                String.valueOf(requestDto.getTitle()),
+                String.valueOf(requestDto.getMaxPeople()),
+                String.valueOf(requestDto.getLocation()),
+                String.valueOf(requestDto.getCategory()),
+                String.valueOf(requestDto.getRecruitmentStartAt()),
+                String.valueOf(requestDto.getRecruitmentFinishAt()),
+                String.valueOf("date".equals(type)));
     }
 }
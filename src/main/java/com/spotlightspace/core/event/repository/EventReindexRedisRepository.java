@@ -0,0 +1,83 @@
+package com.spotlightspace.core.event.repository;
+
+import com.spotlightspace.core.event.domain.EventReindexStatus;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 검색 인덱스 재구성 작업의 대상 인덱스와 진행 상황을 Redis에 관리합니다.
+ * 대상 인덱스 키는 동시에 하나의 재구성만 실행되도록 막고, 재구성 중 커밋된 변경을 새 인덱스에도 반영하는 데 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventReindexRedisRepository {
+
+    public static final String TOTAL = "total";
+    public static final String INDEXED = "indexed";
+    public static final String STATUS = "status";
+    public static final String STARTED_AT = "startedAt";
+    public static final String FINISHED_AT = "finishedAt";
+
+    private static final String TARGET_KEY = "event:reindex:target";
+    private static final String KEY_PREFIX = "event:reindex:";
+    // 서버가 작업 도중 종료되어도 이 시간이 지나면 다시 재구성할 수 있음, 청크마다 연장
+    private static final Duration TARGET_TTL = Duration.ofMinutes(10);
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 이미 다른 재구성이 진행 중이면 false를 반환합니다.
+     */
+    public boolean start(String indexName, long total, long startedAt) {
+        Boolean started = redisTemplate.opsForValue().setIfAbsent(TARGET_KEY, indexName, TARGET_TTL);
+        if (!Boolean.TRUE.equals(started)) {
+            return false;
+        }
+        String key = progressKey(indexName);
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                TOTAL, String.valueOf(total),
+                INDEXED, "0",
+                STATUS, EventReindexStatus.RUNNING.name(),
+                STARTED_AT, String.valueOf(startedAt)
+        ));
+        redisTemplate.expire(key, TTL);
+        return true;
+    }
+
+    public void increaseIndexed(String indexName, long indexed) {
+        redisTemplate.opsForHash().increment(progressKey(indexName), INDEXED, indexed);
+        redisTemplate.expire(TARGET_KEY, TARGET_TTL);
+    }
+
+    public void finish(String indexName, EventReindexStatus status, long finishedAt) {
+        redisTemplate.opsForHash().putAll(progressKey(indexName), Map.of(
+                STATUS, status.name(),
+                FINISHED_AT, String.valueOf(finishedAt)
+        ));
+        redisTemplate.delete(TARGET_KEY);
+    }
+
+    /**
+     * 재구성 중인 새 인덱스 이름입니다. 진행 중인 재구성이 없으면 빈 값을 반환합니다.
+     */
+    public Optional<String> findTarget() {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(TARGET_KEY));
+    }
+
+    public Optional<Map<Object, Object>> find(String indexName) {
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey(indexName));
+        if (progress.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(progress);
+    }
+
+    private String progressKey(String indexName) {
+        return KEY_PREFIX + indexName;
+    }
+}
@@ -4,7 +4,9 @@ import static com.spotlightspace.common.exception.ErrorCode.EVENT_NOT_FOUND;
 
 import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.event.domain.Event;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -30,6 +32,22 @@ public interface EventRepository extends JpaRepository<Event, Long>, EventQueryR
             + "AND e.recruitmentStartAt < CURRENT_TIMESTAMP AND e.endAt > CURRENT_TIMESTAMP")
     int existEvent(Long userId);
 
+    @Query("SELECT e.id FROM Event e WHERE e.user.id = :userId AND e.isDeleted = false")
+    List<Long> findIdsByUserId(Long userId);
+
+    /**
+     * 아이디 순으로 lastId 다음 이벤트부터 pageable 크기만큼 조회합니다. 삭제된 이벤트도 검색 문서에 삭제 여부를 남기므로 포함합니다.
+     */
+    @Query("SELECT e FROM Event e WHERE e.id > :lastId ORDER BY e.id")
+    List<Event> findAllByIdGreaterThan(Long lastId, Pageable pageable);
+
+    /**
+     * 좌표가 없는 삭제되지 않은 이벤트를 아이디 순으로 lastId 다음부터 pageable 크기만큼 조회합니다.
+     */
+    @Query("SELECT e FROM Event e "
+            + "WHERE e.id > :lastId AND e.latitude IS NULL AND e.isDeleted = false ORDER BY e.id")
+    List<Event> findAllWithoutCoordinatesByIdGreaterThan(Long lastId, Pageable pageable);
+
     @Modifying
     @Query("UPDATE Event e SET e.isDeleted = true WHERE e.user.id = :userId")
     void deleteByUserId(Long userId);
@@ -0,0 +1,34 @@
+package com.spotlightspace.core.event.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.DigestUtils;
+
+/**
+ * 엘라스틱 서치 이벤트 검색 결과를 조건별로 Redis에 저장합니다.
+ * 검색어가 키에 그대로 들어가지 않도록 조건 문자열의 해시를 키로 사용합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventSearchCacheRedisRepository {
+
+    private static final String KEY_PREFIX = "event:cache:search:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<String> find(String condition) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(searchKey(condition)));
+    }
+
+    public void save(String condition, String payload, Duration ttl) {
+        redisTemplate.opsForValue().set(searchKey(condition), payload, ttl);
+    }
+
+    private String searchKey(String condition) {
+        return KEY_PREFIX + DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,29 @@
+package com.spotlightspace.core.event.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이벤트 생성, 수정, 삭제가 커밋된 뒤 캐시를 삭제합니다.
+ * 커밋 전에 삭제하면 그 사이 다른 요청이 변경 전 값을 다시 캐시할 수 있으므로 커밋 후에 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCacheEventListener {
+
+    private final EventCacheService eventCacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void evict(EventIndexEvent event) {
+        try {
+            eventCacheService.evict(event.getEventIds());
+        } catch (RuntimeException e) {
+            // 삭제하지 못한 캐시는 soft TTL이 지나면 다시 조회됨
+            log.error("이벤트 캐시 삭제 실패 - eventIds: {}", event.getEventIds(), e);
+        }
+    }
+}
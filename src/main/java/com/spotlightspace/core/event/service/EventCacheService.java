@@ -0,0 +1,236 @@
+package com.spotlightspace.core.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.common.datasource.ReadFromPrimary;
+import com.spotlightspace.common.datasource.ReplicaRoutingContext;
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.domain.EventCacheEntry;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventPageCacheDto;
+import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
+import com.spotlightspace.core.event.repository.EventCacheRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 이벤트 상세와 자주 조회되는 목록 앞쪽 페이지를 Redis에 캐시합니다.
+ * soft TTL이 지난 값은 그대로 반환하면서 한 요청만 백그라운드에서 다시 조회하므로, 인기 키가 만료되어도 DB로 요청이 몰리지 않습니다.
+ * Redis 키는 hard TTL까지 남아 있으며, 이벤트가 바뀌면 커밋 후 {@link #evict(Collection)}로 바로 삭제합니다.
+ * 커밋 후 삭제된 캐시를 복제 지연 때문에 이전 값으로 다시 채우지 않도록 캐시를 채우는 조회는 기본 DB에서 읽습니다.
+ * 캐시별 조회 결과는 event.cache.gets 카운터의 result 태그(hit, stale, miss)로 남기며, 적중률은 (hit + stale) / 전체입니다.
+ */
+@Slf4j
+@Service
+public class EventCacheService {
+
+    private static final String DETAIL_KEY_PREFIX = "event:cache:detail:";
+    private static final String LIST_KEY_PREFIX = "event:cache:list:";
+    private static final String ALL_CATEGORIES = "ALL";
+
+    private final EventCacheRedisRepository eventCacheRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final Executor eventCacheRefreshExecutor;
+    private final CachePolicy detailPolicy;
+    private final CachePolicy listPolicy;
+    private final int listMaxPage;
+    private final int listMaxSize;
+
+    public EventCacheService(
+            EventCacheRedisRepository eventCacheRedisRepository,
+            ObjectMapper objectMapper,
+            @Qualifier("eventCacheRefreshExecutor") Executor eventCacheRefreshExecutor,
+            MeterRegistry meterRegistry,
+            @Value("${event.cache.detail.soft-ttl-seconds:60}") long detailSoftTtlSeconds,
+            @Value("${event.cache.detail.hard-ttl-seconds:600}") long detailHardTtlSeconds,
+            @Value("${event.cache.list.soft-ttl-seconds:30}") long listSoftTtlSeconds,
+            @Value("${event.cache.list.hard-ttl-seconds:300}") long listHardTtlSeconds,
+            @Value("${event.cache.list.max-page:3}") int listMaxPage,
+            @Value("${event.cache.list.max-size:50}") int listMaxSize
+    ) {
+        this.eventCacheRedisRepository = eventCacheRedisRepository;
+        this.objectMapper = objectMapper;
+        this.eventCacheRefreshExecutor = eventCacheRefreshExecutor;
+        this.detailPolicy = new CachePolicy("event.detail", detailSoftTtlSeconds, detailHardTtlSeconds, false,
+                meterRegistry);
+        this.listPolicy = new CachePolicy("event.list", listSoftTtlSeconds, listHardTtlSeconds, true,
+                meterRegistry);
+        this.listMaxPage = listMaxPage;
+        this.listMaxSize = listMaxSize;
+    }
+
+    @ReadFromPrimary
+    public GetEventResponseDto getEvent(long eventId, Supplier<GetEventResponseDto> loader) {
+        return get(detailPolicy, DETAIL_KEY_PREFIX + eventId, GetEventResponseDto.class, loader);
+    }
+
+    /**
+     * 검색어나 기간 조건 없이 카테고리와 정렬만 지정한 앞쪽 페이지만 캐시하고, 나머지 조건은 바로 조회합니다.
+     */
+    @ReadFromPrimary
+    public Page<GetEventResponseDto> getEvents(
+            Pageable pageable, SearchEventRequestDto requestDto, String type,
+            Supplier<Page<GetEventResponseDto>> loader) {
+        if (!isCacheable(pageable, requestDto)) {
+            return loader.get();
+        }
+
+        String key = LIST_KEY_PREFIX
+                + (requestDto.getCategory() == null ? ALL_CATEGORIES : requestDto.getCategory().name())
+                + ":" + normalizeType(type)
+                + ":" + pageable.getPageNumber()
+                + ":" + pageable.getPageSize();
+        return get(listPolicy, key, EventPageCacheDto.class, () -> EventPageCacheDto.from(loader.get()))
+                .toPage(pageable);
+    }
+
+    /**
+     * 바뀐 이벤트의 상세 캐시와 모든 목록 캐시를 삭제합니다.
+     */
+    public void evict(Collection<Long> eventIds) {
+        eventCacheRedisRepository.delete(eventIds.stream().map(eventId -> DETAIL_KEY_PREFIX + eventId).toList());
+        eventCacheRedisRepository.deleteLists();
+    }
+
+    private boolean isCacheable(Pageable pageable, SearchEventRequestDto requestDto) {
+        return pageable.getPageNumber() < listMaxPage
+                && pageable.getPageSize() <= listMaxSize
+                && requestDto.getTitle() == null
+                && requestDto.getMaxPeople() == null
+                && requestDto.getLocation() == null
+                && requestDto.getRecruitmentStartAt() == null
+                && requestDto.getRecruitmentFinishAt() == null;
+    }
+
+    // 정렬 조건이 아니면 모두 최신순으로 조회하므로 같은 키를 사용
+    static String normalizeType(String type) {
+        return switch (type) {
+            case "upprice", "downprice", "date" -> type;
+            default -> "latest";
+        };
+    }
+
+    private <T> T get(CachePolicy policy, String key, Class<T> type, Supplier<T> loader) {
+        Optional<EventCacheEntry> cached = find(key);
+        Optional<T> value = cached.flatMap(entry -> deserialize(key, entry.getPayload(), type));
+        if (value.isPresent()) {
+            if (!cached.get().isStale(System.currentTimeMillis())) {
+                policy.hit.increment();
+                return value.get();
+            }
+            policy.stale.increment();
+            refreshAsync(policy, key, loader);
+            return value.get();
+        }
+
+        policy.miss.increment();
+        T loaded = loader.get();
+        save(policy, key, loaded);
+        return loaded;
+    }
+
+    /**
+     * 같은 키를 다시 조회하는 요청은 하나만 실행합니다.
+     * 그 사이 이벤트가 삭제되어 조회에 실패하면 캐시를 지워 다음 요청이 실패 응답을 받도록 합니다.
+     * 다른 스레드에서 조회하므로 {@link ReadFromPrimary} 구간을 직접 엽니다.
+     */
+    private <T> void refreshAsync(CachePolicy policy, String key, Supplier<T> loader) {
+        try {
+            if (!eventCacheRedisRepository.tryLockRefresh(key)) {
+                return;
+            }
+            eventCacheRefreshExecutor.execute(() -> {
+                ReplicaRoutingContext.enterPrimaryScope();
+                try {
+                    save(policy, key, loader.get());
+                } catch (ApplicationException e) {
+                    eventCacheRedisRepository.delete(List.of(key));
+                } catch (RuntimeException e) {
+                    log.warn("이벤트 캐시 갱신 실패 - key: {}", key, e);
+                } finally {
+                    ReplicaRoutingContext.exitPrimaryScope();
+                    eventCacheRedisRepository.unlockRefresh(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            eventCacheRedisRepository.unlockRefresh(key);
+        } catch (RuntimeException e) {
+            log.warn("이벤트 캐시 갱신 요청 실패 - key: {}", key, e);
+        }
+    }
+
+    // Redis 장애 시에도 조회는 DB로 계속 처리
+    private Optional<EventCacheEntry> find(String key) {
+        try {
+            return eventCacheRedisRepository.find(key);
+        } catch (RuntimeException e) {
+            log.warn("이벤트 캐시 조회 실패 - key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private <T> Optional<T> deserialize(String key, String payload, Class<T> type) {
+        try {
+            return Optional.of(objectMapper.readValue(payload, type));
+        } catch (JsonProcessingException e) {
+            log.warn("이벤트 캐시 역직렬화 실패 - key: {}", key, e);
+            return Optional.empty();
+        }
+    }
+
+    private void save(CachePolicy policy, String key, Object value) {
+        try {
+            EventCacheEntry entry = EventCacheEntry.of(
+                    objectMapper.writeValueAsString(value),
+                    System.currentTimeMillis() + policy.softTtl.toMillis()
+            );
+            if (policy.list) {
+                eventCacheRedisRepository.saveList(key, entry, policy.hardTtl);
+            } else {
+                eventCacheRedisRepository.save(key, entry, policy.hardTtl);
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("이벤트 캐시 저장 실패 - key: {}", key, e);
+        }
+    }
+
+    private static class CachePolicy {
+
+        private final Duration softTtl;
+        private final Duration hardTtl;
+        private final boolean list;
+        private final Counter hit;
+        private final Counter stale;
+        private final Counter miss;
+
+        private CachePolicy(String name, long softTtlSeconds, long hardTtlSeconds, boolean list,
+                MeterRegistry meterRegistry) {
+            this.softTtl = Duration.ofSeconds(softTtlSeconds);
+            this.hardTtl = Duration.ofSeconds(hardTtlSeconds);
+            this.list = list;
+            this.hit = counter(meterRegistry, name, "hit");
+            this.stale = counter(meterRegistry, name, "stale");
+            this.miss = counter(meterRegistry, name, "miss");
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String name, String result) {
+            return Counter.builder("event.cache.gets")
+                    .tag("cache", name)
+                    .tag("result", result)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.spotlightspace.core.event.service;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검색 인덱스에 다시 반영해야 하는 이벤트 아이디입니다. 트랜잭션이 커밋된 뒤에 대기열에 들어가고 캐시에서 삭제됩니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventIndexEvent {
+
+    private final List<Long> eventIds;
+
+    public static EventIndexEvent from(long eventId) {
+        return new EventIndexEvent(List.of(eventId));
+    }
+
+    public static EventIndexEvent from(List<Long> eventIds) {
+        return new EventIndexEvent(List.copyOf(eventIds));
+    }
+}
@@ -0,0 +1,55 @@
+package com.spotlightspace.core.event.service;
+
+import com.spotlightspace.core.event.domain.EventIndexEntry;
+import com.spotlightspace.core.event.repository.EventIndexQueueRedisRepository;
+import java.util.List;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 이벤트 변경이 커밋된 뒤에만 검색 인덱스 대기열에 넣으므로, 롤백된 변경은 검색 인덱스에 반영되지 않습니다.
+ * 대기열이 배치 크기만큼 쌓이면 스케줄 주기를 기다리지 않고 바로 반영을 시작합니다.
+ */
+@Slf4j
+@Component
+public class EventIndexEventListener {
+
+    private final EventIndexQueueRedisRepository eventIndexQueueRedisRepository;
+    private final EventIndexFlushScheduler eventIndexFlushScheduler;
+    private final Executor eventIndexExecutor;
+    private final int batchSize;
+
+    public EventIndexEventListener(
+            EventIndexQueueRedisRepository eventIndexQueueRedisRepository,
+            EventIndexFlushScheduler eventIndexFlushScheduler,
+            @Qualifier("eventIndexExecutor") Executor eventIndexExecutor,
+            @Value("${event.index.batch-size:500}") int batchSize
+    ) {
+        this.eventIndexQueueRedisRepository = eventIndexQueueRedisRepository;
+        this.eventIndexFlushScheduler = eventIndexFlushScheduler;
+        this.eventIndexExecutor = eventIndexExecutor;
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void enqueue(EventIndexEvent event) {
+        long now = System.currentTimeMillis();
+        List<EventIndexEntry> entries = event.getEventIds().stream()
+                .map(eventId -> EventIndexEntry.of(eventId, now))
+                .toList();
+        try {
+            long queueSize = eventIndexQueueRedisRepository.enqueue(entries);
+            if (queueSize >= batchSize) {
+                eventIndexExecutor.execute(eventIndexFlushScheduler::flush);
+            }
+        } catch (RuntimeException e) {
+            // DB는 이미 커밋되었으므로 요청은 성공시키고, 누락된 문서는 재색인으로 맞춤
+            log.error("검색 인덱스 대기열 적재 실패 - eventIds: {}", event.getEventIds(), e);
+        }
+    }
+}
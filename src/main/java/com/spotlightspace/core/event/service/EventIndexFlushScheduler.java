@@ -0,0 +1,139 @@
+package com.spotlightspace.core.event.service;
+
+import com.spotlightspace.core.event.domain.EventIndexEntry;
+import com.spotlightspace.core.event.repository.EventIndexQueueRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 인덱스 대기열을 flush-interval-ms 마다, 또는 배치 크기만큼 쌓였을 때 bulk API로 반영합니다.
+ * 여러 서버가 동시에 반영하지 않도록 분산 락을 획득한 서버만 수행합니다.
+ * 일부 문서만 실패하면 해당 항목만 다시 대기열에 넣고, max-attempts 번 실패하면 dead letter 리스트로 옮깁니다.
+ */
+@Slf4j
+@Component
+public class EventIndexFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "lock:event:index:flush";
+
+    private final EventIndexService eventIndexService;
+    private final EventIndexQueueRedisRepository eventIndexQueueRedisRepository;
+    private final RedissonClient redissonClient;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Timer indexLagTimer;
+    private final Counter deadLetterCounter;
+
+    public EventIndexFlushScheduler(
+            EventIndexService eventIndexService,
+            EventIndexQueueRedisRepository eventIndexQueueRedisRepository,
+            RedissonClient redissonClient,
+            MeterRegistry meterRegistry,
+            @Value("${event.index.batch-size:500}") int batchSize,
+            @Value("${event.index.max-attempts:5}") int maxAttempts
+    ) {
+        this.eventIndexService = eventIndexService;
+        this.eventIndexQueueRedisRepository = eventIndexQueueRedisRepository;
+        this.redissonClient = redissonClient;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+
+        // 커밋 후 대기열에 들어간 시각부터 검색 인덱스에 반영될 때까지 걸린 시간
+        this.indexLagTimer = Timer.builder("event.index.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.deadLetterCounter = Counter.builder("event.index.dead_letter")
+                .register(meterRegistry);
+        Gauge.builder("event.index.queue.size", eventIndexQueueRedisRepository,
+                        EventIndexQueueRedisRepository::size)
+                .register(meterRegistry);
+        // 아직 반영되지 않은 가장 오래된 변경의 대기 시간
+        Gauge.builder("event.index.pending.age.seconds", eventIndexQueueRedisRepository,
+                        repository -> {
+                            Long oldestEnqueuedAt = repository.oldestEnqueuedAt();
+                            return oldestEnqueuedAt == null
+                                    ? 0
+                                    : (System.currentTimeMillis() - oldestEnqueuedAt) / 1000.0;
+                        })
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${event.index.flush-interval-ms:1000}")
+    public void flush() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(0, 30, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            // 한 번에 배치 크기만큼 꺼내고, 가득 찼으면 대기열이 밀려 있는 것이므로 바로 이어서 반영
+            int flushed;
+            do {
+                List<EventIndexEntry> entries = eventIndexQueueRedisRepository.takeBatch(batchSize);
+                flushed = entries.size();
+                if (flushed == 0) {
+                    return;
+                }
+                flushBatch(entries);
+            } while (flushed >= batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // bulk 요청 자체가 실패하면 inflight 리스트가 남아 있으므로 다음 주기에 다시 반영됨
+            log.error("이벤트 검색 인덱스 반영 실패", e);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void flushBatch(List<EventIndexEntry> entries) {
+        Set<Long> eventIds = new LinkedHashSet<>();
+        entries.forEach(entry -> eventIds.add(entry.getEventId()));
+
+        Set<Long> failedEventIds = eventIndexService.index(eventIds);
+
+        long now = System.currentTimeMillis();
+        List<EventIndexEntry> retries = new ArrayList<>();
+        List<EventIndexEntry> deadLetters = new ArrayList<>();
+        Set<Long> handledFailures = new LinkedHashSet<>();
+        for (EventIndexEntry entry : entries) {
+            if (!failedEventIds.contains(entry.getEventId())) {
+                indexLagTimer.record(Duration.ofMillis(Math.max(0, now - entry.getEnqueuedAt())));
+                continue;
+            }
+            // 같은 이벤트가 배치에 여러 번 들어 있어도 한 번만 다시 넣음
+            if (!handledFailures.add(entry.getEventId())) {
+                continue;
+            }
+            EventIndexEntry retry = entry.retry();
+            if (retry.getAttempts() >= maxAttempts) {
+                log.error("이벤트 검색 인덱스 최대 재시도 초과 - eventId: {}", entry.getEventId());
+                deadLetters.add(retry);
+            } else {
+                retries.add(retry);
+            }
+        }
+
+        eventIndexQueueRedisRepository.completeBatch(retries, deadLetters);
+        deadLetterCounter.increment(deadLetters.size());
+    }
+}
@@ -0,0 +1,76 @@
+package com.spotlightspace.core.event.service;
+
+import com.spotlightspace.common.datasource.ReadFromPrimary;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.repository.EventReindexRedisRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 커밋된 DB 상태로 이벤트 검색 문서를 만들어 bulk API 한 번으로 반영합니다.
+ * 같은 이벤트를 여러 번 반영해도 마지막 DB 상태로 덮어쓰므로 재시도해도 안전합니다.
+ * 검색 인덱스를 재구성하는 중이면 alias 교체 전에 들어온 변경이 빠지지 않도록 새 인덱스에도 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventIndexService {
+
+    private final EventRepository eventRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final EventReindexRedisRepository eventReindexRedisRepository;
+
+    /**
+     * bulk 요청 자체가 실패하면 예외를 그대로 던지고, 일부 문서만 실패하면 실패한 이벤트 아이디를 반환합니다.
+     * 방금 커밋된 변경을 반영해야 하므로 복제 DB가 아닌 기본 DB에서 읽습니다.
+     */
+    @ReadFromPrimary
+    @Transactional(readOnly = true)
+    public Set<Long> index(Collection<Long> eventIds) {
+        List<Event> events = eventRepository.findAllById(eventIds);
+        if (events.isEmpty()) {
+            return Set.of();
+        }
+
+        List<IndexQuery> queries = events.stream()
+                .map(event -> new IndexQueryBuilder()
+                        .withId(String.valueOf(event.getId()))
+                        .withObject(EventElastic.from(event))
+                        .build())
+                .toList();
+
+        // alias에 반영한 뒤 재구성 대상을 읽으면 그 사이 alias가 교체되고 재구성이 끝나 새 인덱스에 반영되지 않으므로 먼저 읽음
+        Optional<String> reindexTarget = eventReindexRedisRepository.findTarget();
+        Set<Long> failedIds = new HashSet<>(
+                bulkIndex(queries, elasticsearchOperations.getIndexCoordinatesFor(EventElastic.class)));
+        reindexTarget.ifPresent(target -> failedIds.addAll(bulkIndex(queries, IndexCoordinates.of(target))));
+        return failedIds;
+    }
+
+    private Set<Long> bulkIndex(List<IndexQuery> queries, IndexCoordinates index) {
+        try {
+            elasticsearchOperations.bulkIndex(queries, index);
+            return Set.of();
+        } catch (BulkFailureException e) {
+            log.warn("이벤트 검색 문서 일부 반영 실패 - index: {}, {}", index.getIndexName(), e.getFailedDocuments());
+            return e.getFailedDocuments().keySet().stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toSet());
+        }
+    }
+}
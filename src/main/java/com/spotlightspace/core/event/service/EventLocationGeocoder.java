@@ -0,0 +1,115 @@
+package com.spotlightspace.core.event.service;
+
+import com.spotlightspace.core.event.domain.Coordinates;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 장소 문자열을 좌표로 바꿉니다. 외부 API를 호출하지 않고 애플리케이션에 포함된 지역 좌표표에서 찾으며,
+ * 이벤트를 등록하거나 장소를 수정할 때 한 번만 계산해 저장합니다.
+ * 시/도 다음에 나오는 시/군/구를 찾으면 그 좌표를 반환합니다.
+ * 시/도만 찾은 경우에는 도청 좌표가 실제 장소와 수십 km 떨어질 수 있어 주변 검색 결과를 왜곡하므로 빈 값을 반환합니다.
+ * 다만 세종처럼 시/군/구가 없는 시/도는 좌표표에 시/군/구 행이 없으므로, 시/도 자체를 시/군/구로 보고 시청 좌표를 반환합니다.
+ * 시/도 없이 시/군/구만 적은 경우에는 이름이 하나의 지역에만 있을 때만 좌표를 반환합니다. (예: 중구는 여러 시에 있음)
+ */
+@Component
+public class EventLocationGeocoder {
+
+    private static final String REGION_TABLE_PATH = "geo/region-coordinates.csv";
+
+    private static final Map<String, String> REGION_ALIASES = Map.ofEntries(
+            Map.entry("서울특별시", "서울"), Map.entry("서울시", "서울"),
+            Map.entry("부산광역시", "부산"), Map.entry("부산시", "부산"),
+            Map.entry("대구광역시", "대구"), Map.entry("대구시", "대구"),
+            Map.entry("인천광역시", "인천"), Map.entry("인천시", "인천"),
+            Map.entry("광주광역시", "광주"), Map.entry("광주시", "광주"),
+            Map.entry("대전광역시", "대전"), Map.entry("대전시", "대전"),
+            Map.entry("울산광역시", "울산"), Map.entry("울산시", "울산"),
+            Map.entry("세종특별자치시", "세종"), Map.entry("세종시", "세종"),
+            Map.entry("경기도", "경기"),
+            Map.entry("강원도", "강원"), Map.entry("강원특별자치도", "강원"),
+            Map.entry("충청북도", "충북"),
+            Map.entry("충청남도", "충남"),
+            Map.entry("전라북도", "전북"), Map.entry("전북특별자치도", "전북"),
+            Map.entry("전라남도", "전남"),
+            Map.entry("경상북도", "경북"),
+            Map.entry("경상남도", "경남"),
+            Map.entry("제주특별자치도", "제주"), Map.entry("제주도", "제주")
+    );
+
+    private final Map<String, Coordinates> regions = new HashMap<>();
+    private final Set<String> regionsWithDistricts = new HashSet<>();
+    private final Map<String, Coordinates> districts = new HashMap<>();
+    private final Map<String, List<Coordinates>> districtsByName = new HashMap<>();
+
+    public EventLocationGeocoder() {
+        ClassPathResource resource = new ClassPathResource(REGION_TABLE_PATH);
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            reader.lines()
+                    .filter(line -> !line.isBlank() && !line.startsWith("#") && !line.startsWith("region,"))
+                    .forEach(this::addRow);
+        } catch (IOException e) {
+            throw new UncheckedIOException("지역 좌표표를 읽을 수 없습니다: " + REGION_TABLE_PATH, e);
+        }
+    }
+
+    public Optional<Coordinates> geocode(String location) {
+        if (location == null || location.isBlank()) {
+            return Optional.empty();
+        }
+
+        String region = null;
+        for (String token : location.replace(',', ' ').strip().split("\\s+")) {
+            if (region == null) {
+                String candidate = REGION_ALIASES.getOrDefault(token, token);
+                if (regions.containsKey(candidate)) {
+                    region = candidate;
+                    continue;
+                }
+            }
+
+            Coordinates district = findDistrict(region, token);
+            if (district != null) {
+                return Optional.of(district);
+            }
+        }
+
+        if (region != null && !regionsWithDistricts.contains(region)) {
+            return Optional.of(regions.get(region));
+        }
+        return Optional.empty();
+    }
+
+    private Coordinates findDistrict(String region, String name) {
+        if (region != null) {
+            return districts.get(region + " " + name);
+        }
+        List<Coordinates> candidates = districtsByName.get(name);
+        return candidates != null && candidates.size() == 1 ? candidates.get(0) : null;
+    }
+
+    private void addRow(String line) {
+        String[] columns = line.split(",", -1);
+        Coordinates coordinates = Coordinates.of(Double.parseDouble(columns[2]), Double.parseDouble(columns[3]));
+        if (columns[1].isEmpty()) {
+            regions.put(columns[0], coordinates);
+            return;
+        }
+        regionsWithDistricts.add(columns[0]);
+        districts.put(columns[0] + " " + columns[1], coordinates);
+        districtsByName.computeIfAbsent(columns[1], name -> new ArrayList<>()).add(coordinates);
+    }
+}
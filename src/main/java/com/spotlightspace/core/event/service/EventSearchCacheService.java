@@ -0,0 +1,197 @@
+package com.spotlightspace.core.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventElasticPageCacheDto;
+import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
+import com.spotlightspace.core.event.repository.EventSearchCacheRedisRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+/**
+ * 엘라스틱 서치 이벤트 검색 결과를 조건과 페이지별로 Redis에 짧게 캐시합니다.
+ * 검색 인덱스는 이벤트가 바뀐 뒤 비동기로 반영되므로 변경 시 삭제하지 않고 짧은 TTL로만 만료시킵니다.
+ * 캐시가 없을 때 같은 서버에 같은 조건으로 동시에 들어온 요청은 먼저 온 요청 하나만 검색하고, 나머지는 그 결과를 함께 받습니다.
+ * 실제 검색 수와 다른 요청의 검색에 합류한 수는 event.search.queries 카운터의 result 태그(executed, coalesced)로 남깁니다.
+ */
+@Slf4j
+@Service
+public class EventSearchCacheService {
+
+    private final EventSearchCacheRedisRepository eventSearchCacheRedisRepository;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final long coalesceTimeoutMillis;
+    private final int maxSize;
+    private final ConcurrentMap<String, CompletableFuture<EventElasticPageCacheDto>> inflight =
+            new ConcurrentHashMap<>();
+    private final Counter hit;
+    private final Counter miss;
+    private final Counter executed;
+    private final Counter coalesced;
+
+    public EventSearchCacheService(
+            EventSearchCacheRedisRepository eventSearchCacheRedisRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${event.search.cache.ttl-seconds:5}") long ttlSeconds,
+            @Value("${event.search.cache.coalesce-timeout-millis:3000}") long coalesceTimeoutMillis,
+            @Value("${event.search.cache.max-size:50}") int maxSize
+    ) {
+        this.eventSearchCacheRedisRepository = eventSearchCacheRedisRepository;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.coalesceTimeoutMillis = coalesceTimeoutMillis;
+        this.maxSize = maxSize;
+        this.hit = cacheCounter(meterRegistry, "hit");
+        this.miss = cacheCounter(meterRegistry, "miss");
+        this.executed = queryCounter(meterRegistry, "executed");
+        this.coalesced = queryCounter(meterRegistry, "coalesced");
+    }
+
+    /**
+     * 페이지 크기가 max-size를 넘는 요청은 캐시와 합류 없이 바로 검색합니다.
+     * requestDto는 {@link SearchEventRequestDto#normalized()}로 정리된 조건이어야 같은 조건이 같은 키를 사용합니다.
+     */
+    public Page<GetEventElasticResponseDto> getEvents(
+            Pageable pageable, SearchEventRequestDto requestDto, String type, SearchLoader loader)
+            throws IOException {
+        if (pageable.getPageSize() > maxSize) {
+            return loader.load();
+        }
+
+        String condition = condition(pageable, requestDto, type);
+        Optional<EventElasticPageCacheDto> cached = find(condition);
+        if (cached.isPresent()) {
+            hit.increment();
+            return cached.get().toPage(pageable);
+        }
+        miss.increment();
+        return loadOnce(condition, loader).toPage(pageable);
+    }
+
+    private EventElasticPageCacheDto loadOnce(String condition, SearchLoader loader) throws IOException {
+        CompletableFuture<EventElasticPageCacheDto> flight = new CompletableFuture<>();
+        CompletableFuture<EventElasticPageCacheDto> running = inflight.putIfAbsent(condition, flight);
+        if (running != null) {
+            coalesced.increment();
+            return await(running, loader);
+        }
+
+        executed.increment();
+        try {
+            EventElasticPageCacheDto loaded = EventElasticPageCacheDto.from(loader.load());
+            save(condition, loaded);
+            flight.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inflight.remove(condition, flight);
+        }
+    }
+
+    /**
+     * 먼저 온 요청의 검색이 실패하면 같은 예외를 던지고, coalesce-timeout 안에 끝나지 않으면 기다리지 않고 직접 검색합니다.
+     */
+    private EventElasticPageCacheDto await(CompletableFuture<EventElasticPageCacheDto> running, SearchLoader loader)
+            throws IOException {
+        try {
+            return running.get(coalesceTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            log.warn("이벤트 검색 합류 대기 시간 초과 - {}ms", coalesceTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executed.increment();
+        return EventElasticPageCacheDto.from(loader.load());
+    }
+
+    private String condition(Pageable pageable, SearchEventRequestDto requestDto, String type) {
+        return String.join(":",
+                EventCacheService.normalizeType(type),
+                String.valueOf(pageable.getPageNumber()),
+                String.valueOf(pageable.getPageSize()),
+                String.valueOf(requestDto.getTitle()),
+                String.valueOf(requestDto.getMaxPeople()),
+                String.valueOf(requestDto.getLocation()),
+                String.valueOf(requestDto.getCategory()),
+                String.valueOf(requestDto.getRecruitmentStartAt()),
+                String.valueOf(requestDto.getRecruitmentFinishAt()));
+    }
+
+    // Redis 장애 시에도 검색은 엘라스틱 서치로 계속 처리
+    private Optional<EventElasticPageCacheDto> find(String condition) {
+        try {
+            return eventSearchCacheRedisRepository.find(condition)
+                    .map(payload -> deserialize(condition, payload));
+        } catch (RuntimeException e) {
+            log.warn("이벤트 검색 캐시 조회 실패 - condition: {}", condition, e);
+            return Optional.empty();
+        }
+    }
+
+    private EventElasticPageCacheDto deserialize(String condition, String payload) {
+        try {
+            return objectMapper.readValue(payload, EventElasticPageCacheDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("이벤트 검색 캐시 역직렬화 실패 - condition: {}", condition, e);
+            return null;
+        }
+    }
+
+    private void save(String condition, EventElasticPageCacheDto value) {
+        try {
+            eventSearchCacheRedisRepository.save(condition, objectMapper.writeValueAsString(value), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("이벤트 검색 캐시 저장 실패 - condition: {}", condition, e);
+        }
+    }
+
+    private static Counter cacheCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("event.cache.gets")
+                .tag("cache", "event.search")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter queryCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("event.search.queries")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    public interface SearchLoader {
+
+        Page<GetEventElasticResponseDto> load() throws IOException;
+    }
+}
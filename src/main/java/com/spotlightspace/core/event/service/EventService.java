@@ -5,19 +5,22 @@ import com.spotlightspace.common.entity.TableRole;
 import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.attachment.service.AttachmentService;
 import com.spotlightspace.core.event.domain.Event;
-import com.spotlightspace.core.event.domain.EventElastic;
 import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.UpdateEventRequestDto;
 import com.spotlightspace.core.event.dto.response.CreateEventResponseDto;
+import com.spotlightspace.core.event.dto.response.EventAutocompleteResponseDto;
+import com.spotlightspace.core.event.dto.response.EventFacetSearchResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
+import com.spotlightspace.core.event.dto.response.GetNearbyEventResponseDto;
 import com.spotlightspace.core.event.dto.response.UpdateEventResponseDto;
 import com.spotlightspace.core.event.repository.EventElasticRepository;
 import com.spotlightspace.core.event.repository.EventRepository;
-import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
-import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
-import com.spotlightspace.core.payment.service.PaymentService;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.service.PaymentRefundService;
 import com.spotlightspace.core.ticket.repository.TicketRepository;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.domain.UserRole;
@@ -29,10 +32,12 @@ import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -48,11 +53,15 @@ public class EventService {
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
     private final AttachmentService attachmentService;
-    private final PaymentService paymentService;
+    private final PaymentRefundService paymentRefundService;
     private final TicketRepository ticketRepository;
-    private final EventTicketStockRepository eventTicketStockRepository;
+    private final EventTicketStockService eventTicketStockService;
     private final EventElasticRepository eventElasticRepository;
     private final RedissonLockService redissonLockService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventCacheService eventCacheService;
+    private final EventSearchCacheService eventSearchCacheService;
+    private final EventLocationGeocoder eventLocationGeocoder;
     private static final String EVENT_LOCK_KEY = "lock:event:";
 
     @Transactional
@@ -75,16 +84,18 @@ public class EventService {
             // 유저 권한 확인
             validateUserRole(user.getRole());
             // 프로필 이미지가 있다면 저장 로직
-            Event event = eventRepository.save(Event.create(requestDto, user));
+            Event newEvent = Event.create(requestDto, user);
+            newEvent.changeCoordinates(eventLocationGeocoder.geocode(requestDto.getLocation()).orElse(null));
+            Event event = eventRepository.save(newEvent);
             if (files != null && !files.isEmpty()) {
                 attachmentService.addAttachmentList(files, event.getId(), TableRole.EVENT);
             }
 
-            eventTicketStockRepository.save(EventTicketStock.create(event));
+            // 티켓 재고 저장 (샤드 수를 지정하면 여러 행으로 나눠 저장)
+            eventTicketStockService.createStock(event, requestDto.getStockShardCount());
 
-            // 엘라스틱 이벤트 저장
-            EventElastic eventElastic = EventElastic.create(requestDto, event.getId());
-            eventElasticRepository.save(eventElastic);
+            // 엘라스틱 이벤트는 커밋 후 인덱싱 파이프라인에서 저장
+            eventPublisher.publishEvent(EventIndexEvent.from(event.getId()));
 
             return CreateEventResponseDto.from(event);
         }
@@ -108,29 +119,23 @@ public class EventService {
         checkEventAndUser(event, authUser);
         // 현재 이벤트에 결제된 티켓 수 조회
         int ticketCount = ticketRepository.countTicketByEvent(event.getId());
-        // 엘라스틱 이벤트 존재 확인
-        EventElastic eventElastic = checkElasticExist(id);
 
         // 수정 로직
         if (requestDto.getTitle() != null) {
             event.changeTitle(requestDto.getTitle());
-            eventElastic.changeTitle(requestDto.getTitle());
         }
         if (requestDto.getContent() != null) {
             event.changeContent(requestDto.getContent());
-            eventElastic.changeContent(requestDto.getContent());
         }
         if (requestDto.getLocation() != null) {
             event.changeLocation(requestDto.getLocation());
-            eventElastic.changeLocation(requestDto.getLocation());
+            event.changeCoordinates(eventLocationGeocoder.geocode(requestDto.getLocation()).orElse(null));
         }
         if (requestDto.getStartAt() != null) {
             event.changeStartAt(requestDto.getStartAt());
-            eventElastic.changeStartAt(requestDto.getStartAt());
         }
         if (requestDto.getEndAt() != null) {
             event.changeEndAt(requestDto.getEndAt());
-            eventElastic.changeEndAt(requestDto.getEndAt());
         }
         if (requestDto.getMaxPeople() != null) {
             // 변경하려는 maxPeople값이 이미 결제한 사람 언더일 때 exception 처리 해야함
@@ -138,26 +143,21 @@ public class EventService {
                 throw new ApplicationException(CANNOT_MAX_PEOPLE_UPDATE);
             }
             event.changeMaxPeople(requestDto.getMaxPeople());
-            eventElastic.changeMaxPeople(requestDto.getMaxPeople());
         }
         if (requestDto.getPrice() != null) {
             event.changePrice(requestDto.getPrice());
-            eventElastic.changePrice(requestDto.getPrice());
         }
         if (requestDto.getCategory() != null) {
             event.changeCategory(requestDto.getCategory());
-            eventElastic.changeCategory(requestDto.getCategory());
         }
         if (requestDto.getRecruitmentStartAt() != null) {
             event.changeRecruitmentStartAt(requestDto.getRecruitmentStartAt());
-            eventElastic.changeRecruitmentStartAt(requestDto.getRecruitmentStartAt());
         }
         if (requestDto.getRecruitmentFinishAt() != null) {
             event.changeRecruitmentFinishAt(requestDto.getRecruitmentFinishAt());
-            eventElastic.changeRecruitmentFinishAt(requestDto.getRecruitmentFinishAt());
         }
         eventRepository.save(event);
-        eventElasticRepository.save(eventElastic);
+        eventPublisher.publishEvent(EventIndexEvent.from(event.getId()));
         return UpdateEventResponseDto.from(event);
     }
 
@@ -167,37 +167,67 @@ public class EventService {
         Event event = checkEventExist(id);
         // 이벤트를 작성한 아티스트인가 검사
         checkEventAndUser(event, authUser);
-        // 엘라스틱 이벤트 존재 확인
-        EventElastic eventElastic = checkElasticExist(id);
         // 삭제 진행 시 결제한 사람 (포인트, 쿠폰)환불처리
         if (LocalDateTime.now().isBefore(event.getStartAt())) {
-            paymentService.cancelPayments(event);
+            paymentRefundService.refundPayments(event);
         }
         attachmentService.deleteAttachmentWithOtherTable(event.getId(), TableRole.EVENT);
         event.deleteEvent();
-        eventElastic.deleteEvent();
+        eventPublisher.publishEvent(EventIndexEvent.from(event.getId()));
     }
 
+    // 캐시에서 응답하면 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
     public GetEventResponseDto getEvent(Long eventId) {
-        Event event = eventRepository.findByIdOrElseThrow(eventId);
-        return GetEventResponseDto.from(event);
+        return eventCacheService.getEvent(eventId,
+                () -> GetEventResponseDto.from(eventRepository.findByIdOrElseThrow(eventId)));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<GetEventResponseDto> getEvents(
             int page, int size, SearchEventRequestDto searchEventRequestDto, String type) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<GetEventResponseDto> events = eventRepository.searchEvents(searchEventRequestDto, type, pageable);
-        return events;
+        return eventCacheService.getEvents(pageable, searchEventRequestDto, type,
+                () -> eventRepository.searchEvents(searchEventRequestDto, type, pageable));
     }
 
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<GetEventElasticResponseDto> getElasticEvents(
             int page, int size, SearchEventRequestDto requestDto, String type) throws IOException {
         Pageable pageable = PageRequest.of(page - 1, size);
+        SearchEventRequestDto normalized = requestDto.normalized();
 
-        Page<GetEventElasticResponseDto> events = eventElasticRepository.searchElasticEvents(requestDto, type,
-                pageable);
-        return events;
+        return eventSearchCacheService.getEvents(pageable, normalized, type,
+                () -> eventElasticRepository.searchElasticEvents(normalized, type, pageable));
+    }
+
+    // 검색 인덱스만 조회하므로 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventSearchCursorResponseDto searchEventsByKeyword(
+            FullTextSearchEventRequestDto requestDto, String type, String pitId, String cursor, int size) {
+        return eventElasticRepository.searchEventsByKeyword(requestDto, type, pitId, cursor, size);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public EventFacetSearchResponseDto searchEventsWithFacets(
+            int page, int size, FullTextSearchEventRequestDto requestDto, String type) {
+        return eventElasticRepository.searchEventsWithFacets(requestDto, type, PageRequest.of(page - 1, size));
+    }
+
+    // 검색 인덱스만 조회하므로 DB 커넥션을 잡지 않도록 트랜잭션 없이 조회
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<EventAutocompleteResponseDto> autocompleteTitles(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+        return eventElasticRepository.autocompleteTitles(keyword.strip(), size);
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<GetNearbyEventResponseDto> getNearbyEvents(
+            double latitude, double longitude, int radiusKm, int size) {
+        return eventElasticRepository.searchNearbyEvents(latitude, longitude, radiusKm, size);
     }
 
     // 유저 존재 확인
@@ -224,15 +254,16 @@ public class EventService {
         }
     }
 
-    // 엘라스틱 이벤트 존재 확인
-    private EventElastic checkElasticExist(long id) {return eventElasticRepository.findByIdOrElseThrow(id);}
-
     @Transactional
     public void deleteUserEvent(long userId) {
         if (eventRepository.existEvent(userId) > 0) {
             throw new ApplicationException(RESERVED_EVENT_CANCELLATION_REQUIRED);
         }
+        List<Long> eventIds = eventRepository.findIdsByUserId(userId);
         eventRepository.deleteByUserId(userId);
+        if (!eventIds.isEmpty()) {
+            eventPublisher.publishEvent(EventIndexEvent.from(eventIds));
+        }
     }
 
     public void existSettlement(long userId) {
@@ -18,6 +18,11 @@ public class RedissonLockService {
         return lock;
     }
 
+    // 락을 획득하지 않고 가져옴 (대기 시간을 두고 tryLock 하는 경우 사용)
+    public RLock getLock(String key) {
+        return redissonClient.getLock(key);
+    }
+
     // 현재 스레드가 해당 락을 소유하고 있는가?
     public void unlock(RLock lock) {
         if (lock != null && lock.isHeldByCurrentThread()) {
@@ -9,41 +9,73 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "event_ticket_stocks")
+@Table(
+        name = "event_ticket_stocks",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_event_ticket_stocks_event_shard",
+                columnNames = {"event_id", "shard"}
+        )
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EventTicketStock extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_ticket_stocks_seq")
+    @SequenceGenerator(name = "event_ticket_stocks_seq", sequenceName = "event_ticket_stocks_seq", allocationSize = 50)
     @Column(name = "event_ticket_stock_id")
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
+    // 하나의 이벤트 재고를 여러 행으로 나눠 관리할 때의 샤드 번호 (0부터 시작)
+    @Column(nullable = false)
+    private int shard;
+
     @Column(nullable = false)
     private int stock;
 
-    private EventTicketStock(Event event, int stock) {
+    private EventTicketStock(Event event, int shard, int stock) {
         this.event = event;
+        this.shard = shard;
         this.stock = stock;
     }
 
     public static EventTicketStock create(Event event) {
-        return new EventTicketStock(event, event.getMaxPeople());
+        return new EventTicketStock(event, 0, event.getMaxPeople());
+    }
+
+    /**
+     * 이벤트 최대 인원을 shardCount개의 행으로 나눠 재고를 생성합니다.
+     * 나머지는 앞쪽 샤드부터 하나씩 더 배분하며, 샤드 수는 최대 인원을 넘지 않습니다.
+     */
+    public static List<EventTicketStock> createShards(Event event, int shardCount) {
+        int maxPeople = event.getMaxPeople();
+        int count = Math.max(1, Math.min(shardCount, maxPeople));
+
+        List<EventTicketStock> eventTicketStocks = new ArrayList<>(count);
+        for (int shard = 0; shard < count; shard++) {
+            int stock = maxPeople / count + (shard < maxPeople % count ? 1 : 0);
+            eventTicketStocks.add(new EventTicketStock(event, shard, stock));
+        }
+        return eventTicketStocks;
     }
 
     public boolean isOutOfStock() {
-        return stock == 0;
+        return stock <= 0;
     }
 
     public void decreaseStock() {
@@ -57,4 +89,8 @@ public class EventTicketStock extends Timestamped {
     public void increaseStock() {
         this.stock++;
     }
+
+    public void increaseStock(long count) {
+        this.stock += count;
+    }
 }
@@ -0,0 +1,22 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis에서 DB로 반영할 이벤트별 재고 변화량 묶음입니다.
+ * batchId는 묶음을 inflight 해시로 옮길 때 정해지며, 반영을 재시도해도 바뀌지 않습니다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventTicketStockDeltaBatch {
+
+    private final String batchId;
+    private final Map<Long, Long> deltas;
+
+    public static EventTicketStockDeltaBatch of(String batchId, Map<Long, Long> deltas) {
+        return new EventTicketStockDeltaBatch(batchId, deltas);
+    }
+}
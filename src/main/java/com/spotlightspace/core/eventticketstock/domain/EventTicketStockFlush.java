@@ -0,0 +1,46 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import com.spotlightspace.common.entity.Timestamped;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 재고 변화량 묶음 중 마지막으로 DB에 반영한 묶음을 기록합니다.
+ * 묶음은 이전 묶음이 반영되고 Redis에서 지워진 뒤에만 새로 만들어지므로, 반영됐지만 지워지지 않은 묶음은
+ * 마지막 묶음뿐이고 한 행만으로 같은 묶음을 두 번 반영하지 않을 수 있습니다.
+ */
+@Entity
+@Getter
+@Table(name = "event_ticket_stock_flush")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventTicketStockFlush extends Timestamped {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(length = 36)
+    private String lastBatchId;
+
+    private EventTicketStockFlush(Integer id) {
+        this.id = id;
+    }
+
+    public static EventTicketStockFlush create() {
+        return new EventTicketStockFlush(ID);
+    }
+
+    public boolean isApplied(String batchId) {
+        return batchId.equals(lastBatchId);
+    }
+
+    public void apply(String batchId) {
+        this.lastBatchId = batchId;
+    }
+}
@@ -0,0 +1,14 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum EventTicketStockMode {
+
+    DB_LOCK("DB 비관적 락으로 재고 차감"),
+    REDIS("Redis Lua 스크립트로 재고 차감 후 DB에 비동기 반영");
+
+    private final String description;
+}
@@ -0,0 +1,15 @@
+package com.spotlightspace.core.eventticketstock.repository;
+
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockFlush;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+public interface EventTicketStockFlushRepository extends JpaRepository<EventTicketStockFlush, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select f from EventTicketStockFlush f where f.id = :id")
+    Optional<EventTicketStockFlush> findByIdWithPessimisticLock(int id);
+}
@@ -0,0 +1,163 @@
+package com.spotlightspace.core.eventticketstock.repository;
+
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockDeltaBatch;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 티켓 재고를 Redis 카운터로 관리합니다.
+ * 재고 차감/복구 시 DB에 아직 반영되지 않은 변화량을 delta 해시에 함께 기록하고,
+ * 스케줄러가 delta 해시를 inflight 해시로 옮겨 DB에 일괄 반영합니다.
+ * inflight 해시에는 묶음 아이디를 함께 저장해, DB 반영 후 해시를 지우지 못해도 같은 묶음을 다시 반영하지 않게 합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EventTicketStockRedisRepository {
+
+    public static final long NOT_INITIALIZED = -2L;
+    public static final long OUT_OF_STOCK = -1L;
+
+    private static final String STOCK_KEY_PREFIX = "stock:event:";
+    private static final String DELTA_KEY = "stock:event:delta";
+    private static final String INFLIGHT_KEY = "stock:event:delta:inflight";
+    private static final String BATCH_FIELD = "batch";
+
+    // 재고가 있으면 1 차감하고 남은 재고를 반환, 재고가 없으면 -1, 초기화 전이면 -2
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) "
+                    + "if not stock then return -2 end "
+                    + "if tonumber(stock) <= 0 then return -1 end "
+                    + "local remaining = redis.call('DECR', KEYS[1]) "
+                    + "redis.call('HINCRBY', KEYS[2], ARGV[1], -1) "
+                    + "return remaining",
+            Long.class
+    );
+
+    // 카운터가 없더라도 변화량은 기록해서 DB 반영과 재초기화 시 누락되지 않게 함
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCRBY', KEYS[1], ARGV[2]) end "
+                    + "redis.call('HINCRBY', KEYS[2], ARGV[1], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    // DB 재고 + 아직 DB에 반영되지 않은 변화량으로 카운터를 초기화
+    // DB 재고를 읽은 뒤 inflight 묶음이 바뀌었으면 반영 여부를 알 수 없으므로 -1을 반환하고,
+    // 이미 반영된 묶음이면 inflight 변화량은 DB 재고에 포함되어 있으므로 더하지 않음
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "if (redis.call('HGET', KEYS[3], ARGV[3]) or '') ~= ARGV[4] then return -1 end "
+                    + "local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[1]) or '0') "
+                    + "local inflight = 0 "
+                    + "if ARGV[5] ~= '1' then inflight = tonumber(redis.call('HGET', KEYS[3], ARGV[1]) or '0') end "
+                    + "redis.call('SET', KEYS[1], tonumber(ARGV[2]) + pending + inflight) "
+                    + "return 1",
+            Long.class
+    );
+
+    // 해시 값 직렬화 설정과 관계없이 묶음 아이디를 문자열 그대로 읽음
+    private static final RedisScript<String> FIND_BATCH_ID_SCRIPT = new DefaultRedisScript<>(
+            "return redis.call('HGET', KEYS[1], ARGV[1])",
+            String.class
+    );
+
+    // 이전 반영이 실패해 inflight 해시가 남아 있으면 같은 묶음 아이디로 재시도하고, 아니면 delta 해시를 inflight로 옮김
+    private static final RedisScript<List> TAKE_DELTAS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  if redis.call('EXISTS', KEYS[1]) == 0 then return {} end "
+                    + "  redis.call('RENAME', KEYS[1], KEYS[2]) "
+                    + "end "
+                    + "redis.call('HSETNX', KEYS[2], ARGV[1], ARGV[2]) "
+                    + "return redis.call('HGETALL', KEYS[2])",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long reserve(long eventId) {
+        Long result = redisTemplate.execute(
+                RESERVE_SCRIPT,
+                List.of(getStockKey(eventId), DELTA_KEY),
+                String.valueOf(eventId)
+        );
+        return result == null ? NOT_INITIALIZED : result;
+    }
+
+    public void release(long eventId, long count) {
+        redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(getStockKey(eventId), DELTA_KEY),
+                String.valueOf(eventId),
+                String.valueOf(count)
+        );
+    }
+
+    /**
+     * DB 재고로 카운터를 초기화합니다. 카운터가 이미 있어도 true를 반환합니다.
+     * inflightBatchId는 DB 재고를 읽기 전에 확인한 inflight 묶음 아이디이고, inflightApplied는 그 묶음이 DB 재고에
+     * 이미 반영되었는지 여부입니다. 그 사이 inflight 묶음이 바뀌었다면 초기화하지 않고 false를 반환하므로 다시 시도해야 합니다.
+     */
+    public boolean initialize(long eventId, long stock, String inflightBatchId, boolean inflightApplied) {
+        Long result = redisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(getStockKey(eventId), DELTA_KEY, INFLIGHT_KEY),
+                String.valueOf(eventId),
+                String.valueOf(stock),
+                BATCH_FIELD,
+                inflightBatchId == null ? "" : inflightBatchId,
+                inflightApplied ? "1" : "0"
+        );
+        return result != null && result >= 0;
+    }
+
+    public Optional<String> findInflightBatchId() {
+        return Optional.ofNullable(redisTemplate.execute(FIND_BATCH_ID_SCRIPT, List.of(INFLIGHT_KEY), BATCH_FIELD));
+    }
+
+    /**
+     * DB에 반영할 이벤트별 재고 변화량 묶음을 가져옵니다. 반영이 끝나면 {@link #completeDeltas()}를 호출해야 합니다.
+     */
+    public Optional<EventTicketStockDeltaBatch> takeDeltas() {
+        List<?> entries = redisTemplate.execute(
+                TAKE_DELTAS_SCRIPT,
+                List.of(DELTA_KEY, INFLIGHT_KEY),
+                BATCH_FIELD,
+                UUID.randomUUID().toString()
+        );
+        if (entries == null || entries.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String batchId = null;
+        Map<Long, Long> deltas = new HashMap<>();
+        for (int i = 0; i + 1 < entries.size(); i += 2) {
+            String field = String.valueOf(entries.get(i));
+            String value = String.valueOf(entries.get(i + 1));
+            if (BATCH_FIELD.equals(field)) {
+                batchId = value;
+                continue;
+            }
+            long delta = Long.parseLong(value);
+            if (delta != 0) {
+                deltas.put(Long.parseLong(field), delta);
+            }
+        }
+        return Optional.of(EventTicketStockDeltaBatch.of(batchId, deltas));
+    }
+
+    public void completeDeltas() {
+        redisTemplate.delete(INFLIGHT_KEY);
+    }
+
+    private String getStockKey(long eventId) {
+        return STOCK_KEY_PREFIX + eventId;
+    }
+}
@@ -9,29 +9,55 @@ import jakarta.persistence.LockModeType;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface EventTicketStockRepository extends JpaRepository<EventTicketStock, Long> {
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select e from EventTicketStock e where e.event.id = :eventId")
-    Optional<EventTicketStock> findByEventIdWithPessimisticLock(long eventId);
+    @Query("select e from EventTicketStock e where e.id = :id")
+    Optional<EventTicketStock> findByIdWithPessimisticLock(long id);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    Optional<EventTicketStock> findByEvent(Event event);
+    @Query("select e from EventTicketStock e where e.event.id = :eventId order by e.shard")
+    List<EventTicketStock> findAllByEventIdWithPessimisticLock(long eventId);
+
+    /**
+     * 재고가 남은 샤드를 락을 걸어 조회합니다.
+     * 다른 결제 요청이 잡고 있는 샤드는 기다리지 않고 건너뜁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from EventTicketStock e where e.event.id = :eventId and e.stock > 0")
+    List<EventTicketStock> findInStockByEventIdWithSkipLocked(long eventId, Pageable pageable);
+
+    /**
+     * 재고가 남아 있을 때만 샤드의 재고를 하나 차감하고 변경된 행 수를 반환합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update EventTicketStock e set e.stock = e.stock - 1 where e.id = :id and e.stock > 0")
+    int decreaseStockIfInStock(long id);
+
+    @Query("select e.id from EventTicketStock e where e.event.id = :eventId")
+    List<Long> findIdsByEventId(long eventId);
+
+    @Query("select e.id from EventTicketStock e where e.event.id = :eventId and e.stock > 0")
+    List<Long> findIdsInStockByEventId(long eventId);
+
+    @Query("select sum(e.stock) from EventTicketStock e where e.event.id = :eventId")
+    Optional<Long> findTotalStockByEventId(long eventId);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("select e from EventTicketStock e where e.event in :events")
     List<EventTicketStock> findEventTicketStocksByEventIn(Set<Event> events);
 
-    default EventTicketStock findByEventOrElseThrow(Event event) {
-        return findByEvent(event).orElseThrow(() -> new ApplicationException(EVENT_TICKET_STOCK_NOT_FOUND));
-    }
-
-    default EventTicketStock findByEventIdWithPessimisticLockOrElseThrow(long eventId) {
-        return findByEventIdWithPessimisticLock(eventId)
+    default EventTicketStock findByIdWithPessimisticLockOrElseThrow(long id) {
+        return findByIdWithPessimisticLock(id)
                 .orElseThrow(() -> new ApplicationException(EVENT_TICKET_STOCK_NOT_FOUND));
     }
 }
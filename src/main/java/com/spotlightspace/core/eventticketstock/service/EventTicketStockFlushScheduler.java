@@ -0,0 +1,66 @@
+package com.spotlightspace.core.eventticketstock.service;
+
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockDeltaBatch;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockMode;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 모드에서 차감/복구된 재고를 주기적으로 event_ticket_stocks 테이블에 반영합니다.
+ * 여러 서버가 동시에 반영하지 않도록 분산 락을 획득한 서버만 수행합니다.
+ * 반영한 묶음 아이디를 DB에 함께 기록하므로, DB 커밋 후 inflight 해시를 지우지 못해도 다음 주기에 다시 반영하지 않고 지우기만 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventTicketStockFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "lock:stock:flush";
+
+    private final EventTicketStockService eventTicketStockService;
+    private final EventTicketStockRedisRepository eventTicketStockRedisRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${payment.stock.mode:DB_LOCK}")
+    private EventTicketStockMode mode;
+
+    @Scheduled(fixedDelayString = "${payment.stock.flush-interval-ms:1000}")
+    public void flushStockDeltas() {
+        if (mode != EventTicketStockMode.REDIS) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(0, 30, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            Optional<EventTicketStockDeltaBatch> batch = eventTicketStockRedisRepository.takeDeltas();
+            if (batch.isEmpty()) {
+                return;
+            }
+            eventTicketStockService.applyStockDeltas(batch.get());
+            eventTicketStockRedisRepository.completeDeltas();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // inflight 해시가 남아 있으므로 다음 주기에 다시 반영됨
+            log.error("재고 변화량 DB 반영 실패", e);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
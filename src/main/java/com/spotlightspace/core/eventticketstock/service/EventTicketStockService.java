@@ -0,0 +1,241 @@
+package com.spotlightspace.core.eventticketstock.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_TICKET_OUT_OF_STOCK;
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_TICKET_STOCK_NOT_FOUND;
+import static com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository.NOT_INITIALIZED;
+import static com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository.OUT_OF_STOCK;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockDeltaBatch;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockFlush;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockMode;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockFlushRepository;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class EventTicketStockService {
+
+    private final EventTicketStockRepository eventTicketStockRepository;
+    private final EventTicketStockRedisRepository eventTicketStockRedisRepository;
+    private final EventTicketStockFlushRepository eventTicketStockFlushRepository;
+
+    @Value("${payment.stock.mode:DB_LOCK}")
+    private EventTicketStockMode mode;
+
+    private static final int DEFAULT_SHARD_COUNT = 1;
+    private static final int MAX_INITIALIZE_ATTEMPTS = 3;
+
+    /**
+     * 이벤트 재고를 shardCount개의 행으로 나눠 저장합니다. 샤드 수를 지정하지 않으면 하나의 행으로 저장합니다.
+     * Redis 모드에서는 DB 커밋 이후 전체 재고로 카운터를 초기화합니다. 새 이벤트의 변화량은 아직 없으므로
+     * 그 사이 inflight 묶음이 바뀌어 초기화하지 못하면 첫 결제 요청에서 초기화합니다.
+     */
+    public List<EventTicketStock> createStock(Event event, Integer shardCount) {
+        List<EventTicketStock> eventTicketStocks = eventTicketStockRepository.saveAll(
+                EventTicketStock.createShards(event, shardCount == null ? DEFAULT_SHARD_COUNT : shardCount)
+        );
+
+        if (mode == EventTicketStockMode.REDIS) {
+            long eventId = event.getId();
+            int stock = eventTicketStocks.stream().mapToInt(EventTicketStock::getStock).sum();
+            runAfterCommit(() -> eventTicketStockRedisRepository.initialize(eventId, stock,
+                    eventTicketStockRedisRepository.findInflightBatchId().orElse(null), false));
+        }
+        return eventTicketStocks;
+    }
+
+    /**
+     * 티켓 재고를 하나 차감합니다. 재고가 없으면 예외가 발생합니다.
+     * 재고가 남은 샤드 중 다른 요청이 잡고 있지 않은 샤드를 골라 차감하므로
+     * 동시에 들어온 결제 요청이 서로 다른 행을 잠그고, 재고가 빈 샤드의 락을 기다리지 않습니다.
+     * 재고가 남은 샤드가 모두 잠겨 있으면 해당 샤드에 조건부 차감을 시도합니다.
+     */
+    public void decreaseStock(Event event) {
+        if (mode == EventTicketStockMode.REDIS) {
+            reserveFromRedis(event.getId());
+            return;
+        }
+
+        List<EventTicketStock> available = eventTicketStockRepository
+                .findInStockByEventIdWithSkipLocked(event.getId(), PageRequest.of(0, 1));
+        if (!available.isEmpty()) {
+            available.get(0).decreaseStock();
+            return;
+        }
+
+        List<Long> shardIds = eventTicketStockRepository.findIdsInStockByEventId(event.getId());
+        if (shardIds.isEmpty()) {
+            validateStockExists(event.getId());
+            throw new ApplicationException(EVENT_TICKET_OUT_OF_STOCK);
+        }
+
+        // 다른 요청이 잡고 있던 샤드는 커밋 이후의 재고로 다시 확인되며, 소진되었으면 차감되지 않음
+        for (long shardId : shardIds) {
+            if (eventTicketStockRepository.decreaseStockIfInStock(shardId) > 0) {
+                return;
+            }
+        }
+        throw new ApplicationException(EVENT_TICKET_OUT_OF_STOCK);
+    }
+
+    public void increaseStock(Event event) {
+        increaseStock(event.getId(), 1);
+    }
+
+    /**
+     * 결제 실패, 취소 시 차감했던 재고를 복구합니다.
+     * Redis 모드에서는 트랜잭션이 커밋된 뒤에 카운터를 복구합니다.
+     */
+    public void increaseStock(long eventId, long count) {
+        if (mode == EventTicketStockMode.REDIS) {
+            runAfterCommit(() -> eventTicketStockRedisRepository.release(eventId, count));
+            return;
+        }
+
+        List<Long> shardIds = eventTicketStockRepository.findIdsByEventId(eventId);
+        if (shardIds.isEmpty()) {
+            throw new ApplicationException(EVENT_TICKET_STOCK_NOT_FOUND);
+        }
+        long shardId = shardIds.get(ThreadLocalRandom.current().nextInt(shardIds.size()));
+        eventTicketStockRepository.findByIdWithPessimisticLockOrElseThrow(shardId).increaseStock(count);
+    }
+
+    /**
+     * Redis에서 누적된 이벤트별 재고 변화량 묶음을 DB에 반영하고, 같은 트랜잭션에서 반영한 묶음 아이디를 기록합니다.
+     * 반영 후 inflight 해시를 지우지 못해 같은 묶음이 다시 들어오면 반영하지 않습니다.
+     * 재고 초기화와 같은 순서로 재고 행을 먼저 잠그고 반영 기록을 마지막에 잠급니다.
+     */
+    public void applyStockDeltas(EventTicketStockDeltaBatch batch) {
+        boolean applied = eventTicketStockFlushRepository.findById(EventTicketStockFlush.ID)
+                .map(flush -> flush.isApplied(batch.getBatchId()))
+                .orElse(false);
+        if (applied) {
+            log.info("이미 반영한 재고 변화량 묶음입니다. batchId={}", batch.getBatchId());
+            return;
+        }
+
+        batch.getDeltas().forEach((eventId, delta) -> {
+            List<EventTicketStock> shards = eventTicketStockRepository.findAllByEventIdWithPessimisticLock(eventId);
+            if (shards.isEmpty()) {
+                log.warn("재고 반영 대상이 없습니다. eventId={}, delta={}", eventId, delta);
+                return;
+            }
+            distributeStockDelta(shards, delta);
+        });
+
+        EventTicketStockFlush flush = eventTicketStockFlushRepository
+                .findByIdWithPessimisticLock(EventTicketStockFlush.ID)
+                .orElseGet(() -> eventTicketStockFlushRepository.save(EventTicketStockFlush.create()));
+        if (flush.isApplied(batch.getBatchId())) {
+            // 락을 잃은 다른 서버가 먼저 반영했으므로 이번 반영은 롤백
+            throw new IllegalStateException("이미 반영한 재고 변화량 묶음입니다. batchId=" + batch.getBatchId());
+        }
+        flush.apply(batch.getBatchId());
+    }
+
+    private void validateStockExists(long eventId) {
+        if (eventTicketStockRepository.findIdsByEventId(eventId).isEmpty()) {
+            throw new ApplicationException(EVENT_TICKET_STOCK_NOT_FOUND);
+        }
+    }
+
+    // 복구분은 재고가 가장 적은 샤드에, 차감분은 앞쪽 샤드부터 남은 재고만큼 나눠서 반영
+    private void distributeStockDelta(List<EventTicketStock> shards, long delta) {
+        if (delta > 0) {
+            shards.stream()
+                    .min(Comparator.comparingInt(EventTicketStock::getStock))
+                    .ifPresent(shard -> shard.increaseStock(delta));
+            return;
+        }
+
+        long remaining = -delta;
+        for (EventTicketStock shard : shards) {
+            long taken = Math.min(remaining, Math.max(shard.getStock(), 0));
+            shard.decreaseStock(taken);
+            remaining -= taken;
+            if (remaining == 0) {
+                return;
+            }
+        }
+        // 샤드 재고 합보다 많이 차감된 경우에도 합계가 맞도록 첫 번째 샤드에 반영
+        shards.get(0).decreaseStock(remaining);
+    }
+
+    private void reserveFromRedis(long eventId) {
+        long result = eventTicketStockRedisRepository.reserve(eventId);
+        if (result == NOT_INITIALIZED) {
+            initializeFromDb(eventId);
+            result = eventTicketStockRedisRepository.reserve(eventId);
+        }
+        if (result == OUT_OF_STOCK || result == NOT_INITIALIZED) {
+            throw new ApplicationException(EVENT_TICKET_OUT_OF_STOCK);
+        }
+
+        // 결제 생성 트랜잭션이 롤백되면 차감한 재고를 되돌림
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        eventTicketStockRedisRepository.release(eventId, 1);
+                    }
+                }
+            });
+        }
+    }
+
+    /**
+     * DB 재고로 Redis 카운터를 초기화합니다. inflight 묶음이 이미 DB에 반영되었다면 그 변화량은 더하지 않습니다.
+     * 재고 행과 반영 기록을 잠그고 읽어 결제 트랜잭션의 스냅샷과 관계없이 최신 값을 사용하며,
+     * 잠그는 동안 이 이벤트의 변화량 반영은 커밋되지 않으므로 두 값이 어긋나지 않습니다.
+     */
+    private void initializeFromDb(long eventId) {
+        for (int attempt = 0; attempt < MAX_INITIALIZE_ATTEMPTS; attempt++) {
+            String inflightBatchId = eventTicketStockRedisRepository.findInflightBatchId().orElse(null);
+            List<EventTicketStock> shards = eventTicketStockRepository.findAllByEventIdWithPessimisticLock(eventId);
+            if (shards.isEmpty()) {
+                throw new ApplicationException(EVENT_TICKET_STOCK_NOT_FOUND);
+            }
+            long stock = shards.stream().mapToLong(EventTicketStock::getStock).sum();
+            boolean inflightApplied = inflightBatchId != null && eventTicketStockFlushRepository
+                    .findByIdWithPessimisticLock(EventTicketStockFlush.ID)
+                    .map(flush -> flush.isApplied(inflightBatchId))
+                    .orElse(false);
+
+            if (eventTicketStockRedisRepository.initialize(eventId, stock, inflightBatchId, inflightApplied)) {
+                return;
+            }
+        }
+    }
+
+    private void runAfterCommit(Runnable runnable) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            runnable.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                runnable.run();
+            }
+        });
+    }
+}
@@ -31,6 +31,10 @@ public class NotificationService {
 
     private static final String HOUR_BEFORE_NOTIFICATION = "공연 시작 1시간 전 입니다.";
 
+    private static final String WAITING_ROOM_EVENT_NAME = "waiting-room";
+
+    private static final String WAITING_ROOM_ADMISSION_NOTIFICATION = "대기열을 통과했습니다. 결제를 진행해주세요. eventId=";
+
     // 클라이언트가 SSE 구독을 요청하면 SseEmitter를 생성하여 반환
     // (결제 성공 시 해당 요청을 보내 SSE 구독을 해놓는다.)
     public SseEmitter subscribe(AuthUser authUser) {
@@ -80,11 +84,21 @@ public class NotificationService {
         });
     }
 
+    // 대기열을 통과한 사용자에게 결제 진행 알림 전송
+    // (SSE 연결은 서버별로 관리되므로 다른 서버에 구독한 사용자는 대기열 조회 API로 확인한다.)
+    public void sendWaitingRoomAdmission(Long userId, Long eventId) {
+        sendSseNotification(userId, WAITING_ROOM_EVENT_NAME, WAITING_ROOM_ADMISSION_NOTIFICATION + eventId);
+    }
+
     private void sendSseNotification(Long userId, String message) {
+        sendSseNotification(userId, "connect", message);
+    }
+
+    private void sendSseNotification(Long userId, String eventName, String message) {
         SseEmitter emitter = userEmitters.get(userId);
         if (emitter != null) {
             try {
-                emitter.send(SseEmitter.event().name("connect").data(message));
+                emitter.send(SseEmitter.event().name(eventName).data(message));
                 System.out.println("알림 전송 성공: 사용자 ID=" + userId + ", 메시지=" + message);
             } catch (Exception exception) {
                 userEmitters.remove(userId);
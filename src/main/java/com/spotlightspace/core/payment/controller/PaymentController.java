@@ -1,12 +1,15 @@
 package com.spotlightspace.core.payment.controller;
 
 import com.spotlightspace.common.annotation.AuthUser;
+import com.spotlightspace.core.payment.dto.response.PaymentCursorResponseDto;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundProgressResponseDto;
 import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
 import com.spotlightspace.core.payment.dto.request.CancelPaymentRequestDto;
 import com.spotlightspace.core.payment.dto.request.ReadyPaymentRequestDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
 import com.spotlightspace.core.payment.service.PaymentServiceFacade;
 import jakarta.servlet.http.HttpSession;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,10 +22,12 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
 
 @Slf4j
 @Validated
@@ -102,6 +107,65 @@ public class PaymentController {
         return ResponseEntity.ok(responseDto);
     }
 
+    /**
+     * 결제 준비의 비동기 버전입니다. 카카오페이 응답을 기다리는 동안 요청 스레드를 반환합니다.
+     *
+     * @param session    payment id를 저장하기 위한 session입니다.
+     * @param requestDto 결제 요청을 위한 Dto입니다.
+     * @param authUser   로그인한 유저 정보를 받아옵니다.
+     * @return
+     */
+    @PostMapping("/api/v2/payments/ready")
+    public Mono<ResponseEntity<KakaopayPaymentResponseDto>> readyPaymentAsync(
+            HttpSession session,
+            @RequestBody ReadyPaymentRequestDto requestDto,
+            @AuthenticationPrincipal AuthUser authUser
+    ) {
+        return paymentServiceFacade.readyPaymentAsync(
+                        authUser.getUserId(),
+                        requestDto.getEventId(),
+                        cid,
+                        requestDto.getCouponId(),
+                        requestDto.getPointAmount()
+                )
+                .map(responseDto -> {
+                    session.setAttribute("tid", responseDto.getTid());
+                    session.setMaxInactiveInterval(FIFTEEN_MINUTES);
+                    return ResponseEntity.ok(responseDto);
+                });
+    }
+
+    /**
+     * 결제 승인의 비동기 버전입니다.
+     *
+     * @param session payment id를 저장하기 위한 session입니다.
+     * @param pgToken 결제승인 요청을 인증하는 토큰입니다.
+     * @return
+     */
+    @GetMapping("/api/v2/payments/approve")
+    public Mono<ResponseEntity<KakaopayPaymentResponseDto>> approvePaymentAsync(
+            HttpSession session,
+            @RequestParam("pg_token") String pgToken
+    ) {
+        Object tid = session.getAttribute("tid");
+        return paymentServiceFacade.approvePaymentAsync(pgToken, String.valueOf(tid))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+     * 결제 취소의 비동기 버전입니다.
+     *
+     * @param requestDto 결제 취소 요청을 위한 Dto입니다.
+     * @return
+     */
+    @PatchMapping("/api/v2/payments/cancel")
+    public Mono<ResponseEntity<KakaopayPaymentResponseDto>> cancelPaymentAsync(
+            @RequestBody CancelPaymentRequestDto requestDto
+    ) {
+        return paymentServiceFacade.cancelPaymentAsync(requestDto.getTid())
+                .map(ResponseEntity::ok);
+    }
+
     /**
      * 특정 유저의 결제 내역을 조회합니다.
      *
@@ -123,4 +187,36 @@ public class PaymentController {
         );
         return ResponseEntity.ok(paymentServiceFacade.getPayments(userId, pageRequest));
     }
+
+    /**
+     * 특정 유저의 결제 내역을 최신순으로 커서 기반 조회합니다. 전체 개수는 조회하지 않습니다.
+     *
+     * @param userId 조회할 유저의 id입니다.
+     * @param lastPaymentId 이전 페이지의 nextCursor입니다. 첫 페이지는 비워둡니다.
+     * @param size 결제 내역의 페이지 크기입니다.
+     * @return
+     */
+    @GetMapping("/api/v1/payments/history")
+    public ResponseEntity<PaymentCursorResponseDto> getPaymentsByCursor(
+            @RequestParam(value = "userId") long userId,
+            @RequestParam(required = false) Long lastPaymentId,
+            @Positive @Max(100) @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(paymentServiceFacade.getPaymentsByCursor(userId, lastPaymentId, size));
+    }
+
+    /**
+     * 이벤트 삭제로 인한 일괄 환불의 진행 상황을 조회합니다.
+     *
+     * @param authUser 로그인한 유저 정보를 받아옵니다.
+     * @param eventId  삭제한 이벤트의 id입니다.
+     * @return
+     */
+    @GetMapping("/api/v1/payments/refunds/events/{eventId}")
+    public ResponseEntity<PaymentRefundProgressResponseDto> getRefundProgress(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable("eventId") long eventId
+    ) {
+        return ResponseEntity.ok(paymentServiceFacade.getRefundProgress(authUser.getUserId(), eventId));
+    }
 }
@@ -1,11 +1,14 @@
 package com.spotlightspace.core.payment.domain;
 
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_PAYMENT_STATUS;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.APPROVED;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.CANCELED;
+import static com.spotlightspace.core.payment.domain.PaymentStatus.FAILED;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.PENDING;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.READY;
 
 import com.spotlightspace.common.entity.Timestamped;
+import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.point.domain.Point;
 import com.spotlightspace.core.user.domain.User;
@@ -18,22 +21,33 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "payments")
+@Table(
+        name = "payments",
+        indexes = {
+                @Index(name = "idx_payments_status_created_at", columnList = "status, created_at"),
+                @Index(name = "idx_payments_status_ready_at", columnList = "status, ready_at"),
+                @Index(name = "idx_payments_user_id_created_at", columnList = "user_id, created_at, payment_id")
+        }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Payment extends Timestamped {
 
     @Id
     @Column(name = "payment_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true)
@@ -71,6 +85,9 @@ public class Payment extends Timestamped {
     @Column(nullable = false)
     private PaymentStatus status;
 
+    // 카카오페이 결제창이 열린 시각, 결제창이 닫힐 때까지는 만료 처리하지 않음
+    private LocalDateTime readyAt;
+
     private Payment(
             String tid,
             String cid,
@@ -109,6 +126,7 @@ public class Payment extends Timestamped {
     }
 
     public void approve() {
+        validateStatus(READY);
         this.status = APPROVED;
         this.point.deduct(this.usedPointAmount);
         if (this.userCoupon != null) {
@@ -117,6 +135,7 @@ public class Payment extends Timestamped {
     }
 
     public void cancel() {
+        validateStatus(APPROVED);
         this.status = CANCELED;
         this.point.cancelUsage(this.usedPointAmount);
         if (this.userCoupon != null) {
@@ -129,11 +148,23 @@ public class Payment extends Timestamped {
     }
 
     public void fail() {
-        this.status = PaymentStatus.FAILED;
+        validateStatus(PENDING, READY);
+        this.status = FAILED;
     }
 
     public void ready(String tid) {
+        validateStatus(PENDING);
         this.tid = tid;
         this.status = READY;
+        this.readyAt = LocalDateTime.now();
+    }
+
+    private void validateStatus(PaymentStatus... expectedStatuses) {
+        for (PaymentStatus expectedStatus : expectedStatuses) {
+            if (this.status == expectedStatus) {
+                return;
+            }
+        }
+        throw new ApplicationException(INVALID_PAYMENT_STATUS);
     }
 }
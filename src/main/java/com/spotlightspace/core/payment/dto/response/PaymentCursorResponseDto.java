@@ -0,0 +1,25 @@
+package com.spotlightspace.core.payment.dto.response;
+
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentCursorResponseDto {
+
+    private List<PaymentResponseDto> payments;
+    private Long nextCursor;
+    private boolean hasNext;
+
+    /**
+     * size + 1개를 조회한 결과로 다음 페이지 여부를 판단합니다. 전체 개수는 조회하지 않습니다.
+     */
+    public static PaymentCursorResponseDto of(List<PaymentResponseDto> fetched, int size) {
+        boolean hasNext = fetched.size() > size;
+        List<PaymentResponseDto> payments = hasNext ? fetched.subList(0, size) : fetched;
+        Long nextCursor = hasNext ? payments.get(payments.size() - 1).getPaymentId() : null;
+        return new PaymentCursorResponseDto(payments, nextCursor, hasNext);
+    }
+}
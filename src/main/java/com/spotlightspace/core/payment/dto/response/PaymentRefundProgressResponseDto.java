@@ -0,0 +1,32 @@
+package com.spotlightspace.core.payment.dto.response;
+
+import static com.spotlightspace.core.payment.repository.PaymentRefundProgressRedisRepository.FAILED;
+import static com.spotlightspace.core.payment.repository.PaymentRefundProgressRedisRepository.SUCCEEDED;
+import static com.spotlightspace.core.payment.repository.PaymentRefundProgressRedisRepository.TOTAL;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PaymentRefundProgressResponseDto {
+
+    private long eventId;
+    private long total;
+    private long succeeded;
+    private long failed;
+    private boolean completed;
+
+    public static PaymentRefundProgressResponseDto of(long eventId, Map<Object, Object> progress) {
+        long total = toLong(progress.get(TOTAL));
+        long succeeded = toLong(progress.get(SUCCEEDED));
+        long failed = toLong(progress.get(FAILED));
+        return new PaymentRefundProgressResponseDto(eventId, total, succeeded, failed, succeeded + failed >= total);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(value.toString());
+    }
+}
@@ -0,0 +1,70 @@
+package com.spotlightspace.core.payment.dto.response;
+
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import lombok.Getter;
+
+/**
+ * 일괄 환불에 필요한 결제 컬럼만 담습니다. 결제 엔티티를 불러오지 않으므로 묶음이 늘어나도 영속성 컨텍스트가 커지지 않습니다.
+ */
+@Getter
+public class PaymentRefundTargetDto {
+
+    private long paymentId;
+    private PaymentStatus status;
+    private String tid;
+    private String cid;
+    private int discountedAmount;
+    private long pointId;
+    private int usedPointAmount;
+    private Long userCouponId;
+
+    private PaymentRefundTargetDto(
+            long paymentId,
+            PaymentStatus status,
+            String tid,
+            String cid,
+            int discountedAmount,
+            long pointId,
+            int usedPointAmount,
+            Long userCouponId
+    ) {
+        this.paymentId = paymentId;
+        this.status = status;
+        this.tid = tid;
+        this.cid = cid;
+        this.discountedAmount = discountedAmount;
+        this.pointId = pointId;
+        this.usedPointAmount = usedPointAmount;
+        this.userCouponId = userCouponId;
+    }
+
+    public static PaymentRefundTargetDto of(
+            long paymentId,
+            PaymentStatus status,
+            String tid,
+            String cid,
+            int discountedAmount,
+            long pointId,
+            int usedPointAmount,
+            Long userCouponId
+    ) {
+        return new PaymentRefundTargetDto(
+                paymentId,
+                status,
+                tid,
+                cid,
+                discountedAmount,
+                pointId,
+                usedPointAmount,
+                userCouponId
+        );
+    }
+
+    public boolean isApproved() {
+        return status == PaymentStatus.APPROVED;
+    }
+
+    public boolean isPointUsed() {
+        return usedPointAmount != 0;
+    }
+}
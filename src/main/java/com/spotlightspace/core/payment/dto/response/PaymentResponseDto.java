@@ -45,6 +45,34 @@ public class PaymentResponseDto {
         this.status = status;
     }
 
+    public static PaymentResponseDto of(
+            long paymentId,
+            String tid,
+            String cid,
+            String eventTitle,
+            long eventId,
+            long userId,
+            int originalAmount,
+            int discountedAmount,
+            Long userCouponId,
+            Long pointId,
+            PaymentStatus status
+    ) {
+        return new PaymentResponseDto(
+                paymentId,
+                tid,
+                cid,
+                eventTitle,
+                eventId,
+                userId,
+                originalAmount,
+                discountedAmount,
+                userCouponId,
+                pointId,
+                status
+        );
+    }
+
     public static PaymentResponseDto from(Payment payment) {
         Long userCouponId = payment.getUserCoupon() == null ? null : payment.getUserCoupon().getId();
         Long pointId = payment.getPoint() == null ? null : payment.getPoint().getId();
@@ -0,0 +1,18 @@
+package com.spotlightspace.core.payment.repository;
+
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundTargetDto;
+import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
+import java.util.List;
+
+public interface PaymentQueryRepository {
+
+    List<PaymentResponseDto> findPaymentHistories(long userId, Long lastPaymentId, int limit);
+
+    List<PaymentRefundTargetDto> findRefundTargetsWithPessimisticLock(
+            long eventId,
+            List<PaymentStatus> statuses,
+            long lastPaymentId,
+            int limit
+    );
+}
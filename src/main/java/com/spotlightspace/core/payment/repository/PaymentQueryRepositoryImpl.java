@@ -0,0 +1,124 @@
+package com.spotlightspace.core.payment.repository;
+
+import static com.spotlightspace.core.event.domain.QEvent.event;
+import static com.spotlightspace.core.payment.domain.QPayment.payment;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.domain.QPayment;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundTargetDto;
+import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class PaymentQueryRepositoryImpl implements PaymentQueryRepository {
+
+    private final JPAQueryFactory jpaQueryFactory;
+
+    /**
+     * 유저의 결제 내역을 최신순으로 limit개 조회합니다.
+     * 아이디는 서버마다 미리 받아 둔 구간에서 발급되어 생성 순서와 다를 수 있으므로 생성 시각, 아이디 순으로 정렬합니다.
+     * 커서는 마지막 결제 아이디를 그대로 받고 그 결제의 생성 시각을 기준으로 (user_id, created_at, payment_id) 인덱스 범위를 읽습니다.
+     * 연관 엔티티는 외래 키 값만 조회합니다.
+     */
+    public List<PaymentResponseDto> findPaymentHistories(long userId, Long lastPaymentId, int limit) {
+        return jpaQueryFactory
+                .select(
+                        payment.id,
+                        payment.tid,
+                        payment.cid,
+                        event.title,
+                        event.id,
+                        payment.user.id,
+                        payment.originalAmount,
+                        payment.discountedAmount,
+                        payment.userCoupon.id,
+                        payment.point.id,
+                        payment.status
+                )
+                .from(payment)
+                .join(payment.event, event)
+                .where(payment.user.id.eq(userId), before(lastPaymentId))
+                .orderBy(payment.createdAt.desc(), payment.id.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(tuple -> PaymentResponseDto.of(
+                        tuple.get(payment.id),
+                        tuple.get(payment.tid),
+                        tuple.get(payment.cid),
+                        tuple.get(event.title),
+                        tuple.get(event.id),
+                        tuple.get(payment.user.id),
+                        tuple.get(payment.originalAmount),
+                        tuple.get(payment.discountedAmount),
+                        tuple.get(payment.userCoupon.id),
+                        tuple.get(payment.point.id),
+                        tuple.get(payment.status)))
+                .toList();
+    }
+
+    /**
+     * 이벤트의 환불 대상 결제를 아이디 순으로 limit개 조회해 락을 겁니다.
+     * 환불이 커밋될 때까지 같은 결제의 승인이 대기하므로, 실패 처리된 결제가 뒤늦게 승인되지 않습니다.
+     * 환불에 필요한 컬럼과 연관 엔티티의 외래 키 값만 조회합니다.
+     */
+    public List<PaymentRefundTargetDto> findRefundTargetsWithPessimisticLock(
+            long eventId,
+            List<PaymentStatus> statuses,
+            long lastPaymentId,
+            int limit
+    ) {
+        return jpaQueryFactory
+                .select(
+                        payment.id,
+                        payment.status,
+                        payment.tid,
+                        payment.cid,
+                        payment.discountedAmount,
+                        payment.point.id,
+                        payment.usedPointAmount,
+                        payment.userCoupon.id
+                )
+                .from(payment)
+                .where(
+                        payment.event.id.eq(eventId),
+                        payment.status.in(statuses),
+                        payment.id.gt(lastPaymentId)
+                )
+                .orderBy(payment.id.asc())
+                .limit(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .fetch()
+                .stream()
+                .map(tuple -> PaymentRefundTargetDto.of(
+                        tuple.get(payment.id),
+                        tuple.get(payment.status),
+                        tuple.get(payment.tid),
+                        tuple.get(payment.cid),
+                        tuple.get(payment.discountedAmount),
+                        tuple.get(payment.point.id),
+                        tuple.get(payment.usedPointAmount),
+                        tuple.get(payment.userCoupon.id)))
+                .toList();
+    }
+
+    private BooleanExpression before(Long lastPaymentId) {
+        if (lastPaymentId == null) {
+            return null;
+        }
+        QPayment cursor = new QPayment("cursor");
+        JPQLQuery<LocalDateTime> cursorCreatedAt = JPAExpressions
+                .select(cursor.createdAt)
+                .from(cursor)
+                .where(cursor.id.eq(lastPaymentId));
+        return payment.createdAt.lt(cursorCreatedAt)
+                .or(payment.createdAt.eq(cursorCreatedAt).and(payment.id.lt(lastPaymentId)));
+    }
+}
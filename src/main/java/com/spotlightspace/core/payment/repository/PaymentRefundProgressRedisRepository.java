@@ -0,0 +1,60 @@
+package com.spotlightspace.core.payment.repository;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트 삭제로 인한 일괄 환불의 진행 상황을 Redis Hash로 관리합니다.
+ * 여러 서버의 환불 작업이 같은 키의 카운터를 올리며, 실패한 결제 아이디는 별도의 Set에 모읍니다. 실패한 취소는 결제 후속 작업으로 재시도합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PaymentRefundProgressRedisRepository {
+
+    public static final String TOTAL = "total";
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+
+    private static final String KEY_PREFIX = "refund:event:";
+    private static final String FAILED_KEY_SUFFIX = ":failed";
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public void start(long eventId, long total) {
+        String key = progressKey(eventId);
+        redisTemplate.opsForHash().putAll(key, Map.of(
+                TOTAL, String.valueOf(total),
+                SUCCEEDED, "0",
+                FAILED, "0"
+        ));
+        redisTemplate.expire(key, TTL);
+    }
+
+    public void increaseSucceeded(long eventId) {
+        redisTemplate.opsForHash().increment(progressKey(eventId), SUCCEEDED, 1);
+    }
+
+    public void increaseFailed(long eventId, long paymentId) {
+        String failedKey = progressKey(eventId) + FAILED_KEY_SUFFIX;
+        redisTemplate.opsForSet().add(failedKey, String.valueOf(paymentId));
+        redisTemplate.expire(failedKey, TTL);
+        redisTemplate.opsForHash().increment(progressKey(eventId), FAILED, 1);
+    }
+
+    public Optional<Map<Object, Object>> find(long eventId) {
+        Map<Object, Object> progress = redisTemplate.opsForHash().entries(progressKey(eventId));
+        if (progress.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(progress);
+    }
+
+    private String progressKey(long eventId) {
+        return KEY_PREFIX + eventId;
+    }
+}
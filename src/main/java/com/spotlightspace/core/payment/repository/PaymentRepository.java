@@ -6,16 +6,22 @@ import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.payment.domain.Payment;
 import com.spotlightspace.core.payment.domain.PaymentStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, PaymentQueryRepository {
 
     @Query("select p from Payment p where p.event = :event and p.status = :status")
     List<Payment> findPaymentsByEventAndStatus(@Param("event") Event event, @Param("status") PaymentStatus status);
@@ -34,10 +40,56 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     List<Payment> findAllByEvent(Event event);
 
+    /**
+     * 상태 변경 전에 결제 행에 락을 겁니다. 만료 결제 정리와 승인이 같은 결제를 동시에 변경하지 않도록 합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select p from Payment p where p.id = :paymentId")
+    Optional<Payment> findByIdWithPessimisticLock(@Param("paymentId") long paymentId);
+
+    /**
+     * 생성된 지 오래된 결제를 (status, created_at) 인덱스 범위로 조회해 락을 겁니다.
+     * 다른 트랜잭션이 잡고 있는 행은 건너뛰므로 여러 서버가 동시에 정리해도 서로 대기하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select p from Payment p where p.status = :status and p.createdAt < :createdBefore")
+    List<Payment> findExpiredPaymentsWithPessimisticLock(
+            @Param("status") PaymentStatus status,
+            @Param("createdBefore") LocalDateTime createdBefore,
+            Pageable pageable
+    );
+
+    /**
+     * 결제창이 열린 지 오래된 결제를 (status, ready_at) 인덱스 범위로 조회해 락을 겁니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select p from Payment p where p.status = :status and p.readyAt < :readyBefore")
+    List<Payment> findExpiredReadyPaymentsWithPessimisticLock(
+            @Param("status") PaymentStatus status,
+            @Param("readyBefore") LocalDateTime readyBefore,
+            Pageable pageable
+    );
+
+    @Query("select min(p.createdAt) from Payment p where p.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAtByStatus(@Param("status") PaymentStatus status);
+
+    @Query("select min(p.readyAt) from Payment p where p.status = :status")
+    Optional<LocalDateTime> findOldestReadyAtByStatus(@Param("status") PaymentStatus status);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update Payment p set p.status = :status where p.id in :paymentIds")
+    int updateStatusByIdIn(@Param("paymentIds") List<Long> paymentIds, @Param("status") PaymentStatus status);
+
     default Payment findByIdOrElseThrow(long paymentId) {
         return findById(paymentId).orElseThrow(() -> new ApplicationException(PAYMENT_NOT_FOUND));
     }
 
+    default Payment findByIdWithPessimisticLockOrElseThrow(long paymentId) {
+        return findByIdWithPessimisticLock(paymentId).orElseThrow(() -> new ApplicationException(PAYMENT_NOT_FOUND));
+    }
+
     default Payment findByTidOrElseThrow(String tid) {
         return findByTid(tid).orElseThrow(() -> new ApplicationException(PAYMENT_NOT_FOUND));
     }
@@ -0,0 +1,102 @@
+package com.spotlightspace.core.payment.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자가 카카오페이 결제창을 닫아 승인되지 않은 결제(PENDING, READY)를 주기적으로 실패 처리하고 재고를 회수합니다.
+ * READY 결제는 결제창이 열린 시각부터 카카오페이 결제창 유지 시간(15분)보다 여유 있게 기다린 뒤 정리해, 결제창에서 승인한 사용자가 티켓 없이 결제되지 않도록 합니다.
+ * 배치 단위로 커밋하며, 정리 건수와 소요 시간, 정리되지 못하고 남은 만료 결제의 지연 시간을 메트릭으로 노출합니다.
+ */
+@Slf4j
+@Component
+public class ExpiredPaymentSweeper {
+
+    private final PaymentService paymentService;
+    private final long ttlMinutes;
+    private final long readyTtlMinutes;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Counter sweptCounter;
+    private final Timer sweepTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public ExpiredPaymentSweeper(
+            PaymentService paymentService,
+            MeterRegistry meterRegistry,
+            @Value("${payment.sweeper.ttl-minutes:15}") long ttlMinutes,
+            @Value("${payment.sweeper.ready-ttl-minutes:20}") long readyTtlMinutes,
+            @Value("${payment.sweeper.batch-size:200}") int batchSize,
+            @Value("${payment.sweeper.max-batches:50}") int maxBatches
+    ) {
+        this.paymentService = paymentService;
+        this.ttlMinutes = ttlMinutes;
+        this.readyTtlMinutes = readyTtlMinutes;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.sweptCounter = Counter.builder("payment.sweeper.expired")
+                .description("만료되어 실패 처리된 결제 수")
+                .register(meterRegistry);
+        this.sweepTimer = Timer.builder("payment.sweeper.duration")
+                .description("만료 결제 정리 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("payment.sweeper.lag", lagSeconds, AtomicLong::get)
+                .description("정리되지 않고 남아 있는 가장 오래된 만료 결제의 만료 후 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.sweeper.interval-ms:60000}")
+    public void sweep() {
+        sweepTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime createdBefore = now.minusMinutes(ttlMinutes);
+            LocalDateTime readyBefore = now.minusMinutes(readyTtlMinutes);
+            int sweptCount = 0;
+            try {
+                for (int batch = 0; batch < maxBatches; batch++) {
+                    int count = paymentService.failExpiredPayments(createdBefore, readyBefore, batchSize);
+                    sweptCount += count;
+                    if (count < batchSize) {
+                        break;
+                    }
+                }
+            } catch (RuntimeException e) {
+                log.error("만료 결제 정리 실패", e);
+            } finally {
+                sweptCounter.increment(sweptCount);
+            }
+
+            if (sweptCount > 0) {
+                log.info("만료 결제 {}건 실패 처리", sweptCount);
+            }
+            updateLag(createdBefore, readyBefore);
+        });
+    }
+
+    private void updateLag(LocalDateTime createdBefore, LocalDateTime readyBefore) {
+        long lag = Math.max(
+                lagSeconds(paymentService.findOldestPendingPaymentCreatedAt(), createdBefore),
+                lagSeconds(paymentService.findOldestReadyPaymentReadyAt(), readyBefore)
+        );
+        lagSeconds.set(lag);
+    }
+
+    private long lagSeconds(Optional<LocalDateTime> oldest, LocalDateTime expiredBefore) {
+        return oldest
+                .filter(dateTime -> dateTime.isBefore(expiredBefore))
+                .map(dateTime -> Duration.between(dateTime, expiredBefore).toSeconds())
+                .orElse(0L);
+    }
+}
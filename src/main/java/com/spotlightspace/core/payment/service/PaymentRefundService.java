@@ -0,0 +1,264 @@
+package com.spotlightspace.core.payment.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_NOT_FOUND;
+import static com.spotlightspace.common.exception.ErrorCode.REFUND_PROGRESS_NOT_FOUND;
+import static com.spotlightspace.common.exception.ErrorCode.USER_NOT_ACCESS_EVENT;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundProgressResponseDto;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundTargetDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.core.payment.repository.PaymentRefundProgressRedisRepository;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.point.repository.PointRepository;
+import com.spotlightspace.core.pointhistory.domain.PointHistoryStatus;
+import com.spotlightspace.core.pointhistory.repository.PointHistoryRepository;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
+import com.spotlightspace.integration.kakaopay.KakaopayApi;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateIntervalUnit;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 이벤트 삭제 시 해당 이벤트의 결제를 일괄 환불합니다.
+ * DB 상태 변경은 결제 묶음 단위의 UPDATE로 처리하고, 카카오페이 취소 요청은 커밋 이후 병렬로 보냅니다.
+ * 카카오페이 취소에 실패한 결제는 결제 후속 작업으로 남겨 {@code PaymentOutboxRelay}가 재시도합니다.
+ */
+@Slf4j
+@Service
+@Transactional
+public class PaymentRefundService {
+
+    private static final String RATE_LIMITER_KEY = "payment:refund:rate-limiter";
+    private static final List<PaymentStatus> REFUNDABLE_STATUSES =
+            List.of(PaymentStatus.PENDING, PaymentStatus.READY, PaymentStatus.APPROVED);
+
+    private final PaymentRepository paymentRepository;
+    private final PointRepository pointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserCouponRepository userCouponRepository;
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final EventTicketStockService eventTicketStockService;
+    private final PaymentRefundProgressRedisRepository paymentRefundProgressRedisRepository;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final KakaopayApi kakaopayApi;
+    private final RedissonClient redissonClient;
+    private final Executor paymentRefundExecutor;
+    private final int batchSize;
+    private final long permitsPerSecond;
+
+    public PaymentRefundService(
+            PaymentRepository paymentRepository,
+            PointRepository pointRepository,
+            PointHistoryRepository pointHistoryRepository,
+            UserCouponRepository userCouponRepository,
+            TicketRepository ticketRepository,
+            EventRepository eventRepository,
+            EventTicketStockService eventTicketStockService,
+            PaymentRefundProgressRedisRepository paymentRefundProgressRedisRepository,
+            PaymentOutboxRepository paymentOutboxRepository,
+            KakaopayApi kakaopayApi,
+            RedissonClient redissonClient,
+            @Qualifier("paymentRefundExecutor") Executor paymentRefundExecutor,
+            @Value("${payment.refund.batch-size:500}") int batchSize,
+            @Value("${payment.refund.permits-per-second:20}") long permitsPerSecond
+    ) {
+        this.paymentRepository = paymentRepository;
+        this.pointRepository = pointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userCouponRepository = userCouponRepository;
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.eventTicketStockService = eventTicketStockService;
+        this.paymentRefundProgressRedisRepository = paymentRefundProgressRedisRepository;
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.kakaopayApi = kakaopayApi;
+        this.redissonClient = redissonClient;
+        this.paymentRefundExecutor = paymentRefundExecutor;
+        this.batchSize = batchSize;
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    /**
+     * 이벤트의 승인된 결제는 취소하고 포인트, 쿠폰, 포인트 기록, 티켓을 되돌리며, 승인 전 결제는 실패 처리합니다.
+     * 재고는 처리한 결제 수만큼 한 번에 복구합니다.
+     * 실패 처리된 결제는 승인할 수 없으므로 결제창이 남아 있어도 승인되지 않고, 카카오페이에서만 승인되면 카카오페이 결제가 취소됩니다.
+     *
+     * @return 카카오페이 취소 요청을 보낼 결제 수
+     */
+    public int refundPayments(Event event) {
+        long eventId = event.getId();
+        List<PaymentRefundTargetDto> approvedPayments = new ArrayList<>();
+        long restoredStock = 0;
+        long lastPaymentId = 0;
+
+        while (true) {
+            List<PaymentRefundTargetDto> payments = paymentRepository.findRefundTargetsWithPessimisticLock(
+                    eventId,
+                    REFUNDABLE_STATUSES,
+                    lastPaymentId,
+                    batchSize
+            );
+            if (payments.isEmpty()) {
+                break;
+            }
+
+            approvedPayments.addAll(refundBatch(payments));
+            restoredStock += payments.size();
+            lastPaymentId = payments.get(payments.size() - 1).getPaymentId();
+            if (payments.size() < batchSize) {
+                break;
+            }
+        }
+
+        ticketRepository.cancelAllByEventId(eventId);
+        if (restoredStock > 0) {
+            eventTicketStockService.increaseStock(eventId, restoredStock);
+        }
+
+        requestKakaopayCancelAfterCommit(eventId, approvedPayments);
+        return approvedPayments.size();
+    }
+
+    @Transactional(readOnly = true)
+    public PaymentRefundProgressResponseDto getRefundProgress(long userId, long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ApplicationException(EVENT_NOT_FOUND));
+        if (!event.getUser().getId().equals(userId)) {
+            throw new ApplicationException(USER_NOT_ACCESS_EVENT);
+        }
+
+        return paymentRefundProgressRedisRepository.find(eventId)
+                .map(progress -> PaymentRefundProgressResponseDto.of(eventId, progress))
+                .orElseThrow(() -> new ApplicationException(REFUND_PROGRESS_NOT_FOUND));
+    }
+
+    private List<PaymentRefundTargetDto> refundBatch(List<PaymentRefundTargetDto> payments) {
+        Map<Boolean, List<PaymentRefundTargetDto>> paymentsByApproved = payments.stream()
+                .collect(Collectors.partitioningBy(PaymentRefundTargetDto::isApproved));
+        List<PaymentRefundTargetDto> approved = paymentsByApproved.get(true);
+        List<PaymentRefundTargetDto> unapproved = paymentsByApproved.get(false);
+
+        if (!unapproved.isEmpty()) {
+            paymentRepository.updateStatusByIdIn(ids(unapproved), PaymentStatus.FAILED);
+        }
+        if (approved.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> approvedIds = ids(approved);
+        paymentRepository.updateStatusByIdIn(approvedIds, PaymentStatus.CANCELED);
+        pointHistoryRepository.updateStatusByPaymentIdIn(approvedIds, PointHistoryStatus.CANCELED);
+        refundPoints(approved);
+
+        List<Long> userCouponIds = approved.stream()
+                .map(PaymentRefundTargetDto::getUserCouponId)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!userCouponIds.isEmpty()) {
+            userCouponRepository.cancelUsageByIdIn(userCouponIds);
+        }
+
+        return approved;
+    }
+
+    /**
+     * 사용한 포인트를 포인트별로 합산한 뒤, 돌려줄 금액이 같은 포인트끼리 묶어 UPDATE 한 번으로 복구합니다.
+     */
+    private void refundPoints(List<PaymentRefundTargetDto> approved) {
+        Map<Long, Integer> refundAmountByPointId = approved.stream()
+                .filter(PaymentRefundTargetDto::isPointUsed)
+                .collect(Collectors.groupingBy(
+                        PaymentRefundTargetDto::getPointId,
+                        Collectors.summingInt(PaymentRefundTargetDto::getUsedPointAmount)
+                ));
+
+        refundAmountByPointId.entrySet().stream()
+                .collect(Collectors.groupingBy(
+                        Map.Entry::getValue,
+                        Collectors.mapping(Map.Entry::getKey, Collectors.toList())
+                ))
+                .forEach((amount, pointIds) -> pointRepository.addAmountByIdIn(pointIds, amount));
+    }
+
+    private void requestKakaopayCancelAfterCommit(long eventId, List<PaymentRefundTargetDto> approvedPayments) {
+        paymentRefundProgressRedisRepository.start(eventId, approvedPayments.size());
+        if (approvedPayments.isEmpty()) {
+            return;
+        }
+
+        Runnable dispatch = () -> {
+            RRateLimiter rateLimiter = redissonClient.getRateLimiter(RATE_LIMITER_KEY);
+            rateLimiter.trySetRate(RateType.OVERALL, permitsPerSecond, 1, RateIntervalUnit.SECONDS);
+            approvedPayments.forEach(payment ->
+                    paymentRefundExecutor.execute(() -> requestKakaopayCancel(eventId, payment, rateLimiter)));
+        };
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch.run();
+            }
+        });
+    }
+
+    private void requestKakaopayCancel(long eventId, PaymentRefundTargetDto payment, RRateLimiter rateLimiter) {
+        try {
+            rateLimiter.acquire();
+            KakaopayPaymentResponseDto responseDto = kakaopayApi.cancelPayment(
+                    payment.getCid(),
+                    payment.getTid(),
+                    payment.getDiscountedAmount(),
+                    0
+            );
+            if (responseDto.getStatus().equals("success")) {
+                paymentRefundProgressRedisRepository.increaseSucceeded(eventId);
+                return;
+            }
+            log.warn("카카오페이 환불 실패 - eventId: {}, paymentId: {}", eventId, payment.getPaymentId());
+        } catch (RuntimeException e) {
+            log.error("카카오페이 환불 요청 실패 - eventId: {}, paymentId: {}", eventId, payment.getPaymentId(), e);
+        }
+        paymentRefundProgressRedisRepository.increaseFailed(eventId, payment.getPaymentId());
+        requestKakaopayCancelRetry(eventId, payment);
+    }
+
+    private void requestKakaopayCancelRetry(long eventId, PaymentRefundTargetDto payment) {
+        try {
+            paymentOutboxRepository.save(PaymentOutbox.create(payment.getPaymentId(), PaymentOutboxType.GATEWAY_CANCEL));
+        } catch (RuntimeException e) {
+            log.error("카카오페이 환불 재시도 등록 실패 - eventId: {}, paymentId: {}", eventId, payment.getPaymentId(), e);
+        }
+    }
+
+    private List<Long> ids(List<PaymentRefundTargetDto> payments) {
+        return payments.stream().map(PaymentRefundTargetDto::getPaymentId).toList();
+    }
+}
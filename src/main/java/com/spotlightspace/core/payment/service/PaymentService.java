@@ -2,30 +2,33 @@ package com.spotlightspace.core.payment.service;
 
 import static com.spotlightspace.common.exception.ErrorCode.CANCELLATION_PERIOD_EXPIRED;
 import static com.spotlightspace.common.exception.ErrorCode.COUPON_ALREADY_USED;
-import static com.spotlightspace.common.exception.ErrorCode.EVENT_TICKET_OUT_OF_STOCK;
 import static com.spotlightspace.common.exception.ErrorCode.NOT_ENOUGH_POINT_AMOUNT;
 import static com.spotlightspace.common.exception.ErrorCode.NOT_IN_EVENT_RECRUITMENT_PERIOD;
 
 import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.repository.EventRepository;
-import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
-import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
 import com.spotlightspace.core.payment.domain.Payment;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.PaymentCursorResponseDto;
 import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
 import com.spotlightspace.core.payment.repository.PaymentRepository;
-import com.spotlightspace.core.paymentevent.repository.PaymentEventRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
 import com.spotlightspace.core.point.domain.Point;
 import com.spotlightspace.core.point.repository.PointRepository;
-import com.spotlightspace.core.pointhistory.domain.PointHistory;
-import com.spotlightspace.core.pointhistory.repository.PointHistoryRepository;
-import com.spotlightspace.core.ticket.service.TicketService;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.repository.UserRepository;
 import com.spotlightspace.core.usercoupon.domain.UserCoupon;
 import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.TransientDataAccessException;
@@ -42,15 +45,13 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class PaymentService {
 
-    private final TicketService ticketService;
     private final PaymentRepository paymentRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
     private final UserCouponRepository userCouponRepository;
     private final PointRepository pointRepository;
-    private final EventTicketStockRepository eventTicketStockRepository;
-    private final PointHistoryRepository pointHistoryRepository;
-    private final PaymentEventRepository paymentEventRepository;
+    private final EventTicketStockService eventTicketStockService;
+    private final PaymentOutboxRepository paymentOutboxRepository;
 
     public PaymentResponseDto getPayment(long paymentId) {
         return PaymentResponseDto.from(paymentRepository.findByIdOrElseThrow(paymentId));
@@ -64,16 +65,22 @@ public class PaymentService {
         return paymentRepository.findAllByUserId(userId, pageRequest).map(PaymentResponseDto::from);
     }
 
+    public PaymentCursorResponseDto getPaymentsByCursor(long userId, Long lastPaymentId, int size) {
+        return PaymentCursorResponseDto.of(paymentRepository.findPaymentHistories(userId, lastPaymentId, size + 1), size);
+    }
+
+    @Retryable(
+            maxAttempts = 3,
+            backoff = @Backoff(delay = 100, multiplier = 2, random = true),
+            retryFor = TransientDataAccessException.class
+    )
     public long createPayment(long userId, long eventId, String cid, Long couponId, Integer pointAmount) {
         User user = userRepository.findByIdOrElseThrow(userId);
         Event event = eventRepository.findByIdOrElseThrow(eventId);
-        EventTicketStock eventTicketStock = eventTicketStockRepository
-                .findByEventIdWithPessimisticLockOrElseThrow(event.getId());
 
         validateRecruitmentPeriod(event);
-        validateEventTicketStock(eventTicketStock);
 
-        eventTicketStock.decreaseStock();
+        eventTicketStockService.decreaseStock(event);
 
         UserCoupon userCoupon = null;
         pointAmount = pointAmount == null ? 0 : pointAmount;
@@ -106,40 +113,38 @@ public class PaymentService {
 
     @Retryable(
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000),
+            backoff = @Backoff(delay = 100, multiplier = 2, random = true),
             retryFor = TransientDataAccessException.class
     )
-    public void readyPayment(long paymentId, String tid, long paymentEventId) {
-        Payment payment = paymentRepository.findByIdOrElseThrow(paymentId);
+    public void readyPayment(long paymentId, String tid) {
+        Payment payment = paymentRepository.findByIdWithPessimisticLockOrElseThrow(paymentId);
         payment.ready(tid);
-
-        paymentEventRepository.deleteById(paymentEventId);
     }
 
+    /**
+     * 결제를 승인하고 티켓 발급, 포인트 사용 기록 저장을 후속 작업으로 남깁니다.
+     * 후속 작업은 결제 상태 변경과 같은 트랜잭션에 저장되며 {@code PaymentOutboxRelay}가 처리합니다.
+     */
     @Retryable(
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000),
+            backoff = @Backoff(delay = 100, multiplier = 2, random = true),
             retryFor = TransientDataAccessException.class
     )
-    public void approvePayment(long paymentId, long paymentEventId) {
-        Payment payment = paymentRepository.findByIdOrElseThrow(paymentId);
+    public void approvePayment(long paymentId) {
+        Payment payment = paymentRepository.findByIdWithPessimisticLockOrElseThrow(paymentId);
         payment.approve();
-        if (payment.isPointUsed()) {
-            pointHistoryRepository.save(PointHistory.create(payment, payment.getPoint(), payment.getUsedPointAmount()));
-        }
-
-        ticketService.createTicket(payment.getUser(), payment.getEvent(), payment.getOriginalAmount());
 
-        paymentEventRepository.deleteById(paymentEventId);
+        paymentOutboxRepository.save(PaymentOutbox.create(paymentId, PaymentOutboxType.APPROVED));
     }
 
     @Retryable(
             maxAttempts = 3,
-            backoff = @Backoff(delay = 1000),
+            backoff = @Backoff(delay = 100, multiplier = 2, random = true),
             retryFor = TransientDataAccessException.class
     )
-    public void cancelPayment(long paymentId, long paymentEventId) {
-        Payment payment = paymentRepository.findByIdOrElseThrow(paymentId);
+    public void cancelPayment(long paymentId) {
+        // 이벤트 일괄 환불이 같은 결제를 취소하는 중이라면 커밋을 기다린 뒤 바뀐 상태로 검사합니다.
+        Payment payment = paymentRepository.findByIdWithPessimisticLockOrElseThrow(paymentId);
         Event event = payment.getEvent();
 
         if (event.isFinishedRecruitment(LocalDateTime.now())) {
@@ -147,43 +152,64 @@ public class PaymentService {
         }
 
         payment.cancel();
-        if (payment.isPointUsed()) {
-            PointHistory pointHistory = pointHistoryRepository.findByPaymentOrElseThrow(payment);
-            pointHistory.cancelPointUsage();
-        }
 
-        EventTicketStock eventTicketStock = eventTicketStockRepository.findByEventOrElseThrow(payment.getEvent());
-        eventTicketStock.increaseStock();
+        paymentOutboxRepository.save(PaymentOutbox.create(paymentId, PaymentOutboxType.CANCELED));
+    }
 
-        ticketService.cancelTicket(payment.getUser(), payment.getEvent());
+    public void failPayment(long paymentId) {
+        Payment payment = paymentRepository.findByIdWithPessimisticLockOrElseThrow(paymentId);
+        payment.fail();
 
-        paymentEventRepository.deleteById(paymentEventId);
+        paymentOutboxRepository.save(PaymentOutbox.create(paymentId, PaymentOutboxType.FAILED));
     }
 
-    public void cancelPayments(Event event) {
-        List<Payment> payments = paymentRepository.findAllByEvent(event);
-        payments.forEach(payment -> {
-            payment.cancel();
-            if (payment.isPointUsed()) {
-                PointHistory pointHistory = pointHistoryRepository.findByPaymentOrElseThrow(payment);
-                pointHistory.cancelPointUsage();
-            }
+    /**
+     * 카카오페이에서는 승인되었지만 결제를 승인 처리하지 못한 경우 카카오페이 결제 취소를 후속 작업으로 남깁니다.
+     * {@code PaymentOutboxRelay}가 취소에 성공할 때까지 재시도합니다.
+     */
+    public void requestGatewayCancel(long paymentId) {
+        paymentOutboxRepository.save(PaymentOutbox.create(paymentId, PaymentOutboxType.GATEWAY_CANCEL));
+    }
 
-            EventTicketStock eventTicketStock = eventTicketStockRepository.findByEventOrElseThrow(payment.getEvent());
-            eventTicketStock.increaseStock();
+    /**
+     * 생성된 지 오래되었지만 결제창을 열지 않은 결제와 결제창이 닫힌 뒤에도 승인되지 않은 결제를 최대 batchSize개 실패 처리하고
+     * 차감했던 재고를 복구합니다. 재고는 이벤트별로 묶어서 한 번에 복구합니다.
+     *
+     * @return 실패 처리한 결제 수
+     */
+    public int failExpiredPayments(LocalDateTime createdBefore, LocalDateTime readyBefore, int batchSize) {
+        List<Payment> payments = new ArrayList<>(paymentRepository.findExpiredPaymentsWithPessimisticLock(
+                PaymentStatus.PENDING,
+                createdBefore,
+                PageRequest.of(0, batchSize)
+        ));
+        if (payments.size() < batchSize) {
+            payments.addAll(paymentRepository.findExpiredReadyPaymentsWithPessimisticLock(
+                    PaymentStatus.READY,
+                    readyBefore,
+                    PageRequest.of(0, batchSize - payments.size())
+            ));
+        }
+        if (payments.isEmpty()) {
+            return 0;
+        }
 
-            ticketService.cancelTicket(payment.getUser(), payment.getEvent());
-        });
-    }
+        List<Long> paymentIds = payments.stream().map(Payment::getId).toList();
+        Map<Long, Long> paymentCountByEventId = payments.stream()
+                .collect(Collectors.groupingBy(payment -> payment.getEvent().getId(), Collectors.counting()));
 
-    public void failPayment(long paymentId, long paymentEventId) {
-        Payment payment = paymentRepository.findByIdOrElseThrow(paymentId);
-        payment.fail();
+        paymentRepository.updateStatusByIdIn(paymentIds, PaymentStatus.FAILED);
+        paymentCountByEventId.forEach(eventTicketStockService::increaseStock);
 
-        EventTicketStock eventTicketStock = eventTicketStockRepository.findByEventOrElseThrow(payment.getEvent());
-        eventTicketStock.increaseStock();
+        return payments.size();
+    }
 
-        paymentEventRepository.deleteById(paymentEventId);
+    public Optional<LocalDateTime> findOldestPendingPaymentCreatedAt() {
+        return paymentRepository.findOldestCreatedAtByStatus(PaymentStatus.PENDING);
+    }
+
+    public Optional<LocalDateTime> findOldestReadyPaymentReadyAt() {
+        return paymentRepository.findOldestReadyAtByStatus(PaymentStatus.READY);
     }
 
     private boolean doesCouponIdExist(Long couponId) {
@@ -200,12 +226,6 @@ public class PaymentService {
         }
     }
 
-    private void validateEventTicketStock(EventTicketStock eventTicketStock) {
-        if (eventTicketStock.isOutOfStock()) {
-            throw new ApplicationException(EVENT_TICKET_OUT_OF_STOCK);
-        }
-    }
-
     private void validateUserCoupon(UserCoupon userCoupon) {
         if (userCoupon.isUsed()) {
             throw new ApplicationException(COUPON_ALREADY_USED);
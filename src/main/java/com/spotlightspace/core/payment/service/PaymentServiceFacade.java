@@ -1,15 +1,23 @@
 package com.spotlightspace.core.payment.service;
 
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_PAYMENT_STATUS;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.PaymentCursorResponseDto;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundProgressResponseDto;
 import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
-import com.spotlightspace.core.paymentevent.domain.PaymentEvent;
-import com.spotlightspace.core.paymentevent.repository.PaymentEventRepository;
+import com.spotlightspace.core.waitingroom.service.WaitingRoomService;
 import com.spotlightspace.integration.kakaopay.KakaopayApi;
+import com.spotlightspace.integration.kakaopay.ReactiveKakaopayApi;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Service
@@ -17,8 +25,10 @@ import org.springframework.stereotype.Service;
 public class PaymentServiceFacade {
 
     private final KakaopayApi kakaopayApi;
+    private final ReactiveKakaopayApi reactiveKakaopayApi;
     private final PaymentService paymentService;
-    private final PaymentEventRepository paymentEventRepository;
+    private final PaymentRefundService paymentRefundService;
+    private final WaitingRoomService waitingRoomService;
 
     public KakaopayPaymentResponseDto readyPayment(
             long userId,
@@ -27,10 +37,11 @@ public class PaymentServiceFacade {
             Long couponId,
             Integer pointAmount
     ) {
+        waitingRoomService.validateAdmission(userId, eventId);
+        kakaopayApi.validateAvailable();
+
         long paymentId = paymentService.createPayment(userId, eventId, cid, couponId, pointAmount);
         PaymentResponseDto paymentDto = paymentService.getPayment(paymentId);
-        PaymentEvent paymentEvent =
-                paymentEventRepository.save(PaymentEvent.createReadyEvent(paymentDto.getPaymentId()));
 
         KakaopayPaymentResponseDto kakaopayPaymentResponseDto = kakaopayApi.readyPayment(
                 paymentDto.getCid(),
@@ -41,20 +52,12 @@ public class PaymentServiceFacade {
                 paymentDto.getDiscountedAmount()
         );
 
-        if (kakaopayPaymentResponseDto.getStatus().equals("fail")) {
-            paymentService.failPayment(paymentId, paymentEvent.getId());
-            return kakaopayPaymentResponseDto;
-        }
-
-        paymentService.readyPayment(paymentId, kakaopayPaymentResponseDto.getTid(), paymentEvent.getId());
-
-        return kakaopayPaymentResponseDto;
+        return handleReadyResponse(paymentDto, kakaopayPaymentResponseDto);
     }
 
     public KakaopayPaymentResponseDto approvePayment(String pgToken, String tid) {
         PaymentResponseDto paymentDto = paymentService.getPayment(tid);
-        PaymentEvent paymentEvent =
-                paymentEventRepository.save(PaymentEvent.createApproveEvent(paymentDto.getPaymentId()));
+        validateApprovable(paymentDto);
 
         KakaopayPaymentResponseDto responseDto = kakaopayApi.approvePayment(
                 pgToken,
@@ -64,19 +67,11 @@ public class PaymentServiceFacade {
                 paymentDto.getUserId()
         );
 
-        if (responseDto.getStatus().equals("success")) {
-            paymentService.approvePayment(paymentDto.getPaymentId(), paymentEvent.getId());
-        } else {
-            paymentService.failPayment(paymentDto.getPaymentId(), paymentEvent.getId());
-        }
-
-        return responseDto;
+        return handleApproveResponse(paymentDto, responseDto);
     }
 
     public KakaopayPaymentResponseDto cancelPayment(String tid) {
         PaymentResponseDto paymentDto = paymentService.getPayment(tid);
-        PaymentEvent paymentEvent =
-                paymentEventRepository.save(PaymentEvent.createCancelEvent(paymentDto.getPaymentId()));
 
         KakaopayPaymentResponseDto responseDto = kakaopayApi.cancelPayment(
                 paymentDto.getCid(),
@@ -85,16 +80,147 @@ public class PaymentServiceFacade {
                 0
         );
 
+        return handleCancelResponse(paymentDto, responseDto);
+    }
+
+    /**
+     * {@link #readyPayment}의 비동기 버전입니다.
+     * DB 작업은 boundedElastic 스케줄러에서 수행하고, 카카오페이 응답을 기다리는 동안에는 스레드를 점유하지 않습니다.
+     */
+    public Mono<KakaopayPaymentResponseDto> readyPaymentAsync(
+            long userId,
+            long eventId,
+            String cid,
+            Long couponId,
+            Integer pointAmount
+    ) {
+        return Mono.fromCallable(() -> {
+                    waitingRoomService.validateAdmission(userId, eventId);
+                    reactiveKakaopayApi.validateAvailable();
+
+                    long paymentId = paymentService.createPayment(userId, eventId, cid, couponId, pointAmount);
+                    return paymentService.getPayment(paymentId);
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(paymentDto -> reactiveKakaopayApi.readyPayment(
+                                paymentDto.getCid(),
+                                paymentDto.getPaymentId(),
+                                paymentDto.getUserId(),
+                                paymentDto.getEventTitle(),
+                                paymentDto.getEventId(),
+                                paymentDto.getDiscountedAmount()
+                        )
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(responseDto -> handleReadyResponse(paymentDto, responseDto)));
+    }
+
+    /**
+     * {@link #approvePayment}의 비동기 버전입니다.
+     */
+    public Mono<KakaopayPaymentResponseDto> approvePaymentAsync(String pgToken, String tid) {
+        return Mono.fromCallable(() -> {
+                    PaymentResponseDto paymentDto = paymentService.getPayment(tid);
+                    validateApprovable(paymentDto);
+                    return paymentDto;
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(paymentDto -> reactiveKakaopayApi.approvePayment(
+                                pgToken,
+                                tid,
+                                paymentDto.getCid(),
+                                paymentDto.getPaymentId(),
+                                paymentDto.getUserId()
+                        )
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(responseDto -> handleApproveResponse(paymentDto, responseDto)));
+    }
+
+    /**
+     * {@link #cancelPayment}의 비동기 버전입니다.
+     */
+    public Mono<KakaopayPaymentResponseDto> cancelPaymentAsync(String tid) {
+        return Mono.fromCallable(() -> paymentService.getPayment(tid))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(paymentDto -> reactiveKakaopayApi.cancelPayment(
+                                paymentDto.getCid(),
+                                paymentDto.getTid(),
+                                paymentDto.getDiscountedAmount(),
+                                0
+                        )
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(responseDto -> handleCancelResponse(paymentDto, responseDto)));
+    }
+
+    public Page<PaymentResponseDto> getPayments(long userId, PageRequest pageRequest) {
+        return paymentService.getPayments(userId, pageRequest);
+    }
+
+    public PaymentCursorResponseDto getPaymentsByCursor(long userId, Long lastPaymentId, int size) {
+        return paymentService.getPaymentsByCursor(userId, lastPaymentId, size);
+    }
+
+    public PaymentRefundProgressResponseDto getRefundProgress(long userId, long eventId) {
+        return paymentRefundService.getRefundProgress(userId, eventId);
+    }
+
+    private KakaopayPaymentResponseDto handleReadyResponse(
+            PaymentResponseDto paymentDto,
+            KakaopayPaymentResponseDto responseDto
+    ) {
+        if (responseDto.getStatus().equals("fail")) {
+            paymentService.failPayment(paymentDto.getPaymentId());
+            return responseDto;
+        }
+
+        paymentService.readyPayment(paymentDto.getPaymentId(), responseDto.getTid());
+        waitingRoomService.completeAdmission(paymentDto.getUserId(), paymentDto.getEventId());
+
+        return responseDto;
+    }
+
+    private KakaopayPaymentResponseDto handleApproveResponse(
+            PaymentResponseDto paymentDto,
+            KakaopayPaymentResponseDto responseDto
+    ) {
         if (responseDto.getStatus().equals("success")) {
-            paymentService.cancelPayment(paymentDto.getPaymentId(), paymentEvent.getId());
+            approveOrCancelGateway(paymentDto);
         } else {
-            paymentEventRepository.deleteById(paymentEvent.getId());
+            paymentService.failPayment(paymentDto.getPaymentId());
         }
 
         return responseDto;
     }
 
-    public Page<PaymentResponseDto> getPayments(long userId, PageRequest pageRequest) {
-        return paymentService.getPayments(userId, pageRequest);
+    /**
+     * 만료되어 실패 처리된 결제는 카카오페이에 승인을 요청하지 않아 사용자에게 결제되지 않도록 합니다.
+     */
+    private void validateApprovable(PaymentResponseDto paymentDto) {
+        if (paymentDto.getStatus() != PaymentStatus.READY) {
+            throw new ApplicationException(INVALID_PAYMENT_STATUS);
+        }
+    }
+
+    /**
+     * 카카오페이에서 승인된 결제를 승인 처리합니다. 승인 처리에 실패하면 사용자가 티켓 없이 결제되지 않도록 카카오페이 결제 취소를 남깁니다.
+     */
+    private void approveOrCancelGateway(PaymentResponseDto paymentDto) {
+        try {
+            paymentService.approvePayment(paymentDto.getPaymentId());
+        } catch (RuntimeException e) {
+            log.warn("카카오페이 승인 후 결제 승인 처리 실패, 카카오페이 결제 취소 예약 - paymentId: {}", paymentDto.getPaymentId(), e);
+            paymentService.requestGatewayCancel(paymentDto.getPaymentId());
+            throw e;
+        }
+    }
+
+    private KakaopayPaymentResponseDto handleCancelResponse(
+            PaymentResponseDto paymentDto,
+            KakaopayPaymentResponseDto responseDto
+    ) {
+        if (responseDto.getStatus().equals("success")) {
+            paymentService.cancelPayment(paymentDto.getPaymentId());
+        }
+
+        return responseDto;
     }
 }
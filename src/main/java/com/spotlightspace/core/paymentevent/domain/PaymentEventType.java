@@ -1,9 +0,0 @@
-package com.spotlightspace.core.paymentevent.domain;
-
-public enum PaymentEventType {
-
-    READY,
-    APPROVE,
-    CANCEL,
-    CANCEL_FAILED
-}
@@ -0,0 +1,114 @@
+package com.spotlightspace.core.paymentoutbox.domain;
+
+import static com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus.DEAD;
+import static com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus.DONE;
+import static com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus.PENDING;
+
+import com.spotlightspace.common.entity.Timestamped;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 상태 변경과 같은 트랜잭션에 저장되는 후속 작업(티켓 발급, 포인트 기록, 재고 복구)입니다.
+ * 릴레이가 임대(lease)를 걸어 가져간 뒤 처리하며, leaseUntil이 지나면 다른 서버가 다시 가져갈 수 있습니다.
+ */
+@Entity
+@Getter
+@Table(
+        name = "payment_outboxes",
+        indexes = {
+                @Index(name = "idx_payment_outboxes_status_lease_until", columnList = "status, lease_until"),
+                @Index(name = "idx_payment_outboxes_payment_id_type", columnList = "payment_id, type")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PaymentOutbox extends Timestamped {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    // 서버마다 미리 받아 둔 구간에서 발급하는 SEQUENCE와 달리 INSERT 순서대로 증가하므로, 같은 결제의 후속 작업이 아이디 순으로 처리됩니다.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payment_outbox_id", nullable = false)
+    private Long id;
+
+    @Column(nullable = false)
+    private long paymentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PaymentOutboxType type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20, nullable = false)
+    private PaymentOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    private PaymentOutbox(long paymentId, PaymentOutboxType type) {
+        this.paymentId = paymentId;
+        this.type = type;
+        this.status = PENDING;
+    }
+
+    public static PaymentOutbox create(long paymentId, PaymentOutboxType type) {
+        return new PaymentOutbox(paymentId, type);
+    }
+
+    public void claim(String owner, LocalDateTime leaseUntil) {
+        this.leaseOwner = owner;
+        this.leaseUntil = leaseUntil;
+    }
+
+    public boolean isLeasedBy(String owner, LocalDateTime now) {
+        return status == PENDING
+                && Objects.equals(leaseOwner, owner)
+                && leaseUntil != null
+                && leaseUntil.isAfter(now);
+    }
+
+    public void complete() {
+        this.status = DONE;
+        this.leaseOwner = null;
+        this.leaseUntil = null;
+    }
+
+    /**
+     * 처리 실패를 기록합니다. 최대 시도 횟수에 도달하면 DEAD로 전환하고,
+     * 그렇지 않으면 retryAt 이후에 다시 가져갈 수 있도록 임대 만료 시각을 재시도 시각으로 설정합니다.
+     */
+    public void fail(String error, int maxAttempts, LocalDateTime retryAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+        this.leaseOwner = null;
+        if (attempts >= maxAttempts) {
+            this.status = DEAD;
+            this.leaseUntil = null;
+            return;
+        }
+        this.leaseUntil = retryAt;
+    }
+}
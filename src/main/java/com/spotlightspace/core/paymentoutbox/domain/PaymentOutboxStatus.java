@@ -0,0 +1,8 @@
+package com.spotlightspace.core.paymentoutbox.domain;
+
+public enum PaymentOutboxStatus {
+
+    PENDING,
+    DONE,
+    DEAD
+}
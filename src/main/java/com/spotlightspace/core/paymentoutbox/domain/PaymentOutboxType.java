@@ -0,0 +1,10 @@
+package com.spotlightspace.core.paymentoutbox.domain;
+
+public enum PaymentOutboxType {
+
+    APPROVED,
+    CANCELED,
+    FAILED,
+    // 카카오페이에서만 승인된 결제, 일괄 환불 중 취소에 실패한 결제의 카카오페이 결제 취소
+    GATEWAY_CANCEL
+}
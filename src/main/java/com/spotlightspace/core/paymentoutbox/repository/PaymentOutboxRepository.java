@@ -0,0 +1,51 @@
+package com.spotlightspace.core.paymentoutbox.repository;
+
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_OUTBOX_NOT_FOUND;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+
+    /**
+     * 임대가 없거나 만료된 대기 중인 항목을 (status, lease_until) 인덱스 범위로 조회해 락을 겁니다.
+     * 다른 서버가 가져가는 중인 행은 건너뛰므로 여러 서버가 동시에 릴레이해도 서로 대기하지 않습니다.
+     * 아이디는 INSERT 순서대로 발급되므로 같은 결제의 승인 후속 작업이 취소 후속 작업보다 먼저 조회됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from PaymentOutbox o " +
+            "where o.status = :status and (o.leaseUntil is null or o.leaseUntil < :now) " +
+            "order by o.id")
+    List<PaymentOutbox> findClaimableWithPessimisticLock(
+            @Param("status") PaymentOutboxStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from PaymentOutbox o where o.id = :outboxId")
+    Optional<PaymentOutbox> findByIdWithPessimisticLock(@Param("outboxId") long outboxId);
+
+    List<PaymentOutbox> findAllByPaymentId(long paymentId);
+
+    boolean existsByPaymentIdAndTypeAndStatus(long paymentId, PaymentOutboxType type, PaymentOutboxStatus status);
+
+    default PaymentOutbox findByIdWithPessimisticLockOrElseThrow(long outboxId) {
+        return findByIdWithPessimisticLock(outboxId)
+                .orElseThrow(() -> new ApplicationException(PAYMENT_OUTBOX_NOT_FOUND));
+    }
+}
@@ -0,0 +1,70 @@
+package com.spotlightspace.core.paymentoutbox.service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결제 후속 작업을 주기적으로 가져와 처리합니다.
+ * 서버마다 고유한 이름으로 임대를 걸기 때문에 여러 서버가 동시에 실행되어도 같은 항목을 나눠 처리합니다.
+ */
+@Slf4j
+@Component
+public class PaymentOutboxRelay {
+
+    private final PaymentOutboxService paymentOutboxService;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long leaseSeconds;
+    private final String owner;
+
+    public PaymentOutboxRelay(
+            PaymentOutboxService paymentOutboxService,
+            @Value("${payment.outbox.batch-size:100}") int batchSize,
+            @Value("${payment.outbox.max-batches:10}") int maxBatches,
+            @Value("${payment.outbox.lease-seconds:30}") long leaseSeconds
+    ) {
+        this.paymentOutboxService = paymentOutboxService;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = resolveHostName() + ":" + UUID.randomUUID();
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<Long> outboxIds = paymentOutboxService.claim(owner, batchSize, leaseSeconds);
+                outboxIds.forEach(this::processOne);
+                if (outboxIds.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.error("결제 후속 작업 임대 실패", e);
+        }
+    }
+
+    private void processOne(long outboxId) {
+        try {
+            paymentOutboxService.process(outboxId, owner);
+        } catch (RuntimeException e) {
+            log.warn("결제 후속 작업 처리 실패 - outboxId: {}", outboxId, e);
+            paymentOutboxService.recordFailure(outboxId, owner, e.getMessage());
+        }
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
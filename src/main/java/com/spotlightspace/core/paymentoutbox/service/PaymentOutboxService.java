@@ -0,0 +1,162 @@
+package com.spotlightspace.core.paymentoutbox.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_GATEWAY_CANCEL_FAILED;
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_OUTBOX_APPROVAL_PENDING;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.domain.Payment;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.pointhistory.domain.PointHistory;
+import com.spotlightspace.core.pointhistory.repository.PointHistoryRepository;
+import com.spotlightspace.core.ticket.domain.Ticket;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.ticket.service.TicketService;
+import com.spotlightspace.integration.kakaopay.KakaopayApi;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class PaymentOutboxService {
+
+    private static final long MAX_RETRY_DELAY_SECONDS = 600;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final PaymentRepository paymentRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final TicketService ticketService;
+    private final TicketRepository ticketRepository;
+    private final EventTicketStockService eventTicketStockService;
+    private final KakaopayApi kakaopayApi;
+
+    @Value("${payment.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${payment.outbox.retry-base-seconds:5}")
+    private long retryBaseSeconds;
+
+    /**
+     * 처리할 항목을 최대 batchSize개 가져와 owner 이름으로 임대를 겁니다.
+     * 임대는 이 트랜잭션이 커밋되는 순간부터 유효하며, leaseSeconds 안에 처리하지 못하면 다른 서버가 다시 가져갑니다.
+     *
+     * @return 임대한 항목의 아이디 목록
+     */
+    public List<Long> claim(String owner, int batchSize, long leaseSeconds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PaymentOutbox> outboxes = paymentOutboxRepository.findClaimableWithPessimisticLock(
+                PaymentOutboxStatus.PENDING,
+                now,
+                PageRequest.of(0, batchSize)
+        );
+
+        LocalDateTime leaseUntil = now.plusSeconds(leaseSeconds);
+        outboxes.forEach(outbox -> outbox.claim(owner, leaseUntil));
+
+        return outboxes.stream().map(PaymentOutbox::getId).toList();
+    }
+
+    /**
+     * 임대한 항목의 후속 작업을 수행하고 완료 처리합니다.
+     * 처리하는 동안 행에 락을 잡고 있으므로 임대가 만료되더라도 다른 서버가 같은 항목을 동시에 처리하지 않습니다.
+     */
+    public void process(long outboxId, String owner) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdWithPessimisticLockOrElseThrow(outboxId);
+        if (!outbox.isLeasedBy(owner, LocalDateTime.now())) {
+            return;
+        }
+
+        Payment payment = paymentRepository.findByIdOrElseThrow(outbox.getPaymentId());
+        switch (outbox.getType()) {
+            case APPROVED -> handleApproved(payment);
+            case CANCELED -> handleCanceled(payment);
+            case FAILED -> handleFailed(payment);
+            case GATEWAY_CANCEL -> handleGatewayCancel(payment);
+        }
+
+        outbox.complete();
+    }
+
+    public void recordFailure(long outboxId, String owner, String error) {
+        PaymentOutbox outbox = paymentOutboxRepository.findByIdWithPessimisticLockOrElseThrow(outboxId);
+        if (!outbox.isLeasedBy(owner, LocalDateTime.now())) {
+            return;
+        }
+
+        long delaySeconds = Math.min(retryBaseSeconds << Math.min(outbox.getAttempts(), 16), MAX_RETRY_DELAY_SECONDS);
+        outbox.fail(error, maxAttempts, LocalDateTime.now().plusSeconds(delaySeconds));
+        if (outbox.getStatus() == PaymentOutboxStatus.DEAD) {
+            log.error("결제 후속 작업 최대 재시도 초과 - outboxId: {}, paymentId: {}, type: {}",
+                    outbox.getId(), outbox.getPaymentId(), outbox.getType());
+        }
+    }
+
+    private void handleApproved(Payment payment) {
+        // 후속 작업이 처리되기 전에 이벤트 삭제로 일괄 환불된 결제는 티켓을 발급하지 않음
+        if (payment.getStatus() != PaymentStatus.APPROVED) {
+            return;
+        }
+
+        if (payment.isPointUsed()) {
+            pointHistoryRepository.save(PointHistory.create(payment, payment.getPoint(), payment.getUsedPointAmount()));
+        }
+
+        ticketService.createTicket(payment.getUser(), payment.getEvent(), payment.getOriginalAmount());
+    }
+
+    /**
+     * 승인 후속 작업이 재시도 중이면 포인트 기록과 티켓이 아직 없으므로 승인 후속 작업이 끝날 때까지 다시 시도합니다.
+     * 승인 후속 작업은 이미 취소된 결제의 티켓을 발급하지 않으므로, 그 뒤에도 포인트 기록이나 티켓이 없으면 취소할 대상이 없는 것입니다.
+     */
+    private void handleCanceled(Payment payment) {
+        if (paymentOutboxRepository.existsByPaymentIdAndTypeAndStatus(
+                payment.getId(), PaymentOutboxType.APPROVED, PaymentOutboxStatus.PENDING)) {
+            throw new ApplicationException(PAYMENT_OUTBOX_APPROVAL_PENDING);
+        }
+
+        if (payment.isPointUsed()) {
+            pointHistoryRepository.findByPayment(payment).ifPresent(PointHistory::cancelPointUsage);
+        }
+
+        eventTicketStockService.increaseStock(payment.getEvent());
+
+        ticketRepository.findFirstByUserAndEvent(payment.getUser(), payment.getEvent())
+                .ifPresentOrElse(Ticket::cancel,
+                        () -> log.warn("취소할 티켓 없음 - paymentId: {}", payment.getId()));
+    }
+
+    private void handleFailed(Payment payment) {
+        eventTicketStockService.increaseStock(payment.getEvent());
+    }
+
+    private void handleGatewayCancel(Payment payment) {
+        // 승인 처리가 커밋된 결제는 티켓이 발급되므로 카카오페이 결제를 취소하지 않음
+        if (payment.getStatus() == PaymentStatus.APPROVED) {
+            return;
+        }
+
+        KakaopayPaymentResponseDto responseDto = kakaopayApi.cancelPayment(
+                payment.getCid(),
+                payment.getTid(),
+                payment.getDiscountedAmount(),
+                0
+        );
+        if (!responseDto.getStatus().equals("success")) {
+            throw new ApplicationException(PAYMENT_GATEWAY_CANCEL_FAILED);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.spotlightspace.core.user.domain.User;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -18,6 +19,10 @@ public interface PointRepository extends JpaRepository<Point, Long> {
     @Query("select p from Point p join fetch p.user where p.user in :users")
     List<Point> findPointsByUserIn(@Param("users") List<User> users);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update Point p set p.amount = p.amount + :amount where p.id in :pointIds")
+    int addAmountByIdIn(@Param("pointIds") List<Long> pointIds, @Param("amount") int amount);
+
     default Point findByUserOrElseThrow(User user) {
         return findByUser(user)
                 .orElseThrow(() -> new ApplicationException(POINT_NOT_FOUND));
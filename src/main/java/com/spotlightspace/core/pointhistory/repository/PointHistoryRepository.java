@@ -6,8 +6,13 @@ import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.payment.domain.Payment;
 import com.spotlightspace.core.point.domain.Point;
 import com.spotlightspace.core.pointhistory.domain.PointHistory;
+import com.spotlightspace.core.pointhistory.domain.PointHistoryStatus;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
@@ -15,6 +20,13 @@ public interface PointHistoryRepository extends JpaRepository<PointHistory, Long
 
     Optional<PointHistory> findByPayment(Payment payment);
 
+    @Modifying(flushAutomatically = true)
+    @Query("update PointHistory ph set ph.status = :status where ph.payment.id in :paymentIds")
+    int updateStatusByPaymentIdIn(
+            @Param("paymentIds") List<Long> paymentIds,
+            @Param("status") PointHistoryStatus status
+    );
+
     default PointHistory findByPointOrElseThrow(Point point) {
         return findByPoint(point).orElseThrow(() -> new ApplicationException(POINT_HISTORY_NOT_FOUND));
     }
@@ -9,8 +9,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -18,12 +20,16 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
-@Table(name = "tickets")
+@Table(
+        name = "tickets",
+        indexes = @Index(name = "idx_tickets_event_id_is_canceled", columnList = "event_id, is_canceled")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Ticket extends Timestamped {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_seq")
+    @SequenceGenerator(name = "tickets_seq", sequenceName = "tickets_seq", allocationSize = 50)
     @Column(name = "ticket_id", nullable = false)
     private Long id;
 
@@ -11,6 +11,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -24,6 +25,10 @@ public interface TicketRepository extends JpaRepository<Ticket, Long>, TicketQue
 
     Optional<Ticket> findFirstByUserAndEvent(User user, Event event);
 
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Ticket t SET t.isCanceled = true WHERE t.event.id = :eventId AND t.isCanceled = false")
+    int cancelAllByEventId(@Param("eventId") long eventId);
+
     default Ticket findFirstByUserAndEventOrElseThrow(User user, Event event) {
         return findFirstByUserAndEvent(user, event).orElseThrow(() -> new ApplicationException(TICKET_NOT_FOUND));
     }
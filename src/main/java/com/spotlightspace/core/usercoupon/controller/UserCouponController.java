@@ -2,6 +2,7 @@ package com.spotlightspace.core.usercoupon.controller;
 
 import com.spotlightspace.common.annotation.AuthUser;
 import com.spotlightspace.core.usercoupon.dto.request.UserCouponIssueRequestDto;
+import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueQueuedResponseDto;
 import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueResponseDto;
 import com.spotlightspace.core.usercoupon.service.UserCouponService;
 import lombok.RequiredArgsConstructor;
@@ -53,4 +54,22 @@ public class UserCouponController {
         UserCouponIssueResponseDto responseDto = userCouponService.issueCouponWithPessimisticLockAndQueue(requestDto);
         return ResponseEntity.ok(responseDto);
     }
+
+    /**
+     * Redis 스크립트를 사용한 락 없는 선착순 쿠폰 발급
+     * 발급은 즉시 확정되고 DB 저장은 비동기로 일괄 반영됩니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param couponId 발급받을 쿠폰의 ID
+     * @return 발급 확정된 쿠폰과 남은 수량에 대한 응답 객체
+     */
+    @PostMapping("/issue/redis/{couponId}")
+    public ResponseEntity<UserCouponIssueQueuedResponseDto> issueCouponWithRedis(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable Long couponId
+    ) {
+        UserCouponIssueRequestDto requestDto = UserCouponIssueRequestDto.of(authUser.getUserId(), couponId);
+        UserCouponIssueQueuedResponseDto responseDto = userCouponService.issueCouponWithRedis(requestDto);
+        return ResponseEntity.accepted().body(responseDto);
+    }
 }
@@ -0,0 +1,19 @@
+package com.spotlightspace.core.usercoupon.dto.response;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserCouponIssueQueuedResponseDto {
+    private Long userId;
+    private Long couponId;
+    private long remainingCount;
+
+    public static UserCouponIssueQueuedResponseDto of(Long userId, Long couponId, long remainingCount) {
+        return new UserCouponIssueQueuedResponseDto(userId, couponId, remainingCount);
+    }
+}
@@ -0,0 +1,153 @@
+package com.spotlightspace.core.usercoupon.repository;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 선착순 쿠폰 발급을 락 없이 Redis 스크립트 한 번으로 처리합니다.
+ * 남은 수량 차감, 발급 사용자 Set을 통한 중복 검사, 발급 대기열 적재를 원자적으로 수행하고,
+ * 스케줄러가 대기열을 inflight 리스트로 옮겨 user_coupons 테이블에 일괄 반영합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserCouponIssueRedisRepository {
+
+    public static final long NOT_INITIALIZED = -3L;
+    public static final long ALREADY_ISSUED = -2L;
+    public static final long OUT_OF_STOCK = -1L;
+
+    private static final String STOCK_KEY_PREFIX = "coupon:issue:stock:";
+    private static final String USERS_KEY_PREFIX = "coupon:issue:users:";
+    private static final String QUEUE_KEY = "coupon:issue:queue";
+    private static final String INFLIGHT_KEY = "coupon:issue:queue:inflight";
+    private static final String ENTRY_DELIMITER = ":";
+
+    // 이미 발급받은 사용자면 -2, 수량이 없으면 -1, 초기화 전이면 -3, 발급되면 남은 수량을 반환
+    // 발급 사용자 Set이 처음 만들어질 때는 수량 키의 만료 시간을 그대로 따라가게 함
+    private static final RedisScript<Long> ISSUE_SCRIPT = new DefaultRedisScript<>(
+            "local stock = redis.call('GET', KEYS[1]) "
+                    + "if not stock then return -3 end "
+                    + "if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then return -2 end "
+                    + "if tonumber(stock) <= 0 then return -1 end "
+                    + "local remaining = redis.call('DECR', KEYS[1]) "
+                    + "redis.call('SADD', KEYS[2], ARGV[1]) "
+                    + "if redis.call('PTTL', KEYS[2]) == -1 then "
+                    + "  local ttl = redis.call('PTTL', KEYS[1]) "
+                    + "  if ttl > 0 then redis.call('PEXPIRE', KEYS[2], ttl) end "
+                    + "end "
+                    + "redis.call('RPUSH', KEYS[3], ARGV[2] .. ':' .. ARGV[1]) "
+                    + "return remaining",
+            Long.class
+    );
+
+    // DB의 남은 수량과 이미 발급받은 사용자로 초기화하고, 쿠폰 만료 시점에 함께 만료되게 함
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+                    + "redis.call('SET', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIREAT', KEYS[1], ARGV[2]) "
+                    + "for i = 3, #ARGV do redis.call('SADD', KEYS[2], ARGV[i]) end "
+                    + "redis.call('EXPIREAT', KEYS[2], ARGV[2]) "
+                    + "return 1",
+            Long.class
+    );
+
+    // 이전 반영이 실패해 inflight 리스트가 남아 있으면 그대로 재시도하고, 아니면 대기열 앞쪽을 inflight로 옮김
+    private static final RedisScript<List> TAKE_BATCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[2]) == 0 then "
+                    + "  local entries = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1) "
+                    + "  if #entries == 0 then return {} end "
+                    + "  redis.call('LTRIM', KEYS[1], #entries, -1) "
+                    + "  redis.call('RPUSH', KEYS[2], unpack(entries)) "
+                    + "end "
+                    + "return redis.call('LRANGE', KEYS[2], 0, -1)",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long issue(long couponId, long userId) {
+        Long result = redisTemplate.execute(
+                ISSUE_SCRIPT,
+                List.of(getStockKey(couponId), getUsersKey(couponId), QUEUE_KEY),
+                String.valueOf(userId),
+                String.valueOf(couponId)
+        );
+        return result == null ? NOT_INITIALIZED : result;
+    }
+
+    public boolean initialize(long couponId, long count, LocalDate expiredAt, List<Long> issuedUserIds) {
+        List<String> args = new ArrayList<>(issuedUserIds.size() + 2);
+        args.add(String.valueOf(count));
+        args.add(String.valueOf(getExpireAt(expiredAt).getEpochSecond()));
+        issuedUserIds.forEach(userId -> args.add(String.valueOf(userId)));
+
+        Long result = redisTemplate.execute(
+                INITIALIZE_SCRIPT,
+                List.of(getStockKey(couponId), getUsersKey(couponId)),
+                args.toArray()
+        );
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 쿠폰 유효기간이 바뀌면 발급 수량과 발급 사용자 키의 만료 시점도 함께 옮깁니다.
+     */
+    public void expireAt(long couponId, LocalDate expiredAt) {
+        Instant expireAt = getExpireAt(expiredAt);
+        redisTemplate.expireAt(getStockKey(couponId), expireAt);
+        redisTemplate.expireAt(getUsersKey(couponId), expireAt);
+    }
+
+    /**
+     * 삭제된 쿠폰은 다음 발급 요청에서 DB를 다시 확인하도록 키를 제거합니다.
+     * 이미 대기열에 들어간 발급 건은 그대로 반영됩니다.
+     */
+    public void delete(long couponId) {
+        redisTemplate.delete(List.of(getStockKey(couponId), getUsersKey(couponId)));
+    }
+
+    /**
+     * DB에 반영할 발급 건을 쿠폰별 사용자 ID 목록으로 가져옵니다. 반영이 끝나면 {@link #completeBatch()}를 호출해야 합니다.
+     */
+    public Map<Long, List<Long>> takeBatch(int batchSize) {
+        List<?> entries = redisTemplate.execute(TAKE_BATCH_SCRIPT, List.of(QUEUE_KEY, INFLIGHT_KEY),
+                String.valueOf(batchSize));
+        Map<Long, List<Long>> issuedUserIds = new LinkedHashMap<>();
+        if (entries == null) {
+            return issuedUserIds;
+        }
+        for (Object entry : entries) {
+            String[] ids = String.valueOf(entry).split(ENTRY_DELIMITER);
+            issuedUserIds.computeIfAbsent(Long.parseLong(ids[0]), couponId -> new ArrayList<>())
+                    .add(Long.parseLong(ids[1]));
+        }
+        return issuedUserIds;
+    }
+
+    public void completeBatch() {
+        redisTemplate.delete(INFLIGHT_KEY);
+    }
+
+    // 쿠폰은 만료일 당일까지 발급 가능하므로 다음 날 0시에 만료
+    private Instant getExpireAt(LocalDate expiredAt) {
+        return expiredAt.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant();
+    }
+
+    private String getStockKey(long couponId) {
+        return STOCK_KEY_PREFIX + couponId;
+    }
+
+    private String getUsersKey(long couponId) {
+        return USERS_KEY_PREFIX + couponId;
+    }
+}
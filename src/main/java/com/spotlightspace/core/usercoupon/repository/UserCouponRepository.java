@@ -5,6 +5,7 @@ import com.spotlightspace.core.coupon.domain.Coupon;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.usercoupon.domain.UserCoupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -29,4 +30,15 @@ public interface UserCouponRepository extends JpaRepository<UserCoupon, Long> {
 
 
     boolean existsByUserAndCoupon(User user, Coupon coupon);
+
+    @Query("select u.user.id from UserCoupon u where u.coupon.id = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") long couponId);
+
+    @Query("select u.user.id from UserCoupon u where u.coupon.id = :couponId and u.user.id in :userIds")
+    List<Long> findUserIdsByCouponIdAndUserIdIn(@Param("couponId") long couponId,
+            @Param("userIds") List<Long> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update UserCoupon u set u.isUsed = false where u.id in :userCouponIds")
+    int cancelUsageByIdIn(@Param("userCouponIds") List<Long> userCouponIds);
 }
@@ -0,0 +1,65 @@
+package com.spotlightspace.core.usercoupon.service;
+
+import com.spotlightspace.core.usercoupon.repository.UserCouponIssueRedisRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis에서 발급된 쿠폰을 대기열에서 꺼내 user_coupons 테이블과 coupons 수량에 일괄 반영합니다.
+ * 여러 서버가 동시에 반영하지 않도록 분산 락을 획득한 서버만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserCouponIssueFlushScheduler {
+
+    private static final String FLUSH_LOCK_KEY = "lock:coupon:issue:flush";
+
+    private final UserCouponService userCouponService;
+    private final UserCouponIssueRedisRepository userCouponIssueRedisRepository;
+    private final RedissonClient redissonClient;
+
+    @Value("${coupon.issue.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${coupon.issue.flush-interval-ms:500}")
+    public void flushIssuedCoupons() {
+        RLock lock = redissonClient.getLock(FLUSH_LOCK_KEY);
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(0, 30, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            // 한 번에 배치 크기만큼 꺼내고, 가득 찼으면 대기열이 밀려 있는 것이므로 바로 이어서 반영
+            int flushed;
+            do {
+                Map<Long, List<Long>> issuedUserIds = userCouponIssueRedisRepository.takeBatch(batchSize);
+                flushed = issuedUserIds.values().stream().mapToInt(List::size).sum();
+                if (flushed == 0) {
+                    return;
+                }
+                userCouponService.saveIssuedCoupons(issuedUserIds);
+                userCouponIssueRedisRepository.completeBatch();
+            } while (flushed >= batchSize);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            // inflight 리스트가 남아 있으므로 다음 주기에 다시 반영됨
+            log.error("쿠폰 발급 내역 DB 반영 실패", e);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -9,14 +9,19 @@ import com.spotlightspace.core.user.dto.response.GetCouponResponseDto;
 import com.spotlightspace.core.user.repository.UserRepository;
 import com.spotlightspace.core.usercoupon.domain.UserCoupon;
 import com.spotlightspace.core.usercoupon.dto.request.UserCouponIssueRequestDto;
+import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueQueuedResponseDto;
 import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueResponseDto;
+import com.spotlightspace.core.usercoupon.repository.UserCouponIssueRedisRepository;
 import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
 import lombok.RequiredArgsConstructor;
 import org.redisson.api.RLock;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -31,6 +36,7 @@ public class UserCouponService {
     private final CouponRepository couponRepository;
     private final UserRepository userRepository;
     private final RedissonLockService redissonLockService;
+    private final UserCouponIssueRedisRepository userCouponIssueRedisRepository;
     private static final String COUPON_LOCK_KEY = "lock:coupon:";
 
     /**
@@ -57,7 +63,7 @@ public class UserCouponService {
     @Transactional
     public UserCouponIssueResponseDto issueCouponWithPessimisticLockAndQueue(UserCouponIssueRequestDto requestDto) {
         String lockKey = COUPON_LOCK_KEY + requestDto.getCouponId();
-        RLock redisLock = redissonLockService.lock(lockKey);
+        RLock redisLock = redissonLockService.getLock(lockKey);
         boolean isQueued;
 
         try {
@@ -92,6 +98,74 @@ public class UserCouponService {
         }
     }
 
+    /**
+     * Redis 스크립트 한 번으로 수량 차감과 중복 검사를 끝내는 락 없는 쿠폰 발급 로직
+     * user_coupons 저장과 coupons 수량 차감은 {@link UserCouponIssueFlushScheduler}가 일괄로 반영합니다.
+     */
+    @Transactional(readOnly = true)
+    public UserCouponIssueQueuedResponseDto issueCouponWithRedis(UserCouponIssueRequestDto requestDto) {
+        long couponId = requestDto.getCouponId();
+        long userId = requestDto.getUserId();
+
+        long result = userCouponIssueRedisRepository.issue(couponId, userId);
+        if (result == UserCouponIssueRedisRepository.NOT_INITIALIZED) {
+            initializeIssueStock(couponId);
+            result = userCouponIssueRedisRepository.issue(couponId, userId);
+        }
+
+        if (result == UserCouponIssueRedisRepository.NOT_INITIALIZED) {
+            throw new ApplicationException(COUPON_NOT_FOUND);
+        }
+        if (result == UserCouponIssueRedisRepository.ALREADY_ISSUED) {
+            throw new ApplicationException(COUPON_ALREADY_ISSUED);
+        }
+        if (result == UserCouponIssueRedisRepository.OUT_OF_STOCK) {
+            throw new ApplicationException(COUPON_COUNT_EXHAUSTED);
+        }
+        return UserCouponIssueQueuedResponseDto.of(userId, couponId, result);
+    }
+
+    /**
+     * Redis에서 발급된 쿠폰을 쿠폰별로 모아 저장하고 발급된 만큼 수량을 차감합니다.
+     * 반영 후 대기열 정리에 실패해 같은 발급 건이 다시 들어와도 이미 저장된 사용자는 건너뜁니다.
+     */
+    public void saveIssuedCoupons(Map<Long, List<Long>> issuedUserIds) {
+        issuedUserIds.forEach((couponId, userIds) -> {
+            Set<Long> savedUserIds = new HashSet<>(
+                    userCouponRepository.findUserIdsByCouponIdAndUserIdIn(couponId, userIds));
+            Coupon coupon = couponRepository.getReferenceById(couponId);
+            List<UserCoupon> userCoupons = userIds.stream()
+                    .distinct()
+                    .filter(userId -> !savedUserIds.contains(userId))
+                    .map(userId -> UserCoupon.of(userRepository.getReferenceById(userId), coupon))
+                    .toList();
+            if (userCoupons.isEmpty()) {
+                return;
+            }
+            userCouponRepository.saveAll(userCoupons);
+            couponRepository.decreaseCountBy(couponId, userCoupons.size());
+        });
+    }
+
+    /**
+     * 발급 수량이 소진된 쿠폰도 초기화해서 이후 요청이 DB까지 오지 않게 합니다.
+     */
+    private void initializeIssueStock(long couponId) {
+        Coupon coupon = couponRepository.findByIdOrElseThrow(couponId);
+        if (coupon.isDeleted()) {
+            throw new ApplicationException(COUPON_NOT_FOUND);
+        }
+        if (coupon.isExpired()) {
+            throw new ApplicationException(COUPON_EXPIRED);
+        }
+        userCouponIssueRedisRepository.initialize(
+                couponId,
+                Math.max(coupon.getCount(), 0),
+                coupon.getExpiredAt(),
+                userCouponRepository.findUserIdsByCouponId(couponId)
+        );
+    }
+
     /**
      * 쿠폰 유효성 검사
      */
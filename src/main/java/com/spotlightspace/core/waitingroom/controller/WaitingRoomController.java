@@ -0,0 +1,51 @@
+package com.spotlightspace.core.waitingroom.controller;
+
+import com.spotlightspace.common.annotation.AuthUser;
+import com.spotlightspace.core.waitingroom.dto.response.WaitingRoomResponseDto;
+import com.spotlightspace.core.waitingroom.service.WaitingRoomService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/waiting-room")
+public class WaitingRoomController {
+
+    private final WaitingRoomService waitingRoomService;
+
+    /**
+     * 이벤트 결제 대기열에 진입합니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param eventId  결제할 이벤트의 ID
+     * @return 대기 순번 또는 입장 여부
+     */
+    @PostMapping("/events/{eventId}")
+    public ResponseEntity<WaitingRoomResponseDto> enter(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long eventId
+    ) {
+        return ResponseEntity.ok(waitingRoomService.enter(authUser.getUserId(), eventId));
+    }
+
+    /**
+     * 대기 순번을 조회합니다. 입장이 되면 status가 ADMITTED로 바뀌고 입장 토큰 만료 시각이 함께 반환됩니다.
+     *
+     * @param authUser 인증된 사용자 정보
+     * @param eventId  결제할 이벤트의 ID
+     * @return 대기 순번 또는 입장 여부
+     */
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<WaitingRoomResponseDto> getStatus(
+            @AuthenticationPrincipal AuthUser authUser,
+            @PathVariable long eventId
+    ) {
+        return ResponseEntity.ok(waitingRoomService.getStatus(authUser.getUserId(), eventId));
+    }
+}
@@ -0,0 +1,15 @@
+package com.spotlightspace.core.waitingroom.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum WaitingStatus {
+
+    WAITING("입장 대기 중"),
+    ADMITTED("입장 가능"),
+    NOT_WAITING("대기열에 없음");
+
+    private final String description;
+}
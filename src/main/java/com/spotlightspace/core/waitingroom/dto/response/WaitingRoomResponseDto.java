@@ -0,0 +1,31 @@
+package com.spotlightspace.core.waitingroom.dto.response;
+
+import com.spotlightspace.core.waitingroom.domain.WaitingStatus;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class WaitingRoomResponseDto {
+
+    private Long eventId;
+    private WaitingStatus status;
+    // 내 앞에 대기 중인 인원 + 1 (대기 중일 때만 존재)
+    private Long position;
+    private long waitingCount;
+    private LocalDateTime admissionExpiresAt;
+
+    public static WaitingRoomResponseDto waiting(long eventId, long position, long waitingCount) {
+        return new WaitingRoomResponseDto(eventId, WaitingStatus.WAITING, position, waitingCount, null);
+    }
+
+    public static WaitingRoomResponseDto admitted(long eventId, long waitingCount, LocalDateTime admissionExpiresAt) {
+        return new WaitingRoomResponseDto(eventId, WaitingStatus.ADMITTED, null, waitingCount, admissionExpiresAt);
+    }
+
+    public static WaitingRoomResponseDto notWaiting(long eventId, long waitingCount) {
+        return new WaitingRoomResponseDto(eventId, WaitingStatus.NOT_WAITING, null, waitingCount, null);
+    }
+}
@@ -0,0 +1,122 @@
+package com.spotlightspace.core.waitingroom.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 이벤트별 결제 대기열을 Redis Sorted Set으로 관리합니다.
+ * 대기열은 진입 시각을, 입장 목록은 입장 토큰 만료 시각을 score로 가집니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class WaitingRoomRedisRepository {
+
+    public static final long ALREADY_ADMITTED = -1L;
+
+    private static final String WAITING_KEY_PREFIX = "waiting:event:";
+    private static final String ADMITTED_KEY_SUFFIX = ":admitted";
+    private static final String ACTIVE_EVENTS_KEY = "waiting:events";
+
+    // 이미 입장한 사용자는 -1, 아니면 대기열에 추가(이미 있으면 유지)하고 순번을 반환
+    private static final RedisScript<Long> ENTER_SCRIPT = new DefaultRedisScript<>(
+            "local expiresAt = redis.call('ZSCORE', KEYS[2], ARGV[1]) "
+                    + "if expiresAt and tonumber(expiresAt) > tonumber(ARGV[2]) then return -1 end "
+                    + "redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1]) "
+                    + "redis.call('SADD', KEYS[3], ARGV[3]) "
+                    + "return redis.call('ZRANK', KEYS[1], ARGV[1])",
+            Long.class
+    );
+
+    // 만료된 입장 토큰을 정리한 뒤 남은 자리만큼 대기열 앞에서부터 입장시키고 입장한 사용자 목록을 반환
+    private static final RedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[1]) "
+                    + "local count = math.min(tonumber(ARGV[2]), tonumber(ARGV[3]) - redis.call('ZCARD', KEYS[2])) "
+                    + "local admitted = {} "
+                    + "if count > 0 then "
+                    + "  local popped = redis.call('ZPOPMIN', KEYS[1], count) "
+                    + "  for i = 1, #popped, 2 do "
+                    + "    redis.call('ZADD', KEYS[2], ARGV[4], popped[i]) "
+                    + "    table.insert(admitted, popped[i]) "
+                    + "  end "
+                    + "end "
+                    + "if redis.call('ZCARD', KEYS[1]) == 0 and redis.call('ZCARD', KEYS[2]) == 0 then "
+                    + "  redis.call('SREM', KEYS[3], ARGV[5]) "
+                    + "end "
+                    + "return admitted",
+            List.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long enter(long eventId, long userId, long now) {
+        Long result = redisTemplate.execute(
+                ENTER_SCRIPT,
+                List.of(getWaitingKey(eventId), getAdmittedKey(eventId), ACTIVE_EVENTS_KEY),
+                String.valueOf(userId),
+                String.valueOf(now),
+                String.valueOf(eventId)
+        );
+        return result == null ? 0L : result;
+    }
+
+    public Optional<Long> findRank(long eventId, long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().rank(getWaitingKey(eventId), String.valueOf(userId)));
+    }
+
+    public long countWaiting(long eventId) {
+        Long count = redisTemplate.opsForZSet().zCard(getWaitingKey(eventId));
+        return count == null ? 0L : count;
+    }
+
+    public Optional<Long> findAdmissionExpiresAt(long eventId, long userId) {
+        return Optional.ofNullable(redisTemplate.opsForZSet().score(getAdmittedKey(eventId), String.valueOf(userId)))
+                .map(Double::longValue);
+    }
+
+    public List<Long> admit(long eventId, int count, int maxAdmitted, long now, long expiresAt) {
+        List<?> admitted = redisTemplate.execute(
+                ADMIT_SCRIPT,
+                List.of(getWaitingKey(eventId), getAdmittedKey(eventId), ACTIVE_EVENTS_KEY),
+                String.valueOf(now),
+                String.valueOf(count),
+                String.valueOf(maxAdmitted),
+                String.valueOf(expiresAt),
+                String.valueOf(eventId)
+        );
+        if (admitted == null) {
+            return List.of();
+        }
+        return admitted.stream()
+                .map(userId -> Long.parseLong(String.valueOf(userId)))
+                .toList();
+    }
+
+    public void removeAdmission(long eventId, long userId) {
+        redisTemplate.opsForZSet().remove(getAdmittedKey(eventId), String.valueOf(userId));
+    }
+
+    public Set<Long> findActiveEventIds() {
+        Set<String> eventIds = redisTemplate.opsForSet().members(ACTIVE_EVENTS_KEY);
+        if (eventIds == null) {
+            return Set.of();
+        }
+        return eventIds.stream()
+                .map(Long::parseLong)
+                .collect(Collectors.toSet());
+    }
+
+    private String getWaitingKey(long eventId) {
+        return WAITING_KEY_PREFIX + eventId;
+    }
+
+    private String getAdmittedKey(long eventId) {
+        return WAITING_KEY_PREFIX + eventId + ADMITTED_KEY_SUFFIX;
+    }
+}
@@ -0,0 +1,58 @@
+package com.spotlightspace.core.waitingroom.service;
+
+import com.spotlightspace.core.notification.service.NotificationService;
+import com.spotlightspace.core.waitingroom.repository.WaitingRoomRedisRepository;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 입장 처리 주기(기본 1초)마다 대기열이 있는 이벤트의 대기자를 입장시키고 SSE로 입장 알림을 보냅니다.
+ * 여러 서버가 동시에 입장시키면 입장 속도가 서버 수만큼 늘어나므로 분산 락을 획득한 서버만 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WaitingRoomAdmissionScheduler {
+
+    private static final String ADMIT_LOCK_KEY = "lock:waiting-room:admit";
+
+    private final WaitingRoomService waitingRoomService;
+    private final WaitingRoomRedisRepository waitingRoomRedisRepository;
+    private final NotificationService notificationService;
+    private final RedissonClient redissonClient;
+
+    @Scheduled(fixedDelayString = "${waiting-room.admission-interval-ms:1000}")
+    public void admitWaitingUsers() {
+        if (!waitingRoomService.isEnabled()) {
+            return;
+        }
+
+        RLock lock = redissonClient.getLock(ADMIT_LOCK_KEY);
+        boolean isLocked = false;
+        try {
+            isLocked = lock.tryLock(0, 10, TimeUnit.SECONDS);
+            if (!isLocked) {
+                return;
+            }
+
+            for (Long eventId : waitingRoomRedisRepository.findActiveEventIds()) {
+                List<Long> admittedUserIds = waitingRoomService.admit(eventId);
+                admittedUserIds.forEach(userId -> notificationService.sendWaitingRoomAdmission(userId, eventId));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.error("대기열 입장 처리 실패", e);
+        } finally {
+            if (isLocked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.spotlightspace.core.waitingroom.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.WAITING_ROOM_NOT_ADMITTED;
+import static com.spotlightspace.core.waitingroom.repository.WaitingRoomRedisRepository.ALREADY_ADMITTED;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.waitingroom.dto.response.WaitingRoomResponseDto;
+import com.spotlightspace.core.waitingroom.repository.WaitingRoomRedisRepository;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 결제 준비 요청 전에 거치는 이벤트별 대기열을 관리합니다.
+ * 대기열을 통과(입장)한 사용자만 입장 토큰 만료 전까지 결제 준비를 요청할 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class WaitingRoomService {
+
+    private final WaitingRoomRedisRepository waitingRoomRedisRepository;
+    private final EventRepository eventRepository;
+
+    @Value("${waiting-room.enabled:false}")
+    private boolean enabled;
+
+    @Value("${waiting-room.admit-per-second:50}")
+    private int admitPerSecond;
+
+    @Value("${waiting-room.max-admitted:200}")
+    private int maxAdmitted;
+
+    @Value("${waiting-room.admission-ttl-seconds:300}")
+    private long admissionTtlSeconds;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 대기열에 진입합니다. 이미 대기 중이면 기존 순번을 유지합니다.
+     */
+    public WaitingRoomResponseDto enter(long userId, long eventId) {
+        eventRepository.findByIdOrElseThrow(eventId);
+        long now = System.currentTimeMillis();
+
+        long rank = waitingRoomRedisRepository.enter(eventId, userId, now);
+        if (rank == ALREADY_ADMITTED) {
+            return getStatus(userId, eventId);
+        }
+        return WaitingRoomResponseDto.waiting(eventId, rank + 1, waitingRoomRedisRepository.countWaiting(eventId));
+    }
+
+    /**
+     * 대기 순번 또는 입장 여부를 조회합니다.
+     */
+    public WaitingRoomResponseDto getStatus(long userId, long eventId) {
+        long waitingCount = waitingRoomRedisRepository.countWaiting(eventId);
+
+        Optional<Long> expiresAt = findValidAdmissionExpiresAt(userId, eventId);
+        if (expiresAt.isPresent()) {
+            return WaitingRoomResponseDto.admitted(eventId, waitingCount, toLocalDateTime(expiresAt.get()));
+        }
+
+        return waitingRoomRedisRepository.findRank(eventId, userId)
+                .map(rank -> WaitingRoomResponseDto.waiting(eventId, rank + 1, waitingCount))
+                .orElseGet(() -> WaitingRoomResponseDto.notWaiting(eventId, waitingCount));
+    }
+
+    /**
+     * 대기열이 활성화되어 있으면 입장 토큰이 유효한 사용자인지 확인합니다.
+     */
+    public void validateAdmission(long userId, long eventId) {
+        if (!enabled) {
+            return;
+        }
+        if (findValidAdmissionExpiresAt(userId, eventId).isEmpty()) {
+            throw new ApplicationException(WAITING_ROOM_NOT_ADMITTED);
+        }
+    }
+
+    /**
+     * 결제 준비가 끝난 사용자의 입장 토큰을 회수해 다음 대기자가 입장할 수 있게 합니다.
+     */
+    public void completeAdmission(long userId, long eventId) {
+        if (!enabled) {
+            return;
+        }
+        waitingRoomRedisRepository.removeAdmission(eventId, userId);
+    }
+
+    /**
+     * 대기열 앞에서부터 초당 입장 인원만큼 입장시키고 입장한 사용자 id 목록을 반환합니다.
+     * 만료된 입장 토큰은 이때 함께 정리되어 빈 자리가 다음 대기자에게 돌아갑니다.
+     */
+    public List<Long> admit(long eventId) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + admissionTtlSeconds * 1000;
+        return waitingRoomRedisRepository.admit(eventId, admitPerSecond, maxAdmitted, now, expiresAt);
+    }
+
+    private Optional<Long> findValidAdmissionExpiresAt(long userId, long eventId) {
+        return waitingRoomRedisRepository.findAdmissionExpiresAt(eventId, userId)
+                .filter(expiresAt -> expiresAt > System.currentTimeMillis());
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMilli) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli), ZoneId.systemDefault());
+    }
+}
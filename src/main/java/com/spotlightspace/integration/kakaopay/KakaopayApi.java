@@ -1,12 +1,10 @@
 package com.spotlightspace.integration.kakaopay;
 
 import static com.spotlightspace.common.exception.ErrorCode.JSON_PROCESSING_EXCEPTION;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.APPROVAL_URL;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.CANCEL_URL;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.FAIL_URL;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_APPROVE_URL;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_CANCEL_URL;
-import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_READY_URL;
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_APPROVE_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_CANCEL_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_READY_PATH;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,7 +14,7 @@ import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayCancelPayme
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentErrorResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayReadyPaymentResponseDto;
-import java.util.HashMap;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -30,14 +28,21 @@ import org.springframework.web.client.RestTemplate;
 @RequiredArgsConstructor
 public class KakaopayApi {
 
-    private static final String SECRET_KEY_PREFIX = "SECRET_KEY ";
+    public static final String KAKAOPAY = "kakaopay";
 
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ExternalApiGuard externalApiGuard;
 
     @Value("${payment.kakao.secret.key}")
     private String secretKey;
 
+    @Value("${payment.kakao.base-url}")
+    private String baseUrl;
+
+    @Value("${payment.kakao.approve-cancel-timeout-ms:30000}")
+    private long approveCancelTimeoutMillis;
+
     public KakaopayPaymentResponseDto readyPayment(
             String cid,
             long partnerOrderId,
@@ -46,7 +51,7 @@ public class KakaopayApi {
             long eventId,
             int totalPrice
     ) {
-        Map<String, String> parameters = getParametersForReadyPayment(
+        Map<String, String> parameters = KakaopayParameters.forReadyPayment(
                 cid,
                 partnerOrderId,
                 userId,
@@ -55,11 +60,7 @@ public class KakaopayApi {
                 totalPrice
         );
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                PAYMENT_READY_URL,
-                new HttpEntity<>(parameters, getHeaders()),
-                String.class
-        );
+        ResponseEntity<String> responseEntity = post(baseUrl + PAYMENT_READY_PATH, parameters);
 
         KakaopayPaymentResponseDto responseDto = null;
         try {
@@ -87,13 +88,9 @@ public class KakaopayApi {
             long paymentId,
             long userId
     ) {
-        Map<String, String> parameters = getParametersForApprovePayment(pgToken, cid, tid, paymentId, userId);
+        Map<String, String> parameters = KakaopayParameters.forApprovePayment(pgToken, cid, tid, paymentId, userId);
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                PAYMENT_APPROVE_URL,
-                new HttpEntity<>(parameters, getHeaders()),
-                String.class
-        );
+        ResponseEntity<String> responseEntity = postWithFixedTimeout(baseUrl + PAYMENT_APPROVE_PATH, parameters);
 
         KakaopayPaymentResponseDto responseDto = null;
         try {
@@ -115,13 +112,9 @@ public class KakaopayApi {
     }
 
     public KakaopayPaymentResponseDto cancelPayment(String cid, String tid, int cancelAmount, int cancelTaxFreeAmount) {
-        Map<String, String> parameters = getParametersForCancelPayment(cid, tid, cancelAmount, cancelTaxFreeAmount);
+        Map<String, String> parameters = KakaopayParameters.forCancelPayment(cid, tid, cancelAmount, cancelTaxFreeAmount);
 
-        ResponseEntity<String> responseEntity = restTemplate.postForEntity(
-                PAYMENT_CANCEL_URL,
-                new HttpEntity<>(parameters, getHeaders()),
-                String.class
-        );
+        ResponseEntity<String> responseEntity = postWithFixedTimeout(baseUrl + PAYMENT_CANCEL_PATH, parameters);
 
         KakaopayPaymentResponseDto responseDto = null;
         try {
@@ -142,63 +135,34 @@ public class KakaopayApi {
         return responseDto;
     }
 
-    private Map<String, String> getParametersForReadyPayment(
-            String cid,
-            long partnerOrderId,
-            long userId,
-            String eventTitle,
-            long eventId,
-            int totalPrice
-    ) {
-        Map<String, String> parameters = new HashMap<>();
-        parameters.put("cid", cid);
-        parameters.put("tax_free_amount", "0");
-        parameters.put("partner_order_id", String.valueOf(partnerOrderId));
-        parameters.put("partner_user_id", String.valueOf(userId));
-        parameters.put("item_name", eventTitle);
-        parameters.put("item_code", String.valueOf(eventId));
-        parameters.put("quantity", "1");
-        parameters.put("total_amount", String.valueOf(totalPrice));
-        parameters.put("approval_url", APPROVAL_URL);
-        parameters.put("cancel_url", CANCEL_URL);
-        parameters.put("fail_url", FAIL_URL);
-        return parameters;
+    /**
+     * 카카오페이가 장애 상태로 판단되면 바로 실패합니다. 결제를 생성하기 전에 확인해 재고를 불필요하게 차감하지 않습니다.
+     */
+    public void validateAvailable() {
+        externalApiGuard.validateAvailable(KAKAOPAY, PAYMENT_GATEWAY_UNAVAILABLE);
     }
 
-    private Map<String, String> getParametersForApprovePayment(
-            String pgToken,
-            String cid,
-            String tid,
-            long partnerOrderId,
-            long partnerUserId
-    ) {
-        Map<String, String> parameters = new HashMap<>();
-        parameters.put("cid", cid);
-        parameters.put("tid", tid);
-        parameters.put("partner_order_id", String.valueOf(partnerOrderId));
-        parameters.put("partner_user_id", String.valueOf(partnerUserId));
-        parameters.put("pg_token", pgToken);
-        return parameters;
+    private ResponseEntity<String> post(String url, Map<String, String> parameters) {
+        return externalApiGuard.call(
+                KAKAOPAY,
+                PAYMENT_GATEWAY_UNAVAILABLE,
+                () -> restTemplate.postForEntity(url, new HttpEntity<>(parameters, getHeaders()), String.class)
+        );
     }
 
-    private Map<String, String> getParametersForCancelPayment(
-            String cid,
-            String tid,
-            int cancelAmount,
-            int cancelTaxFreeAmount
-    ) {
-        Map<String, String> parameters = new HashMap<>();
-        parameters.put("cid", cid);
-        parameters.put("tid", tid);
-        parameters.put("cancel_amount", String.valueOf(cancelAmount));
-        parameters.put("cancel_tax_free_amount", String.valueOf(cancelTaxFreeAmount));
-        return parameters;
+    /**
+     * 승인, 취소 요청은 타임아웃으로 끊으면 카카오페이에서 처리되었는지 알 수 없으므로 조정된 타임아웃 대신 고정된 타임아웃을 사용합니다.
+     */
+    private ResponseEntity<String> postWithFixedTimeout(String url, Map<String, String> parameters) {
+        return externalApiGuard.call(
+                KAKAOPAY,
+                PAYMENT_GATEWAY_UNAVAILABLE,
+                approveCancelTimeoutMillis,
+                () -> restTemplate.postForEntity(url, new HttpEntity<>(parameters, getHeaders()), String.class)
+        );
     }
 
     private HttpHeaders getHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", SECRET_KEY_PREFIX + secretKey);
-        headers.set("Content-type", "application/json");
-        return headers;
+        return KakaopayParameters.headers(secretKey);
     }
 }
@@ -0,0 +1,80 @@
+package com.spotlightspace.integration.kakaopay;
+
+import static com.spotlightspace.core.payment.constant.PaymentConstant.APPROVAL_URL;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.CANCEL_URL;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.FAIL_URL;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 카카오페이 결제 API 요청 파라미터와 헤더를 만듭니다. 동기, 비동기 클라이언트가 함께 사용합니다.
+ */
+final class KakaopayParameters {
+
+    private static final String SECRET_KEY_PREFIX = "SECRET_KEY ";
+
+    private KakaopayParameters() {
+    }
+
+    static Map<String, String> forReadyPayment(
+            String cid,
+            long partnerOrderId,
+            long userId,
+            String eventTitle,
+            long eventId,
+            int totalPrice
+    ) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", cid);
+        parameters.put("tax_free_amount", "0");
+        parameters.put("partner_order_id", String.valueOf(partnerOrderId));
+        parameters.put("partner_user_id", String.valueOf(userId));
+        parameters.put("item_name", eventTitle);
+        parameters.put("item_code", String.valueOf(eventId));
+        parameters.put("quantity", "1");
+        parameters.put("total_amount", String.valueOf(totalPrice));
+        parameters.put("approval_url", APPROVAL_URL);
+        parameters.put("cancel_url", CANCEL_URL);
+        parameters.put("fail_url", FAIL_URL);
+        return parameters;
+    }
+
+    static Map<String, String> forApprovePayment(
+            String pgToken,
+            String cid,
+            String tid,
+            long partnerOrderId,
+            long partnerUserId
+    ) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", cid);
+        parameters.put("tid", tid);
+        parameters.put("partner_order_id", String.valueOf(partnerOrderId));
+        parameters.put("partner_user_id", String.valueOf(partnerUserId));
+        parameters.put("pg_token", pgToken);
+        return parameters;
+    }
+
+    static Map<String, String> forCancelPayment(
+            String cid,
+            String tid,
+            int cancelAmount,
+            int cancelTaxFreeAmount
+    ) {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("cid", cid);
+        parameters.put("tid", tid);
+        parameters.put("cancel_amount", String.valueOf(cancelAmount));
+        parameters.put("cancel_tax_free_amount", String.valueOf(cancelTaxFreeAmount));
+        return parameters;
+    }
+
+    static HttpHeaders headers(String secretKey) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", SECRET_KEY_PREFIX + secretKey);
+        headers.set("Content-type", "application/json");
+        return headers;
+    }
+}
@@ -0,0 +1,176 @@
+package com.spotlightspace.integration.kakaopay;
+
+import static com.spotlightspace.common.exception.ErrorCode.JSON_PROCESSING_EXCEPTION;
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE;
+import static com.spotlightspace.integration.kakaopay.KakaopayApi.KAKAOPAY;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_APPROVE_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_CANCEL_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_READY_PATH;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayApprovePaymentResponseDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayCancelPaymentResponseDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentErrorResponseDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayReadyPaymentResponseDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.TidAccessible;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+/**
+ * {@link KakaopayApi}의 논블로킹 버전입니다. 공유 커넥션 풀을 사용하는 WebClient로 호출하므로
+ * 카카오페이 응답을 기다리는 동안 요청 스레드를 점유하지 않습니다.
+ */
+@Component
+public class ReactiveKakaopayApi {
+
+    private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final String secretKey;
+    private final String baseUrl;
+    private final long approveCancelTimeoutMillis;
+    private final ExternalApiGuard externalApiGuard;
+
+    public ReactiveKakaopayApi(
+            @Qualifier("kakaopayWebClient") WebClient webClient,
+            ObjectMapper objectMapper,
+            @Value("${payment.kakao.secret.key}") String secretKey,
+            @Value("${payment.kakao.base-url}") String baseUrl,
+            @Value("${payment.kakao.approve-cancel-timeout-ms:30000}") long approveCancelTimeoutMillis,
+            ExternalApiGuard externalApiGuard
+    ) {
+        this.webClient = webClient;
+        this.objectMapper = objectMapper;
+        this.secretKey = secretKey;
+        this.baseUrl = baseUrl;
+        this.approveCancelTimeoutMillis = approveCancelTimeoutMillis;
+        this.externalApiGuard = externalApiGuard;
+    }
+
+    public Mono<KakaopayPaymentResponseDto> readyPayment(
+            String cid,
+            long partnerOrderId,
+            long userId,
+            String eventTitle,
+            long eventId,
+            int totalPrice
+    ) {
+        Map<String, String> parameters = KakaopayParameters.forReadyPayment(
+                cid,
+                partnerOrderId,
+                userId,
+                eventTitle,
+                eventId,
+                totalPrice
+        );
+        return post(baseUrl + PAYMENT_READY_PATH, parameters, KakaopayReadyPaymentResponseDto.class);
+    }
+
+    public Mono<KakaopayPaymentResponseDto> approvePayment(
+            String pgToken,
+            String tid,
+            String cid,
+            long paymentId,
+            long userId
+    ) {
+        Map<String, String> parameters = KakaopayParameters.forApprovePayment(pgToken, cid, tid, paymentId, userId);
+        return postWithFixedTimeout(baseUrl + PAYMENT_APPROVE_PATH, parameters, KakaopayApprovePaymentResponseDto.class);
+    }
+
+    public Mono<KakaopayPaymentResponseDto> cancelPayment(
+            String cid,
+            String tid,
+            int cancelAmount,
+            int cancelTaxFreeAmount
+    ) {
+        Map<String, String> parameters = KakaopayParameters.forCancelPayment(cid, tid, cancelAmount, cancelTaxFreeAmount);
+        return postWithFixedTimeout(baseUrl + PAYMENT_CANCEL_PATH, parameters, KakaopayCancelPaymentResponseDto.class);
+    }
+
+    /**
+     * {@link KakaopayApi#validateAvailable()}와 같은 서킷 브레이커 상태를 확인합니다.
+     */
+    public void validateAvailable() {
+        externalApiGuard.validateAvailable(KAKAOPAY, PAYMENT_GATEWAY_UNAVAILABLE);
+    }
+
+    private <T extends TidAccessible> Mono<KakaopayPaymentResponseDto> post(
+            String url,
+            Map<String, String> parameters,
+            Class<T> successType
+    ) {
+        return externalApiGuard.callAsync(
+                KAKAOPAY,
+                PAYMENT_GATEWAY_UNAVAILABLE,
+                () -> exchange(webClient.post().uri(url), parameters, successType)
+        );
+    }
+
+    /**
+     * 승인, 취소 요청은 타임아웃으로 끊으면 카카오페이에서 처리되었는지 알 수 없으므로 조정된 타임아웃 대신 고정된 타임아웃을 사용합니다.
+     * 커넥션에 설정된 응답 타임아웃보다 길 수 있으므로 요청별 응답 타임아웃도 함께 늘립니다.
+     */
+    private <T extends TidAccessible> Mono<KakaopayPaymentResponseDto> postWithFixedTimeout(
+            String url,
+            Map<String, String> parameters,
+            Class<T> successType
+    ) {
+        Duration responseTimeout = Duration.ofMillis(approveCancelTimeoutMillis);
+        return externalApiGuard.callAsync(
+                KAKAOPAY,
+                PAYMENT_GATEWAY_UNAVAILABLE,
+                approveCancelTimeoutMillis,
+                () -> exchange(
+                        webClient.post()
+                                .uri(url)
+                                .httpRequest(request -> {
+                                    if (request.getNativeRequest() instanceof HttpClientRequest nativeRequest) {
+                                        nativeRequest.responseTimeout(responseTimeout);
+                                    }
+                                }),
+                        parameters,
+                        successType
+                )
+        );
+    }
+
+    private <T extends TidAccessible> Mono<KakaopayPaymentResponseDto> exchange(
+            WebClient.RequestBodySpec request,
+            Map<String, String> parameters,
+            Class<T> successType
+    ) {
+        return request
+                .headers(headers -> headers.addAll(KakaopayParameters.headers(secretKey)))
+                .bodyValue(parameters)
+                .exchangeToMono(response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> toResponseDto(response.statusCode(), body, successType)));
+    }
+
+    private <T extends TidAccessible> KakaopayPaymentResponseDto toResponseDto(
+            HttpStatusCode statusCode,
+            String body,
+            Class<T> successType
+    ) {
+        try {
+            if (statusCode.is2xxSuccessful()) {
+                return KakaopayPaymentResponseDto.ofSuccess(objectMapper.readValue(body, successType));
+            }
+            return KakaopayPaymentResponseDto.ofFail(
+                    objectMapper.readValue(body, KakaopayPaymentErrorResponseDto.class)
+            );
+        } catch (JsonProcessingException e) {
+            throw new ApplicationException(JSON_PROCESSING_EXCEPTION);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.spotlightspace.integration.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 호출의 응답 시간으로 읽기 타임아웃을 정합니다. 타임아웃으로 끝난 호출은 적용했던 타임아웃 값으로 기록됩니다.
+ * 최근 windowSize개 응답 시간의 percentile 값에 multiplier를 곱하고 [minMillis, maxMillis] 범위로 제한합니다.
+ * 표본이 minSamples개보다 적으면 maxMillis를 사용합니다.
+ */
+public class AdaptiveTimeout {
+
+    private final long minMillis;
+    private final long maxMillis;
+    private final double percentile;
+    private final double multiplier;
+    private final int minSamples;
+
+    private final long[] samples;
+    private int nextIndex;
+    private int size;
+    private volatile long currentMillis;
+
+    public AdaptiveTimeout(
+            long minMillis,
+            long maxMillis,
+            double percentile,
+            double multiplier,
+            int windowSize,
+            int minSamples
+    ) {
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.minSamples = minSamples;
+        this.samples = new long[windowSize];
+        this.currentMillis = maxMillis;
+    }
+
+    public synchronized void record(long elapsedMillis) {
+        samples[nextIndex] = elapsedMillis;
+        nextIndex = (nextIndex + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+
+        if (size >= minSamples) {
+            currentMillis = calculate();
+        }
+    }
+
+    public long getCurrentMillis() {
+        return currentMillis;
+    }
+
+    private long calculate() {
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        long observed = sorted[Math.max(0, Math.min(index, size - 1))];
+        long timeout = (long) Math.ceil(observed * multiplier);
+        return Math.max(minMillis, Math.min(maxMillis, timeout));
+    }
+}
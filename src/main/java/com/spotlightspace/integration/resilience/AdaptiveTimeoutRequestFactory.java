@@ -0,0 +1,34 @@
+package com.spotlightspace.integration.resilience;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.function.Supplier;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+/**
+ * {@link #withReadTimeout}로 감싼 호출에서만 커넥션 단위로 읽기 타임아웃을 바꿉니다.
+ * 하나의 RestTemplate을 여러 외부 API가 함께 쓰더라도 호출 대상별 타임아웃을 적용할 수 있습니다.
+ */
+public class AdaptiveTimeoutRequestFactory extends SimpleClientHttpRequestFactory {
+
+    private static final ThreadLocal<Integer> READ_TIMEOUT_MILLIS = new ThreadLocal<>();
+
+    public static <T> T withReadTimeout(long readTimeoutMillis, Supplier<T> supplier) {
+        READ_TIMEOUT_MILLIS.set((int) readTimeoutMillis);
+        try {
+            return supplier.get();
+        } finally {
+            READ_TIMEOUT_MILLIS.remove();
+        }
+    }
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+
+        Integer readTimeoutMillis = READ_TIMEOUT_MILLIS.get();
+        if (readTimeoutMillis != null) {
+            connection.setReadTimeout(readTimeoutMillis);
+        }
+    }
+}
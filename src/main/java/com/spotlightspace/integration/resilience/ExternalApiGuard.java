@@ -0,0 +1,212 @@
+package com.spotlightspace.integration.resilience;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.common.exception.ErrorCode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 외부 API 호출을 이름별 서킷 브레이커와 벌크헤드로 감쌉니다.
+ * 서킷이 열려 있거나 동시 호출 수가 가득 차면 외부 API를 기다리지 않고 바로 전달받은 에러 코드로 실패합니다.
+ * 읽기 타임아웃은 최근 응답 시간 분포에 맞춰 {@link AdaptiveTimeout}으로 조정합니다.
+ * 타임아웃으로 끝난 호출은 실제 응답 시간이 적용한 타임아웃 이상이므로 적용한 타임아웃 값을 표본으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class ExternalApiGuard {
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AdaptiveTimeout> adaptiveTimeouts = new ConcurrentHashMap<>();
+
+    private final long minTimeoutMillis;
+    private final long maxTimeoutMillis;
+    private final double timeoutPercentile;
+    private final double timeoutMultiplier;
+    private final int timeoutWindowSize;
+    private final int timeoutMinSamples;
+
+    public ExternalApiGuard(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${external-api.timeout.min-ms:500}") long minTimeoutMillis,
+            @Value("${external-api.timeout.max-ms:5000}") long maxTimeoutMillis,
+            @Value("${external-api.timeout.percentile:0.99}") double timeoutPercentile,
+            @Value("${external-api.timeout.multiplier:2.0}") double timeoutMultiplier,
+            @Value("${external-api.timeout.window-size:200}") int timeoutWindowSize,
+            @Value("${external-api.timeout.min-samples:50}") int timeoutMinSamples
+    ) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.meterRegistry = meterRegistry;
+        this.minTimeoutMillis = minTimeoutMillis;
+        this.maxTimeoutMillis = maxTimeoutMillis;
+        this.timeoutPercentile = timeoutPercentile;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.timeoutWindowSize = timeoutWindowSize;
+        this.timeoutMinSamples = timeoutMinSamples;
+    }
+
+    /**
+     * 블로킹 호출을 감쌉니다. 호출 중에는 {@link AdaptiveTimeoutRequestFactory}가 조정된 읽기 타임아웃을 사용합니다.
+     */
+    public <T> T call(String name, ErrorCode unavailableErrorCode, Supplier<T> supplier) {
+        return call(name, unavailableErrorCode, getAdaptiveTimeout(name).getCurrentMillis(), supplier);
+    }
+
+    /**
+     * 조정된 타임아웃 대신 timeoutMillis를 읽기 타임아웃으로 사용해 블로킹 호출을 감쌉니다.
+     * 결제 승인, 취소처럼 중간에 끊으면 외부에서 처리되었는지 알 수 없는 호출에 사용합니다.
+     */
+    public <T> T call(String name, ErrorCode unavailableErrorCode, long timeoutMillis, Supplier<T> supplier) {
+        AdaptiveTimeout adaptiveTimeout = getAdaptiveTimeout(name);
+        Supplier<T> timedSupplier = () -> {
+            long startedAt = System.nanoTime();
+            try {
+                T result = AdaptiveTimeoutRequestFactory.withReadTimeout(timeoutMillis, supplier);
+                adaptiveTimeout.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+                return result;
+            } catch (RuntimeException e) {
+                recordIfTimeout(adaptiveTimeout, timeoutMillis, e);
+                throw e;
+            }
+        };
+
+        try {
+            // 벌크헤드에서 거절된 호출은 서킷 브레이커 실패율에 포함하지 않도록 벌크헤드를 바깥에 둔다
+            Supplier<T> circuitBreakerSupplier = CircuitBreaker.decorateSupplier(
+                    circuitBreakerRegistry.circuitBreaker(name),
+                    timedSupplier
+            );
+            return Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(name), circuitBreakerSupplier).get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw reject(name, unavailableErrorCode, e);
+        }
+    }
+
+    /**
+     * 논블로킹 호출을 감쌉니다. 응답이 조정된 타임아웃 안에 오지 않으면 실패로 기록합니다.
+     */
+    public <T> Mono<T> callAsync(String name, ErrorCode unavailableErrorCode, Supplier<Mono<T>> supplier) {
+        return Mono.defer(() -> callAsync(
+                name,
+                unavailableErrorCode,
+                getAdaptiveTimeout(name).getCurrentMillis(),
+                supplier
+        ));
+    }
+
+    /**
+     * 조정된 타임아웃 대신 timeoutMillis를 사용해 논블로킹 호출을 감쌉니다.
+     * HTTP 클라이언트에 설정된 응답 타임아웃이 더 짧다면 supplier에서 요청별 응답 타임아웃도 함께 늘려야 합니다.
+     */
+    public <T> Mono<T> callAsync(
+            String name,
+            ErrorCode unavailableErrorCode,
+            long timeoutMillis,
+            Supplier<Mono<T>> supplier
+    ) {
+        AdaptiveTimeout adaptiveTimeout = getAdaptiveTimeout(name);
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+
+        return Mono.defer(() -> {
+                    long startedAt = System.nanoTime();
+                    return supplier.get()
+                            .timeout(Duration.ofMillis(timeoutMillis))
+                            .doOnSuccess(result -> adaptiveTimeout.record(
+                                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)))
+                            .doOnError(e -> recordIfTimeout(adaptiveTimeout, timeoutMillis, e));
+                })
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .onErrorMap(
+                        e -> e instanceof CallNotPermittedException || e instanceof BulkheadFullException,
+                        e -> reject(name, unavailableErrorCode, e)
+                );
+    }
+
+    /**
+     * 서킷이 열려 있으면 바로 실패합니다. 외부 API를 호출하기 전에 재고 차감 같은 작업을 하는 경우 먼저 확인합니다.
+     */
+    public void validateAvailable(String name, ErrorCode unavailableErrorCode) {
+        State state = circuitBreakerRegistry.circuitBreaker(name).getState();
+        if (state == State.OPEN || state == State.FORCED_OPEN) {
+            rejectedCounter(name, "circuit_open").increment();
+            throw new ApplicationException(unavailableErrorCode);
+        }
+    }
+
+    private void recordIfTimeout(AdaptiveTimeout adaptiveTimeout, long timeoutMillis, Throwable throwable) {
+        if (isTimeout(throwable)) {
+            adaptiveTimeout.record(timeoutMillis);
+        }
+    }
+
+    private boolean isTimeout(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException
+                    || cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private ApplicationException reject(String name, ErrorCode unavailableErrorCode, Throwable cause) {
+        String reason = cause instanceof BulkheadFullException ? "bulkhead_full" : "circuit_open";
+        rejectedCounter(name, reason).increment();
+        log.warn("외부 API 호출 거절 name={}, reason={}", name, reason);
+        return new ApplicationException(unavailableErrorCode);
+    }
+
+    private Counter rejectedCounter(String name, String reason) {
+        return Counter.builder("external.api.rejected")
+                .description("서킷 브레이커, 벌크헤드로 거절된 외부 API 호출 수")
+                .tag("name", name)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private AdaptiveTimeout getAdaptiveTimeout(String name) {
+        return adaptiveTimeouts.computeIfAbsent(name, key -> {
+            AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(
+                    minTimeoutMillis,
+                    maxTimeoutMillis,
+                    timeoutPercentile,
+                    timeoutMultiplier,
+                    timeoutWindowSize,
+                    timeoutMinSamples
+            );
+            Gauge.builder("external.api.read.timeout", adaptiveTimeout, AdaptiveTimeout::getCurrentMillis)
+                    .description("외부 API에 현재 적용 중인 읽기 타임아웃(ms)")
+                    .tag("name", key)
+                    .register(meterRegistry);
+            return adaptiveTimeout;
+        });
+    }
+}
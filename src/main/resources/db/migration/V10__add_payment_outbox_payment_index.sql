@@ -0,0 +1,3 @@
+-- 취소 후속 작업이 같은 결제의 승인 후속 작업 처리 여부를 확인할 때 사용
+create index idx_payment_outboxes_payment_id_type
+    on payment_outboxes (payment_id, type);
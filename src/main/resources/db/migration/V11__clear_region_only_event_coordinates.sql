@@ -0,0 +1,24 @@
+-- 시/도만 찾은 장소는 좌표를 저장하지 않으므로, 시/도 좌표로 저장된 이벤트의 좌표를 비움
+-- 검색 인덱스의 locationPoint는 관리자 검색 인덱스 재구성으로 다시 반영
+update events
+set latitude  = null,
+    longitude = null
+where (latitude, longitude) in (
+       (37.5665, 126.9780),
+       (35.1796, 129.0756),
+       (35.8714, 128.6014),
+       (37.4563, 126.7052),
+       (35.1595, 126.8526),
+       (36.3504, 127.3845),
+       (35.5384, 129.3114),
+       (36.4800, 127.2890),
+       (37.2752, 127.0095),
+       (37.8854, 127.7298),
+       (36.6357, 127.4917),
+       (36.6588, 126.6728),
+       (35.8203, 127.1088),
+       (34.8161, 126.4629),
+       (36.5760, 128.5056),
+       (35.2383, 128.6925),
+       (33.4890, 126.4983)
+);
@@ -0,0 +1,12 @@
+-- Redis 재고 변화량 묶음 중 마지막으로 반영한 묶음 아이디, 같은 묶음을 다시 반영하지 않도록 재고 반영과 같은 트랜잭션에서 갱신
+create table event_ticket_stock_flush
+(
+    id            int         not null,
+    created_at    datetime(6) not null,
+    updated_at    datetime(6) not null,
+    last_batch_id varchar(36),
+    primary key (id)
+) engine=InnoDB;
+
+insert into event_ticket_stock_flush (id, created_at, updated_at, last_batch_id)
+values (1, now(6), now(6), null);
@@ -0,0 +1,7 @@
+-- 세종은 시/군/구가 없어 시청 좌표를 그대로 저장하므로, V11에서 비운 세종 이벤트의 좌표를 되돌림
+-- 검색 인덱스의 locationPoint는 관리자 검색 인덱스 재구성으로 다시 반영
+update events
+set latitude  = 36.4800,
+    longitude = 127.2890
+where latitude is null
+  and location regexp '^(세종|세종시|세종특별자치시)([ ,]|$)';
@@ -0,0 +1,302 @@
+-- ddl-auto: update로 만들어진 기존 스키마를 그대로 옮긴 기준 버전입니다.
+-- 이미 테이블이 있는 DB는 baseline-on-migrate로 이 버전을 건너뛰고 V2부터 적용합니다.
+
+create table admins (
+    id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    role enum ('ROLE_ADMIN','ROLE_ARTIST','ROLE_USER') not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table attachments (
+    attachment_id bigint not null auto_increment,
+    table_role enum ('EVENT','REVIEW','USER') not null,
+    target_id bigint not null,
+    url varchar(100) not null,
+    primary key (attachment_id)
+) engine=InnoDB;
+
+create table coupons (
+    coupon_id bigint not null auto_increment,
+    code varchar(15) not null,
+    count integer not null,
+    discount_amount integer not null,
+    expired_at date not null,
+    is_deleted bit not null,
+    primary key (coupon_id)
+) engine=InnoDB;
+
+create table event_ticket_stocks (
+    event_ticket_stock_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    stock integer not null,
+    event_id bigint not null,
+    primary key (event_ticket_stock_id)
+) engine=InnoDB;
+
+create table events (
+    event_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    category enum ('ART','COMMUNITY','CONCERT','MOVIE','MUSIC','WORKSHOP') not null,
+    content varchar(100) not null,
+    end_at datetime(6) not null,
+    is_calculated bit not null,
+    is_deleted bit not null,
+    location varchar(100) not null,
+    max_people integer not null,
+    price integer not null,
+    recruitment_finish_at datetime(6) not null,
+    recruitment_start_at datetime(6) not null,
+    start_at datetime(6) not null,
+    title varchar(100) not null,
+    user_id bigint not null,
+    primary key (event_id)
+) engine=InnoDB;
+
+create table likes (
+    like_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    review_review_id bigint not null,
+    user_user_id bigint not null,
+    primary key (like_id)
+) engine=InnoDB;
+
+create table payment_events (
+    payment_event_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    payment_id bigint not null,
+    type enum ('APPROVE','CANCEL','CANCEL_FAILED','READY') not null,
+    primary key (payment_event_id)
+) engine=InnoDB;
+
+create table payments (
+    payment_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    cid varchar(255) not null,
+    discounted_amount integer not null,
+    original_amount integer not null,
+    status enum ('APPROVED','CANCELED','FAILED','PENDING','READY') not null,
+    tid varchar(255),
+    used_point_amount integer not null,
+    event_id bigint not null,
+    point_id bigint not null,
+    user_id bigint not null,
+    user_coupon_id bigint,
+    primary key (payment_id)
+) engine=InnoDB;
+
+create table point_histories (
+    point_history_id bigint not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    amount integer not null,
+    status enum ('CANCELED','USED') not null,
+    payment_id bigint not null,
+    point_id bigint not null,
+    primary key (point_history_id)
+) engine=InnoDB;
+
+create table point_histories_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into point_histories_seq values ( 1 );
+
+create table points (
+    point_id bigint not null auto_increment,
+    amount integer not null,
+    user_id bigint not null,
+    primary key (point_id)
+) engine=InnoDB;
+
+create table reviews (
+    review_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    contents varchar(255) not null,
+    is_deleted bit not null,
+    likes integer not null,
+    rating integer not null,
+    event_event_id bigint not null,
+    user_user_id bigint not null,
+    primary key (review_id)
+) engine=InnoDB;
+
+create table reviews_like_users (
+    review_review_id bigint not null,
+    like_users_user_id bigint not null
+) engine=InnoDB;
+
+create table tickets (
+    ticket_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    is_canceled bit not null,
+    price integer not null,
+    event_id bigint not null,
+    user_id bigint not null,
+    primary key (ticket_id)
+) engine=InnoDB;
+
+create table user_coupons (
+    user_coupon_id bigint not null auto_increment,
+    is_used bit not null,
+    coupon_id bigint not null,
+    user_id bigint not null,
+    primary key (user_coupon_id)
+) engine=InnoDB;
+
+create table users (
+    user_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    birth date not null,
+    email varchar(255) not null,
+    is_deleted bit not null,
+    is_social_login bit not null,
+    location varchar(255) not null,
+    nickname varchar(255) not null,
+    password varchar(255) not null,
+    phone_number varchar(255) not null,
+    role enum ('ROLE_ADMIN','ROLE_ARTIST','ROLE_USER') not null,
+    primary key (user_id)
+) engine=InnoDB;
+
+alter table admins
+   add constraint UK47bvqemyk6vlm0w7crc3opdd4 unique (email);
+
+alter table coupons
+   add constraint UKeplt0kkm9yf2of2lnx6c1oy9b unique (code);
+
+alter table event_ticket_stocks
+   add constraint UKmvl6niy45sdat62ukg3r8sppg unique (event_id);
+
+alter table payments
+   add constraint UKlv82gsslj80s8hm2jd6mjx2r5 unique (tid);
+
+alter table point_histories
+   add constraint UK94ie2xg49cxy0b40cptnv12m unique (payment_id);
+
+alter table points
+   add constraint UKswg8y3uo5dm5psbnesgeu1my unique (user_id);
+
+alter table reviews_like_users
+   add constraint UKsc5ar0p25i40qyqmess6qxwmj unique (like_users_user_id);
+
+create index idx_nickname_phone
+   on users (phone_number, nickname);
+
+create index idx_nickname_birth
+   on users (nickname, birth);
+
+create index idx_location
+   on users (location, nickname);
+
+alter table users
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table users
+   add constraint UK9q63snka3mdh91as4io72espi unique (phone_number);
+
+alter table event_ticket_stocks
+   add constraint FK962nxsls2o6kpu3fb2d5xf3oy
+   foreign key (event_id)
+   references events (event_id);
+
+alter table events
+   add constraint FKat8p3s7yjcp57lny4udqvqncq
+   foreign key (user_id)
+   references users (user_id);
+
+alter table likes
+   add constraint FK737w07cbtyfx881pysb6umic7
+   foreign key (review_review_id)
+   references reviews (review_id);
+
+alter table likes
+   add constraint FKhqwsmofhd6aremft1usbyyaw0
+   foreign key (user_user_id)
+   references users (user_id);
+
+alter table payments
+   add constraint FKmok6urmuf6s9wdl5hxv8nv3oy
+   foreign key (event_id)
+   references events (event_id);
+
+alter table payments
+   add constraint FK1j5vwjkspc0xgokgg598cmnfy
+   foreign key (point_id)
+   references points (point_id);
+
+alter table payments
+   add constraint FKj94hgy9v5fw1munb90tar2eje
+   foreign key (user_id)
+   references users (user_id);
+
+alter table payments
+   add constraint FKsqef4ua1xx54vxywsfux57ua9
+   foreign key (user_coupon_id)
+   references user_coupons (user_coupon_id);
+
+alter table point_histories
+   add constraint FKa1k7t5wgwpo23waauevwqhwkt
+   foreign key (payment_id)
+   references payments (payment_id);
+
+alter table point_histories
+   add constraint FKi7jy2j3rdbyxg8bvyfl3gxri3
+   foreign key (point_id)
+   references points (point_id);
+
+alter table points
+   add constraint FKr49p6spgfhomh11aksag7al0d
+   foreign key (user_id)
+   references users (user_id);
+
+alter table reviews
+   add constraint FK4qf25y0y2q6kbi0u662tmlqxa
+   foreign key (event_event_id)
+   references events (event_id);
+
+alter table reviews
+   add constraint FKlf3o9b470m6g2m5f03vqrbu74
+   foreign key (user_user_id)
+   references users (user_id);
+
+alter table reviews_like_users
+   add constraint FK697a8fn1sgeqhvy4c5nhlc001
+   foreign key (like_users_user_id)
+   references users (user_id);
+
+alter table reviews_like_users
+   add constraint FKpg0bn4newu4cakk2klg3pn7w6
+   foreign key (review_review_id)
+   references reviews (review_id);
+
+alter table tickets
+   add constraint FK3utafe14rupaypjocldjaj4ol
+   foreign key (event_id)
+   references events (event_id);
+
+alter table tickets
+   add constraint FK4eqsebpimnjen0q46ja6fl2hl
+   foreign key (user_id)
+   references users (user_id);
+
+alter table user_coupons
+   add constraint FK9oi3p5xyfe4j32xs54nn7mi20
+   foreign key (coupon_id)
+   references coupons (coupon_id);
+
+alter table user_coupons
+   add constraint FK654lvm2qu8l08pyg310mbd74h
+   foreign key (user_id)
+   references users (user_id);
@@ -0,0 +1,10 @@
+-- 이벤트 재고를 여러 샤드 행으로 나눠 관리, 기존 재고는 0번 샤드가 됨
+alter table event_ticket_stocks
+    add column shard integer not null default 0;
+
+-- 외래 키가 사용할 인덱스가 남도록 (event_id, shard) 제약 조건을 먼저 추가한 뒤 이벤트당 한 행 제약 조건을 삭제
+alter table event_ticket_stocks
+    add constraint uk_event_ticket_stocks_event_shard unique (event_id, shard);
+
+alter table event_ticket_stocks
+    drop constraint UKmvl6niy45sdat62ukg3r8sppg;
@@ -0,0 +1,7 @@
+-- 만료 결제 정리: 상태와 생성 시각 범위로 PENDING, READY 결제 조회
+create index idx_payments_status_created_at
+    on payments (status, created_at);
+
+-- 유저별 결제 내역 커서 조회: 생성 시각, 아이디 역순
+create index idx_payments_user_id_created_at
+    on payments (user_id, created_at, payment_id);
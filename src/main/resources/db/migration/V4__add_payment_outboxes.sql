@@ -0,0 +1,17 @@
+-- 결제 상태 변경과 같은 트랜잭션에 저장하는 후속 작업, 같은 결제의 작업이 아이디 순으로 처리되도록 auto_increment 사용
+create table payment_outboxes (
+    payment_outbox_id bigint not null auto_increment,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    attempts integer not null,
+    last_error varchar(500),
+    lease_owner varchar(255),
+    lease_until datetime(6),
+    payment_id bigint not null,
+    status enum ('DEAD','DONE','PENDING') not null,
+    type enum ('APPROVED','CANCELED','FAILED') not null,
+    primary key (payment_outbox_id)
+) engine=InnoDB;
+
+create index idx_payment_outboxes_status_lease_until
+    on payment_outboxes (status, lease_until);
@@ -0,0 +1,59 @@
+-- 여러 행을 한 번에 INSERT 하도록 IDENTITY 대신 SEQUENCE(pooled, allocationSize 50)로 아이디를 발급
+-- MySQL에는 시퀀스가 없으므로 Hibernate가 <테이블>_seq 테이블의 next_val을 시퀀스로 사용
+-- pooled 옵티마이저는 읽은 값에서 49를 뺀 값부터 발급하므로 기존 최대 아이디 + 50으로 시작해 기존 아이디와 겹치지 않게 함
+-- point_histories는 처음부터 point_histories_seq를 사용하고 있어 변경하지 않음
+
+alter table attachments
+    modify attachment_id bigint not null;
+
+create table attachments_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into attachments_seq (next_val)
+select coalesce(max(attachment_id), 0) + 50
+from attachments;
+
+alter table event_ticket_stocks
+    modify event_ticket_stock_id bigint not null;
+
+create table event_ticket_stocks_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into event_ticket_stocks_seq (next_val)
+select coalesce(max(event_ticket_stock_id), 0) + 50
+from event_ticket_stocks;
+
+alter table payments
+    modify payment_id bigint not null;
+
+create table payments_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into payments_seq (next_val)
+select coalesce(max(payment_id), 0) + 50
+from payments;
+
+alter table tickets
+    modify ticket_id bigint not null;
+
+create table tickets_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into tickets_seq (next_val)
+select coalesce(max(ticket_id), 0) + 50
+from tickets;
+
+alter table user_coupons
+    modify user_coupon_id bigint not null;
+
+create table user_coupons_seq (
+    next_val bigint
+) engine=InnoDB;
+
+insert into user_coupons_seq (next_val)
+select coalesce(max(user_coupon_id), 0) + 50
+from user_coupons;
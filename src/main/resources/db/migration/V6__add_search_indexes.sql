@@ -0,0 +1,17 @@
+-- 이벤트 목록 조회: is_deleted = false 조건에 카테고리, 모집 마감일 조건을 이어서 사용
+create index idx_events_is_deleted_category_recruitment_finish_at
+    on events (is_deleted, category, recruitment_finish_at);
+
+-- 공연 시작 알림 대상 조회: 시작 시각 범위로 이벤트를 찾은 뒤 티켓을 조회
+create index idx_events_start_at
+    on events (start_at);
+
+-- 이벤트별 판매 티켓 수 조회, 이벤트 삭제 시 티켓 일괄 취소
+create index idx_tickets_event_id_is_canceled
+    on tickets (event_id, is_canceled);
+
+-- 유저 프로필, 이벤트, 리뷰 첨부파일 조회
+create index idx_attachments_table_role_target_id
+    on attachments (table_role, target_id);
+
+-- payments(tid)는 V1의 unique 제약 조건 인덱스로 조회하므로 따로 추가하지 않음
@@ -0,0 +1,6 @@
+-- 이벤트 장소의 좌표, 등록, 수정 시 지역 좌표표에서 찾아 저장
+alter table events
+    add column latitude double;
+
+alter table events
+    add column longitude double;
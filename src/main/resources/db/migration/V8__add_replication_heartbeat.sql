@@ -0,0 +1,10 @@
+-- 복제 지연 측정: 기본 DB에서 주기적으로 beat_at을 갱신하고, 복제 DB에 반영된 값과 현재 시각의 차이를 지연으로 사용
+create table replication_heartbeat
+(
+    id      int         not null,
+    beat_at datetime(6) not null,
+    primary key (id)
+);
+
+insert into replication_heartbeat (id, beat_at)
+values (1, now(6));
@@ -0,0 +1,14 @@
+-- 만료 결제 정리: READY 결제는 생성 시각이 아니라 결제창이 열린 시각부터 만료 시간을 계산
+alter table payments
+    add column ready_at datetime(6);
+
+update payments
+set ready_at = updated_at
+where status = 'READY';
+
+create index idx_payments_status_ready_at
+    on payments (status, ready_at);
+
+-- 카카오페이에서만 승인된 결제의 카카오페이 결제 취소 후속 작업
+alter table payment_outboxes
+    modify column type enum ('APPROVED','CANCELED','FAILED','GATEWAY_CANCEL') not null;
@@ -0,0 +1,108 @@
+package com.spotlightspace.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.spotlightspace.common.annotation.AuthUser;
+import com.spotlightspace.config.JwtAuthenticationToken;
+import com.spotlightspace.core.user.domain.UserRole;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+@ExtendWith(MockitoExtension.class)
+class ReadAfterWriteTrackerTest {
+
+    private static final String KEY = "replica:last-write:user:1";
+
+    @Mock
+    RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    ValueOperations<String, String> valueOperations;
+
+    ReadAfterWriteTracker readAfterWriteTracker;
+
+    @BeforeEach
+    void setUp() {
+        readAfterWriteTracker = new ReadAfterWriteTracker(redisTemplate, 3_000);
+        ReplicaRoutingContext.clearWrite();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        ReplicaRoutingContext.clearWrite();
+    }
+
+    @Test
+    @DisplayName("로그인한 사용자의 쓰기 시각을 read-after-write 기간 동안 Redis에 남긴다.")
+    void recordWrite() {
+        // given
+        login();
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+
+        // when
+        readAfterWriteTracker.recordWrite();
+
+        // then
+        then(valueOperations).should().set(eq(KEY), anyString(), eq(Duration.ofMillis(3_000)));
+        assertThat(ReplicaRoutingContext.wroteWithin(3_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 요청에서 방금 쓰기를 한 사용자는 새 스레드에서도 쓰기 직후로 판단한다.")
+    void restoreWrite() {
+        // given
+        login();
+        given(redisTemplate.hasKey(KEY)).willReturn(true);
+
+        // when
+        readAfterWriteTracker.restoreWrite();
+
+        // then
+        assertThat(ReplicaRoutingContext.wroteWithin(3_000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그인하지 않은 요청은 Redis를 조회하지 않는다.")
+    void restoreWriteWithoutLogin() {
+        // when
+        readAfterWriteTracker.restoreWrite();
+
+        // then
+        then(redisTemplate).should(never()).hasKey(anyString());
+        assertThat(ReplicaRoutingContext.wroteWithin(3_000)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에도 같은 스레드의 쓰기 직후 판단은 유지한다.")
+    void recordWriteWhenRedisFails() {
+        // given
+        login();
+        given(redisTemplate.opsForValue()).willThrow(new IllegalStateException("redis down"));
+
+        // when
+        readAfterWriteTracker.recordWrite();
+
+        // then
+        assertThat(ReplicaRoutingContext.wroteWithin(3_000)).isTrue();
+    }
+
+    private void login() {
+        SecurityContextHolder.getContext()
+                .setAuthentication(new JwtAuthenticationToken(new AuthUser(1L, "test@test.com", UserRole.ROLE_USER)));
+    }
+}
@@ -0,0 +1,73 @@
+package com.spotlightspace.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReplicaLagMonitorTest {
+
+    JdbcTemplate primary;
+    JdbcTemplate fresh;
+    JdbcTemplate lagging;
+    JdbcTemplate unreachable;
+    SimpleMeterRegistry meterRegistry;
+    ReplicaLagMonitor replicaLagMonitor;
+
+    @BeforeEach
+    void setUp() {
+        primary = mock(JdbcTemplate.class);
+        fresh = mock(JdbcTemplate.class);
+        lagging = mock(JdbcTemplate.class);
+        unreachable = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", fresh);
+        replicas.put("replica-2", lagging);
+        replicas.put("replica-3", unreachable);
+        replicaLagMonitor = new ReplicaLagMonitor(primary, replicas, 5, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("heartbeat를 갱신하고 지연이 기준 이하인 복제 DB만 읽기 대상으로 남긴다.")
+    void check() {
+        // given
+        given(fresh.queryForObject(anyString(), eq(Long.class))).willReturn(800_000L);
+        given(lagging.queryForObject(anyString(), eq(Long.class))).willReturn(12_000_000L);
+        given(unreachable.queryForObject(anyString(), eq(Long.class)))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        replicaLagMonitor.check();
+
+        // then
+        verify(primary).update(anyString());
+        assertThat(replicaLagMonitor.availableReplicas()).containsExactly("replica-1");
+        assertThat(gauge("datasource.replica.lag.seconds", "replica-1")).isEqualTo(0.8);
+        assertThat(gauge("datasource.replica.lag.seconds", "replica-2")).isEqualTo(12.0);
+        assertThat(gauge("datasource.replica.available", "replica-3")).isZero();
+    }
+
+    @Test
+    @DisplayName("처음 확인하기 전에는 모든 읽기를 기본 DB로 보낸다.")
+    void beforeFirstCheck() {
+        // then
+        assertThat(replicaLagMonitor.availableReplicas()).isEmpty();
+    }
+
+    private double gauge(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).gauge().value();
+    }
+}
@@ -0,0 +1,123 @@
+package com.spotlightspace.common.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+class ReplicaRoutingDataSourceTest {
+
+    ReplicaLagMonitor replicaLagMonitor;
+    SimpleMeterRegistry meterRegistry;
+    ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        replicaLagMonitor = mock(ReplicaLagMonitor.class);
+        meterRegistry = new SimpleMeterRegistry();
+        replicaRoutingDataSource = routingDataSource(0);
+        given(replicaLagMonitor.availableReplicas()).willReturn(List.of("replica-1", "replica-2"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션이 아니면 기본 DB를 사용한다.")
+    void routeWrite() {
+        // when
+        Object target = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 사용할 수 있는 복제 DB에 번갈아 보낸다.")
+    void routeReadOnly() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        Object first = replicaRoutingDataSource.determineCurrentLookupKey();
+        Object second = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(List.of(first, second)).containsExactly("replica-1", "replica-2");
+        assertThat(count("replica-1", "replica")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연 기준을 만족하는 복제 DB가 없으면 기본 DB를 읽는다.")
+    void routeReadOnlyWithoutReplica() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(replicaLagMonitor.availableReplicas()).willReturn(List.of());
+
+        // when
+        Object target = replicaRoutingDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(count(ReplicaRoutingDataSource.PRIMARY, "replica_unavailable")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ReadFromPrimary 구간에서는 읽기 전용 트랜잭션도 기본 DB를 읽는다.")
+    void routeReadOnlyInPrimaryScope() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.enterPrimaryScope();
+
+        // when
+        Object target;
+        try {
+            target = replicaRoutingDataSource.determineCurrentLookupKey();
+        } finally {
+            ReplicaRoutingContext.exitPrimaryScope();
+        }
+
+        // then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(count(ReplicaRoutingDataSource.PRIMARY, "forced")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 스레드에서 쓰기 직후에는 읽기 전용 트랜잭션도 기본 DB를 읽는다.")
+    void routeReadOnlyAfterWrite() {
+        // given
+        ReplicaRoutingDataSource readAfterWriteDataSource = routingDataSource(3_000);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReplicaRoutingContext.markWrite();
+
+        // when
+        Object target = readAfterWriteDataSource.determineCurrentLookupKey();
+
+        // then
+        assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        assertThat(count(ReplicaRoutingDataSource.PRIMARY, "read_after_write")).isEqualTo(1);
+    }
+
+    private ReplicaRoutingDataSource routingDataSource(long readAfterWriteMillis) {
+        return new ReplicaRoutingDataSource(
+                mock(DataSource.class),
+                Map.of("replica-1", mock(DataSource.class), "replica-2", mock(DataSource.class)),
+                replicaLagMonitor, readAfterWriteMillis, meterRegistry);
+    }
+
+    private double count(String target, String reason) {
+        return meterRegistry.get("datasource.replica.routing").tag("target", target).tag("reason", reason)
+                .counter().count();
+    }
+}
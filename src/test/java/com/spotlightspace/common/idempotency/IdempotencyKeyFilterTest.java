@@ -0,0 +1,180 @@
+package com.spotlightspace.common.idempotency;
+
+import static com.spotlightspace.common.idempotency.IdempotencyKeyFilter.IDEMPOTENCY_KEY_HEADER;
+import static com.spotlightspace.common.idempotency.IdempotencyKeyFilter.IDEMPOTENT_REPLAYED_HEADER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.DigestUtils;
+
+class IdempotencyKeyFilterTest {
+
+    private static final String READY_URI = "/api/v1/payments/ready";
+    private static final String READY_BODY = "{\"eventId\":1}";
+
+    private IdempotencyRedisRepository idempotencyRedisRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private IdempotencyKeyFilter idempotencyKeyFilter;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyRedisRepository = mock(IdempotencyRedisRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        idempotencyKeyFilter = new IdempotencyKeyFilter(
+                idempotencyRedisRepository,
+                new ObjectMapper(),
+                meterRegistry,
+                List.of("/api/*/payments/ready")
+        );
+    }
+
+    @Test
+    @DisplayName("멱등 키가 없는 요청은 저장소를 거치지 않고 그대로 처리된다.")
+    void passThroughWithoutKey() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", READY_URI);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        // when
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNotNull();
+        verify(idempotencyRedisRepository, never()).tryAcquire(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("처음 들어온 멱등 키는 요청을 처리한 뒤 요청 해시와 함께 응답을 저장한다.")
+    void storeResponseOnMiss() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest("key-1", READY_BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse res)
+                    throws IOException {
+                assertThat(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8))
+                        .isEqualTo(READY_BODY);
+                res.setStatus(HttpServletResponse.SC_OK);
+                res.setContentType("application/json");
+                res.getWriter().write("{\"tid\":\"T1\"}");
+            }
+        });
+        given(idempotencyRedisRepository.tryAcquire(anyString(), anyString())).willReturn(true);
+
+        // when
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+
+        // then
+        ArgumentCaptor<IdempotentResponse> captor = ArgumentCaptor.forClass(IdempotentResponse.class);
+        verify(idempotencyRedisRepository).complete(eq("anonymous:POST:" + READY_URI + ":key-1"), captor.capture());
+        verify(idempotencyRedisRepository).tryAcquire(anyString(), eq(requestHash(READY_BODY)));
+        assertThat(captor.getValue().isCompleted()).isTrue();
+        assertThat(captor.getValue().getRequestHash()).isEqualTo(requestHash(READY_BODY));
+        assertThat(captor.getValue().getStatus()).isEqualTo(200);
+        assertThat(captor.getValue().getBody()).isEqualTo("{\"tid\":\"T1\"}");
+        assertThat(response.getContentAsString()).isEqualTo("{\"tid\":\"T1\"}");
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "miss").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리가 끝난 멱등 키로 다시 요청하면 저장된 응답을 그대로 돌려준다.")
+    void replayStoredResponseOnHit() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest("key-1", READY_BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(idempotencyRedisRepository.tryAcquire(anyString(), anyString())).willReturn(false);
+        given(idempotencyRedisRepository.find(anyString())).willReturn(Optional.of(IdempotentResponse.completed(
+                requestHash(READY_BODY), 200, "application/json", "{\"tid\":\"T1\"}")));
+
+        // when
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(IDEMPOTENT_REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"tid\":\"T1\"}");
+        verify(idempotencyRedisRepository, never()).complete(anyString(), any());
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "hit").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 멱등 키로 다시 요청하면 409를 반환한다.")
+    void conflictWhenInProgress() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest("key-1", READY_BODY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(idempotencyRedisRepository.tryAcquire(anyString(), anyString())).willReturn(false);
+        given(idempotencyRedisRepository.find(anyString()))
+                .willReturn(Optional.of(IdempotentResponse.inProgress(requestHash(READY_BODY))));
+
+        // when
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(HttpServletResponse.SC_CONFLICT);
+    }
+
+    @Test
+    @DisplayName("같은 멱등 키로 본문이 다른 요청을 보내면 저장된 응답을 돌려주지 않고 422를 반환한다.")
+    void unprocessableWhenBodyDiffers() throws Exception {
+        // given
+        MockHttpServletRequest request = createRequest("key-1", "{\"eventId\":2}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+        given(idempotencyRedisRepository.tryAcquire(anyString(), anyString())).willReturn(false);
+        given(idempotencyRedisRepository.find(anyString())).willReturn(Optional.of(IdempotentResponse.completed(
+                requestHash(READY_BODY), 200, "application/json", "{\"tid\":\"T1\"}")));
+
+        // when
+        idempotencyKeyFilter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(filterChain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(response.getHeader(IDEMPOTENT_REPLAYED_HEADER)).isNull();
+        assertThat(meterRegistry.get("idempotency.requests").tag("result", "mismatch").counter().count())
+                .isEqualTo(1);
+    }
+
+    private MockHttpServletRequest createRequest(String idempotencyKey, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", READY_URI);
+        request.addHeader(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private String requestHash(String body) {
+        return DigestUtils.md5DigestAsHex(("\n" + body).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,233 @@
+package com.spotlightspace.common.queryplan;
+
+import static com.spotlightspace.core.payment.domain.PaymentStatus.APPROVED;
+import static com.spotlightspace.core.payment.domain.PaymentStatus.PENDING;
+import static com.spotlightspace.core.payment.domain.PaymentStatus.READY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.common.entity.TableRole;
+import com.spotlightspace.config.JPAConfiguration;
+import com.spotlightspace.config.JpaAuditingConfig;
+import com.spotlightspace.core.attachment.repository.AttachmentRepository;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventCategory;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.repository.EventCountRedisRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 이벤트, 티켓, 결제, 첨부파일 리포지토리 쿼리의 실행 계획을 확인합니다.
+ * 쿼리를 실행하며 Hibernate가 만든 SQL을 모아 EXPLAIN하고, 인덱스 없이 테이블 전체를 읽는 쿼리가 있으면 실패합니다.
+ * 테스트 DB인 H2(MySQL 모드)의 실행 계획이므로 MySQL의 실행 계획과 완전히 같지는 않습니다.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.flyway.enabled=true",
+        // MySQL용 시퀀스 테이블은 H2Dialect의 시퀀스와 달라 스키마 검증은 하지 않음
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({JPAConfiguration.class, JpaAuditingConfig.class, RepositoryQueryPlanTest.SqlCaptureConfig.class})
+class RepositoryQueryPlanTest {
+
+    private static final String FULL_SCAN = ".tableScan";
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    SqlCapture sqlCapture;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    TicketRepository ticketRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    AttachmentRepository attachmentRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @MockBean
+    EventCountRedisRepository eventCountRedisRepository;
+
+    @BeforeEach
+    void setUp() {
+        sqlCapture.clear();
+    }
+
+    @Test
+    @DisplayName("이벤트 쿼리는 테이블 전체를 읽지 않는다.")
+    void eventQueries() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        SearchEventRequestDto emptyCondition = SearchEventRequestDto.of(null, null, null, null, null, null);
+        SearchEventRequestDto categoryCondition = SearchEventRequestDto.of(
+                null, null, null, EventCategory.ART, now.minusDays(7), now.plusDays(7));
+
+        // when
+        eventRepository.findByIdAndIsDeletedFalse(1L);
+        eventRepository.findByIdAndUserIdAndIsDeletedFalse(1L, 1L);
+        eventRepository.existEvent(1L);
+        eventRepository.findIdsByUserId(1L);
+        eventRepository.findAllByIdGreaterThan(0L, PageRequest.of(0, 100));
+        eventRepository.findAllWithoutCoordinatesByIdGreaterThan(0L, PageRequest.of(0, 100));
+        eventRepository.existSettlement(1L);
+        eventRepository.deleteByUserId(1L);
+        eventRepository.searchEvents(emptyCondition, "", PageRequest.of(0, 10));
+        eventRepository.searchEvents(categoryCondition, "date", PageRequest.of(0, 10));
+
+        // then
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("티켓 쿼리는 테이블 전체를 읽지 않는다.")
+    void ticketQueries() {
+        // given
+        User user = userRepository.getReferenceById(1L);
+        Event event = eventRepository.getReferenceById(1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        ticketRepository.countTicketByEvent(1L);
+        ticketRepository.findTotalAmountByUserId(1L);
+        ticketRepository.findTotalAmountGroupedByEvent(1L);
+        ticketRepository.findFirstByUserAndEvent(user, event);
+        ticketRepository.cancelAllByEventId(1L);
+        ticketRepository.existTicket(1L);
+        ticketRepository.deleteByUserId(1L);
+        ticketRepository.findTicketsByEventStartAt(now, now.plusHours(1));
+
+        // then
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("결제 쿼리는 테이블 전체를 읽지 않는다.")
+    void paymentQueries() {
+        // given
+        Event event = eventRepository.getReferenceById(1L);
+        LocalDateTime now = LocalDateTime.now();
+
+        // when
+        paymentRepository.findPaymentsByEventAndStatus(event, APPROVED);
+        paymentRepository.findById(1L);
+        paymentRepository.findByIdWithPessimisticLock(1L);
+        paymentRepository.findByTid("tid");
+        paymentRepository.findAllByUserId(1L, PageRequest.of(0, 10));
+        paymentRepository.findAllByEvent(event);
+        paymentRepository.findExpiredPaymentsWithPessimisticLock(PENDING, now, PageRequest.of(0, 10));
+        paymentRepository.findExpiredReadyPaymentsWithPessimisticLock(READY, now, PageRequest.of(0, 10));
+        paymentRepository.findOldestCreatedAtByStatus(PENDING);
+        paymentRepository.findOldestReadyAtByStatus(READY);
+        paymentRepository.findRefundTargetsWithPessimisticLock(1L, List.of(APPROVED), 0L, 10);
+        paymentRepository.updateStatusByIdIn(List.of(1L, 2L), APPROVED);
+        paymentRepository.findPaymentHistories(1L, null, 10);
+        paymentRepository.findPaymentHistories(1L, 1L, 10);
+
+        // then
+        assertNoFullScan();
+    }
+
+    @Test
+    @DisplayName("첨부파일 쿼리는 테이블 전체를 읽지 않는다.")
+    void attachmentQueries() {
+        // when
+        attachmentRepository.findByTableRoleAndTargetId(TableRole.USER, 1L);
+        attachmentRepository.findByTargetIdAndTableRole(1L, TableRole.EVENT);
+        attachmentRepository.findAllByTargetIdAndTableRole(1L, TableRole.REVIEW);
+
+        // then
+        assertNoFullScan();
+    }
+
+    private void assertNoFullScan() {
+        entityManager.flush();
+        List<String> statements = sqlCapture.statements();
+        assertThat(statements).isNotEmpty();
+
+        List<String> fullScans = new ArrayList<>();
+        for (String sql : statements) {
+            String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+            if (plan.contains(FULL_SCAN)) {
+                fullScans.add(plan);
+            }
+        }
+        assertThat(fullScans).as("테이블 전체를 읽는 쿼리").isEmpty();
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer(SqlCapture sqlCapture) {
+            return properties -> properties.put("hibernate.session_factory.statement_inspector", sqlCapture);
+        }
+    }
+
+    /**
+     * Hibernate가 실행하는 조회, 수정, 삭제 SQL을 모읍니다.
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            String statement = sql.stripLeading().toLowerCase();
+            if (statement.startsWith("select") || statement.startsWith("update") || statement.startsWith("delete")) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> statements() {
+            return List.copyOf(statements);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.spotlightspace.core.admin.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_CAMPAIGN_NOT_FOUND;
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_CAMPAIGN_PREFIX_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.requestdto.AdminCouponCampaignCreateRequestDto;
+import com.spotlightspace.core.admin.dto.responsedto.AdminCouponCampaignProgressResponseDto;
+import com.spotlightspace.core.coupon.domain.CouponCampaignStatus;
+import com.spotlightspace.core.coupon.repository.CouponCampaignProgressRedisRepository;
+import com.spotlightspace.core.coupon.repository.CouponJdbcRepository;
+import com.spotlightspace.core.coupon.repository.CouponRepository;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+class AdminCouponCampaignServiceTest {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponJdbcRepository couponJdbcRepository;
+
+    @Mock
+    private CouponCampaignProgressRedisRepository couponCampaignProgressRedisRepository;
+
+    @Captor
+    private ArgumentCaptor<List<String>> codesCaptor;
+
+    private AdminCouponCampaignService adminCouponCampaignService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 백그라운드 작업을 호출 스레드에서 바로 실행
+        adminCouponCampaignService = new AdminCouponCampaignService(
+                couponRepository,
+                couponJdbcRepository,
+                couponCampaignProgressRedisRepository,
+                Runnable::run,
+                CHUNK_SIZE
+        );
+    }
+
+    @Test
+    @DisplayName("캠페인 쿠폰을 chunk 단위로 나눠 중복 없는 코드로 저장하고 진행 상황을 기록한다.")
+    void createCampaign() {
+        // given
+        AdminCouponCampaignCreateRequestDto requestDto =
+                AdminCouponCampaignCreateRequestDto.of(1000, LocalDate.now().plusDays(30), 1, 2500);
+        when(couponRepository.existsByCodeStartingWith(anyString())).thenReturn(false);
+        when(couponCampaignProgressRedisRepository.start(anyString(), anyLong())).thenReturn(true);
+
+        // when
+        AdminCouponCampaignProgressResponseDto responseDto = adminCouponCampaignService.createCampaign(requestDto);
+
+        // then
+        verify(couponJdbcRepository, times(3))
+                .batchInsert(codesCaptor.capture(), eq(1000), eq(requestDto.getExpiredAt()), eq(1));
+
+        List<List<String>> chunks = codesCaptor.getAllValues();
+        assertThat(chunks).extracting(List::size).containsExactly(1000, 1000, 500);
+
+        Set<String> codes = new HashSet<>();
+        chunks.forEach(codes::addAll);
+        assertThat(codes).hasSize(2500);
+        assertThat(codes).allSatisfy(code -> {
+            assertThat(code).startsWith(responseDto.getCodePrefix());
+            assertThat(code).matches("[A-Z0-9]{4}-[A-Z0-9]{4}-[A-Z0-9]{4}");
+        });
+
+        assertThat(responseDto.getTotal()).isEqualTo(2500);
+        verify(couponCampaignProgressRedisRepository, times(2)).increaseInserted(responseDto.getCampaignId(), 1000);
+        verify(couponCampaignProgressRedisRepository).increaseInserted(responseDto.getCampaignId(), 500);
+        verify(couponCampaignProgressRedisRepository)
+                .finish(responseDto.getCampaignId(), CouponCampaignStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("이미 쓰이고 있는 접두어는 건너뛰고 다른 접두어를 선점한다.")
+    void createCampaign_skipUsedPrefix() {
+        // given
+        AdminCouponCampaignCreateRequestDto requestDto =
+                AdminCouponCampaignCreateRequestDto.of(1000, LocalDate.now().plusDays(30), 1, 10);
+        when(couponRepository.existsByCodeStartingWith(anyString())).thenReturn(true, false);
+        when(couponCampaignProgressRedisRepository.start(anyString(), anyLong())).thenReturn(false, true);
+
+        // when
+        adminCouponCampaignService.createCampaign(requestDto);
+
+        // then
+        verify(couponRepository, times(3)).existsByCodeStartingWith(anyString());
+        verify(couponCampaignProgressRedisRepository, times(2)).start(anyString(), eq(10L));
+    }
+
+    @Test
+    @DisplayName("사용 가능한 접두어를 찾지 못하면 예외가 발생하고 쿠폰을 생성하지 않는다.")
+    void createCampaign_prefixUnavailable() {
+        // given
+        AdminCouponCampaignCreateRequestDto requestDto =
+                AdminCouponCampaignCreateRequestDto.of(1000, LocalDate.now().plusDays(30), 1, 10);
+        when(couponRepository.existsByCodeStartingWith(anyString())).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> adminCouponCampaignService.createCampaign(requestDto))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(COUPON_CAMPAIGN_PREFIX_UNAVAILABLE.getMessage());
+        verify(couponJdbcRepository, never()).batchInsert(any(), anyInt(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("저장 중 오류가 나면 캠페인을 실패 상태로 기록한다.")
+    void createCampaign_failed() {
+        // given
+        AdminCouponCampaignCreateRequestDto requestDto =
+                AdminCouponCampaignCreateRequestDto.of(1000, LocalDate.now().plusDays(30), 1, 10);
+        when(couponCampaignProgressRedisRepository.start(anyString(), anyLong())).thenReturn(true);
+        doThrow(new IllegalStateException()).when(couponJdbcRepository)
+                .batchInsert(any(), anyInt(), any(), anyInt());
+
+        // when
+        AdminCouponCampaignProgressResponseDto responseDto = adminCouponCampaignService.createCampaign(requestDto);
+
+        // then
+        verify(couponCampaignProgressRedisRepository)
+                .finish(responseDto.getCampaignId(), CouponCampaignStatus.FAILED);
+        verify(couponCampaignProgressRedisRepository, never()).increaseInserted(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("캠페인 진행 상황을 조회한다.")
+    void getCampaignProgress() {
+        // given
+        when(couponCampaignProgressRedisRepository.find("AB12")).thenReturn(Optional.of(Map.of(
+                CouponCampaignProgressRedisRepository.TOTAL, "100",
+                CouponCampaignProgressRedisRepository.INSERTED, "40",
+                CouponCampaignProgressRedisRepository.STATUS, "RUNNING"
+        )));
+
+        // when
+        AdminCouponCampaignProgressResponseDto responseDto = adminCouponCampaignService.getCampaignProgress("AB12");
+
+        // then
+        assertThat(responseDto.getCodePrefix()).isEqualTo("AB12-");
+        assertThat(responseDto.getTotal()).isEqualTo(100);
+        assertThat(responseDto.getInserted()).isEqualTo(40);
+        assertThat(responseDto.getStatus()).isEqualTo(CouponCampaignStatus.RUNNING);
+    }
+
+    @Test
+    @DisplayName("진행 상황이 없는 캠페인을 조회하면 예외가 발생한다.")
+    void getCampaignProgress_notFound() {
+        // given
+        when(couponCampaignProgressRedisRepository.find(anyString())).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> adminCouponCampaignService.getCampaignProgress("AB12"))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(COUPON_CAMPAIGN_NOT_FOUND.getMessage());
+    }
+}
@@ -8,6 +8,7 @@ import com.spotlightspace.core.admin.repository.AdminQueryRepository;
 import com.spotlightspace.core.coupon.CouponCodeGenerator;
 import com.spotlightspace.core.coupon.domain.Coupon;
 import com.spotlightspace.core.coupon.repository.CouponRepository;
+import com.spotlightspace.core.usercoupon.repository.UserCouponIssueRedisRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -38,6 +39,9 @@ class AdminCouponServiceTest {
     @Mock
     private AdminQueryRepository adminRepository;
 
+    @Mock
+    private UserCouponIssueRedisRepository userCouponIssueRedisRepository;
+
     @InjectMocks
     private AdminCouponService adminCouponService;
 
@@ -151,6 +155,7 @@ class AdminCouponServiceTest {
 
         // then
         verify(couponRepository, times(1)).findById(couponId);
+        verify(userCouponIssueRedisRepository, times(1)).delete(couponId);
         assertThat(coupon.isDeleted()).isTrue();
     }
 
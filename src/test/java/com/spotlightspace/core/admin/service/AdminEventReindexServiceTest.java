@@ -0,0 +1,139 @@
+package com.spotlightspace.core.admin.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_REINDEX_ALREADY_RUNNING;
+import static com.spotlightspace.core.data.EventTestData.createDefaultEventRequestDto;
+import static com.spotlightspace.core.data.UserTestData.testArtist;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventReindexProgressResponseDto;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.domain.EventReindexStatus;
+import com.spotlightspace.core.event.repository.EventElasticIndexRepository;
+import com.spotlightspace.core.event.repository.EventReindexRedisRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class AdminEventReindexServiceTest {
+
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventElasticIndexRepository eventElasticIndexRepository;
+
+    @Mock
+    private EventReindexRedisRepository eventReindexRedisRepository;
+
+    @Captor
+    private ArgumentCaptor<List<EventElastic>> documentsCaptor;
+
+    private AdminEventReindexService adminEventReindexService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        // 백그라운드 작업을 호출 스레드에서 바로 실행
+        adminEventReindexService = new AdminEventReindexService(
+                eventRepository,
+                eventElasticIndexRepository,
+                eventReindexRedisRepository,
+                Runnable::run,
+                CHUNK_SIZE
+        );
+        when(eventElasticIndexRepository.getAlias()).thenReturn("events");
+    }
+
+    @Test
+    @DisplayName("이벤트를 아이디 순으로 chunk 단위로 이어서 적재한 뒤 설정을 되돌리고 alias를 교체한다.")
+    void reindex() {
+        // given
+        when(eventRepository.count()).thenReturn(3L);
+        when(eventReindexRedisRepository.start(anyString(), eq(3L), anyLong())).thenReturn(true);
+        when(eventRepository.findAllByIdGreaterThan(0L, PageRequest.of(0, CHUNK_SIZE)))
+                .thenReturn(List.of(event(1L), event(2L)));
+        when(eventRepository.findAllByIdGreaterThan(2L, PageRequest.of(0, CHUNK_SIZE)))
+                .thenReturn(List.of(event(3L)));
+
+        // when
+        AdminEventReindexProgressResponseDto responseDto = adminEventReindexService.reindex();
+
+        // then
+        String indexName = responseDto.getIndexName();
+        assertThat(indexName).startsWith("events_v");
+        assertThat(responseDto.getStatus()).isEqualTo(EventReindexStatus.RUNNING);
+
+        verify(eventElasticIndexRepository).createForBulkLoad(indexName);
+        verify(eventElasticIndexRepository, times(2))
+                .bulkCreate(documentsCaptor.capture(), eq(indexName));
+        assertThat(documentsCaptor.getAllValues())
+                .flatExtracting(documents -> documents.stream().map(EventElastic::getId).toList())
+                .containsExactly(1L, 2L, 3L);
+        verify(eventReindexRedisRepository).increaseIndexed(indexName, 2);
+        verify(eventReindexRedisRepository).increaseIndexed(indexName, 1);
+        verify(eventElasticIndexRepository).finishBulkLoad(indexName);
+        verify(eventElasticIndexRepository).switchAlias(indexName);
+        verify(eventReindexRedisRepository).finish(eq(indexName), eq(EventReindexStatus.COMPLETED), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 재구성 중이면 만든 인덱스를 삭제하고 예외를 던진다.")
+    void reindexAlreadyRunning() {
+        // given
+        when(eventReindexRedisRepository.start(anyString(), anyLong(), anyLong())).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> adminEventReindexService.reindex())
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(EVENT_REINDEX_ALREADY_RUNNING.getMessage());
+        verify(eventElasticIndexRepository).delete(anyString());
+        verify(eventRepository, never()).findAllByIdGreaterThan(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("적재에 실패하면 alias를 교체하지 않고 새 인덱스를 삭제한다.")
+    void reindexFailed() {
+        // given
+        when(eventReindexRedisRepository.start(anyString(), anyLong(), anyLong())).thenReturn(true);
+        when(eventRepository.findAllByIdGreaterThan(anyLong(), any())).thenReturn(List.of(event(1L)));
+        doThrow(new IllegalStateException("bulk failed"))
+                .when(eventElasticIndexRepository).bulkCreate(any(), anyString());
+
+        // when
+        AdminEventReindexProgressResponseDto responseDto = adminEventReindexService.reindex();
+
+        // then
+        verify(eventElasticIndexRepository, never()).switchAlias(anyString());
+        verify(eventReindexRedisRepository)
+                .finish(eq(responseDto.getIndexName()), eq(EventReindexStatus.FAILED), anyLong());
+        verify(eventElasticIndexRepository).delete(responseDto.getIndexName());
+    }
+
+    private Event event(long id) {
+        Event event = Event.create(createDefaultEventRequestDto(), testArtist());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -1,19 +1,28 @@
 package com.spotlightspace.core.admin.service;
 
 import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.admin.dto.responsedto.AdminEventCoordinatesResponseDto;
 import com.spotlightspace.core.admin.dto.responsedto.AdminEventResponseDto;
 import com.spotlightspace.core.admin.repository.AdminQueryRepository;
+import com.spotlightspace.core.event.domain.Coordinates;
 import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.event.service.EventIndexEvent;
+import com.spotlightspace.core.event.service.EventLocationGeocoder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static com.spotlightspace.common.exception.ErrorCode.EVENT_NOT_FOUND;
@@ -21,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class AdminEventServiceTest {
@@ -28,6 +38,15 @@ class AdminEventServiceTest {
     @Mock
     private AdminQueryRepository adminRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventLocationGeocoder eventLocationGeocoder;
+
     @InjectMocks
     private AdminEventService adminEventService;
 
@@ -69,6 +88,36 @@ class AdminEventServiceTest {
 
         // then
         verify(event, times(1)).deleteEvent();
+        verify(eventPublisher).publishEvent(any(EventIndexEvent.class));
+    }
+
+    @Test
+    void testFillMissingCoordinates() {
+        // given
+        Event seoul = mock(Event.class);
+        when(seoul.getId()).thenReturn(1L);
+        when(seoul.getLocation()).thenReturn("서울");
+        Event online = mock(Event.class);
+        when(online.getId()).thenReturn(2L);
+        when(online.getLocation()).thenReturn("온라인");
+        Coordinates coordinates = Coordinates.of(37.5665, 126.9780);
+
+        when(eventRepository.findAllWithoutCoordinatesByIdGreaterThan(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(seoul, online));
+        when(eventLocationGeocoder.geocode("서울")).thenReturn(Optional.of(coordinates));
+        when(eventLocationGeocoder.geocode("온라인")).thenReturn(Optional.empty());
+
+        // when
+        AdminEventCoordinatesResponseDto result = adminEventService.fillMissingCoordinates();
+
+        // then
+        assertThat(result.getUpdated()).isEqualTo(1);
+        assertThat(result.getUnresolved()).isEqualTo(1);
+        verify(seoul).changeCoordinates(coordinates);
+        verify(online, never()).changeCoordinates(any());
+        ArgumentCaptor<EventIndexEvent> captor = ArgumentCaptor.forClass(EventIndexEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertThat(captor.getValue().getEventIds()).containsExactly(1L);
     }
 
     @Test
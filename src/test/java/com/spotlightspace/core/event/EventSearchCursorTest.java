@@ -0,0 +1,47 @@
+package com.spotlightspace.core.event;
+
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventSearchCursorTest {
+
+    @Test
+    @DisplayName("정렬 값을 커서로 변환했다가 그대로 복원한다.")
+    void encodeAndDecode() {
+        // given
+        List<Object> sortValues = List.of(1.5, 1728000000000L, "COMMUNITY", 42);
+
+        // when
+        String cursor = EventSearchCursor.encode(sortValues);
+
+        // then
+        assertThat(cursor).doesNotContain("=", "+", "/");
+        assertThat(EventSearchCursor.decode(cursor)).containsExactly(1.5, 1728000000000L, "COMMUNITY", 42);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 예외가 발생한다.")
+    void decode_invalidCursor() {
+        assertThatThrownBy(() -> EventSearchCursor.decode("not a cursor"))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(INVALID_SEARCH_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("정렬 값이 비어 있는 커서는 예외가 발생한다.")
+    void decode_emptyCursor() {
+        // given
+        String cursor = EventSearchCursor.encode(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> EventSearchCursor.decode(cursor))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(INVALID_SEARCH_CURSOR.getMessage());
+    }
+}
@@ -11,9 +11,11 @@ import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.domain.EventCategory;
 import com.spotlightspace.core.event.domain.EventElastic;
 import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.UpdateEventRequestDto;
 import com.spotlightspace.core.event.dto.response.CreateEventResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
 import com.spotlightspace.core.event.dto.response.UpdateEventResponseDto;
@@ -243,6 +245,33 @@ public class EventControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("엘라스틱 서치 전문 검색 조회")
+    void searchEventsByKeyword_Success() throws Exception {
+
+        // given
+        EventElastic eventElastic = EventElastic.create(createDefaultEventRequestDto(), 1L);
+        EventSearchCursorResponseDto responseDto = EventSearchCursorResponseDto.of(
+                List.of(GetEventElasticResponseDto.from(eventElastic)), "pit-id", "next-cursor");
+        when(eventService.searchEventsByKeyword(
+                any(FullTextSearchEventRequestDto.class), eq(null), eq(null), eq(null), eq(10)))
+                .thenReturn(responseDto);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/event/search/full-text")
+                        .param("keyword", "서울 공연")
+                        .param("category", EventCategory.COMMUNITY.name())
+                        .param("minPrice", "1000")
+                        .param("startAtFrom", "2024-10-01")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.events[0].id").value(1L))
+                .andExpect(jsonPath("$.pitId").value("pit-id"))
+                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("이벤트 삭제")
     void deleteEvent_Success() throws Exception {
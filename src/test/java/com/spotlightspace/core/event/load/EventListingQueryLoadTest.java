@@ -0,0 +1,255 @@
+package com.spotlightspace.core.event.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.spotlightspace.core.auth.dto.request.SignUpUserRequestDto;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventCategory;
+import com.spotlightspace.core.event.domain.QEvent;
+import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
+import com.spotlightspace.core.event.repository.EventElasticRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+/**
+ * 이벤트 목록 조회 시 엔티티 조회와 컬럼 projection 조회의 엔티티 로드 수, 실행 시간, count 쿼리 실행 여부(Hibernate 통계)를 비교합니다.
+ * count 캐시 동작을 함께 확인하기 위해 count-mode를 CACHED로 실행합니다.
+ *
+ * <pre>./gradlew loadTest --tests '*EventListingQueryLoadTest' -Dload.rows=5000</pre>
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:event-listing-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=off",
+        "logging.config=classpath:load/logback-load.xml",
+        "event.list.count-mode=CACHED"
+})
+class EventListingQueryLoadTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    JPAQueryFactory jpaQueryFactory;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @MockBean
+    EventElasticRepository eventElasticRepository;
+
+    @Value("${load.rows:2000}")
+    int rows;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = Integer.getInteger("load.redis-port", 6382);
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        redisServer.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (eventRepository.count() > 0) {
+            return;
+        }
+        User artist = userRepository.save(User.create("password", signUpRequest()));
+        List<Event> events = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            events.add(Event.create(eventRequest(i), artist));
+        }
+        eventRepository.saveAll(events);
+    }
+
+    @Test
+    @DisplayName("projection 조회는 엔티티를 로드하지 않고 목록을 만든다.")
+    void projectionDoesNotLoadEntities() {
+        // given
+        int pages = rows / PAGE_SIZE;
+        QEvent event = QEvent.event;
+
+        // when
+        Result entity = measure("entity (selectFrom)", pages, page -> jpaQueryFactory
+                .selectFrom(event)
+                .where(event.isDeleted.eq(false))
+                .orderBy(event.id.desc())
+                .offset((long) page * PAGE_SIZE)
+                .limit(PAGE_SIZE)
+                .fetch()
+                .stream()
+                .map(GetEventResponseDto::from)
+                .toList()
+                .size());
+        Result projection = measure("projection (searchEvents)", pages, page -> eventRepository
+                .searchEvents(emptyCondition(), "", PageRequest.of(page, PAGE_SIZE))
+                .getNumberOfElements());
+
+        // then
+        log.info("""
+
+                        ===== event listing =====
+                        rows={}, page_size={}, pages={}
+                        {}
+                        {}""",
+                rows, PAGE_SIZE, pages, entity, projection);
+
+        assertThat(entity.rows).isEqualTo(rows);
+        assertThat(projection.rows).isEqualTo(rows);
+        assertThat(entity.entityLoads).isEqualTo(rows);
+        assertThat(projection.entityLoads).isZero();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 count 쿼리를 생략하고, CACHED 모드에서는 같은 조건의 개수를 재사용한다.")
+    void countElision() {
+        // given
+        Statistics statistics = statistics();
+        SearchEventRequestDto condition = SearchEventRequestDto.of(null, null, null, EventCategory.ART, null, null);
+        int lastPage = (rows / 2 - 1) / PAGE_SIZE;
+
+        // when
+        statistics.clear();
+        Page<GetEventResponseDto> middle = eventRepository.searchEvents(condition, "", PageRequest.of(0, PAGE_SIZE));
+        long middleQueries = statistics.getQueryExecutionCount();
+
+        statistics.clear();
+        eventRepository.searchEvents(condition, "", PageRequest.of(1, PAGE_SIZE));
+        long cachedQueries = statistics.getQueryExecutionCount();
+
+        statistics.clear();
+        Page<GetEventResponseDto> last = eventRepository.searchEvents(condition, "upprice",
+                PageRequest.of(lastPage, PAGE_SIZE));
+        long lastQueries = statistics.getQueryExecutionCount();
+
+        // then
+        log.info("""
+
+                        ===== count queries =====
+                        first page (count)        queries={}
+                        second page (cached)      queries={}
+                        last page (elided)        queries={}""",
+                middleQueries, cachedQueries, lastQueries);
+
+        assertThat(middle.getTotalElements()).isEqualTo(rows / 2);
+        assertThat(middleQueries).isEqualTo(2);
+        assertThat(cachedQueries).isEqualTo(1);
+        assertThat(last.getTotalElements()).isEqualTo(rows / 2);
+        assertThat(lastQueries).isEqualTo(1);
+    }
+
+    private Result measure(String label, int pages, IntFunction<Integer> fetchPage) {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        long fetched = 0;
+        long startedAt = System.nanoTime();
+        for (int page = 0; page < pages; page++) {
+            fetched += fetchPage.apply(page);
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new Result(label, fetched, statistics.getEntityLoadCount(), TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private SearchEventRequestDto emptyCondition() {
+        return SearchEventRequestDto.of(null, null, null, null, null, null);
+    }
+
+    private CreateEventRequestDto eventRequest(int index) {
+        LocalDateTime startAt = LocalDateTime.now().plusDays(30);
+        return CreateEventRequestDto.of(
+                "event" + index,
+                "content" + index,
+                "서울",
+                startAt,
+                startAt.plusHours(3),
+                100,
+                1_000 + index,
+                index % 2 == 0 ? EventCategory.ART : EventCategory.COMMUNITY,
+                LocalDateTime.now().minusDays(1),
+                startAt.minusDays(1)
+        );
+    }
+
+    private SignUpUserRequestDto signUpRequest() {
+        return new SignUpUserRequestDto(
+                "listing@load.test",
+                "Password1!",
+                "listing",
+                "ROLE_ARTIST",
+                "2000-01-01",
+                false,
+                "010-00000000",
+                "한국"
+        );
+    }
+
+    @AllArgsConstructor
+    private static class Result {
+
+        private final String label;
+        private final long rows;
+        private final long entityLoads;
+        private final long elapsedMillis;
+
+        @Override
+        public String toString() {
+            return String.format("%-28s rows=%d, entity loads=%d, elapsed=%dms", label, rows, entityLoads,
+                    elapsedMillis);
+        }
+    }
+}
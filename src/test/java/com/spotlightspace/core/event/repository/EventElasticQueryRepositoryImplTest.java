@@ -0,0 +1,195 @@
+package com.spotlightspace.core.event.repository;
+
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_SEARCH_CURSOR;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.DateHistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.RangeBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.EventSearchCursor;
+import com.spotlightspace.core.event.domain.EventCategory;
+import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.dto.request.FullTextSearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventFacetBucketDto;
+import com.spotlightspace.core.event.dto.response.EventFacetSearchResponseDto;
+import com.spotlightspace.core.event.dto.response.EventSearchCursorResponseDto;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.ResourceNotFoundException;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+
+class EventElasticQueryRepositoryImplTest {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("events");
+
+    ElasticsearchOperations operations;
+    EventElasticQueryRepositoryImpl eventElasticQueryRepository;
+
+    @Mock
+    SearchHits<EventElastic> pageHits;
+
+    @Mock
+    SearchHit<EventElastic> firstHit;
+
+    @Mock
+    SearchHit<EventElastic> secondHit;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        operations = mock(ElasticsearchOperations.class);
+        eventElasticQueryRepository = new EventElasticQueryRepositoryImpl(operations);
+    }
+
+    @Test
+    @DisplayName("첫 페이지가 마지막 페이지면 point in time 을 열지 않고 pitId 없이 반환한다.")
+    void searchEventsByKeywordSinglePage() {
+        // given
+        given(pageHits.getSearchHits()).willReturn(List.of(firstHit));
+        given(firstHit.getContent()).willReturn(mock(EventElastic.class));
+        given(operations.search(any(Query.class), eq(EventElastic.class))).willReturn(pageHits);
+
+        // when
+        EventSearchCursorResponseDto responseDto = eventElasticQueryRepository.searchEventsByKeyword(
+                FullTextSearchEventRequestDto.of("공연", null, null, null, null, null), null, null, null, 1);
+
+        // then
+        assertThat(responseDto.getEvents()).hasSize(1);
+        assertThat(responseDto.getPitId()).isNull();
+        assertThat(responseDto.isHasNext()).isFalse();
+        verify(operations, never()).openPointInTime(any(), any());
+        verify(operations, never()).closePointInTime(anyString());
+    }
+
+    @Test
+    @DisplayName("첫 페이지에 다음 페이지가 있으면 그때 point in time 을 열고 _shard_doc 자리를 채운 커서를 반환한다.")
+    void searchEventsByKeywordOpenPitForNextPage() {
+        // given
+        given(pageHits.getSearchHits()).willReturn(List.of(firstHit, secondHit));
+        given(firstHit.getContent()).willReturn(mock(EventElastic.class));
+        given(firstHit.getSortValues()).willReturn(List.of(1.5, 1000L, 7L));
+        given(operations.search(any(Query.class), eq(EventElastic.class))).willReturn(pageHits);
+        given(operations.getIndexCoordinatesFor(EventElastic.class)).willReturn(INDEX);
+        given(operations.openPointInTime(eq(INDEX), any())).willReturn("pit-1");
+
+        // when
+        EventSearchCursorResponseDto responseDto = eventElasticQueryRepository.searchEventsByKeyword(
+                FullTextSearchEventRequestDto.of("공연", null, null, null, null, null), null, null, null, 1);
+
+        // then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(operations).search(queryCaptor.capture(), eq(EventElastic.class));
+        assertThat(queryCaptor.getValue().getPointInTime()).isNull();
+        assertThat(responseDto.getPitId()).isEqualTo("pit-1");
+        assertThat(EventSearchCursor.decode(responseDto.getNextCursor()))
+                .containsExactly(1.5, 1000, 7, Long.MAX_VALUE);
+    }
+
+    @Test
+    @DisplayName("만료되었거나 닫힌 pitId 로 조회하면 유효하지 않은 검색 커서로 실패한다.")
+    void searchEventsByKeywordWithExpiredPit() {
+        // given
+        given(operations.search(any(Query.class), eq(EventElastic.class)))
+                .willThrow(new ResourceNotFoundException("search_context_missing_exception"));
+
+        // when & then
+        assertThatThrownBy(() -> eventElasticQueryRepository.searchEventsByKeyword(
+                FullTextSearchEventRequestDto.of("공연", null, null, null, null, null), null, "expired-pit",
+                EventSearchCursor.encode(List.of(1.5, 1000L, 7L, 3L)), 1))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(INVALID_SEARCH_CURSOR.getMessage());
+    }
+
+    @Test
+    @DisplayName("패싯 검색은 결과 페이지와 카테고리, 가격대, 모집 마감 월 집계를 한 번의 요청으로 조회한다.")
+    void searchEventsWithFacets() {
+        // given
+        FullTextSearchEventRequestDto requestDto =
+                FullTextSearchEventRequestDto.of("공연", EventCategory.ART, null, 50000, null, null);
+        given(pageHits.getSearchHits()).willReturn(List.of());
+        given(pageHits.getTotalHits()).willReturn(7L);
+        willReturn(new ElasticsearchAggregations(aggregates())).given(pageHits).getAggregations();
+        given(operations.search(any(Query.class), eq(EventElastic.class))).willReturn(pageHits);
+
+        // when
+        EventFacetSearchResponseDto responseDto =
+                eventElasticQueryRepository.searchEventsWithFacets(requestDto, null, PageRequest.of(1, 10));
+
+        // then
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(operations).search(queryCaptor.capture(), eq(EventElastic.class));
+        NativeQuery query = (NativeQuery) queryCaptor.getValue();
+        assertThat(query.getAggregations()).containsOnlyKeys("categories", "priceRanges", "recruitmentFinishMonths");
+        assertThat(query.getAggregations().get("priceRanges").aggregations().get("buckets").range().ranges())
+                .hasSize(5);
+        assertThat(query.getQuery().bool().filter()).extracting(q -> q._kind().jsonValue())
+                .containsExactly("term");
+        assertThat(query.getFilter().bool().filter()).extracting(q -> q._kind().jsonValue())
+                .containsExactly("term", "range");
+        assertThat(query.getAggregations().get("categories").filter().bool().filter())
+                .extracting(q -> q._kind().jsonValue())
+                .containsExactly("range");
+        assertThat(query.getAggregations().get("priceRanges").filter().bool().filter())
+                .extracting(q -> q._kind().jsonValue())
+                .containsExactly("term");
+        assertThat(query.getAggregations().get("recruitmentFinishMonths").filter().bool().filter()).hasSize(2);
+        assertThat(query.getRequestCache()).isTrue();
+
+        assertThat(responseDto.getTotalElements()).isEqualTo(7);
+        assertThat(responseDto.getPage()).isEqualTo(2);
+        assertThat(responseDto.getCategories()).extracting(EventFacetBucketDto::getKey, EventFacetBucketDto::getCount)
+                .containsExactly(tuple("ART", 5L), tuple("COMMUNITY", 2L));
+        assertThat(responseDto.getPriceRanges()).extracting(EventFacetBucketDto::getKey)
+                .containsExactly("~10000", "10000~30000");
+        assertThat(responseDto.getRecruitmentFinishMonths()).extracting(EventFacetBucketDto::getKey)
+                .containsExactly("2026-11");
+    }
+
+    private Map<String, Aggregate> aggregates() {
+        return Map.of(
+                "categories", facet(Aggregate.of(a -> a.sterms(t -> t
+                        .sumOtherDocCount(0L)
+                        .buckets(b -> b.array(List.of(
+                                StringTermsBucket.of(s -> s.key(FieldValue.of("ART")).docCount(5)),
+                                StringTermsBucket.of(s -> s.key(FieldValue.of("COMMUNITY")).docCount(2)))))))),
+                "priceRanges", facet(Aggregate.of(a -> a.range(r -> r
+                        .buckets(b -> b.array(List.of(
+                                RangeBucket.of(s -> s.key("~10000").docCount(4)),
+                                RangeBucket.of(s -> s.key("10000~30000").docCount(3)))))))),
+                "recruitmentFinishMonths", facet(Aggregate.of(a -> a.dateHistogram(d -> d
+                        .buckets(b -> b.array(List.of(
+                                DateHistogramBucket.of(s -> s.key(1793491200000L).keyAsString("2026-11")
+                                        .docCount(7))))))))
+        );
+    }
+
+    private Aggregate facet(Aggregate buckets) {
+        return Aggregate.of(a -> a.filter(f -> f.docCount(7).aggregations("buckets", buckets)));
+    }
+}
@@ -0,0 +1,186 @@
+package com.spotlightspace.core.event.service;
+
+import static com.spotlightspace.core.data.EventTestData.testEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.core.event.domain.EventCacheEntry;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
+import com.spotlightspace.core.event.repository.EventCacheRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class EventCacheServiceTest {
+
+    private static final long EVENT_ID = 1L;
+    private static final String DETAIL_KEY = "event:cache:detail:1";
+
+    EventCacheRedisRepository eventCacheRedisRepository;
+    ObjectMapper objectMapper;
+    SimpleMeterRegistry meterRegistry;
+    EventCacheService eventCacheService;
+
+    @BeforeEach
+    void setUp() {
+        eventCacheRedisRepository = mock(EventCacheRedisRepository.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 백그라운드 갱신을 호출 스레드에서 바로 실행
+        eventCacheService = new EventCacheService(
+                eventCacheRedisRepository, objectMapper, Runnable::run, meterRegistry, 60, 600, 30, 300, 3, 50);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 DB에서 조회해 hard TTL로 저장한다.")
+    void getEventMiss() {
+        // given
+        given(eventCacheRedisRepository.find(DETAIL_KEY)).willReturn(Optional.empty());
+
+        // when
+        GetEventResponseDto responseDto = eventCacheService.getEvent(EVENT_ID,
+                () -> GetEventResponseDto.from(testEvent()));
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("test1");
+        verify(eventCacheRedisRepository).save(eq(DETAIL_KEY), any(EventCacheEntry.class), eq(Duration.ofSeconds(600)));
+        assertThat(count("event.detail", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("soft TTL 전의 캐시는 DB를 조회하지 않고 반환한다.")
+    void getEventHit() throws Exception {
+        // given
+        cache(System.currentTimeMillis() + 60_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        GetEventResponseDto responseDto = eventCacheService.getEvent(EVENT_ID, () -> {
+            loads.incrementAndGet();
+            return GetEventResponseDto.from(testEvent());
+        });
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("test1");
+        assertThat(loads.get()).isZero();
+        assertThat(count("event.detail", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("soft TTL이 지난 캐시는 그대로 반환하고 한 요청만 다시 조회해 저장한다.")
+    void getEventStale() throws Exception {
+        // given
+        cache(System.currentTimeMillis() - 1);
+        given(eventCacheRedisRepository.tryLockRefresh(DETAIL_KEY)).willReturn(true);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        GetEventResponseDto responseDto = eventCacheService.getEvent(EVENT_ID, () -> {
+            loads.incrementAndGet();
+            return GetEventResponseDto.from(testEvent());
+        });
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("test1");
+        assertThat(loads.get()).isEqualTo(1);
+        ArgumentCaptor<EventCacheEntry> entryCaptor = ArgumentCaptor.forClass(EventCacheEntry.class);
+        verify(eventCacheRedisRepository).save(eq(DETAIL_KEY), entryCaptor.capture(), eq(Duration.ofSeconds(600)));
+        assertThat(entryCaptor.getValue().isStale(System.currentTimeMillis())).isFalse();
+        verify(eventCacheRedisRepository).unlockRefresh(DETAIL_KEY);
+        assertThat(count("event.detail", "stale")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 이미 다시 조회하고 있으면 오래된 캐시만 반환한다.")
+    void getEventStaleWhileRefreshing() throws Exception {
+        // given
+        cache(System.currentTimeMillis() - 1);
+        given(eventCacheRedisRepository.tryLockRefresh(DETAIL_KEY)).willReturn(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        eventCacheService.getEvent(EVENT_ID, () -> {
+            loads.incrementAndGet();
+            return GetEventResponseDto.from(testEvent());
+        });
+
+        // then
+        assertThat(loads.get()).isZero();
+        verify(eventCacheRedisRepository, never()).save(anyString(), any(), any());
+    }
+
+    @Test
+    @DisplayName("카테고리와 정렬만 지정한 목록은 목록 캐시에 저장한다.")
+    void getEventsCacheable() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        SearchEventRequestDto requestDto = SearchEventRequestDto.of(null, null, null, null, null, null);
+        given(eventCacheRedisRepository.find(anyString())).willReturn(Optional.empty());
+
+        // when
+        Page<GetEventResponseDto> result = eventCacheService.getEvents(pageable, requestDto, "upprice",
+                () -> new PageImpl<>(List.of(GetEventResponseDto.from(testEvent())), pageable, 1));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(eventCacheRedisRepository)
+                .saveList(eq("event:cache:list:ALL:upprice:0:10"), any(), eq(Duration.ofSeconds(300)));
+    }
+
+    @Test
+    @DisplayName("검색어가 있는 목록은 캐시를 사용하지 않는다.")
+    void getEventsWithKeyword() {
+        // given
+        Pageable pageable = PageRequest.of(0, 10);
+        SearchEventRequestDto requestDto = SearchEventRequestDto.of("test", null, null, null, null, null);
+
+        // when
+        Page<GetEventResponseDto> result = eventCacheService.getEvents(pageable, requestDto, "upprice",
+                () -> new PageImpl<>(List.of(), pageable, 0));
+
+        // then
+        assertThat(result.getTotalElements()).isZero();
+        verifyNoInteractions(eventCacheRedisRepository);
+    }
+
+    @Test
+    @DisplayName("이벤트가 바뀌면 상세 캐시와 목록 캐시를 모두 삭제한다.")
+    void evict() {
+        // when
+        eventCacheService.evict(List.of(1L, 2L));
+
+        // then
+        verify(eventCacheRedisRepository).delete(List.of(DETAIL_KEY, "event:cache:detail:2"));
+        verify(eventCacheRedisRepository).deleteLists();
+    }
+
+    private void cache(long refreshAt) throws Exception {
+        String payload = objectMapper.writeValueAsString(GetEventResponseDto.from(testEvent()));
+        given(eventCacheRedisRepository.find(DETAIL_KEY))
+                .willReturn(Optional.of(EventCacheEntry.of(payload, refreshAt)));
+    }
+
+    private double count(String cache, String result) {
+        return meterRegistry.get("event.cache.gets").tag("cache", cache).tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,128 @@
+package com.spotlightspace.core.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spotlightspace.core.event.domain.EventIndexEntry;
+import com.spotlightspace.core.event.repository.EventIndexQueueRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+class EventIndexFlushSchedulerTest {
+
+    EventIndexService eventIndexService;
+    EventIndexQueueRedisRepository eventIndexQueueRedisRepository;
+    SimpleMeterRegistry meterRegistry;
+    EventIndexFlushScheduler eventIndexFlushScheduler;
+
+    @Captor
+    ArgumentCaptor<List<EventIndexEntry>> retries;
+
+    @Captor
+    ArgumentCaptor<List<EventIndexEntry>> deadLetters;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        MockitoAnnotations.openMocks(this);
+        eventIndexService = mock(EventIndexService.class);
+        eventIndexQueueRedisRepository = mock(EventIndexQueueRedisRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        RLock lock = mock(RLock.class);
+        given(redissonClient.getLock(any())).willReturn(lock);
+        given(lock.tryLock(0, 30, TimeUnit.SECONDS)).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+
+        eventIndexFlushScheduler = new EventIndexFlushScheduler(
+                eventIndexService, eventIndexQueueRedisRepository, redissonClient, meterRegistry, 2, 3);
+    }
+
+    @Test
+    @DisplayName("배치가 가득 차면 이어서 반영하고, 같은 이벤트는 한 번만 인덱싱한다.")
+    void flush() {
+        // given
+        long now = System.currentTimeMillis();
+        given(eventIndexQueueRedisRepository.takeBatch(2))
+                .willReturn(List.of(EventIndexEntry.of(1L, now), EventIndexEntry.of(1L, now)))
+                .willReturn(List.of(EventIndexEntry.of(2L, now)));
+        given(eventIndexService.index(any())).willReturn(Set.of());
+
+        // when
+        eventIndexFlushScheduler.flush();
+
+        // then
+        verify(eventIndexService).index(Set.of(1L));
+        verify(eventIndexService).index(Set.of(2L));
+        verify(eventIndexQueueRedisRepository, times(2)).completeBatch(List.of(), List.of());
+        assertThat(meterRegistry.get("event.index.lag").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("실패한 문서는 시도 횟수를 올려 다시 넣고, 최대 시도 횟수에 도달하면 dead letter로 옮긴다.")
+    void flushWithFailures() {
+        // given
+        long now = System.currentTimeMillis();
+        EventIndexEntry retryable = EventIndexEntry.of(1L, now);
+        EventIndexEntry exhausted = EventIndexEntry.of(2L, now).retry().retry();
+        given(eventIndexQueueRedisRepository.takeBatch(2))
+                .willReturn(List.of(retryable, exhausted))
+                .willReturn(List.of());
+        given(eventIndexService.index(any())).willReturn(Set.of(1L, 2L));
+
+        // when
+        eventIndexFlushScheduler.flush();
+
+        // then
+        verify(eventIndexQueueRedisRepository).completeBatch(retries.capture(), deadLetters.capture());
+
+        assertThat(retries.getValue()).extracting(EventIndexEntry::toValue).containsExactly("1:1:" + now);
+        assertThat(deadLetters.getValue()).extracting(EventIndexEntry::toValue).containsExactly("2:3:" + now);
+        assertThat(meterRegistry.get("event.index.dead_letter").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("bulk 요청 자체가 실패하면 inflight 항목을 남겨 다음 주기에 다시 반영한다.")
+    void flushWhenBulkRequestFails() {
+        // given
+        given(eventIndexQueueRedisRepository.takeBatch(anyInt()))
+                .willReturn(List.of(EventIndexEntry.of(1L, System.currentTimeMillis())));
+        willThrow(new IllegalStateException("connection refused")).given(eventIndexService).index(any());
+
+        // when
+        eventIndexFlushScheduler.flush();
+
+        // then
+        verify(eventIndexQueueRedisRepository, never()).completeBatch(any(), any());
+    }
+
+    @Test
+    @DisplayName("대기열에 남아 있는 가장 오래된 변경의 대기 시간을 노출한다.")
+    void pendingAgeGauge() {
+        // given
+        given(eventIndexQueueRedisRepository.oldestEnqueuedAt()).willReturn(System.currentTimeMillis() - 5_000);
+
+        // when
+        double pendingAge = meterRegistry.get("event.index.pending.age.seconds").gauge().value();
+
+        // then
+        assertThat(pendingAge).isGreaterThanOrEqualTo(5.0);
+    }
+}
@@ -0,0 +1,75 @@
+package com.spotlightspace.core.event.service;
+
+import static com.spotlightspace.core.data.EventTestData.createDefaultEventRequestDto;
+import static com.spotlightspace.core.data.UserTestData.testArtist;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventElastic;
+import com.spotlightspace.core.event.repository.EventReindexRedisRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class EventIndexServiceTest {
+
+    private static final IndexCoordinates ALIAS = IndexCoordinates.of("events");
+    private static final IndexCoordinates TARGET = IndexCoordinates.of("events_v1");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ElasticsearchOperations elasticsearchOperations;
+
+    @Mock
+    private EventReindexRedisRepository eventReindexRedisRepository;
+
+    private EventIndexService eventIndexService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventIndexService = new EventIndexService(eventRepository, elasticsearchOperations,
+                eventReindexRedisRepository);
+        when(elasticsearchOperations.getIndexCoordinatesFor(EventElastic.class)).thenReturn(ALIAS);
+    }
+
+    @Test
+    @DisplayName("재구성 중이면 alias에 반영하기 전에 읽은 새 인덱스에도 반영한다.")
+    void indexWithReindexTarget() {
+        // given
+        when(eventRepository.findAllById(List.of(1L))).thenReturn(List.of(event(1L)));
+        when(eventReindexRedisRepository.findTarget()).thenReturn(Optional.of("events_v1"));
+
+        // when
+        Set<Long> failedIds = eventIndexService.index(List.of(1L));
+
+        // then
+        assertThat(failedIds).isEmpty();
+        InOrder inOrder = inOrder(eventReindexRedisRepository, elasticsearchOperations);
+        inOrder.verify(eventReindexRedisRepository).findTarget();
+        inOrder.verify(elasticsearchOperations).bulkIndex(anyList(), eq(ALIAS));
+        inOrder.verify(elasticsearchOperations).bulkIndex(anyList(), eq(TARGET));
+    }
+
+    private Event event(long id) {
+        Event event = Event.create(createDefaultEventRequestDto(), testArtist());
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
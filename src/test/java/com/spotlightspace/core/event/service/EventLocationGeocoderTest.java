@@ -0,0 +1,77 @@
+package com.spotlightspace.core.event.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.core.event.domain.Coordinates;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventLocationGeocoderTest {
+
+    EventLocationGeocoder eventLocationGeocoder = new EventLocationGeocoder();
+
+    @Test
+    @DisplayName("시/도 다음의 구를 찾으면 구의 좌표를 반환한다.")
+    void geocodeDistrict() {
+        // when
+        Optional<Coordinates> coordinates = eventLocationGeocoder.geocode("서울특별시 강남구 테헤란로 1");
+
+        // then
+        assertThat(coordinates).get().extracting(Coordinates::getLatitude, Coordinates::getLongitude)
+                .containsExactly(37.5172, 127.0473);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 구는 앞에 적은 시/도의 구로 찾는다.")
+    void geocodeDistrictInRegion() {
+        // when
+        Optional<Coordinates> coordinates = eventLocationGeocoder.geocode("부산 중구, 광복로");
+
+        // then
+        assertThat(coordinates).get().extracting(Coordinates::getLatitude).isEqualTo(35.1064);
+    }
+
+    @Test
+    @DisplayName("시/도만 찾고 시/군/구를 찾지 못하면 빈 값을 반환한다.")
+    void geocodeRegionOnly() {
+        // when
+        Optional<Coordinates> coordinates = eventLocationGeocoder.geocode("경기도 어딘가");
+
+        // then
+        assertThat(coordinates).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시/군/구가 없는 세종은 시/도만 찾아도 시청 좌표를 반환한다.")
+    void geocodeRegionWithoutDistricts() {
+        // when
+        Optional<Coordinates> coordinates = eventLocationGeocoder.geocode("세종특별자치시 한누리대로 2130");
+
+        // then
+        assertThat(coordinates).get().extracting(Coordinates::getLatitude, Coordinates::getLongitude)
+                .containsExactly(36.4800, 127.2890);
+    }
+
+    @Test
+    @DisplayName("시/도 없이 적은 시는 이름이 하나뿐이면 찾고, 여러 시/도에 있는 구는 찾지 않는다.")
+    void geocodeWithoutRegion() {
+        // when
+        Optional<Coordinates> city = eventLocationGeocoder.geocode("수원시 팔달구");
+        Optional<Coordinates> ambiguous = eventLocationGeocoder.geocode("중구");
+
+        // then
+        assertThat(city).get().extracting(Coordinates::getLatitude).isEqualTo(37.2636);
+        assertThat(ambiguous).isEmpty();
+    }
+
+    @Test
+    @DisplayName("좌표표에 없는 장소는 빈 값을 반환한다.")
+    void geocodeUnknown() {
+        // when
+        Optional<Coordinates> coordinates = eventLocationGeocoder.geocode("온라인");
+
+        // then
+        assertThat(coordinates).isEmpty();
+    }
+}
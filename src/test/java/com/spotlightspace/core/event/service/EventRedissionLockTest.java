@@ -7,8 +7,7 @@ import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
 import com.spotlightspace.core.event.repository.EventElasticRepository;
 import com.spotlightspace.core.event.repository.EventRepository;
-import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
-import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -51,7 +50,7 @@ public class EventRedissionLockTest {
     private AttachmentService attachmentService;
 
     @Mock
-    private EventTicketStockRepository eventTicketStockRepository;
+    private EventTicketStockService eventTicketStockService;
 
     @Mock
     private EventElasticRepository eventElasticRepository;
@@ -59,6 +58,9 @@ public class EventRedissionLockTest {
     @Mock
     private RedissonLockService redissonLockService;
 
+    @Mock
+    private EventLocationGeocoder eventLocationGeocoder;
+
     @Test
     @DisplayName("따닥 테스트")
     void dadak_error() throws IOException, InterruptedException {
@@ -73,7 +75,6 @@ public class EventRedissionLockTest {
 
         given(userRepository.findByIdOrElseThrow(authUser.getUserId())).willReturn(user);
         given(eventRepository.save(any(Event.class))).willReturn(event);
-        given(eventTicketStockRepository.save(any(EventTicketStock.class))).willReturn(EventTicketStock.create(event));
 
         RLock lock = mock(RLock.class);
         given(redissonLockService.lock(anyString())).willReturn(lock);
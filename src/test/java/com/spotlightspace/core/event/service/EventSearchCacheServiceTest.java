@@ -0,0 +1,202 @@
+package com.spotlightspace.core.event.service;
+
+import static com.spotlightspace.core.data.EventTestData.testEventElastic1;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
+import com.spotlightspace.core.event.dto.response.EventElasticPageCacheDto;
+import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
+import com.spotlightspace.core.event.repository.EventSearchCacheRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+class EventSearchCacheServiceTest {
+
+    private static final Pageable PAGEABLE = PageRequest.of(0, 10);
+
+    EventSearchCacheRedisRepository eventSearchCacheRedisRepository;
+    ObjectMapper objectMapper;
+    SimpleMeterRegistry meterRegistry;
+    EventSearchCacheService eventSearchCacheService;
+    ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        eventSearchCacheRedisRepository = mock(EventSearchCacheRedisRepository.class);
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        meterRegistry = new SimpleMeterRegistry();
+        executorService = Executors.newFixedThreadPool(2);
+
+        eventSearchCacheService = new EventSearchCacheService(
+                eventSearchCacheRedisRepository, objectMapper, meterRegistry, 5, 3_000, 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("캐시된 검색 결과가 있으면 엘라스틱 서치를 조회하지 않는다.")
+    void getEventsHit() throws Exception {
+        // given
+        String payload = objectMapper.writeValueAsString(EventElasticPageCacheDto.from(searchResult()));
+        given(eventSearchCacheRedisRepository.find(anyString())).willReturn(Optional.of(payload));
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Page<GetEventElasticResponseDto> result = eventSearchCacheService.getEvents(PAGEABLE, condition(), "date",
+                () -> {
+                    loads.incrementAndGet();
+                    return searchResult();
+                });
+
+        // then
+        assertThat(result.getContent()).extracting(GetEventElasticResponseDto::getTitle).containsExactly("test1");
+        assertThat(loads.get()).isZero();
+        assertThat(cacheCount("hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시가 없으면 검색해서 짧은 TTL로 저장한다.")
+    void getEventsMiss() throws Exception {
+        // given
+        given(eventSearchCacheRedisRepository.find(anyString())).willReturn(Optional.empty());
+
+        // when
+        Page<GetEventElasticResponseDto> result =
+                eventSearchCacheService.getEvents(PAGEABLE, condition(), "date", this::searchResult);
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        verify(eventSearchCacheRedisRepository).save(anyString(), anyString(), eq(Duration.ofSeconds(5)));
+        assertThat(queryCount("executed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 조건의 검색이 진행 중이면 새로 검색하지 않고 그 결과를 함께 받는다.")
+    void getEventsCoalesced() throws Exception {
+        // given
+        given(eventSearchCacheRedisRepository.find(anyString())).willReturn(Optional.empty());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        EventSearchCacheService.SearchLoader loader = () -> {
+            loads.incrementAndGet();
+            awaitRelease(release);
+            return searchResult();
+        };
+
+        // when
+        Future<Page<GetEventElasticResponseDto>> leader = executorService.submit(
+                () -> eventSearchCacheService.getEvents(PAGEABLE, condition(), "date", loader));
+        awaitCount("executed", 1);
+        Future<Page<GetEventElasticResponseDto>> follower = executorService.submit(
+                () -> eventSearchCacheService.getEvents(PAGEABLE, condition(), "date", loader));
+        awaitCount("coalesced", 1);
+        release.countDown();
+
+        // then
+        assertThat(leader.get(5, TimeUnit.SECONDS).getTotalElements()).isEqualTo(1);
+        assertThat(follower.get(5, TimeUnit.SECONDS).getTotalElements()).isEqualTo(1);
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("먼저 온 요청의 검색이 실패하면 합류한 요청도 같은 예외를 받는다.")
+    void getEventsCoalescedFailure() throws Exception {
+        // given
+        given(eventSearchCacheRedisRepository.find(anyString())).willReturn(Optional.empty());
+        CountDownLatch release = new CountDownLatch(1);
+        EventSearchCacheService.SearchLoader loader = () -> {
+            awaitRelease(release);
+            throw new IllegalStateException("search failed");
+        };
+
+        // when
+        Future<Page<GetEventElasticResponseDto>> leader = executorService.submit(
+                () -> eventSearchCacheService.getEvents(PAGEABLE, condition(), "date", loader));
+        awaitCount("executed", 1);
+        CompletableFuture<Page<GetEventElasticResponseDto>> follower = CompletableFuture.supplyAsync(() -> {
+            try {
+                return eventSearchCacheService.getEvents(PAGEABLE, condition(), "date", this::searchResult);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, executorService);
+        awaitCount("coalesced", 1);
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("search failed");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("search failed");
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 최대 크기를 넘으면 캐시를 사용하지 않는다.")
+    void getEventsLargePage() throws Exception {
+        // when
+        Page<GetEventElasticResponseDto> result = eventSearchCacheService.getEvents(PageRequest.of(0, 100),
+                condition(), "date", () -> new PageImpl<>(List.of(), PageRequest.of(0, 100), 0));
+
+        // then
+        assertThat(result.getTotalElements()).isZero();
+        verifyNoInteractions(eventSearchCacheRedisRepository);
+    }
+
+    private SearchEventRequestDto condition() {
+        return SearchEventRequestDto.of(" test ", null, "", null, null, null).normalized();
+    }
+
+    private Page<GetEventElasticResponseDto> searchResult() {
+        return new PageImpl<>(List.of(GetEventElasticResponseDto.from(testEventElastic1())), PAGEABLE, 1);
+    }
+
+    private void awaitRelease(CountDownLatch release) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitCount(String result, double expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (queryCount(result) < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private double cacheCount(String result) {
+        return meterRegistry.get("event.cache.gets").tag("cache", "event.search").tag("result", result).counter()
+                .count();
+    }
+
+    private double queryCount(String result) {
+        return meterRegistry.get("event.search.queries").tag("result", result).counter().count();
+    }
+}
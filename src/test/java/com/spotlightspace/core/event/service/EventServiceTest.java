@@ -4,19 +4,20 @@ import com.spotlightspace.common.annotation.AuthUser;
 import com.spotlightspace.common.entity.TableRole;
 import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.attachment.service.AttachmentService;
+import com.spotlightspace.core.event.domain.Coordinates;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.domain.EventElastic;
 import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
 import com.spotlightspace.core.event.dto.request.SearchEventRequestDto;
 import com.spotlightspace.core.event.dto.request.UpdateEventRequestDto;
 import com.spotlightspace.core.event.dto.response.CreateEventResponseDto;
+import com.spotlightspace.core.event.dto.response.EventAutocompleteResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventElasticResponseDto;
 import com.spotlightspace.core.event.dto.response.GetEventResponseDto;
 import com.spotlightspace.core.event.dto.response.UpdateEventResponseDto;
 import com.spotlightspace.core.event.repository.EventElasticRepository;
 import com.spotlightspace.core.event.repository.EventRepository;
-import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
-import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
 import com.spotlightspace.core.ticket.repository.TicketRepository;
 import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.repository.UserRepository;
@@ -28,6 +29,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -36,7 +38,9 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static com.spotlightspace.common.exception.ErrorCode.EVENT_NOT_FOUND;
 import static com.spotlightspace.common.exception.ErrorCode.USER_NOT_FOUND;
@@ -61,7 +65,7 @@ public class EventServiceTest {
     private TicketRepository ticketRepository;
 
     @Mock
-    private EventTicketStockRepository eventTicketStockRepository;
+    private EventTicketStockService eventTicketStockService;
 
     @Mock
     private AttachmentService attachmentService;
@@ -72,6 +76,18 @@ public class EventServiceTest {
     @Mock
     private RedissonLockService redissonLockService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventCacheService eventCacheService;
+
+    @Mock
+    private EventSearchCacheService eventSearchCacheService;
+
+    @Mock
+    private EventLocationGeocoder eventLocationGeocoder;
+
     @InjectMocks
     private EventService eventService;
 
@@ -91,7 +107,6 @@ public class EventServiceTest {
 
             given(userRepository.findByIdOrElseThrow(authUser.getUserId())).willReturn(user);
             given(eventRepository.save(any(Event.class))).willReturn(event);
-            given(eventTicketStockRepository.save(any(EventTicketStock.class))).willReturn(EventTicketStock.create(event));
 
             RLock lock = mock(RLock.class);
             given(redissonLockService.lock(anyString())).willReturn(lock);
@@ -105,6 +120,8 @@ public class EventServiceTest {
 
             // then
             assertNotNull(responseDto);
+            verify(eventElasticRepository, never()).save(any());
+            verify(eventPublisher).publishEvent(any(EventIndexEvent.class));
         }
 
         @Test
@@ -167,13 +184,12 @@ public class EventServiceTest {
             // given
             AuthUser authUser = testArtistAuthUser();
             Event event = testEvent();
-            EventElastic eventElastic = testEventElastic1();
 
             UpdateEventRequestDto updateEventRequestDto = updateDefaultEventRequestDto();
 
             given(eventRepository.findByIdOrElseThrow(event.getId())).willReturn(event);
-            given(eventElasticRepository.findByIdOrElseThrow(event.getId())).willReturn(eventElastic);
             given(eventRepository.save(event)).willReturn(event);
+            given(eventLocationGeocoder.geocode("울산")).willReturn(Optional.of(Coordinates.of(35.5384, 129.3114)));
 
             // when
             UpdateEventResponseDto responseDto =
@@ -184,8 +200,11 @@ public class EventServiceTest {
             assertEquals("수정 test1", responseDto.getTitle());
             assertEquals("수정 test1", responseDto.getContent());
             assertEquals("울산", responseDto.getLocation());
+            assertEquals(35.5384, event.getLatitude());
+            assertEquals(129.3114, event.getLongitude());
             assertEquals(40, responseDto.getMaxPeople());
             assertEquals(29000, responseDto.getPrice());
+            verify(eventPublisher).publishEvent(any(EventIndexEvent.class));
         }
 
         @Test
@@ -235,11 +254,9 @@ public class EventServiceTest {
             // given
             AuthUser authUser = testArtistAuthUser();
             Event event = testEvent();
-            EventElastic eventElastic = testEventElastic1();
             UpdateEventRequestDto requestDto = updateDefaultEventRequestDto();
 
             given(ticketRepository.countTicketByEvent(event.getId())).willReturn(50);
-            given(eventElasticRepository.findByIdOrElseThrow(event.getId())).willReturn(eventElastic);
             given(eventRepository.findByIdOrElseThrow(event.getId())).willReturn(event);
 
             // when
@@ -264,6 +281,8 @@ public class EventServiceTest {
             Event event = testEvent();
 
             given(eventRepository.findByIdOrElseThrow(event.getId())).willReturn(event);
+            given(eventCacheService.getEvent(eq(event.getId()), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<GetEventResponseDto>>getArgument(1).get());
 
             // when
             GetEventResponseDto responseDto = eventService.getEvent(event.getId());
@@ -298,6 +317,8 @@ public class EventServiceTest {
             );
 
             given(eventRepository.searchEvents(searchRequest, type, pageable)).willReturn(expectedPage);
+            given(eventCacheService.getEvents(eq(pageable), eq(searchRequest), eq(type), any()))
+                    .willAnswer(invocation -> invocation.<Supplier<Page<GetEventResponseDto>>>getArgument(3).get());
 
             // when
             Page<GetEventResponseDto> result = eventService.getEvents(page, size, searchRequest, type);
@@ -336,7 +357,8 @@ public class EventServiceTest {
                     events.size()
             );
 
-            given(eventElasticRepository.searchElasticEvents(searchRequest, type, pageable)).willReturn(expectedPage);
+            given(eventSearchCacheService.getEvents(eq(pageable), any(SearchEventRequestDto.class), eq(type), any()))
+                    .willReturn(expectedPage);
 
             // when
             Page<GetEventElasticResponseDto> result = eventService.getElasticEvents(page, size, searchRequest, type);
@@ -347,6 +369,35 @@ public class EventServiceTest {
             assertEquals(1, result.getTotalPages());
             assertEquals("test1", result.getContent().get(0).getTitle());
         }
+
+        @Test
+        @DisplayName("자동완성은 앞뒤 공백을 제거한 검색어로 검색 인덱스를 조회한다.")
+        void autocompleteTitles_success() {
+
+            // given
+            List<EventAutocompleteResponseDto> expected =
+                    List.of(EventAutocompleteResponseDto.from(testEventElastic1()));
+            given(eventElasticRepository.autocompleteTitles("test", 10)).willReturn(expected);
+
+            // when
+            List<EventAutocompleteResponseDto> result = eventService.autocompleteTitles(" test ", 10);
+
+            // then
+            assertEquals(1, result.size());
+            assertEquals("test1", result.get(0).getTitle());
+        }
+
+        @Test
+        @DisplayName("자동완성 검색어가 비어 있으면 검색 인덱스를 조회하지 않는다.")
+        void autocompleteTitles_blankKeyword() {
+
+            // when
+            List<EventAutocompleteResponseDto> result = eventService.autocompleteTitles(" ", 10);
+
+            // then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(eventElasticRepository);
+        }
     }
 
     @Nested
@@ -360,10 +411,8 @@ public class EventServiceTest {
             // given
             AuthUser authUser = testArtistAuthUser();
             Event event = testEvent();
-            EventElastic eventElastic = testEventElastic1();
 
             given(eventRepository.findByIdOrElseThrow(event.getId())).willReturn(event);
-            given(eventElasticRepository.findByIdOrElseThrow(event.getId())).willReturn(eventElastic);
             doNothing().when(attachmentService).deleteAttachmentWithOtherTable(event.getId(), TableRole.EVENT);
 
             // when
@@ -372,6 +421,26 @@ public class EventServiceTest {
             // then
             verify(eventRepository, times(1)).findByIdOrElseThrow(event.getId());
             assertTrue(event.isDeleted());
+            verify(eventPublisher).publishEvent(any(EventIndexEvent.class));
+        }
+
+        @Test
+        @DisplayName("회원 탈퇴로 삭제된 이벤트도 검색 인덱스 반영을 요청한다.")
+        void deleteUserEvent_success() {
+
+            // given
+            long userId = 1L;
+            given(eventRepository.existEvent(userId)).willReturn(0);
+            given(eventRepository.findIdsByUserId(userId)).willReturn(List.of(1L, 2L));
+
+            // when
+            eventService.deleteUserEvent(userId);
+
+            // then
+            verify(eventRepository).deleteByUserId(userId);
+            verify(eventPublisher).publishEvent(argThat((Object published) ->
+                    published instanceof EventIndexEvent indexEvent
+                            && indexEvent.getEventIds().equals(List.of(1L, 2L))));
         }
     }
 }
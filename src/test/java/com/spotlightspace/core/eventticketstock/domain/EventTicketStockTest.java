@@ -0,0 +1,46 @@
+package com.spotlightspace.core.eventticketstock.domain;
+
+import static com.spotlightspace.core.data.EventTestData.createDefaultEventRequestDto;
+import static com.spotlightspace.core.data.UserTestData.testArtist;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.core.event.domain.Event;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EventTicketStockTest {
+
+    @Test
+    @DisplayName("재고를 샤드로 나누면 최대 인원이 샤드별로 고르게 배분된다.")
+    void createShards() {
+        // given
+        Event event = Event.create(createDefaultEventRequestDto(), testArtist());
+
+        // when
+        List<EventTicketStock> eventTicketStocks = EventTicketStock.createShards(event, 3);
+
+        // then
+        assertThat(eventTicketStocks).hasSize(3);
+        assertThat(eventTicketStocks).extracting(EventTicketStock::getShard).containsExactly(0, 1, 2);
+        assertThat(eventTicketStocks.stream().mapToInt(EventTicketStock::getStock).sum())
+                .isEqualTo(event.getMaxPeople());
+        assertThat(eventTicketStocks.stream().mapToInt(EventTicketStock::getStock).max().getAsInt()
+                - eventTicketStocks.stream().mapToInt(EventTicketStock::getStock).min().getAsInt())
+                .isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("샤드 수는 최대 인원을 넘지 않는다.")
+    void createShardsMoreThanMaxPeople() {
+        // given
+        Event event = Event.create(createDefaultEventRequestDto(), testArtist());
+
+        // when
+        List<EventTicketStock> eventTicketStocks = EventTicketStock.createShards(event, event.getMaxPeople() + 5);
+
+        // then
+        assertThat(eventTicketStocks).hasSize(event.getMaxPeople());
+        assertThat(eventTicketStocks).allMatch(eventTicketStock -> eventTicketStock.getStock() == 1);
+    }
+}
@@ -0,0 +1,289 @@
+package com.spotlightspace.core.eventticketstock.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_TICKET_OUT_OF_STOCK;
+import static com.spotlightspace.core.data.EventTestData.createDefaultEventRequestDto;
+import static com.spotlightspace.core.data.UserTestData.testArtist;
+import static com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository.NOT_INITIALIZED;
+import static com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository.OUT_OF_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockDeltaBatch;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockFlush;
+import com.spotlightspace.core.eventticketstock.domain.EventTicketStockMode;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockFlushRepository;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRedisRepository;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class EventTicketStockServiceTest {
+
+    @Mock
+    EventTicketStockRepository eventTicketStockRepository;
+
+    @Mock
+    EventTicketStockRedisRepository eventTicketStockRedisRepository;
+
+    @Mock
+    EventTicketStockFlushRepository eventTicketStockFlushRepository;
+
+    @InjectMocks
+    EventTicketStockService eventTicketStockService;
+
+    Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = Event.create(createDefaultEventRequestDto(), testArtist());
+        ReflectionTestUtils.setField(event, "id", 1L);
+    }
+
+    @Nested
+    @DisplayName("DB 락 모드에서")
+    class DbLockMode {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(eventTicketStockService, "mode", EventTicketStockMode.DB_LOCK);
+        }
+
+        @Test
+        @DisplayName("다른 요청이 잡고 있지 않은 샤드를 락으로 조회해 재고를 차감한다.")
+        void decreaseStock() {
+            // given
+            EventTicketStock eventTicketStock = EventTicketStock.create(event);
+            given(eventTicketStockRepository.findInStockByEventIdWithSkipLocked(eq(event.getId()), any(Pageable.class)))
+                    .willReturn(List.of(eventTicketStock));
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            assertThat(eventTicketStock.getStock()).isEqualTo(event.getMaxPeople() - 1);
+            verify(eventTicketStockRepository, never()).decreaseStockIfInStock(anyLong());
+            verify(eventTicketStockRedisRepository, never()).reserve(anyLong());
+        }
+
+        @Test
+        @DisplayName("재고가 남은 샤드가 모두 잠겨 있으면 조건부 차감으로 재고를 차감한다.")
+        void decreaseStockWhenShardsLocked() {
+            // given
+            given(eventTicketStockRepository.findInStockByEventIdWithSkipLocked(eq(event.getId()), any(Pageable.class)))
+                    .willReturn(List.of());
+            given(eventTicketStockRepository.findIdsInStockByEventId(event.getId())).willReturn(List.of(10L, 11L));
+            // 먼저 시도한 샤드는 락을 기다리는 동안 재고가 소진됨
+            given(eventTicketStockRepository.decreaseStockIfInStock(10L)).willReturn(0);
+            given(eventTicketStockRepository.decreaseStockIfInStock(11L)).willReturn(1);
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            verify(eventTicketStockRepository).decreaseStockIfInStock(11L);
+        }
+
+        @Test
+        @DisplayName("잠겨 있던 샤드의 재고도 모두 소진되었으면 예외가 발생한다.")
+        void decreaseStockWhenLockedShardsSoldOut() {
+            // given
+            given(eventTicketStockRepository.findInStockByEventIdWithSkipLocked(eq(event.getId()), any(Pageable.class)))
+                    .willReturn(List.of());
+            given(eventTicketStockRepository.findIdsInStockByEventId(event.getId())).willReturn(List.of(10L));
+            given(eventTicketStockRepository.decreaseStockIfInStock(10L)).willReturn(0);
+
+            // when & then
+            assertThatThrownBy(() -> eventTicketStockService.decreaseStock(event))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(EVENT_TICKET_OUT_OF_STOCK.getMessage());
+        }
+
+        @Test
+        @DisplayName("모든 샤드의 재고가 없으면 예외가 발생한다.")
+        void decreaseStockWhenOutOfStock() {
+            // given
+            given(eventTicketStockRepository.findInStockByEventIdWithSkipLocked(eq(event.getId()), any(Pageable.class)))
+                    .willReturn(List.of());
+            given(eventTicketStockRepository.findIdsInStockByEventId(event.getId())).willReturn(List.of());
+            given(eventTicketStockRepository.findIdsByEventId(event.getId())).willReturn(List.of(10L, 11L));
+
+            // when & then
+            assertThatThrownBy(() -> eventTicketStockService.decreaseStock(event))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(EVENT_TICKET_OUT_OF_STOCK.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis 모드에서")
+    class RedisMode {
+
+        @BeforeEach
+        void setUp() {
+            ReflectionTestUtils.setField(eventTicketStockService, "mode", EventTicketStockMode.REDIS);
+        }
+
+        @Test
+        @DisplayName("DB 락 없이 Redis 카운터에서 재고를 차감한다.")
+        void decreaseStock() {
+            // given
+            given(eventTicketStockRedisRepository.reserve(event.getId())).willReturn(79L);
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            verify(eventTicketStockRepository, never()).findByIdWithPessimisticLockOrElseThrow(anyLong());
+        }
+
+        @Test
+        @DisplayName("카운터가 초기화되지 않았으면 DB 재고로 초기화한 뒤 차감한다.")
+        void decreaseStockWithInitialize() {
+            // given
+            given(eventTicketStockRedisRepository.reserve(event.getId())).willReturn(NOT_INITIALIZED, 79L);
+            given(eventTicketStockRedisRepository.findInflightBatchId()).willReturn(Optional.empty());
+            given(eventTicketStockRepository.findAllByEventIdWithPessimisticLock(event.getId()))
+                    .willReturn(EventTicketStock.createShards(event, 2));
+            given(eventTicketStockRedisRepository.initialize(event.getId(), event.getMaxPeople(), null, false))
+                    .willReturn(true);
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            verify(eventTicketStockRedisRepository, times(1))
+                    .initialize(event.getId(), event.getMaxPeople(), null, false);
+            verify(eventTicketStockRedisRepository, times(2)).reserve(event.getId());
+        }
+
+        @Test
+        @DisplayName("DB에 이미 반영된 inflight 묶음은 카운터를 초기화할 때 다시 더하지 않는다.")
+        void decreaseStockWithAppliedInflightBatch() {
+            // given
+            EventTicketStockFlush flush = EventTicketStockFlush.create();
+            flush.apply("batch-1");
+            given(eventTicketStockRedisRepository.reserve(event.getId())).willReturn(NOT_INITIALIZED, 79L);
+            given(eventTicketStockRedisRepository.findInflightBatchId()).willReturn(Optional.of("batch-1"));
+            given(eventTicketStockRepository.findAllByEventIdWithPessimisticLock(event.getId()))
+                    .willReturn(List.of(EventTicketStock.create(event)));
+            given(eventTicketStockFlushRepository.findByIdWithPessimisticLock(EventTicketStockFlush.ID))
+                    .willReturn(Optional.of(flush));
+            given(eventTicketStockRedisRepository.initialize(event.getId(), event.getMaxPeople(), "batch-1", true))
+                    .willReturn(true);
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            verify(eventTicketStockRedisRepository, times(1))
+                    .initialize(event.getId(), event.getMaxPeople(), "batch-1", true);
+        }
+
+        @Test
+        @DisplayName("DB 재고를 읽는 사이 inflight 묶음이 바뀌면 다시 읽어서 초기화한다.")
+        void decreaseStockWhenInflightBatchChanged() {
+            // given
+            given(eventTicketStockRedisRepository.reserve(event.getId())).willReturn(NOT_INITIALIZED, 79L);
+            given(eventTicketStockRedisRepository.findInflightBatchId())
+                    .willReturn(Optional.of("batch-1"), Optional.empty());
+            given(eventTicketStockRepository.findAllByEventIdWithPessimisticLock(event.getId()))
+                    .willReturn(List.of(EventTicketStock.create(event)));
+            given(eventTicketStockFlushRepository.findByIdWithPessimisticLock(EventTicketStockFlush.ID))
+                    .willReturn(Optional.empty());
+            given(eventTicketStockRedisRepository.initialize(event.getId(), event.getMaxPeople(), "batch-1", false))
+                    .willReturn(false);
+            given(eventTicketStockRedisRepository.initialize(event.getId(), event.getMaxPeople(), null, false))
+                    .willReturn(true);
+
+            // when
+            eventTicketStockService.decreaseStock(event);
+
+            // then
+            verify(eventTicketStockRepository, times(2)).findAllByEventIdWithPessimisticLock(event.getId());
+            verify(eventTicketStockRedisRepository, times(2)).reserve(event.getId());
+        }
+
+        @Test
+        @DisplayName("카운터의 재고가 없으면 예외가 발생한다.")
+        void decreaseStockWhenOutOfStock() {
+            // given
+            given(eventTicketStockRedisRepository.reserve(event.getId())).willReturn(OUT_OF_STOCK);
+
+            // when & then
+            assertThatThrownBy(() -> eventTicketStockService.decreaseStock(event))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(EVENT_TICKET_OUT_OF_STOCK.getMessage());
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖에서 재고를 복구하면 즉시 카운터에 반영한다.")
+        void increaseStock() {
+            // when
+            eventTicketStockService.increaseStock(event.getId(), 3);
+
+            // then
+            verify(eventTicketStockRedisRepository, times(1)).release(event.getId(), 3);
+        }
+    }
+
+    @Test
+    @DisplayName("누적된 재고 변화량을 샤드의 남은 재고만큼 나눠 DB에 반영한다.")
+    void applyStockDeltas() {
+        // given
+        List<EventTicketStock> shards = EventTicketStock.createShards(event, 2);
+        int firstShardStock = shards.get(0).getStock();
+        given(eventTicketStockRepository.findAllByEventIdWithPessimisticLock(event.getId())).willReturn(shards);
+        EventTicketStockFlush flush = EventTicketStockFlush.create();
+        given(eventTicketStockFlushRepository.findById(EventTicketStockFlush.ID)).willReturn(Optional.of(flush));
+        given(eventTicketStockFlushRepository.findByIdWithPessimisticLock(EventTicketStockFlush.ID))
+                .willReturn(Optional.of(flush));
+
+        // when
+        eventTicketStockService.applyStockDeltas(
+                EventTicketStockDeltaBatch.of("batch-1", Map.of(event.getId(), -(firstShardStock + 3L))));
+
+        // then
+        assertThat(shards.get(0).getStock()).isZero();
+        assertThat(shards.stream().mapToInt(EventTicketStock::getStock).sum())
+                .isEqualTo(event.getMaxPeople() - firstShardStock - 3);
+        assertThat(flush.getLastBatchId()).isEqualTo("batch-1");
+    }
+
+    @Test
+    @DisplayName("이미 반영한 재고 변화량 묶음은 다시 반영하지 않는다.")
+    void applyStockDeltasAlreadyApplied() {
+        // given
+        EventTicketStockFlush flush = EventTicketStockFlush.create();
+        flush.apply("batch-1");
+        given(eventTicketStockFlushRepository.findById(EventTicketStockFlush.ID)).willReturn(Optional.of(flush));
+
+        // when
+        eventTicketStockService.applyStockDeltas(EventTicketStockDeltaBatch.of("batch-1", Map.of(event.getId(), -3L)));
+
+        // then
+        verify(eventTicketStockRepository, never()).findAllByEventIdWithPessimisticLock(anyLong());
+        verify(eventTicketStockFlushRepository, never()).save(any());
+    }
+}
@@ -1,11 +1,15 @@
 package com.spotlightspace.core.payment.domain;
 
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_PAYMENT_STATUS;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.APPROVED;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.CANCELED;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.FAILED;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.PENDING;
+import static com.spotlightspace.core.payment.domain.PaymentStatus.READY;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.auth.dto.request.SignUpUserRequestDto;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.domain.EventCategory;
@@ -35,6 +39,8 @@ class PaymentTest {
                 0
         );
 
+        payment.ready("tid");
+
         // when
         payment.approve();
 
@@ -80,6 +86,9 @@ class PaymentTest {
                 0
         );
 
+        payment.ready("tid");
+        payment.approve();
+
         // when
         payment.cancel();
 
@@ -151,6 +160,7 @@ class PaymentTest {
                 1_000
         );
 
+        payment.ready("tid");
         int initialPoint = point.getAmount();
 
         // when
@@ -160,6 +170,56 @@ class PaymentTest {
         assertThat(point.getAmount()).isEqualTo(initialPoint - payment.getUsedPointAmount());
     }
 
+    @Test
+    @DisplayName("ready 호출 시 Payment 상태가 READY 가 되고 결제창이 열린 시각이 기록된다.")
+    void ready() {
+        // given
+        User user = createUser();
+        Event event = createEvent(user);
+        Payment payment = Payment.create("cid", event, user, 10_000, 10_000, null, Point.of(0, user), 0);
+
+        // when
+        payment.ready("tid");
+
+        // then
+        assertThat(payment.getStatus()).isEqualTo(READY);
+        assertThat(payment.getReadyAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("READY 상태가 아닌 결제는 승인할 수 없다.")
+    void approveNotReadyPayment() {
+        // given
+        User user = createUser();
+        Event event = createEvent(user);
+        Payment payment = Payment.create("cid", event, user, 10_000, 10_000, null, Point.of(0, user), 0);
+        payment.ready("tid");
+        payment.fail();
+
+        // when & then
+        assertThatThrownBy(payment::approve)
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(INVALID_PAYMENT_STATUS.getMessage());
+        assertThat(payment.getStatus()).isEqualTo(FAILED);
+    }
+
+    @Test
+    @DisplayName("승인된 결제는 실패 처리할 수 없다.")
+    void failApprovedPayment() {
+        // given
+        User user = createUser();
+        Event event = createEvent(user);
+        Payment payment = Payment.create("cid", event, user, 10_000, 10_000, null, Point.of(0, user), 0);
+        payment.ready("tid");
+        payment.approve();
+
+        // when & then
+        assertThatThrownBy(payment::fail)
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(INVALID_PAYMENT_STATUS.getMessage());
+        assertThat(payment.getStatus()).isEqualTo(APPROVED);
+    }
+
     private User createUser() {
         SignUpUserRequestDto requestDto = new SignUpUserRequestDto(
                 "test142@email.com",
@@ -0,0 +1,324 @@
+package com.spotlightspace.core.payment.load;
+
+import static com.spotlightspace.common.exception.ErrorCode.EVENT_TICKET_OUT_OF_STOCK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.auth.dto.request.SignUpUserRequestDto;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.domain.EventCategory;
+import com.spotlightspace.core.event.dto.request.CreateEventRequestDto;
+import com.spotlightspace.core.event.repository.EventElasticRepository;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.domain.Payment;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.payment.service.PaymentServiceFacade;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.paymentoutbox.service.PaymentOutboxRelay;
+import com.spotlightspace.core.point.domain.Point;
+import com.spotlightspace.core.point.repository.PointRepository;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.user.repository.UserRepository;
+import com.spotlightspace.integration.kakaopay.KakaopaySimulator;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+/**
+ * 한정 재고 이벤트 하나에 수천 명이 동시에 결제 준비 → 승인을 요청하는 상황을 재현합니다.
+ * MySQL은 H2(MySQL 모드), Redis는 내장 Redis, 카카오페이는 {@link KakaopaySimulator}로 대신합니다.
+ * 처리량, p50/p99 지연, 초과 판매 수, 재고 불일치를 출력하며 기본 test 태스크에서는 실행되지 않습니다.
+ *
+ * <pre>./gradlew loadTest -Dload.users=5000 -Dload.stock=500 -Dload.concurrency=200</pre>
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=${load.db-pool-size:30}",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=off",
+        "logging.config=classpath:load/logback-load.xml"
+})
+class TicketRushLoadTest {
+
+    private static final String CID = "TC0ONETIME";
+
+    private static RedisServer redisServer;
+    private static KakaopaySimulator kakaopaySimulator;
+
+    @Autowired
+    PaymentServiceFacade paymentServiceFacade;
+
+    @Autowired
+    PaymentOutboxRelay paymentOutboxRelay;
+
+    @Autowired
+    EventTicketStockService eventTicketStockService;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    PointRepository pointRepository;
+
+    @Autowired
+    EventRepository eventRepository;
+
+    @Autowired
+    EventTicketStockRepository eventTicketStockRepository;
+
+    @Autowired
+    PaymentRepository paymentRepository;
+
+    @Autowired
+    PaymentOutboxRepository paymentOutboxRepository;
+
+    @Autowired
+    TicketRepository ticketRepository;
+
+    @MockBean
+    EventElasticRepository eventElasticRepository;
+
+    @Value("${load.users:2000}")
+    int users;
+
+    @Value("${load.stock:200}")
+    int stock;
+
+    @Value("${load.stock-shards:1}")
+    int stockShards;
+
+    @Value("${load.concurrency:100}")
+    int concurrency;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = Integer.getInteger("load.redis-port", 6380);
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        kakaopaySimulator = KakaopaySimulator.create(
+                Long.getLong("load.latency-min-ms", 50L),
+                Long.getLong("load.latency-max-ms", 150L),
+                Double.parseDouble(System.getProperty("load.error-rate", "0.01"))
+        ).start(Integer.getInteger("load.simulator-threads", 200));
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+        registry.add("payment.kakao.base-url", kakaopaySimulator::getBaseUrl);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        kakaopaySimulator.stop();
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("한정 재고 이벤트에 결제가 몰려도 초과 판매와 재고 불일치가 없다.")
+    void ticketRush() throws InterruptedException {
+        // given
+        Event event = createEvent();
+        List<Long> userIds = createUsers();
+
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        AtomicInteger gatewayFailed = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[users];
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(users);
+
+        for (int i = 0; i < users; i++) {
+            int index = i;
+            long userId = userIds.get(i);
+            executor.execute(() -> {
+                try {
+                    startLatch.await();
+                    long startedAt = System.nanoTime();
+                    try {
+                        if (readyAndApprove(userId, event.getId())) {
+                            approved.incrementAndGet();
+                        } else {
+                            gatewayFailed.incrementAndGet();
+                        }
+                    } catch (ApplicationException e) {
+                        if (EVENT_TICKET_OUT_OF_STOCK.getMessage().equals(e.getMessage())) {
+                            soldOut.incrementAndGet();
+                        } else {
+                            errors.incrementAndGet();
+                        }
+                    } catch (RuntimeException e) {
+                        errors.incrementAndGet();
+                    }
+                    latencies[index] = System.nanoTime() - startedAt;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        // when
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        drainOutbox();
+
+        // then
+        Map<PaymentStatus, Long> paymentCounts = countPaymentsByStatus();
+        long holding = paymentCounts.get(PaymentStatus.PENDING)
+                + paymentCounts.get(PaymentStatus.READY)
+                + paymentCounts.get(PaymentStatus.APPROVED);
+        long remainingStock = eventTicketStockRepository.findTotalStockByEventId(event.getId()).orElse(0L);
+        long tickets = ticketRepository.countTicketByEvent(event.getId());
+        long oversell = Math.max(0, Math.max(paymentCounts.get(PaymentStatus.APPROVED), tickets) - stock);
+        long stockDrift = remainingStock - (stock - holding);
+
+        Arrays.sort(latencies);
+        log.info("""
+
+                        ===== ticket rush =====
+                        users={}, stock={}, shards={}, concurrency={}
+                        elapsed={}ms, throughput={} flows/s
+                        latency p50={}ms, p99={}ms, max={}ms
+                        approved={}, soldOut={}, gatewayFailed={}, errors={}
+                        payments={}, tickets={}, remainingStock={}
+                        oversell={}, stockDrift={}
+                        kakaopay ready={}/{}err, approve={}/{}err""",
+                users, stock, stockShards, concurrency,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                String.format("%.1f", users / (elapsedNanos / 1_000_000_000.0)),
+                toMillis(percentile(latencies, 0.50)),
+                toMillis(percentile(latencies, 0.99)),
+                toMillis(latencies[latencies.length - 1]),
+                approved.get(), soldOut.get(), gatewayFailed.get(), errors.get(),
+                paymentCounts, tickets, remainingStock,
+                oversell, stockDrift,
+                kakaopaySimulator.getCallCount("/ready"), kakaopaySimulator.getErrorCount("/ready"),
+                kakaopaySimulator.getCallCount("/approve"), kakaopaySimulator.getErrorCount("/approve"));
+
+        assertThat(oversell).isZero();
+        assertThat(stockDrift).isZero();
+        assertThat(remainingStock).isNotNegative();
+    }
+
+    private boolean readyAndApprove(long userId, long eventId) {
+        KakaopayPaymentResponseDto readyResponse = paymentServiceFacade.readyPayment(userId, eventId, CID, null, null);
+        if (!"success".equals(readyResponse.getStatus())) {
+            return false;
+        }
+
+        KakaopayPaymentResponseDto approveResponse = paymentServiceFacade.approvePayment(
+                "pg_token",
+                readyResponse.getTid()
+        );
+        return "success".equals(approveResponse.getStatus());
+    }
+
+    private Event createEvent() {
+        User artist = userRepository.save(User.create("password", signUpRequest("artist", 0)));
+        pointRepository.save(Point.of(0, artist));
+
+        LocalDateTime now = LocalDateTime.now();
+        CreateEventRequestDto requestDto = CreateEventRequestDto.of(
+                "ticket rush", "content", "location",
+                now.plusDays(7), now.plusDays(7).plusHours(2),
+                stock, 10_000, EventCategory.ART,
+                now.minusDays(1), now.plusDays(1),
+                stockShards
+        );
+        Event event = eventRepository.save(Event.create(requestDto, artist));
+        eventTicketStockService.createStock(event, stockShards);
+        return event;
+    }
+
+    private List<Long> createUsers() {
+        List<User> users = new ArrayList<>(this.users);
+        for (int i = 0; i < this.users; i++) {
+            users.add(User.create("password", signUpRequest("user", i + 1)));
+        }
+        List<User> savedUsers = userRepository.saveAll(users);
+        pointRepository.saveAll(savedUsers.stream().map(user -> Point.of(0, user)).toList());
+        return savedUsers.stream().map(User::getId).toList();
+    }
+
+    private SignUpUserRequestDto signUpRequest(String prefix, int index) {
+        return new SignUpUserRequestDto(
+                prefix + index + "@load.test",
+                "Password1!",
+                prefix + index,
+                "artist".equals(prefix) ? "ROLE_ARTIST" : "ROLE_USER",
+                "2000-01-01",
+                false,
+                String.format("010-%08d", index),
+                "한국"
+        );
+    }
+
+    private void drainOutbox() {
+        while (paymentOutboxRepository.findAll().stream()
+                .map(PaymentOutbox::getStatus)
+                .anyMatch(PaymentOutboxStatus.PENDING::equals)) {
+            paymentOutboxRelay.relay();
+        }
+    }
+
+    private Map<PaymentStatus, Long> countPaymentsByStatus() {
+        Map<PaymentStatus, Long> counts = new EnumMap<>(PaymentStatus.class);
+        for (PaymentStatus status : PaymentStatus.values()) {
+            counts.put(status, 0L);
+        }
+        for (Payment payment : paymentRepository.findAll()) {
+            counts.merge(payment.getStatus(), 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+}
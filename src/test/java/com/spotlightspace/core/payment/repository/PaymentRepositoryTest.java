@@ -15,6 +15,7 @@ import com.spotlightspace.core.user.domain.User;
 import com.spotlightspace.core.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -102,7 +103,9 @@ class PaymentRepositoryTest {
     }
 
     Payment getReadyPayment(Event event, User user, int price, Point point) {
-        return Payment.create("cid", event, user, price, price, null, point, 0);
+        Payment payment = Payment.create("cid", event, user, price, price, null, point, 0);
+        payment.ready(UUID.randomUUID().toString());
+        return payment;
     }
 
     Payment getCanceledPayment(Event event, User user, int price, Point point) {
@@ -116,6 +119,8 @@ class PaymentRepositoryTest {
                 point,
                 0
         );
+        payment.ready(UUID.randomUUID().toString());
+        payment.approve();
         payment.cancel();
         return payment;
     }
@@ -135,6 +140,7 @@ class PaymentRepositoryTest {
                 point,
                 0
         );
+        payment.ready(UUID.randomUUID().toString());
         payment.approve();
         return payment;
     }
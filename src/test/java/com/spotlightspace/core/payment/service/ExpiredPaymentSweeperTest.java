@@ -0,0 +1,84 @@
+package com.spotlightspace.core.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ExpiredPaymentSweeperTest {
+
+    PaymentService paymentService;
+    MeterRegistry meterRegistry;
+    ExpiredPaymentSweeper expiredPaymentSweeper;
+
+    @BeforeEach
+    void setUp() {
+        paymentService = mock(PaymentService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        expiredPaymentSweeper = new ExpiredPaymentSweeper(paymentService, meterRegistry, 15, 20, 100, 10);
+    }
+
+    @Test
+    @DisplayName("배치 크기보다 적게 정리되면 더 이상 조회하지 않고 정리 건수를 기록한다.")
+    void sweep() {
+        // given
+        given(paymentService.failExpiredPayments(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willReturn(100)
+                .willReturn(30);
+        given(paymentService.findOldestPendingPaymentCreatedAt()).willReturn(Optional.empty());
+        given(paymentService.findOldestReadyPaymentReadyAt()).willReturn(Optional.empty());
+
+        // when
+        expiredPaymentSweeper.sweep();
+
+        // then
+        verify(paymentService, times(2)).failExpiredPayments(any(LocalDateTime.class), any(LocalDateTime.class), anyInt());
+        assertThat(meterRegistry.get("payment.sweeper.expired").counter().count()).isEqualTo(130);
+        assertThat(meterRegistry.get("payment.sweeper.lag").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("정리되지 못한 만료 결제가 남아 있으면 만료 후 경과 시간을 기록한다.")
+    void sweepWithLag() {
+        // given
+        given(paymentService.failExpiredPayments(any(LocalDateTime.class), any(LocalDateTime.class), anyInt())).willReturn(0);
+        given(paymentService.findOldestPendingPaymentCreatedAt())
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(20)));
+        given(paymentService.findOldestReadyPaymentReadyAt())
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(21)));
+
+        // when
+        expiredPaymentSweeper.sweep();
+
+        // then
+        assertThat(meterRegistry.get("payment.sweeper.lag").gauge().value()).isGreaterThanOrEqualTo(290);
+    }
+
+    @Test
+    @DisplayName("결제창이 열린 결제는 결제창이 열린 시각부터 만료 시간이 지나야 지연 시간에 포함된다.")
+    void sweepWithReadyPaymentInSession() {
+        // given
+        given(paymentService.failExpiredPayments(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .willReturn(0);
+        given(paymentService.findOldestPendingPaymentCreatedAt()).willReturn(Optional.empty());
+        given(paymentService.findOldestReadyPaymentReadyAt())
+                .willReturn(Optional.of(LocalDateTime.now().minusMinutes(16)));
+
+        // when
+        expiredPaymentSweeper.sweep();
+
+        // then
+        assertThat(meterRegistry.get("payment.sweeper.lag").gauge().value()).isZero();
+    }
+}
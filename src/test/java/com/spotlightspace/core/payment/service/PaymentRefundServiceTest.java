@@ -0,0 +1,151 @@
+package com.spotlightspace.core.payment.service;
+
+import static com.spotlightspace.core.data.EventTestData.testEvent;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.domain.PaymentStatus;
+import com.spotlightspace.core.payment.dto.response.PaymentRefundTargetDto;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.core.payment.repository.PaymentRefundProgressRedisRepository;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.point.repository.PointRepository;
+import com.spotlightspace.core.pointhistory.domain.PointHistoryStatus;
+import com.spotlightspace.core.pointhistory.repository.PointHistoryRepository;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
+import com.spotlightspace.integration.kakaopay.KakaopayApi;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RedissonClient;
+import org.mockito.ArgumentCaptor;
+
+class PaymentRefundServiceTest {
+
+    PaymentRepository paymentRepository;
+    PointRepository pointRepository;
+    PointHistoryRepository pointHistoryRepository;
+    UserCouponRepository userCouponRepository;
+    TicketRepository ticketRepository;
+    EventTicketStockService eventTicketStockService;
+    PaymentRefundProgressRedisRepository paymentRefundProgressRedisRepository;
+    PaymentOutboxRepository paymentOutboxRepository;
+    KakaopayApi kakaopayApi;
+    PaymentRefundService paymentRefundService;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        pointRepository = mock(PointRepository.class);
+        pointHistoryRepository = mock(PointHistoryRepository.class);
+        userCouponRepository = mock(UserCouponRepository.class);
+        ticketRepository = mock(TicketRepository.class);
+        eventTicketStockService = mock(EventTicketStockService.class);
+        paymentRefundProgressRedisRepository = mock(PaymentRefundProgressRedisRepository.class);
+        paymentOutboxRepository = mock(PaymentOutboxRepository.class);
+        kakaopayApi = mock(KakaopayApi.class);
+        RedissonClient redissonClient = mock(RedissonClient.class);
+        given(redissonClient.getRateLimiter(anyString())).willReturn(mock(RRateLimiter.class));
+
+        paymentRefundService = new PaymentRefundService(
+                paymentRepository,
+                pointRepository,
+                pointHistoryRepository,
+                userCouponRepository,
+                ticketRepository,
+                mock(EventRepository.class),
+                eventTicketStockService,
+                paymentRefundProgressRedisRepository,
+                paymentOutboxRepository,
+                kakaopayApi,
+                redissonClient,
+                Runnable::run,
+                10,
+                20
+        );
+    }
+
+    @Test
+    @DisplayName("결제 묶음 단위로 상태를 변경하고 재고는 한 번에 복구한 뒤 승인된 결제만 카카오페이 환불을 요청한다.")
+    void refundPayments() {
+        // given
+        Event event = testEvent();
+        PaymentRefundTargetDto approved1 = getPayment(1L, 1L, 1_000, PaymentStatus.APPROVED);
+        PaymentRefundTargetDto approved2 = getPayment(2L, 2L, 1_000, PaymentStatus.APPROVED);
+        PaymentRefundTargetDto approved3 = getPayment(3L, 1L, 500, PaymentStatus.APPROVED);
+        PaymentRefundTargetDto pending = getPayment(4L, 2L, 0, PaymentStatus.PENDING);
+        given(paymentRepository.findRefundTargetsWithPessimisticLock(eq(1L), any(), eq(0L), anyInt()))
+                .willReturn(List.of(approved1, approved2, approved3, pending));
+        KakaopayPaymentResponseDto responseDto = getKakaopayResponse("success");
+        given(kakaopayApi.cancelPayment(anyString(), anyString(), anyInt(), anyInt())).willReturn(responseDto);
+
+        // when
+        int count = paymentRefundService.refundPayments(event);
+
+        // then
+        assertThat(count).isEqualTo(3);
+        verify(paymentRepository).updateStatusByIdIn(List.of(4L), PaymentStatus.FAILED);
+        verify(paymentRepository).updateStatusByIdIn(List.of(1L, 2L, 3L), PaymentStatus.CANCELED);
+        verify(pointHistoryRepository).updateStatusByPaymentIdIn(List.of(1L, 2L, 3L), PointHistoryStatus.CANCELED);
+        verify(pointRepository).addAmountByIdIn(List.of(1L), 1_500);
+        verify(pointRepository).addAmountByIdIn(List.of(2L), 1_000);
+        verify(userCouponRepository, never()).cancelUsageByIdIn(any());
+        verify(ticketRepository).cancelAllByEventId(1L);
+        verify(eventTicketStockService, times(1)).increaseStock(1L, 4L);
+        verify(paymentRefundProgressRedisRepository).start(1L, 3);
+        verify(paymentRefundProgressRedisRepository, times(3)).increaseSucceeded(1L);
+        verify(paymentOutboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("카카오페이 환불에 실패하면 실패한 결제를 기록하고 카카오페이 결제 취소를 후속 작업으로 남긴다.")
+    void refundPaymentsWithKakaopayFail() {
+        // given
+        Event event = testEvent();
+        PaymentRefundTargetDto approved = getPayment(1L, 1L, 0, PaymentStatus.APPROVED);
+        given(paymentRepository.findRefundTargetsWithPessimisticLock(eq(1L), any(), eq(0L), anyInt()))
+                .willReturn(List.of(approved));
+        KakaopayPaymentResponseDto responseDto = getKakaopayResponse("fail");
+        given(kakaopayApi.cancelPayment(anyString(), anyString(), anyInt(), anyInt())).willReturn(responseDto);
+
+        // when
+        paymentRefundService.refundPayments(event);
+
+        // then
+        verify(pointRepository, never()).addAmountByIdIn(any(), anyInt());
+        verify(paymentRefundProgressRedisRepository).increaseFailed(1L, 1L);
+        verify(paymentRefundProgressRedisRepository, never()).increaseSucceeded(anyLong());
+        ArgumentCaptor<PaymentOutbox> outboxCaptor = ArgumentCaptor.forClass(PaymentOutbox.class);
+        verify(paymentOutboxRepository).save(outboxCaptor.capture());
+        assertThat(outboxCaptor.getValue().getPaymentId()).isEqualTo(1L);
+        assertThat(outboxCaptor.getValue().getType()).isEqualTo(PaymentOutboxType.GATEWAY_CANCEL);
+    }
+
+    PaymentRefundTargetDto getPayment(long paymentId, long pointId, int usedPointAmount, PaymentStatus status) {
+        return PaymentRefundTargetDto.of(paymentId, status, "tid" + paymentId, "cid", 10_000, pointId, usedPointAmount, null);
+    }
+
+    KakaopayPaymentResponseDto getKakaopayResponse(String status) {
+        KakaopayPaymentResponseDto responseDto = mock(KakaopayPaymentResponseDto.class);
+        given(responseDto.getStatus()).willReturn(status);
+        return responseDto;
+    }
+}
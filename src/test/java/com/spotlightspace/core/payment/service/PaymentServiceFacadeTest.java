@@ -1,15 +1,20 @@
 package com.spotlightspace.core.payment.service;
 
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_PAYMENT_STATUS;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.anyInt;
 import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.spotlightspace.common.exception.ApplicationException;
 import com.spotlightspace.core.data.UserTestData;
 import com.spotlightspace.core.event.domain.Event;
 import com.spotlightspace.core.event.domain.EventCategory;
@@ -21,11 +26,11 @@ import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayCancelPayme
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentErrorResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayReadyPaymentResponseDto;
-import com.spotlightspace.core.paymentevent.domain.PaymentEvent;
-import com.spotlightspace.core.paymentevent.repository.PaymentEventRepository;
 import com.spotlightspace.core.point.domain.Point;
 import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.waitingroom.service.WaitingRoomService;
 import com.spotlightspace.integration.kakaopay.KakaopayApi;
+import com.spotlightspace.integration.kakaopay.ReactiveKakaopayApi;
 import java.time.LocalDateTime;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -36,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentServiceFacadeTest {
@@ -47,7 +53,10 @@ class PaymentServiceFacadeTest {
     KakaopayApi kakaopayApi;
 
     @Mock
-    PaymentEventRepository paymentEventRepository;
+    ReactiveKakaopayApi reactiveKakaopayApi;
+
+    @Mock
+    WaitingRoomService waitingRoomService;
 
     @InjectMocks
     PaymentServiceFacade paymentServiceFacade;
@@ -70,8 +79,6 @@ class PaymentServiceFacadeTest {
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
                     .willReturn(createSuccessKakaopayReadyPaymentResponseDto());
 
@@ -81,11 +88,10 @@ class PaymentServiceFacadeTest {
             // then
             verify(paymentService, times(1)).createPayment(anyLong(), anyLong(), anyString(), anyLong(), anyInt());
             verify(paymentService, times(1)).getPayment(anyLong());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(),
                     anyInt());
-            verify(paymentService, times(1)).readyPayment(anyLong(), anyString(), anyLong());
-            verify(paymentService, never()).failPayment(anyLong(), anyLong());
+            verify(paymentService, times(1)).readyPayment(anyLong(), anyString());
+            verify(paymentService, never()).failPayment(anyLong());
         }
 
         @Test
@@ -102,8 +108,6 @@ class PaymentServiceFacadeTest {
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
                     .willReturn(createFailKakaopayPaymentResponseDto());
 
@@ -113,11 +117,10 @@ class PaymentServiceFacadeTest {
             // then
             verify(paymentService, times(1)).createPayment(anyLong(), anyLong(), anyString(), anyLong(), anyInt());
             verify(paymentService, times(1)).getPayment(anyLong());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(),
                     anyInt());
-            verify(paymentService, times(1)).failPayment(anyLong(), anyLong());
-            verify(paymentService, never()).readyPayment(anyLong(), anyString(), anyLong());
+            verify(paymentService, times(1)).failPayment(anyLong());
+            verify(paymentService, never()).readyPayment(anyLong(), anyString());
         }
     }
 
@@ -131,14 +134,12 @@ class PaymentServiceFacadeTest {
             // given
             CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
             given(paymentService.getPayment(anyString()))
-                    .willReturn(PaymentResponseDto.from(getPendingPayment(
+                    .willReturn(PaymentResponseDto.from(getReadyPayment(
                             getEvent(createEventRequestDto),
                             getUser(),
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong()))
                     .willReturn(createSuccessKakaopayApprovePaymentResponseDto());
 
@@ -147,10 +148,9 @@ class PaymentServiceFacadeTest {
 
             // then
             verify(paymentService, times(1)).getPayment(anyString());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong());
-            verify(paymentService, times(1)).approvePayment(anyLong(), anyLong());
-            verify(paymentService, never()).failPayment(anyLong(), anyLong());
+            verify(paymentService, times(1)).approvePayment(anyLong());
+            verify(paymentService, never()).failPayment(anyLong());
         }
 
         @Test
@@ -159,14 +159,12 @@ class PaymentServiceFacadeTest {
             // given
             CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
             given(paymentService.getPayment(anyString()))
-                    .willReturn(PaymentResponseDto.from(getPendingPayment(
+                    .willReturn(PaymentResponseDto.from(getReadyPayment(
                             getEvent(createEventRequestDto),
                             getUser(),
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong()))
                     .willReturn(createFailKakaopayPaymentResponseDto());
 
@@ -175,10 +173,47 @@ class PaymentServiceFacadeTest {
 
             // then
             verify(paymentService, times(1)).getPayment(anyString());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong());
-            verify(paymentService, times(1)).failPayment(anyLong(), anyLong());
-            verify(paymentService, never()).approvePayment(anyLong(), anyLong());
+            verify(paymentService, times(1)).failPayment(anyLong());
+            verify(paymentService, never()).approvePayment(anyLong());
+        }
+
+        @Test
+        @DisplayName("결제 준비 상태가 아니면 카카오페이에 승인을 요청하지 않는다.")
+        void approvePaymentWithExpiredPayment() {
+            // given
+            CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
+            Payment payment = getReadyPayment(getEvent(createEventRequestDto), getUser(), 0, null);
+            payment.fail();
+            given(paymentService.getPayment(anyString())).willReturn(PaymentResponseDto.from(payment));
+
+            // when & then
+            assertThatThrownBy(() -> paymentServiceFacade.approvePayment("pgToken", "tid"))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(INVALID_PAYMENT_STATUS.getMessage());
+            verify(kakaopayApi, never()).approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("카카오페이 승인 후 결제 승인 처리에 실패하면 카카오페이 결제 취소를 남긴다.")
+        void approvePaymentWithApproveFailure() {
+            // given
+            CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
+            given(paymentService.getPayment(anyString()))
+                    .willReturn(PaymentResponseDto.from(getReadyPayment(
+                            getEvent(createEventRequestDto),
+                            getUser(),
+                            0,
+                            null))
+                    );
+            given(kakaopayApi.approvePayment(anyString(), anyString(), anyString(), anyLong(), anyLong()))
+                    .willReturn(createSuccessKakaopayApprovePaymentResponseDto());
+            willThrow(new ApplicationException(INVALID_PAYMENT_STATUS)).given(paymentService).approvePayment(anyLong());
+
+            // when & then
+            assertThatThrownBy(() -> paymentServiceFacade.approvePayment("pgToken", "tid"))
+                    .isInstanceOf(ApplicationException.class);
+            verify(paymentService, times(1)).requestGatewayCancel(1L);
         }
     }
 
@@ -198,8 +233,6 @@ class PaymentServiceFacadeTest {
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.cancelPayment(anyString(), anyString(), anyInt(), anyInt()))
                     .willReturn(createSuccessKakaopayCancelPaymentResponseDto());
 
@@ -208,10 +241,9 @@ class PaymentServiceFacadeTest {
 
             // then
             verify(paymentService, times(1)).getPayment(anyString());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).cancelPayment(anyString(), anyString(), anyInt(), anyInt());
-            verify(paymentService, times(1)).cancelPayment(anyLong(), anyLong());
-            verify(paymentService, never()).failPayment(anyLong(), anyLong());
+            verify(paymentService, times(1)).cancelPayment(anyLong());
+            verify(paymentService, never()).failPayment(anyLong());
         }
 
         @Test
@@ -226,8 +258,6 @@ class PaymentServiceFacadeTest {
                             0,
                             null))
                     );
-            given(paymentEventRepository.save(any()))
-                    .willReturn(getPaymentEvent());
             given(kakaopayApi.cancelPayment(anyString(), anyString(), anyInt(), anyInt()))
                     .willReturn(createFailKakaopayPaymentResponseDto());
 
@@ -236,10 +266,68 @@ class PaymentServiceFacadeTest {
 
             // then
             verify(paymentService, times(1)).getPayment(anyString());
-            verify(paymentEventRepository, times(1)).save(any());
             verify(kakaopayApi, times(1)).cancelPayment(anyString(), anyString(), anyInt(), anyInt());
-            verify(paymentEventRepository, times(1)).deleteById(anyLong());
-            verify(paymentService, never()).cancelPayment(anyLong(), anyLong());
+            verify(paymentService, never()).failPayment(anyLong());
+            verify(paymentService, never()).cancelPayment(anyLong());
+        }
+    }
+
+    @Nested
+    @DisplayName("비동기 결제 준비 시")
+    class ReadyPaymentAsync {
+
+        @Test
+        @DisplayName("카카오페이 api 응답이 success이면 결제 준비가 된다.")
+        void readyPaymentAsyncWithSuccess() {
+            // given
+            CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
+            given(paymentService.createPayment(anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
+                    .willReturn(1L);
+            given(paymentService.getPayment(anyLong()))
+                    .willReturn(PaymentResponseDto.from(getPendingPayment(
+                            getEvent(createEventRequestDto),
+                            getUser(),
+                            0,
+                            null))
+                    );
+            given(reactiveKakaopayApi.readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
+                    .willReturn(Mono.just(createSuccessKakaopayReadyPaymentResponseDto()));
+
+            // when
+            KakaopayPaymentResponseDto responseDto =
+                    paymentServiceFacade.readyPaymentAsync(1L, 1L, "cid", 1L, 0).block();
+
+            // then
+            assertThat(responseDto.getTid()).isEqualTo("tid");
+            verify(kakaopayApi, never()).readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(),
+                    anyInt());
+            verify(paymentService, times(1)).readyPayment(anyLong(), anyString());
+            verify(paymentService, never()).failPayment(anyLong());
+        }
+
+        @Test
+        @DisplayName("카카오페이 api 응답이 fail이면 결제 실패가 된다.")
+        void readyPaymentAsyncWithFail() {
+            // given
+            CreateEventRequestDto createEventRequestDto = getCreateEventRequestDtoWithMaxPeople(10);
+            given(paymentService.createPayment(anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
+                    .willReturn(1L);
+            given(paymentService.getPayment(anyLong()))
+                    .willReturn(PaymentResponseDto.from(getPendingPayment(
+                            getEvent(createEventRequestDto),
+                            getUser(),
+                            0,
+                            null))
+                    );
+            given(reactiveKakaopayApi.readyPayment(anyString(), anyLong(), anyLong(), anyString(), anyLong(), anyInt()))
+                    .willReturn(Mono.just(createFailKakaopayPaymentResponseDto()));
+
+            // when
+            paymentServiceFacade.readyPaymentAsync(1L, 1L, "cid", 1L, 0).block();
+
+            // then
+            verify(paymentService, times(1)).failPayment(anyLong());
+            verify(paymentService, never()).readyPayment(anyLong(), anyString());
         }
     }
 
@@ -259,12 +347,6 @@ class PaymentServiceFacadeTest {
 
     }
 
-    PaymentEvent getPaymentEvent() {
-        PaymentEvent readyEvent = PaymentEvent.createReadyEvent(1L);
-        ReflectionTestUtils.setField(readyEvent, "id", 1L);
-        return readyEvent;
-    }
-
     User getUser() {
         User user = UserTestData.testUser();
         ReflectionTestUtils.setField(user, "id", 1L);
@@ -283,6 +365,12 @@ class PaymentServiceFacadeTest {
         return payment;
     }
 
+    Payment getReadyPayment(Event event, User user, int price, Point point) {
+        Payment payment = getPendingPayment(event, user, price, point);
+        payment.ready("tid");
+        return payment;
+    }
+
     Payment getApprovePayment(Event event, User user, int price, Point point) {
         Payment payment = Payment.create("cid", event, user, price, price, null, point, 0);
         ReflectionTestUtils.setField(payment, "id", 1L);
@@ -1,6 +1,7 @@
 package com.spotlightspace.core.payment.service;
 
 import static com.spotlightspace.common.exception.ErrorCode.CANCELLATION_PERIOD_EXPIRED;
+import static com.spotlightspace.common.exception.ErrorCode.INVALID_PAYMENT_STATUS;
 import static com.spotlightspace.common.exception.ErrorCode.NOT_ENOUGH_POINT_AMOUNT;
 import static com.spotlightspace.core.event.domain.EventCategory.ART;
 import static com.spotlightspace.core.payment.domain.PaymentStatus.APPROVED;
@@ -24,12 +25,16 @@ import com.spotlightspace.core.event.repository.EventRepository;
 import com.spotlightspace.core.eventticketstock.domain.EventTicketStock;
 import com.spotlightspace.core.eventticketstock.repository.EventTicketStockRepository;
 import com.spotlightspace.core.payment.domain.Payment;
+import com.spotlightspace.core.payment.dto.response.PaymentCursorResponseDto;
 import com.spotlightspace.core.payment.dto.response.PaymentResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
 import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayReadyPaymentResponseDto;
 import com.spotlightspace.core.payment.repository.PaymentRepository;
-import com.spotlightspace.core.paymentevent.domain.PaymentEvent;
-import com.spotlightspace.core.paymentevent.repository.PaymentEventRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.paymentoutbox.service.PaymentOutboxRelay;
 import com.spotlightspace.core.point.domain.Point;
 import com.spotlightspace.core.point.repository.PointRepository;
 import com.spotlightspace.core.pointhistory.domain.PointHistory;
@@ -42,6 +47,7 @@ import com.spotlightspace.core.user.repository.UserRepository;
 import com.spotlightspace.integration.kakaopay.KakaopayApi;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -64,6 +70,9 @@ class PaymentServiceTest {
     @Autowired
     PaymentService paymentService;
 
+    @Autowired
+    PaymentRefundService paymentRefundService;
+
     @Autowired
     UserRepository userRepository;
 
@@ -83,7 +92,10 @@ class PaymentServiceTest {
     PointRepository pointRepository;
 
     @Autowired
-    PaymentEventRepository paymentEventRepository;
+    PaymentOutboxRepository paymentOutboxRepository;
+
+    @Autowired
+    PaymentOutboxRelay paymentOutboxRelay;
 
     @Autowired
     PointHistoryRepository pointHistoryRepository;
@@ -94,7 +106,7 @@ class PaymentServiceTest {
     @AfterEach
     void tearDown() {
         pointHistoryRepository.deleteAllInBatch();
-        paymentEventRepository.deleteAllInBatch();
+        paymentOutboxRepository.deleteAllInBatch();
         paymentRepository.deleteAllInBatch();
         eventTicketStockRepository.deleteAllInBatch();
         ticketRepository.deleteAllInBatch();
@@ -208,10 +220,9 @@ class PaymentServiceTest {
             Point point = pointRepository.save(Point.of(0, user));
 
             Payment payment = paymentRepository.save(getPendingPayment(event, user, requestDto.getPrice(), point));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createReadyEvent(payment.getId()));
 
             // when
-            paymentService.readyPayment(payment.getId(), "tid", paymentEvent.getId());
+            paymentService.readyPayment(payment.getId(), "tid");
 
             // then
             Payment foundPayment = paymentRepository.findByIdOrElseThrow(payment.getId());
@@ -230,39 +241,14 @@ class PaymentServiceTest {
             Point point = pointRepository.save(Point.of(0, user));
 
             Payment payment = paymentRepository.save(getPendingPayment(event, user, requestDto.getPrice(), point));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createReadyEvent(payment.getId()));
 
             // when
-            paymentService.readyPayment(payment.getId(), "tid", paymentEvent.getId());
+            paymentService.readyPayment(payment.getId(), "tid");
 
             // then
             Payment foundPayment = paymentRepository.findByIdOrElseThrow(payment.getId());
             assertThat(foundPayment.getTid()).isEqualTo("tid");
         }
-
-        @Test
-        @DisplayName("성공적으로 동작한다면 결제 준비 이벤트가 삭제된다.")
-        void readyPaymentAboutPaymentEvent() {
-            // given
-            User user = UserTestData.testUser();
-            userRepository.save(user);
-
-            Event event = eventRepository.save(Event.create(getCreateEventRequestDto(), user));
-            EventTicketStock eventTicketStock = EventTicketStock.create(event);
-            eventTicketStockRepository.save(eventTicketStock);
-
-            Point initialPoint = pointRepository.save(Point.of(10_000, user));
-            Payment payment = paymentRepository.save(getPendingPayment(event, user, 10_000, initialPoint));
-            pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
-
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createReadyEvent(payment.getId()));
-
-            // when
-            paymentService.readyPayment(payment.getId(), "tid", paymentEvent.getId());
-
-            // then
-            assertThat(paymentEventRepository.findById(paymentEvent.getId())).isEmpty();
-        }
     }
 
     @Nested
@@ -285,10 +271,9 @@ class PaymentServiceTest {
             Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
-
             // when
-            paymentService.approvePayment(payment.getId(), paymentEvent.getId());
+            paymentService.approvePayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             Payment foundPayment = paymentRepository.findByIdOrElseThrow(payment.getId());
@@ -309,10 +294,10 @@ class PaymentServiceTest {
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
 
             // when
-            paymentService.approvePayment(payment.getId(), paymentEvent.getId());
+            paymentService.approvePayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             Point foundPoint = pointRepository.findById(initialPoint.getId()).get();
@@ -323,8 +308,8 @@ class PaymentServiceTest {
         }
 
         @Test
-        @DisplayName("성공적으로 동작한다면 결제 승인 이벤트가 삭제된다.")
-        void approvePaymentAboutPaymentEvent() {
+        @DisplayName("티켓 발급 후속 작업이 결제 승인과 함께 저장된다.")
+        void approvePaymentWithOutbox() {
             // given
             User user = UserTestData.testUser();
             userRepository.save(user);
@@ -337,13 +322,12 @@ class PaymentServiceTest {
             Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
-
             // when
-            paymentService.approvePayment(payment.getId(), paymentEvent.getId());
+            paymentService.approvePayment(payment.getId());
 
             // then
-            assertThat(paymentEventRepository.findById(paymentEvent.getId())).isEmpty();
+            List<PaymentOutbox> outboxes = paymentOutboxRepository.findAllByPaymentId(payment.getId());
+            assertThat(outboxes).extracting("type").containsExactly(PaymentOutboxType.APPROVED);
         }
 
         @Test
@@ -361,10 +345,9 @@ class PaymentServiceTest {
             Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
-
             // when
-            paymentService.approvePayment(payment.getId(), paymentEvent.getId());
+            paymentService.approvePayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             List<Ticket> tickets = ticketRepository.findAll();
@@ -395,16 +378,17 @@ class PaymentServiceTest {
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayment(payment.getId(), paymentEvent.getId());
+            paymentService.cancelPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
-            assertThat(paymentEventRepository.findById(paymentEvent.getId())).isEmpty();
+            Payment foundPayment = paymentRepository.findByIdOrElseThrow(payment.getId());
+            assertThat(foundPayment.getStatus()).isEqualTo(CANCELED);
         }
 
         @Test
@@ -419,13 +403,13 @@ class PaymentServiceTest {
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayment(payment.getId(), paymentEvent.getId());
+            paymentService.cancelPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             List<Ticket> tickets = ticketRepository.findAll();
@@ -446,13 +430,12 @@ class PaymentServiceTest {
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when & then
-            assertThatThrownBy(() -> paymentService.cancelPayment(payment.getId(), paymentEvent.getId()))
+            assertThatThrownBy(() -> paymentService.cancelPayment(payment.getId()))
                     .isInstanceOf(ApplicationException.class)
                     .hasMessage(CANCELLATION_PERIOD_EXPIRED.getMessage());
         }
@@ -469,13 +452,13 @@ class PaymentServiceTest {
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayment(payment.getId(), paymentEvent.getId());
+            paymentService.cancelPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             PointHistory pointHistory = pointHistoryRepository.findByPaymentOrElseThrow(payment);
@@ -496,13 +479,13 @@ class PaymentServiceTest {
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayment(payment.getId(), paymentEvent.getId());
+            paymentService.cancelPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             EventTicketStock foundEventTicketStock
@@ -511,8 +494,8 @@ class PaymentServiceTest {
         }
 
         @Test
-        @DisplayName("성공적으로 동작한다면 결제 승인 이벤트가 삭제된다.")
-        void cancelPaymentAboutPaymentEvent() {
+        @DisplayName("취소 후속 작업이 결제 취소와 함께 저장되고 처리된다.")
+        void cancelPaymentWithOutbox() {
             // given
             User user = UserTestData.testUser();
             userRepository.save(user);
@@ -526,13 +509,14 @@ class PaymentServiceTest {
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
             pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createCancelEvent(payment.getId()));
-
             // when
-            paymentService.cancelPayment(payment.getId(), paymentEvent.getId());
+            paymentService.cancelPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
-            assertThat(paymentEventRepository.findById(paymentEvent.getId())).isEmpty();
+            List<PaymentOutbox> outboxes = paymentOutboxRepository.findAllByPaymentId(payment.getId());
+            assertThat(outboxes).extracting("type", "status")
+                    .containsExactly(tuple(PaymentOutboxType.CANCELED, PaymentOutboxStatus.DONE));
         }
     }
 
@@ -560,7 +544,7 @@ class PaymentServiceTest {
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayments(event);
+            paymentRefundService.refundPayments(event);
 
             // then
             List<Payment> payments = paymentRepository.findAll();
@@ -587,7 +571,7 @@ class PaymentServiceTest {
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayments(event);
+            paymentRefundService.refundPayments(event);
 
             // then
             List<Ticket> tickets = ticketRepository.findAll();
@@ -614,7 +598,7 @@ class PaymentServiceTest {
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayments(event);
+            paymentRefundService.refundPayments(event);
 
             // then
             PointHistory pointHistory = pointHistoryRepository.findByPaymentOrElseThrow(payment);
@@ -642,7 +626,7 @@ class PaymentServiceTest {
             ticketRepository.save(Ticket.create(user, event, event.getPrice()));
 
             // when
-            paymentService.cancelPayments(event);
+            paymentRefundService.refundPayments(event);
 
             // then
             EventTicketStock foundEventTicketStock
@@ -650,6 +634,64 @@ class PaymentServiceTest {
             assertThat(foundEventTicketStock.getStock()).isEqualTo(event.getMaxPeople());
         }
 
+        @Test
+        @DisplayName("같은 결제를 사용자가 취소하는 중에 일괄 환불해도 포인트와 재고는 한 번만 복구된다.")
+        void refundPaymentsWithConcurrentCancel() throws InterruptedException {
+            // given
+            User user = UserTestData.testUser();
+            userRepository.save(user);
+
+            Event event = eventRepository.save(Event.create(getCreateEventRequestDto(), user));
+            EventTicketStock eventTicketStock = EventTicketStock.create(event);
+            eventTicketStock.decreaseStock();
+            eventTicketStockRepository.save(eventTicketStock);
+
+            Point initialPoint = pointRepository.save(Point.of(10_000, user));
+            Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
+            pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
+
+            ticketRepository.save(Ticket.create(user, event, event.getPrice()));
+
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+            CountDownLatch ready = new CountDownLatch(2);
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(2);
+
+            // when
+            List<Runnable> tasks = List.of(
+                    () -> paymentRefundService.refundPayments(event),
+                    () -> paymentService.cancelPayment(payment.getId())
+            );
+            for (Runnable task : tasks) {
+                executorService.submit(() -> {
+                    try {
+                        ready.countDown();
+                        start.await();
+                        task.run();
+                    } catch (Exception e) {
+                        log.info("결제 취소 실패: {}", e.getMessage());
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            ready.await();
+            start.countDown();
+            done.await();
+            executorService.shutdown();
+            paymentOutboxRelay.relay();
+
+            // then
+            Point foundPoint = pointRepository.findById(initialPoint.getId()).get();
+            assertThat(foundPoint.getAmount()).isEqualTo(10_000 + payment.getUsedPointAmount());
+            assertThat(paymentRepository.findByIdOrElseThrow(payment.getId()).getStatus()).isEqualTo(CANCELED);
+            assertThat(paymentOutboxRepository.findAllByPaymentId(payment.getId()))
+                    .filteredOn(outbox -> outbox.getType() == PaymentOutboxType.CANCELED)
+                    .hasSizeLessThanOrEqualTo(1);
+            EventTicketStock foundEventTicketStock
+                    = eventTicketStockRepository.findById(eventTicketStock.getId()).get();
+            assertThat(foundEventTicketStock.getStock()).isEqualTo(event.getMaxPeople());
+        }
     }
 
     @Nested
@@ -668,15 +710,11 @@ class PaymentServiceTest {
             eventTicketStockRepository.save(eventTicketStock);
 
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
-            Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
-
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
-
-            ticketRepository.save(Ticket.create(user, event, event.getPrice()));
+            Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
 
             // when
-            paymentService.failPayment(payment.getId(), paymentEvent.getId());
+            paymentService.failPayment(payment.getId());
+            paymentOutboxRelay.relay();
 
             // then
             Payment foundPayment = paymentRepository.findByIdOrElseThrow(payment.getId());
@@ -696,20 +734,64 @@ class PaymentServiceTest {
             eventTicketStock.decreaseStock();
             eventTicketStockRepository.save(eventTicketStock);
 
+            Point initialPoint = pointRepository.save(Point.of(10_000, user));
+            Payment payment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
+
+            // when
+            paymentService.failPayment(payment.getId());
+            paymentOutboxRelay.relay();
+
+            // then
+            assertThat(eventTicketStockRepository.findTotalStockByEventId(event.getId()))
+                    .contains((long) event.getMaxPeople());
+        }
+
+        @Test
+        @DisplayName("승인된 결제는 실패 처리할 수 없다.")
+        void failApprovedPayment() {
+            // given
+            User user = UserTestData.testUser();
+            userRepository.save(user);
+
+            Event event = eventRepository.save(Event.create(getCreateEventRequestDto(), user));
+            eventTicketStockRepository.save(EventTicketStock.create(event));
+
             Point initialPoint = pointRepository.save(Point.of(10_000, user));
             Payment payment = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
-            pointHistoryRepository.save(PointHistory.create(payment, initialPoint, payment.getUsedPointAmount()));
 
-            PaymentEvent paymentEvent = paymentEventRepository.save(PaymentEvent.createApproveEvent(payment.getId()));
+            // when & then
+            assertThatThrownBy(() -> paymentService.failPayment(payment.getId()))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(INVALID_PAYMENT_STATUS.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 결제 정리 시")
+    class FailExpiredPayments {
 
-            ticketRepository.save(Ticket.create(user, event, event.getPrice()));
+        @Test
+        @DisplayName("결제창이 열린 결제는 생성 시각이 아니라 결제창이 열린 시각부터 만료 시간을 계산한다.")
+        void failExpiredPayments() {
+            // given
+            User user = UserTestData.testUser();
+            userRepository.save(user);
+
+            Event event = eventRepository.save(Event.create(getCreateEventRequestDto(), user));
+            eventTicketStockRepository.save(EventTicketStock.create(event));
+
+            Point initialPoint = pointRepository.save(Point.of(10_000, user));
+            Payment pendingPayment = paymentRepository.save(getPendingPayment(event, user, 10_000, initialPoint));
+            Payment readyPayment = paymentRepository.save(getReadyPayment(event, user, 10_000, initialPoint));
+            LocalDateTime now = LocalDateTime.now();
 
             // when
-            paymentService.failPayment(payment.getId(), paymentEvent.getId());
+            int count = paymentService.failExpiredPayments(now.plusMinutes(1), now.minusMinutes(1), 10);
 
             // then
-            EventTicketStock foundEventTicketStock = eventTicketStockRepository.findByEventOrElseThrow(event);
-            assertThat(foundEventTicketStock.getStock()).isEqualTo(event.getMaxPeople());
+            assertThat(count).isEqualTo(1);
+            assertThat(paymentRepository.findByIdOrElseThrow(pendingPayment.getId()).getStatus()).isEqualTo(FAILED);
+            assertThat(paymentRepository.findByIdOrElseThrow(readyPayment.getId()).getStatus()).isEqualTo(READY);
         }
     }
 
@@ -799,10 +881,50 @@ class PaymentServiceTest {
                             tuple(payment2.getId(), user.getId(), payment2.getId())
                     );
         }
+
+        @Test
+        @DisplayName("특정 유저의 결제를 커서 기반으로 최신순 조회할 수 있다.")
+        void getPaymentsByCursor() {
+            // given
+            User user = UserTestData.testUser();
+            userRepository.save(user);
+
+            Event event = eventRepository.save(Event.create(getCreateEventRequestDto(), user));
+            EventTicketStock eventTicketStock = EventTicketStock.create(event);
+            eventTicketStock.decreaseStock();
+            eventTicketStockRepository.save(eventTicketStock);
+
+            Point initialPoint = pointRepository.save(Point.of(10_000, user));
+            Payment payment1 = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
+            Payment payment2 = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
+            Payment payment3 = paymentRepository.save(getApprovedPayment(event, user, 10_000, initialPoint));
+
+            // when
+            PaymentCursorResponseDto firstPage = paymentService.getPaymentsByCursor(user.getId(), null, 2);
+            PaymentCursorResponseDto secondPage =
+                    paymentService.getPaymentsByCursor(user.getId(), firstPage.getNextCursor(), 2);
+
+            // then
+            assertThat(firstPage.getPayments())
+                    .extracting(PaymentResponseDto::getPaymentId, PaymentResponseDto::getEventTitle)
+                    .containsExactly(
+                            tuple(payment3.getId(), event.getTitle()),
+                            tuple(payment2.getId(), event.getTitle())
+                    );
+            assertThat(firstPage.isHasNext()).isTrue();
+            assertThat(firstPage.getNextCursor()).isEqualTo(payment2.getId());
+            assertThat(secondPage.getPayments())
+                    .extracting(PaymentResponseDto::getPaymentId)
+                    .containsExactly(payment1.getId());
+            assertThat(secondPage.isHasNext()).isFalse();
+            assertThat(secondPage.getNextCursor()).isNull();
+        }
     }
 
     Payment getReadyPayment(Event event, User user, int price, Point point) {
-        return Payment.create("cid", event, user, price, price, null, point, 0);
+        Payment payment = Payment.create("cid", event, user, price, price, null, point, 0);
+        payment.ready(UUID.randomUUID().toString());
+        return payment;
     }
 
     Payment getApprovedPayment(Event event, User user, int price, Point point) {
@@ -816,6 +938,7 @@ class PaymentServiceTest {
                 point,
                 1_000
         );
+        payment.ready(UUID.randomUUID().toString());
         payment.approve();
         return payment;
     }
@@ -0,0 +1,61 @@
+package com.spotlightspace.core.paymentoutbox.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentOutboxTest {
+
+    @Test
+    @DisplayName("임대한 서버만 임대 시간 안에 후속 작업을 처리할 수 있다.")
+    void isLeasedBy() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        PaymentOutbox outbox = PaymentOutbox.create(1L, PaymentOutboxType.APPROVED);
+
+        // when
+        outbox.claim("node-1", now.plusSeconds(30));
+
+        // then
+        assertThat(outbox.isLeasedBy("node-1", now)).isTrue();
+        assertThat(outbox.isLeasedBy("node-2", now)).isFalse();
+        assertThat(outbox.isLeasedBy("node-1", now.plusSeconds(31))).isFalse();
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 재시도 시각까지 임대가 풀리지 않는다.")
+    void fail() {
+        // given
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(10);
+        PaymentOutbox outbox = PaymentOutbox.create(1L, PaymentOutboxType.CANCELED);
+        outbox.claim("node-1", LocalDateTime.now().plusSeconds(30));
+
+        // when
+        outbox.fail("error", 3, retryAt);
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getLeaseOwner()).isNull();
+        assertThat(outbox.getLeaseUntil()).isEqualTo(retryAt);
+        assertThat(outbox.getLastError()).isEqualTo("error");
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 DEAD로 전환된다.")
+    void failWithMaxAttempts() {
+        // given
+        PaymentOutbox outbox = PaymentOutbox.create(1L, PaymentOutboxType.FAILED);
+
+        // when
+        outbox.fail("error", 2, LocalDateTime.now());
+        outbox.fail("error".repeat(200), 2, LocalDateTime.now());
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.DEAD);
+        assertThat(outbox.getLeaseUntil()).isNull();
+        assertThat(outbox.getLastError()).hasSize(500);
+    }
+}
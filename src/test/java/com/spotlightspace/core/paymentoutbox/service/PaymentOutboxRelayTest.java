@@ -0,0 +1,65 @@
+package com.spotlightspace.core.paymentoutbox.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PaymentOutboxRelayTest {
+
+    PaymentOutboxService paymentOutboxService;
+    PaymentOutboxRelay paymentOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        paymentOutboxService = mock(PaymentOutboxService.class);
+        paymentOutboxRelay = new PaymentOutboxRelay(paymentOutboxService, 2, 10, 30);
+    }
+
+    @Test
+    @DisplayName("배치 크기보다 적게 임대되면 더 이상 가져오지 않는다.")
+    void relay() {
+        // given
+        given(paymentOutboxService.claim(anyString(), anyInt(), anyLong()))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of(3L));
+
+        // when
+        paymentOutboxRelay.relay();
+
+        // then
+        verify(paymentOutboxService, times(2)).claim(anyString(), eq(2), eq(30L));
+        verify(paymentOutboxService, times(3)).process(anyLong(), anyString());
+        verify(paymentOutboxService, never()).recordFailure(anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 항목은 실패를 기록하고 나머지 항목은 계속 처리한다.")
+    void relayWithFailure() {
+        // given
+        given(paymentOutboxService.claim(anyString(), anyInt(), anyLong()))
+                .willReturn(List.of(1L, 2L))
+                .willReturn(List.of());
+        willThrow(new IllegalStateException("error"))
+                .given(paymentOutboxService).process(eq(1L), anyString());
+
+        // when
+        paymentOutboxRelay.relay();
+
+        // then
+        verify(paymentOutboxService, times(1)).recordFailure(eq(1L), anyString(), eq("error"));
+        verify(paymentOutboxService, times(1)).process(eq(2L), anyString());
+    }
+}
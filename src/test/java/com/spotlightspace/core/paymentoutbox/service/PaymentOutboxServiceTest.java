@@ -0,0 +1,109 @@
+package com.spotlightspace.core.paymentoutbox.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_OUTBOX_APPROVAL_PENDING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.domain.Event;
+import com.spotlightspace.core.eventticketstock.service.EventTicketStockService;
+import com.spotlightspace.core.payment.domain.Payment;
+import com.spotlightspace.core.payment.repository.PaymentRepository;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutbox;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxStatus;
+import com.spotlightspace.core.paymentoutbox.domain.PaymentOutboxType;
+import com.spotlightspace.core.paymentoutbox.repository.PaymentOutboxRepository;
+import com.spotlightspace.core.pointhistory.repository.PointHistoryRepository;
+import com.spotlightspace.core.ticket.repository.TicketRepository;
+import com.spotlightspace.core.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentOutboxServiceTest {
+
+    private static final long OUTBOX_ID = 1L;
+    private static final long PAYMENT_ID = 10L;
+    private static final String OWNER = "node-1";
+
+    @Mock
+    PaymentOutboxRepository paymentOutboxRepository;
+
+    @Mock
+    PaymentRepository paymentRepository;
+
+    @Mock
+    PointHistoryRepository pointHistoryRepository;
+
+    @Mock
+    TicketRepository ticketRepository;
+
+    @Mock
+    EventTicketStockService eventTicketStockService;
+
+    @Mock
+    Payment payment;
+
+    @Mock
+    User user;
+
+    @Mock
+    Event event;
+
+    @InjectMocks
+    PaymentOutboxService paymentOutboxService;
+
+    PaymentOutbox outbox;
+
+    @BeforeEach
+    void setUp() {
+        outbox = PaymentOutbox.create(PAYMENT_ID, PaymentOutboxType.CANCELED);
+        outbox.claim(OWNER, LocalDateTime.now().plusSeconds(30));
+        given(paymentOutboxRepository.findByIdWithPessimisticLockOrElseThrow(OUTBOX_ID)).willReturn(outbox);
+        given(paymentRepository.findByIdOrElseThrow(PAYMENT_ID)).willReturn(payment);
+        given(payment.getId()).willReturn(PAYMENT_ID);
+    }
+
+    @Test
+    @DisplayName("같은 결제의 승인 후속 작업이 아직 처리되지 않았으면 취소 후속 작업을 다시 시도한다.")
+    void processCanceledBeforeApproved() {
+        // given
+        given(paymentOutboxRepository.existsByPaymentIdAndTypeAndStatus(
+                PAYMENT_ID, PaymentOutboxType.APPROVED, PaymentOutboxStatus.PENDING)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> paymentOutboxService.process(OUTBOX_ID, OWNER))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(PAYMENT_OUTBOX_APPROVAL_PENDING.getMessage());
+        then(eventTicketStockService).should(never()).increaseStock(event);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("승인 후속 작업이 티켓과 포인트 기록을 남기지 않았어도 재고를 복구하고 완료한다.")
+    void processCanceledWithoutPointHistoryAndTicket() {
+        // given
+        given(payment.isPointUsed()).willReturn(true);
+        given(payment.getUser()).willReturn(user);
+        given(payment.getEvent()).willReturn(event);
+        given(pointHistoryRepository.findByPayment(payment)).willReturn(Optional.empty());
+        given(ticketRepository.findFirstByUserAndEvent(user, event)).willReturn(Optional.empty());
+
+        // when
+        paymentOutboxService.process(OUTBOX_ID, OWNER);
+
+        // then
+        then(eventTicketStockService).should().increaseStock(event);
+        assertThat(outbox.getStatus()).isEqualTo(PaymentOutboxStatus.DONE);
+    }
+}
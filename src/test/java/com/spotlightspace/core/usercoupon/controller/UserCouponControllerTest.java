@@ -60,4 +60,19 @@ class UserCouponControllerTest {
 
         verify(userCouponService, times(1)).issueCouponWithPessimisticLockAndQueue(any());
     }
+
+    @Test
+    @DisplayName("Redis 선착순 쿠폰 발급 요청 시 발급이 확정되고 202를 반환한다.")
+    void issueCouponWithRedis() throws Exception {
+        // given
+        String accessToken = jwtUtil.createAccessToken(1L, "test@email.com", UserRole.ROLE_ADMIN);
+
+        // when & then
+        mockMvc.perform(post("/api/v1/user-coupons/issue/redis/{couponId}", 1L)
+                        .header("accessToken", accessToken)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isAccepted());
+
+        verify(userCouponService, times(1)).issueCouponWithRedis(any());
+    }
 }
@@ -0,0 +1,293 @@
+package com.spotlightspace.core.usercoupon.load;
+
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_ALREADY_ISSUED;
+import static com.spotlightspace.common.exception.ErrorCode.COUPON_COUNT_EXHAUSTED;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.auth.dto.request.SignUpUserRequestDto;
+import com.spotlightspace.core.coupon.domain.Coupon;
+import com.spotlightspace.core.coupon.repository.CouponRepository;
+import com.spotlightspace.core.event.repository.EventElasticRepository;
+import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.user.repository.UserRepository;
+import com.spotlightspace.core.usercoupon.dto.request.UserCouponIssueRequestDto;
+import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
+import com.spotlightspace.core.usercoupon.service.UserCouponIssueFlushScheduler;
+import com.spotlightspace.core.usercoupon.service.UserCouponService;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import redis.embedded.RedisServer;
+
+/**
+ * 한정 수량 쿠폰 하나에 수천 명이 동시에 발급을 요청하는 상황에서 세 가지 발급 방식을 비교합니다.
+ * 기본 발급, 비관적 락 + 분산 락 발급, Redis 스크립트 발급 순서로 같은 사용자와 수량으로 실행하고
+ * 처리량, p50/p99 지연, 초과 발급 수, 수량 불일치를 출력하며 기본 test 태스크에서는 실행되지 않습니다.
+ * 기본 발급은 동시성 제어가 없어 비교용 수치만 출력하고 검증하지 않습니다.
+ *
+ * <pre>./gradlew loadTest --tests '*CouponIssueLoadTest' -Dload.users=5000 -Dload.stock=500 -Dload.concurrency=200</pre>
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:coupon-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=${load.db-pool-size:30}",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=off",
+        "logging.config=classpath:load/logback-load.xml"
+})
+class CouponIssueLoadTest {
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    UserCouponService userCouponService;
+
+    @Autowired
+    UserCouponIssueFlushScheduler userCouponIssueFlushScheduler;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CouponRepository couponRepository;
+
+    @Autowired
+    UserCouponRepository userCouponRepository;
+
+    @MockBean
+    EventElasticRepository eventElasticRepository;
+
+    @Value("${load.users:2000}")
+    int users;
+
+    @Value("${load.stock:200}")
+    int stock;
+
+    @Value("${load.concurrency:100}")
+    int concurrency;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = Integer.getInteger("load.redis-port", 6380);
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 방식별 처리량을 비교하고, 락/Redis 방식은 초과 발급과 수량 불일치가 없다.")
+    void couponRush() throws InterruptedException {
+        // given
+        List<Long> userIds = createUsers();
+
+        // when
+        Result basic = rush(IssueMode.BASIC, userIds, userCouponService::issueCouponBasic);
+        Result pessimistic = rush(IssueMode.PESSIMISTIC, userIds,
+                userCouponService::issueCouponWithPessimisticLockAndQueue);
+        Result redis = rush(IssueMode.REDIS, userIds, userCouponService::issueCouponWithRedis);
+
+        // then
+        log.info("""
+
+                        ===== coupon rush =====
+                        users={}, stock={}, concurrency={}
+                        {}
+                        {}
+                        {}""",
+                users, stock, concurrency, basic, pessimistic, redis);
+
+        for (Result result : List.of(pessimistic, redis)) {
+            assertThat(result.oversell).isZero();
+            assertThat(result.countDrift).isZero();
+            assertThat(result.duplicates).isZero();
+        }
+    }
+
+    private Result rush(IssueMode mode, List<Long> userIds, Consumer<UserCouponIssueRequestDto> issue)
+            throws InterruptedException {
+        Coupon coupon = couponRepository.save(
+                Coupon.of(1_000, LocalDate.now().plusDays(7), stock, "LOAD-" + mode.ordinal())
+        );
+
+        Map<Outcome, AtomicInteger> outcomes = new EnumMap<>(Outcome.class);
+        for (Outcome outcome : Outcome.values()) {
+            outcomes.put(outcome, new AtomicInteger());
+        }
+        long[] latencies = new long[users];
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(users);
+
+        for (int i = 0; i < users; i++) {
+            int index = i;
+            UserCouponIssueRequestDto requestDto = UserCouponIssueRequestDto.of(userIds.get(i), coupon.getId());
+            executor.execute(() -> {
+                try {
+                    startLatch.await();
+                    long startedAt = System.nanoTime();
+                    outcomes.get(issue(issue, requestDto)).incrementAndGet();
+                    latencies[index] = System.nanoTime() - startedAt;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        // Redis 방식은 대기열이 모두 DB에 반영될 때까지의 시간도 함께 측정
+        long persistNanos = 0;
+        if (mode == IssueMode.REDIS) {
+            long flushStartedAt = System.nanoTime();
+            while (userCouponRepository.findUserIdsByCouponId(coupon.getId()).size()
+                    < outcomes.get(Outcome.ISSUED).get()) {
+                userCouponIssueFlushScheduler.flushIssuedCoupons();
+            }
+            persistNanos = System.nanoTime() - flushStartedAt;
+        }
+
+        List<Long> issuedUserIds = userCouponRepository.findUserIdsByCouponId(coupon.getId());
+        long rows = issuedUserIds.size();
+        long duplicates = rows - issuedUserIds.stream().distinct().count();
+        long remainingCount = couponRepository.findById(coupon.getId()).orElseThrow().getCount();
+
+        Arrays.sort(latencies);
+        return new Result(
+                mode,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                users / (elapsedNanos / 1_000_000_000.0),
+                toMillis(percentile(latencies, 0.50)),
+                toMillis(percentile(latencies, 0.99)),
+                TimeUnit.NANOSECONDS.toMillis(persistNanos),
+                outcomes,
+                rows,
+                remainingCount,
+                Math.max(0, rows - stock),
+                remainingCount - (stock - rows),
+                duplicates
+        );
+    }
+
+    private Outcome issue(Consumer<UserCouponIssueRequestDto> issue, UserCouponIssueRequestDto requestDto) {
+        try {
+            issue.accept(requestDto);
+            return Outcome.ISSUED;
+        } catch (ApplicationException e) {
+            if (COUPON_COUNT_EXHAUSTED.getMessage().equals(e.getMessage())) {
+                return Outcome.EXHAUSTED;
+            }
+            if (COUPON_ALREADY_ISSUED.getMessage().equals(e.getMessage())) {
+                return Outcome.DUPLICATED;
+            }
+            return Outcome.FAILED;
+        } catch (RuntimeException e) {
+            return Outcome.FAILED;
+        }
+    }
+
+    private List<Long> createUsers() {
+        List<User> users = new ArrayList<>(this.users);
+        for (int i = 0; i < this.users; i++) {
+            users.add(User.create("password", signUpRequest(i + 1)));
+        }
+        return userRepository.saveAll(users).stream().map(User::getId).toList();
+    }
+
+    private SignUpUserRequestDto signUpRequest(int index) {
+        return new SignUpUserRequestDto(
+                "coupon" + index + "@load.test",
+                "Password1!",
+                "coupon" + index,
+                "ROLE_USER",
+                "2000-01-01",
+                false,
+                String.format("010-%08d", index),
+                "한국"
+        );
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private enum IssueMode {
+        BASIC, PESSIMISTIC, REDIS
+    }
+
+    private enum Outcome {
+        ISSUED, EXHAUSTED, DUPLICATED, FAILED
+    }
+
+    @AllArgsConstructor
+    private static class Result {
+
+        private final IssueMode mode;
+        private final long elapsedMillis;
+        private final double throughput;
+        private final long p50Millis;
+        private final long p99Millis;
+        private final long persistMillis;
+        private final Map<Outcome, AtomicInteger> outcomes;
+        private final long rows;
+        private final long remainingCount;
+        private final long oversell;
+        private final long countDrift;
+        private final long duplicates;
+
+        @Override
+        public String toString() {
+            return String.format(
+                    "%-11s elapsed=%dms, throughput=%.1f req/s, p50=%dms, p99=%dms, persisted after=%dms, "
+                            + "outcomes=%s, rows=%d, remaining=%d, oversell=%d, countDrift=%d, duplicates=%d",
+                    mode, elapsedMillis, throughput, p50Millis, p99Millis, persistMillis,
+                    outcomes, rows, remainingCount, oversell, countDrift, duplicates
+            );
+        }
+    }
+}
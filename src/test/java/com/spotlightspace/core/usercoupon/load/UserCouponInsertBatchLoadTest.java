@@ -0,0 +1,174 @@
+package com.spotlightspace.core.usercoupon.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.spotlightspace.core.auth.dto.request.SignUpUserRequestDto;
+import com.spotlightspace.core.coupon.domain.Coupon;
+import com.spotlightspace.core.coupon.repository.CouponRepository;
+import com.spotlightspace.core.event.repository.EventElasticRepository;
+import com.spotlightspace.core.user.domain.User;
+import com.spotlightspace.core.user.repository.UserRepository;
+import com.spotlightspace.core.usercoupon.domain.UserCoupon;
+import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import redis.embedded.RedisServer;
+
+/**
+ * 같은 수의 행을 saveAll 로 저장할 때 아이디 전략에 따라 준비되는 statement 수(Hibernate 통계)를 비교합니다.
+ * IDENTITY 전략인 쿠폰은 INSERT 마다 생성된 키를 받아야 해서 행 수만큼 statement 가 나가고,
+ * pooled 시퀀스 전략인 사용자 쿠폰은 batch_size 단위로 묶인 INSERT 와 allocationSize 마다 한 번의 시퀀스 조회만 나갑니다.
+ *
+ * <pre>./gradlew loadTest --tests '*UserCouponInsertBatchLoadTest' -Dload.rows=5000</pre>
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:insert-batch-load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "logging.level.org.hibernate.orm.jdbc.bind=off",
+        "logging.config=classpath:load/logback-load.xml"
+})
+class UserCouponInsertBatchLoadTest {
+
+    private static RedisServer redisServer;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    CouponRepository couponRepository;
+
+    @Autowired
+    UserCouponRepository userCouponRepository;
+
+    @MockBean
+    EventElasticRepository eventElasticRepository;
+
+    @Value("${load.rows:2000}")
+    int rows;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    int batchSize;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) throws IOException {
+        int redisPort = Integer.getInteger("load.redis-port", 6381);
+        redisServer = new RedisServer(redisPort);
+        redisServer.start();
+
+        registry.add("spring.data.redis.host", () -> "localhost");
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        redisServer.stop();
+    }
+
+    @Test
+    @DisplayName("pooled 시퀀스 전략 엔티티는 IDENTITY 전략보다 훨씬 적은 statement 로 저장된다.")
+    void insertStatementCount() {
+        // given
+        User user = userRepository.save(User.create("password", signUpRequest()));
+        Coupon coupon = couponRepository.save(Coupon.of(1_000, LocalDate.now().plusDays(7), rows, "BATCH-LOAD"));
+
+        List<Coupon> coupons = new ArrayList<>(rows);
+        List<UserCoupon> userCoupons = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            coupons.add(Coupon.of(1_000, LocalDate.now().plusDays(7), 1, String.format("B-%08d", i)));
+            userCoupons.add(UserCoupon.of(user, coupon));
+        }
+
+        // when
+        Result identity = measure("IDENTITY (coupons)", () -> couponRepository.saveAll(coupons));
+        Result pooled = measure("SEQUENCE pooled (user_coupons)", () -> userCouponRepository.saveAll(userCoupons));
+
+        // then
+        log.info("""
+
+                        ===== insert statements =====
+                        rows={}, batch_size={}
+                        {}
+                        {}""",
+                rows, batchSize, identity, pooled);
+
+        assertThat(identity.inserts).isEqualTo(rows);
+        assertThat(pooled.inserts).isEqualTo(rows);
+        assertThat(identity.statements).isGreaterThanOrEqualTo(rows);
+        assertThat(pooled.statements).isLessThan(rows / 10);
+    }
+
+    private Result measure(String label, Runnable save) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long startedAt = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> save.run());
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        return new Result(
+                label,
+                statistics.getEntityInsertCount(),
+                statistics.getPrepareStatementCount(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos)
+        );
+    }
+
+    private SignUpUserRequestDto signUpRequest() {
+        return new SignUpUserRequestDto(
+                "batch@load.test",
+                "Password1!",
+                "batch",
+                "ROLE_USER",
+                "2000-01-01",
+                false,
+                "010-00000000",
+                "한국"
+        );
+    }
+
+    @AllArgsConstructor
+    private static class Result {
+
+        private final String label;
+        private final long inserts;
+        private final long statements;
+        private final long elapsedMillis;
+
+        @Override
+        public String toString() {
+            return String.format("%-32s inserts=%d, prepared statements=%d, elapsed=%dms",
+                    label, inserts, statements, elapsedMillis);
+        }
+    }
+}
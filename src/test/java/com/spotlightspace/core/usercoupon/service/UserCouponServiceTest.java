@@ -11,7 +11,9 @@ import com.spotlightspace.core.user.dto.response.GetCouponResponseDto;
 import com.spotlightspace.core.user.repository.UserRepository;
 import com.spotlightspace.core.usercoupon.domain.UserCoupon;
 import com.spotlightspace.core.usercoupon.dto.request.UserCouponIssueRequestDto;
+import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueQueuedResponseDto;
 import com.spotlightspace.core.usercoupon.dto.response.UserCouponIssueResponseDto;
+import com.spotlightspace.core.usercoupon.repository.UserCouponIssueRedisRepository;
 import com.spotlightspace.core.usercoupon.repository.UserCouponRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -24,6 +26,7 @@ import org.redisson.api.RLock;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -48,6 +51,9 @@ class UserCouponServiceTest {
     @Mock
     private RedissonLockService redissonLockService;
 
+    @Mock
+    private UserCouponIssueRedisRepository userCouponIssueRedisRepository;
+
     @InjectMocks
     private UserCouponService userCouponService;
 
@@ -194,7 +200,7 @@ class UserCouponServiceTest {
         void issueCouponWithPessimisticLock_success() {
             // given
             RLock redisLock = mock(RLock.class);
-            when(redissonLockService.lock(anyString())).thenReturn(redisLock);
+            when(redissonLockService.getLock(anyString())).thenReturn(redisLock);
             try {
                 when(redisLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(true);
             } catch (InterruptedException e) {
@@ -224,7 +230,7 @@ class UserCouponServiceTest {
         void issueCouponWithPessimisticLock_lockNotAcquired() throws InterruptedException {
             // given
             RLock redisLock = mock(RLock.class);
-            when(redissonLockService.lock(anyString())).thenReturn(redisLock);
+            when(redissonLockService.getLock(anyString())).thenReturn(redisLock);
             when(redisLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(false);
 
             // when & then
@@ -232,7 +238,7 @@ class UserCouponServiceTest {
                     .isInstanceOf(ApplicationException.class)
                     .hasMessage(LOCK_NOT_ACQUIRED.getMessage());
 
-            verify(redissonLockService, times(1)).lock(anyString());
+            verify(redissonLockService, times(1)).getLock(anyString());
             verify(redisLock, times(1)).tryLock(3, 5, TimeUnit.SECONDS);
             when(couponRepository.findByIdWithPessimisticLock(requestDto.getCouponId()))
                     .thenReturn(Optional.of(coupon));
@@ -244,7 +250,7 @@ class UserCouponServiceTest {
         void issueCouponWithPessimisticLock_concurrentRequests() throws InterruptedException {
             // given
             RLock redisLock = mock(RLock.class);
-            when(redissonLockService.lock(anyString())).thenReturn(redisLock);
+            when(redissonLockService.getLock(anyString())).thenReturn(redisLock);
             try {
                 when(redisLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(true);
             } catch (InterruptedException e) {
@@ -280,7 +286,7 @@ class UserCouponServiceTest {
             thread3.join();
 
             // 동시성 테스트 검증
-            verify(redissonLockService, times(3)).lock(anyString());
+            verify(redissonLockService, times(3)).getLock(anyString());
             verify(redisLock, times(3)).tryLock(3, 5, TimeUnit.SECONDS);
             when(couponRepository.findByIdWithPessimisticLock(requestDto.getCouponId()))
                     .thenReturn(Optional.of(coupon));
@@ -288,12 +294,112 @@ class UserCouponServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Redis 선착순 쿠폰 발급 테스트")
+    class IssueCouponWithRedisTests {
+
+        @Test
+        @DisplayName("Redis 쿠폰 발급 성공 - DB에 접근하지 않고 남은 수량을 반환한다")
+        void issueCouponWithRedis_success() {
+            // given
+            when(userCouponIssueRedisRepository.issue(coupon.getId(), user.getId())).thenReturn(9L);
+
+            // when
+            UserCouponIssueQueuedResponseDto result = userCouponService.issueCouponWithRedis(requestDto);
+
+            // then
+            assertThat(result.getCouponId()).isEqualTo(coupon.getId());
+            assertThat(result.getUserId()).isEqualTo(user.getId());
+            assertThat(result.getRemainingCount()).isEqualTo(9L);
+            verifyNoInteractions(couponRepository, userRepository, userCouponRepository);
+        }
+
+        @Test
+        @DisplayName("Redis 쿠폰 발급 - 초기화 전이면 DB 수량과 발급 사용자로 초기화 후 발급한다")
+        void issueCouponWithRedis_initialize() {
+            // given
+            when(userCouponIssueRedisRepository.issue(coupon.getId(), user.getId()))
+                    .thenReturn(UserCouponIssueRedisRepository.NOT_INITIALIZED, 9L);
+            when(couponRepository.findByIdOrElseThrow(coupon.getId())).thenReturn(coupon);
+            when(userCouponRepository.findUserIdsByCouponId(coupon.getId())).thenReturn(List.of(2L, 3L));
+
+            // when
+            UserCouponIssueQueuedResponseDto result = userCouponService.issueCouponWithRedis(requestDto);
+
+            // then
+            assertThat(result.getRemainingCount()).isEqualTo(9L);
+            verify(userCouponIssueRedisRepository, times(1))
+                    .initialize(coupon.getId(), coupon.getCount(), coupon.getExpiredAt(), List.of(2L, 3L));
+            verify(userCouponIssueRedisRepository, times(2)).issue(coupon.getId(), user.getId());
+        }
+
+        @Test
+        @DisplayName("Redis 쿠폰 발급 실패 - 만료된 쿠폰은 초기화하지 않는다")
+        void issueCouponWithRedis_couponExpired() {
+            // given
+            Coupon expiredCoupon = Coupon.of(5000, LocalDate.now().minusDays(1), 10, "EXPIRED1234");
+            when(userCouponIssueRedisRepository.issue(anyLong(), anyLong()))
+                    .thenReturn(UserCouponIssueRedisRepository.NOT_INITIALIZED);
+            when(couponRepository.findByIdOrElseThrow(requestDto.getCouponId())).thenReturn(expiredCoupon);
+
+            // when & then
+            assertThatThrownBy(() -> userCouponService.issueCouponWithRedis(requestDto))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(COUPON_EXPIRED.getMessage());
+            verify(userCouponIssueRedisRepository, never()).initialize(anyLong(), anyLong(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Redis 쿠폰 발급 실패 - 이미 발급받은 사용자")
+        void issueCouponWithRedis_alreadyIssued() {
+            // given
+            when(userCouponIssueRedisRepository.issue(coupon.getId(), user.getId()))
+                    .thenReturn(UserCouponIssueRedisRepository.ALREADY_ISSUED);
+
+            // when & then
+            assertThatThrownBy(() -> userCouponService.issueCouponWithRedis(requestDto))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(COUPON_ALREADY_ISSUED.getMessage());
+        }
+
+        @Test
+        @DisplayName("Redis 쿠폰 발급 실패 - 쿠폰 수량 부족")
+        void issueCouponWithRedis_outOfStock() {
+            // given
+            when(userCouponIssueRedisRepository.issue(coupon.getId(), user.getId()))
+                    .thenReturn(UserCouponIssueRedisRepository.OUT_OF_STOCK);
+
+            // when & then
+            assertThatThrownBy(() -> userCouponService.issueCouponWithRedis(requestDto))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(COUPON_COUNT_EXHAUSTED.getMessage());
+        }
+
+        @Test
+        @DisplayName("발급 내역 반영 시 이미 저장된 사용자는 건너뛰고 저장한 만큼만 수량을 차감한다")
+        void saveIssuedCoupons_skipAlreadySaved() {
+            // given
+            when(userCouponRepository.findUserIdsByCouponIdAndUserIdIn(coupon.getId(), List.of(1L, 2L, 3L)))
+                    .thenReturn(List.of(2L));
+            when(couponRepository.getReferenceById(coupon.getId())).thenReturn(coupon);
+            when(userRepository.getReferenceById(anyLong())).thenReturn(user);
+
+            // when
+            userCouponService.saveIssuedCoupons(Map.of(coupon.getId(), List.of(1L, 2L, 3L)));
+
+            // then
+            verify(userCouponRepository, times(1)).saveAll(argThat(userCoupons ->
+                    ((List<UserCoupon>) userCoupons).size() == 2));
+            verify(couponRepository, times(1)).decreaseCountBy(coupon.getId(), 2);
+        }
+    }
+
     @Test
     @DisplayName("비관적 락 획득 실패 시 예외 발생")
     void issueCouponWithPessimisticLock_lockNotAcquiredDueToInterruptedException() throws InterruptedException {
         // given
         RLock redisLock = mock(RLock.class);
-        when(redissonLockService.lock(anyString())).thenReturn(redisLock);
+        when(redissonLockService.getLock(anyString())).thenReturn(redisLock);
         when(redisLock.tryLock(3, 5, TimeUnit.SECONDS)).thenThrow(InterruptedException.class);
 
         // when & then
@@ -301,7 +407,7 @@ class UserCouponServiceTest {
                 .isInstanceOf(ApplicationException.class)
                 .hasMessage(LOCK_NOT_ACQUIRED.getMessage());
 
-        verify(redissonLockService, times(1)).lock(anyString());
+        verify(redissonLockService, times(1)).getLock(anyString());
     }
 
     @Test
@@ -309,7 +415,7 @@ class UserCouponServiceTest {
     void issueCouponWithPessimisticLock_lockReleaseTest() throws InterruptedException {
         // given
         RLock redisLock = mock(RLock.class);
-        when(redissonLockService.lock(anyString())).thenReturn(redisLock);
+        when(redissonLockService.getLock(anyString())).thenReturn(redisLock);
         when(redisLock.tryLock(3, 5, TimeUnit.SECONDS)).thenReturn(true);
         when(redisLock.isLocked()).thenReturn(true);
         when(redisLock.isHeldByCurrentThread()).thenReturn(true); // 추가된 부분
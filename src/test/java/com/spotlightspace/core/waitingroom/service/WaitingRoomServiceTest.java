@@ -0,0 +1,108 @@
+package com.spotlightspace.core.waitingroom.service;
+
+import static com.spotlightspace.common.exception.ErrorCode.WAITING_ROOM_NOT_ADMITTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import com.spotlightspace.core.event.repository.EventRepository;
+import com.spotlightspace.core.waitingroom.domain.WaitingStatus;
+import com.spotlightspace.core.waitingroom.dto.response.WaitingRoomResponseDto;
+import com.spotlightspace.core.waitingroom.repository.WaitingRoomRedisRepository;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class WaitingRoomServiceTest {
+
+    @Mock
+    WaitingRoomRedisRepository waitingRoomRedisRepository;
+
+    @Mock
+    EventRepository eventRepository;
+
+    @InjectMocks
+    WaitingRoomService waitingRoomService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(waitingRoomService, "enabled", true);
+        ReflectionTestUtils.setField(waitingRoomService, "admitPerSecond", 50);
+        ReflectionTestUtils.setField(waitingRoomService, "maxAdmitted", 200);
+        ReflectionTestUtils.setField(waitingRoomService, "admissionTtlSeconds", 300L);
+    }
+
+    @Test
+    @DisplayName("대기열에 진입하면 1부터 시작하는 대기 순번을 반환한다.")
+    void enter() {
+        // given
+        given(waitingRoomRedisRepository.enter(anyLong(), anyLong(), anyLong())).willReturn(4L);
+        given(waitingRoomRedisRepository.countWaiting(1L)).willReturn(10L);
+
+        // when
+        WaitingRoomResponseDto responseDto = waitingRoomService.enter(1L, 1L);
+
+        // then
+        assertThat(responseDto.getStatus()).isEqualTo(WaitingStatus.WAITING);
+        assertThat(responseDto.getPosition()).isEqualTo(5L);
+        assertThat(responseDto.getWaitingCount()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("입장 토큰이 유효하면 입장 상태를 반환한다.")
+    void getStatusWhenAdmitted() {
+        // given
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        given(waitingRoomRedisRepository.countWaiting(1L)).willReturn(0L);
+        given(waitingRoomRedisRepository.findAdmissionExpiresAt(1L, 1L)).willReturn(Optional.of(expiresAt));
+
+        // when
+        WaitingRoomResponseDto responseDto = waitingRoomService.getStatus(1L, 1L);
+
+        // then
+        assertThat(responseDto.getStatus()).isEqualTo(WaitingStatus.ADMITTED);
+        assertThat(responseDto.getAdmissionExpiresAt()).isNotNull();
+    }
+
+    @Nested
+    @DisplayName("결제 준비 전 입장 확인 시")
+    class ValidateAdmission {
+
+        @Test
+        @DisplayName("입장 토큰이 만료되었으면 예외가 발생한다.")
+        void validateAdmissionWithExpiredToken() {
+            // given
+            long expiresAt = System.currentTimeMillis() - 1;
+            given(waitingRoomRedisRepository.findAdmissionExpiresAt(1L, 1L)).willReturn(Optional.of(expiresAt));
+
+            // when & then
+            assertThatThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasMessage(WAITING_ROOM_NOT_ADMITTED.getMessage());
+        }
+
+        @Test
+        @DisplayName("대기열을 사용하지 않으면 확인하지 않는다.")
+        void validateAdmissionWhenDisabled() {
+            // given
+            ReflectionTestUtils.setField(waitingRoomService, "enabled", false);
+
+            // when & then
+            assertThatNoException().isThrownBy(() -> waitingRoomService.validateAdmission(1L, 1L));
+            verify(waitingRoomRedisRepository, never()).findAdmissionExpiresAt(anyLong(), anyLong());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.spotlightspace.integration.kakaopay;
+
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_APPROVE_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_CANCEL_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_READY_PATH;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 카카오페이 대역입니다. 같은 프로세스에서 임의 포트로 ready, approve, cancel API를 흉내 내며,
+ * 응답 지연과 API별 실패 비율을 지정할 수 있습니다. 실패 시에는 카카오페이와 같은 형식의 에러 응답을 반환합니다.
+ */
+public class KakaopaySimulator {
+
+    private static final String BASE_PATH = "/online/v1/payment";
+    private static final TypeReference<Map<String, String>> REQUEST_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final long minLatencyMs;
+    private final long maxLatencyMs;
+    private final Map<String, Double> errorRates = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> callCounts = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> errorCounts = new ConcurrentHashMap<>();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    private KakaopaySimulator(long minLatencyMs, long maxLatencyMs, double errorRate) {
+        this.minLatencyMs = minLatencyMs;
+        this.maxLatencyMs = maxLatencyMs;
+        for (String path : new String[]{PAYMENT_READY_PATH, PAYMENT_APPROVE_PATH, PAYMENT_CANCEL_PATH}) {
+            errorRates.put(path, errorRate);
+            callCounts.put(path, new AtomicLong());
+            errorCounts.put(path, new AtomicLong());
+        }
+    }
+
+    public static KakaopaySimulator create(long minLatencyMs, long maxLatencyMs, double errorRate) {
+        return new KakaopaySimulator(minLatencyMs, maxLatencyMs, errorRate);
+    }
+
+    /**
+     * 특정 API의 실패 비율을 0.0 ~ 1.0 사이로 지정합니다.
+     */
+    public KakaopaySimulator errorRate(String path, double errorRate) {
+        errorRates.put(path, errorRate);
+        return this;
+    }
+
+    public KakaopaySimulator start(int threads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH + PAYMENT_READY_PATH, exchange -> handle(exchange, PAYMENT_READY_PATH));
+        server.createContext(BASE_PATH + PAYMENT_APPROVE_PATH, exchange -> handle(exchange, PAYMENT_APPROVE_PATH));
+        server.createContext(BASE_PATH + PAYMENT_CANCEL_PATH, exchange -> handle(exchange, PAYMENT_CANCEL_PATH));
+        server.start();
+        return this;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public long getCallCount(String path) {
+        return callCounts.get(path).get();
+    }
+
+    public long getErrorCount(String path) {
+        return errorCounts.get(path).get();
+    }
+
+    private void handle(HttpExchange exchange, String path) throws IOException {
+        try (exchange) {
+            callCounts.get(path).incrementAndGet();
+            Map<String, String> request = objectMapper.readValue(exchange.getRequestBody(), REQUEST_TYPE);
+            sleep();
+
+            if (ThreadLocalRandom.current().nextDouble() < errorRates.get(path)) {
+                errorCounts.get(path).incrementAndGet();
+                write(exchange, 400, errorBody());
+                return;
+            }
+            write(exchange, 200, successBody(path, request));
+        }
+    }
+
+    private void sleep() {
+        long latency = maxLatencyMs > minLatencyMs
+                ? ThreadLocalRandom.current().nextLong(minLatencyMs, maxLatencyMs + 1)
+                : minLatencyMs;
+        if (latency <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Map<String, Object> successBody(String path, Map<String, String> request) {
+        String now = LocalDateTime.now().toString();
+        Map<String, Object> body = new HashMap<>();
+        body.put("created_at", now);
+
+        if (PAYMENT_READY_PATH.equals(path)) {
+            body.put("tid", "T" + UUID.randomUUID().toString().replace("-", ""));
+            body.put("next_redirect_pc_url", "http://localhost/simulator/pc");
+            body.put("next_redirect_mobile_url", "http://localhost/simulator/mobile");
+            body.put("next_redirect_app_url", "http://localhost/simulator/app");
+            return body;
+        }
+
+        body.put("aid", "A" + UUID.randomUUID().toString().replace("-", ""));
+        body.put("tid", request.get("tid"));
+        body.put("cid", request.get("cid"));
+        body.put("partner_order_id", request.get("partner_order_id"));
+        body.put("partner_user_id", request.get("partner_user_id"));
+        body.put("payment_method_type", "MONEY");
+        body.put("approved_at", now);
+        if (PAYMENT_CANCEL_PATH.equals(path)) {
+            body.put("status", "CANCEL_PAYMENT");
+            body.put("canceled_at", now);
+        }
+        return body;
+    }
+
+    private Map<String, Object> errorBody() {
+        Map<String, Object> extras = new HashMap<>();
+        extras.put("method_result_code", "SIMULATED");
+        extras.put("method_result_message", "simulated failure");
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("error_code", -780);
+        body.put("error_message", "approval failure!");
+        body.put("extras", extras);
+        return body;
+    }
+
+    private void write(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
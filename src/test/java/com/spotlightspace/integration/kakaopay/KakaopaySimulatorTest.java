@@ -0,0 +1,96 @@
+package com.spotlightspace.integration.kakaopay;
+
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_APPROVE_PATH;
+import static com.spotlightspace.core.payment.constant.PaymentConstant.PAYMENT_READY_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+class KakaopaySimulatorTest {
+
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new ParameterNamesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    KakaopaySimulator kakaopaySimulator;
+
+    @AfterEach
+    void tearDown() {
+        kakaopaySimulator.stop();
+    }
+
+    @Test
+    @DisplayName("시뮬레이터는 카카오페이와 같은 형식으로 결제 준비, 승인 응답을 반환한다.")
+    void readyAndApprove() {
+        // given
+        kakaopaySimulator = KakaopaySimulator.create(0, 0, 0.0).start(4);
+        ReactiveKakaopayApi reactiveKakaopayApi = createApi();
+
+        // when
+        KakaopayPaymentResponseDto readyResponse = reactiveKakaopayApi
+                .readyPayment("cid", 1L, 1L, "title", 1L, 10_000)
+                .block();
+        KakaopayPaymentResponseDto approveResponse = reactiveKakaopayApi
+                .approvePayment("pg_token", readyResponse.getTid(), "cid", 1L, 1L)
+                .block();
+
+        // then
+        assertThat(readyResponse.getStatus()).isEqualTo("success");
+        assertThat(approveResponse.getStatus()).isEqualTo("success");
+        assertThat(approveResponse.getTid()).isEqualTo(readyResponse.getTid());
+        assertThat(kakaopaySimulator.getCallCount(PAYMENT_READY_PATH)).isEqualTo(1);
+        assertThat(kakaopaySimulator.getCallCount(PAYMENT_APPROVE_PATH)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패 비율을 지정하면 카카오페이 에러 응답을 반환한다.")
+    void failWithErrorRate() {
+        // given
+        kakaopaySimulator = KakaopaySimulator.create(0, 0, 0.0)
+                .errorRate(PAYMENT_READY_PATH, 1.0)
+                .start(4);
+        ReactiveKakaopayApi reactiveKakaopayApi = createApi();
+
+        // when
+        KakaopayPaymentResponseDto readyResponse = reactiveKakaopayApi
+                .readyPayment("cid", 1L, 1L, "title", 1L, 10_000)
+                .block();
+
+        // then
+        assertThat(readyResponse.getStatus()).isEqualTo("fail");
+        assertThat(kakaopaySimulator.getErrorCount(PAYMENT_READY_PATH)).isEqualTo(1);
+    }
+
+    ReactiveKakaopayApi createApi() {
+        return new ReactiveKakaopayApi(
+                WebClient.create(),
+                objectMapper,
+                "secret",
+                kakaopaySimulator.getBaseUrl(),
+                30_000,
+                createExternalApiGuard()
+        );
+    }
+
+    ExternalApiGuard createExternalApiGuard() {
+        return new ExternalApiGuard(
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry(),
+                500, 5_000, 0.99, 2.0, 200, 50
+        );
+    }
+}
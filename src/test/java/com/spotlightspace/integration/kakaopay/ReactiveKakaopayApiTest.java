@@ -0,0 +1,84 @@
+package com.spotlightspace.integration.kakaopay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
+import com.spotlightspace.core.payment.dto.response.kakaopay.KakaopayPaymentResponseDto;
+import com.spotlightspace.integration.resilience.ExternalApiGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+class ReactiveKakaopayApiTest {
+
+    ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new ParameterNamesModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    @Test
+    @DisplayName("카카오페이 응답이 2xx이면 success 응답으로 변환한다.")
+    void readyPaymentWithSuccess() {
+        // given
+        ReactiveKakaopayApi reactiveKakaopayApi = createApi(HttpStatus.OK, """
+                {"tid":"T1234","next_redirect_pc_url":"https://kakaopay/pc","created_at":"2024-10-10T10:00:00"}
+                """);
+
+        // when
+        KakaopayPaymentResponseDto responseDto = reactiveKakaopayApi
+                .readyPayment("cid", 1L, 1L, "title", 1L, 10_000)
+                .block();
+
+        // then
+        assertThat(responseDto.getStatus()).isEqualTo("success");
+        assertThat(responseDto.getTid()).isEqualTo("T1234");
+    }
+
+    @Test
+    @DisplayName("카카오페이 응답이 4xx이면 예외 대신 fail 응답으로 변환한다.")
+    void readyPaymentWithFail() {
+        // given
+        ReactiveKakaopayApi reactiveKakaopayApi = createApi(HttpStatus.BAD_REQUEST, """
+                {"error_code":-780,"error_message":"approval failure!","extras":{"method_result_code":"USER_LOCKED","method_result_message":"locked"}}
+                """);
+
+        // when
+        KakaopayPaymentResponseDto responseDto = reactiveKakaopayApi
+                .readyPayment("cid", 1L, 1L, "title", 1L, 10_000)
+                .block();
+
+        // then
+        assertThat(responseDto.getStatus()).isEqualTo("fail");
+    }
+
+    ReactiveKakaopayApi createApi(HttpStatus status, String body) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status)
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                        .body(body)
+                        .build()))
+                .build();
+        return new ReactiveKakaopayApi(webClient, objectMapper, "secret", "https://kakaopay", 30_000,
+                createExternalApiGuard());
+    }
+
+    ExternalApiGuard createExternalApiGuard() {
+        return new ExternalApiGuard(
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry(),
+                500, 5_000, 0.99, 2.0, 200, 50
+        );
+    }
+}
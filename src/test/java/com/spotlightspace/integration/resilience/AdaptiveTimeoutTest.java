@@ -0,0 +1,75 @@
+package com.spotlightspace.integration.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveTimeoutTest {
+
+    @Test
+    @DisplayName("표본이 충분하지 않으면 최대 타임아웃을 사용한다.")
+    void useMaxTimeoutUntilEnoughSamples() {
+        // given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(100, 5_000, 0.99, 2.0, 100, 10);
+
+        // when
+        for (int i = 0; i < 9; i++) {
+            adaptiveTimeout.record(50);
+        }
+
+        // then
+        assertThat(adaptiveTimeout.getCurrentMillis()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("최근 응답 시간의 백분위 값에 배수를 곱해 타임아웃을 정한다.")
+    void adaptToPercentile() {
+        // given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(100, 5_000, 0.99, 2.0, 100, 10);
+
+        // when
+        for (int i = 1; i <= 100; i++) {
+            adaptiveTimeout.record(i * 10L);
+        }
+
+        // then
+        assertThat(adaptiveTimeout.getCurrentMillis()).isEqualTo(990 * 2);
+    }
+
+    @Test
+    @DisplayName("계산된 타임아웃은 최소, 최대 범위를 벗어나지 않는다.")
+    void clampToRange() {
+        // given
+        AdaptiveTimeout fastTimeout = new AdaptiveTimeout(300, 5_000, 0.99, 2.0, 10, 10);
+        AdaptiveTimeout slowTimeout = new AdaptiveTimeout(300, 5_000, 0.99, 2.0, 10, 10);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            fastTimeout.record(10);
+            slowTimeout.record(4_000);
+        }
+
+        // then
+        assertThat(fastTimeout.getCurrentMillis()).isEqualTo(300);
+        assertThat(slowTimeout.getCurrentMillis()).isEqualTo(5_000);
+    }
+
+    @Test
+    @DisplayName("오래된 응답 시간은 윈도우에서 밀려나 타임아웃에 반영되지 않는다.")
+    void slideWindow() {
+        // given
+        AdaptiveTimeout adaptiveTimeout = new AdaptiveTimeout(100, 5_000, 0.99, 2.0, 10, 10);
+        for (int i = 0; i < 10; i++) {
+            adaptiveTimeout.record(2_000);
+        }
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            adaptiveTimeout.record(200);
+        }
+
+        // then
+        assertThat(adaptiveTimeout.getCurrentMillis()).isEqualTo(400);
+    }
+}
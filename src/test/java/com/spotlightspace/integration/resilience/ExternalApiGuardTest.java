@@ -0,0 +1,178 @@
+package com.spotlightspace.integration.resilience;
+
+import static com.spotlightspace.common.exception.ErrorCode.PAYMENT_GATEWAY_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.spotlightspace.common.exception.ApplicationException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class ExternalApiGuardTest {
+
+    private static final String NAME = "kakaopay";
+
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalApiGuard externalApiGuard;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        meterRegistry = new SimpleMeterRegistry();
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        externalApiGuard = new ExternalApiGuard(
+                circuitBreakerRegistry,
+                bulkheadRegistry,
+                meterRegistry,
+                500, 5_000, 0.99, 2.0, 200, 50
+        );
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 외부 API를 호출하지 않고 바로 실패한다.")
+    void failFastWhenCircuitOpen() {
+        // given
+        circuitBreakerRegistry.circuitBreaker(NAME).transitionToForcedOpenState();
+        AtomicBoolean called = new AtomicBoolean();
+
+        // when & then
+        assertThatThrownBy(() -> externalApiGuard.call(NAME, PAYMENT_GATEWAY_UNAVAILABLE, () -> called.getAndSet(true)))
+                .isInstanceOf(ApplicationException.class)
+                .hasMessage(PAYMENT_GATEWAY_UNAVAILABLE.getMessage());
+        assertThat(called).isFalse();
+        assertThat(rejectedCount("circuit_open")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("서킷이 열려 있으면 외부 API 호출 전 확인 단계에서 실패한다.")
+    void validateAvailableWhenCircuitOpen() {
+        // given
+        circuitBreakerRegistry.circuitBreaker(NAME).transitionToForcedOpenState();
+
+        // when & then
+        assertThatThrownBy(() -> externalApiGuard.validateAvailable(NAME, PAYMENT_GATEWAY_UNAVAILABLE))
+                .isInstanceOf(ApplicationException.class);
+    }
+
+    @Test
+    @DisplayName("동시 호출 수가 가득 차면 기다리지 않고 바로 실패한다.")
+    void failFastWhenBulkheadFull() throws InterruptedException {
+        // given
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> externalApiGuard.call(NAME, PAYMENT_GATEWAY_UNAVAILABLE, () -> {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "done";
+        }));
+        holder.start();
+        entered.await();
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> externalApiGuard.call(NAME, PAYMENT_GATEWAY_UNAVAILABLE, () -> "second"))
+                    .isInstanceOf(ApplicationException.class);
+            assertThat(rejectedCount("bulkhead_full")).isEqualTo(1);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 호출도 서킷이 열려 있으면 바로 실패한다.")
+    void failFastAsyncWhenCircuitOpen() {
+        // given
+        circuitBreakerRegistry.circuitBreaker(NAME).transitionToForcedOpenState();
+
+        // when
+        Mono<String> result = externalApiGuard.callAsync(NAME, PAYMENT_GATEWAY_UNAVAILABLE, () -> Mono.just("ok"));
+
+        // then
+        assertThatThrownBy(result::block).isInstanceOf(ApplicationException.class);
+        assertThat(rejectedCount("circuit_open")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("타임아웃으로 끝난 호출은 적용한 타임아웃 값을 응답 시간 표본으로 기록한다.")
+    void recordTimeoutAsSample() {
+        // given
+        ExternalApiGuard guard = createSingleSampleGuard();
+
+        // when
+        Mono<String> result = guard.callAsync(NAME, PAYMENT_GATEWAY_UNAVAILABLE, 200, Mono::never);
+
+        // then
+        assertThatThrownBy(result::block).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(readTimeout()).isEqualTo(200 * 2);
+    }
+
+    @Test
+    @DisplayName("블로킹 호출이 소켓 타임아웃으로 끝나도 적용한 타임아웃 값을 표본으로 기록한다.")
+    void recordSocketTimeoutAsSample() {
+        // given
+        ExternalApiGuard guard = createSingleSampleGuard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(NAME, PAYMENT_GATEWAY_UNAVAILABLE, 300, () -> {
+            throw new IllegalStateException(new SocketTimeoutException("Read timed out"));
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(readTimeout()).isEqualTo(300 * 2);
+    }
+
+    @Test
+    @DisplayName("타임아웃이 아닌 실패는 응답 시간 표본으로 기록하지 않는다.")
+    void notRecordNonTimeoutFailure() {
+        // given
+        ExternalApiGuard guard = createSingleSampleGuard();
+
+        // when & then
+        assertThatThrownBy(() -> guard.call(NAME, PAYMENT_GATEWAY_UNAVAILABLE, 300, () -> {
+            throw new IllegalStateException("bad request");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(readTimeout()).isEqualTo(5_000);
+    }
+
+    private ExternalApiGuard createSingleSampleGuard() {
+        return new ExternalApiGuard(
+                circuitBreakerRegistry,
+                BulkheadRegistry.ofDefaults(),
+                meterRegistry,
+                100, 5_000, 0.99, 2.0, 10, 1
+        );
+    }
+
+    private double readTimeout() {
+        return meterRegistry.get("external.api.read.timeout")
+                .tag("name", NAME)
+                .gauge()
+                .value();
+    }
+
+    private double rejectedCount(String reason) {
+        return meterRegistry.get("external.api.rejected")
+                .tag("name", NAME)
+                .tag("reason", reason)
+                .counter()
+                .count();
+    }
+}